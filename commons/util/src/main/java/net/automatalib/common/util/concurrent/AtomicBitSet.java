@@ -0,0 +1,109 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util.concurrent;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size bit set whose bits can be set concurrently by multiple threads without further synchronization. Unlike
+ * a {@link BitSet}, {@link #set(int)} reports whether the calling thread was the one that set the bit, which allows for
+ * using instances of this class as the visited set of parallel graph algorithms.
+ */
+public final class AtomicBitSet {
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+
+    private final AtomicLongArray words;
+    private final int size;
+
+    /**
+     * Constructor.
+     *
+     * @param size
+     *         the number of bits of this set
+     */
+    public AtomicBitSet(int size) {
+        this.words = new AtomicLongArray(((size - 1) >> ADDRESS_BITS_PER_WORD) + 1);
+        this.size = size;
+    }
+
+    /**
+     * Atomically sets the given bit.
+     *
+     * @param index
+     *         the index of the bit
+     *
+     * @return {@code true} if the bit has been set by this call, {@code false} if the bit has already been set before
+     */
+    public boolean set(int index) {
+        checkIndex(index);
+
+        final int wordIndex = index >> ADDRESS_BITS_PER_WORD;
+        final long mask = 1L << index;
+
+        long word;
+        do {
+            word = words.get(wordIndex);
+            if ((word & mask) != 0) {
+                return false;
+            }
+        } while (!words.compareAndSet(wordIndex, word, word | mask));
+
+        return true;
+    }
+
+    /**
+     * Returns the value of the given bit.
+     *
+     * @param index
+     *         the index of the bit
+     *
+     * @return the value of the bit
+     */
+    public boolean get(int index) {
+        checkIndex(index);
+        return (words.get(index >> ADDRESS_BITS_PER_WORD) & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the number of bits of this set.
+     *
+     * @return the number of bits
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a (non-atomic) {@link BitSet} copy of the current state of this set.
+     *
+     * @return a {@link BitSet} copy of this set
+     */
+    public BitSet toBitSet() {
+        final long[] result = new long[words.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = words.get(i);
+        }
+        return BitSet.valueOf(result);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(Integer.toString(index));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util.fixpoint;
+
+import java.util.function.IntConsumer;
+
+/**
+ * A specialization of {@link WorksetAlgorithm} for (non-negative) integer elements, e.g., state ids or packed indices.
+ * Instead of returning collections of (boxed) elements, the algorithm reports discovered elements to a primitive
+ * consumer.
+ *
+ * @param <R>
+ *         result type
+ *
+ * @see Worksets#process(IntWorksetAlgorithm)
+ */
+public interface IntWorksetAlgorithm<R> {
+
+    /**
+     * Provides a hint to initialize containers appropriately.
+     *
+     * @return expected number of elements visited
+     */
+    int expectedElementCount();
+
+    /**
+     * Provide the initial elements that should be processed by {@link #update(int, IntConsumer) update}.
+     *
+     * @param discovered
+     *         the consumer to which the (non-negative) initial elements should be reported
+     */
+    void initialize(IntConsumer discovered);
+
+    /**
+     * Process the given element and perform its corresponding actions. If during this process the need arises to update
+     * other elements as well, report them to the given consumer.
+     *
+     * @param current
+     *         the current element that should be processed by this method
+     * @param discovered
+     *         the consumer to which the (non-negative) elements that need to be processed should be reported
+     */
+    void update(int current, IntConsumer discovered);
+
+    /**
+     * Provides the result of this algorithm's internal action. More precise, this function returns the accumulated
+     * object after the successful application of <i>all</i> {@link #update(int, IntConsumer) update} calls.
+     *
+     * @return the resulting object
+     */
+    R result();
+}
@@ -16,12 +16,16 @@
 package net.automatalib.common.util.fixpoint;
 
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
 
 import net.automatalib.common.util.HashUtil;
 import net.automatalib.common.util.Pair;
@@ -87,4 +91,238 @@ public final class Worksets {
         return Pair.of(mapping, algorithm.result());
     }
 
+    /**
+     * Processes the given {@link IntWorksetAlgorithm}. Semantically equivalent to
+     * {@link #process(WorksetAlgorithm)}, but uses a primitive ring-buffer queue and an open-addressing hash set for
+     * tracking enqueued elements, so that no elements need to be boxed.
+     *
+     * @param algorithm
+     *         the algorithm to process
+     * @param <R>
+     *         result type
+     *
+     * @return the result of the algorithm
+     */
+    public static <R> R process(IntWorksetAlgorithm<R> algorithm) {
+
+        final int expectedElementCount = algorithm.expectedElementCount();
+        final IntQueue queue = new IntQueue();
+        final IntSet tracking = new IntSet(expectedElementCount);
+
+        final IntConsumer enqueue = element -> {
+            if (tracking.add(element)) {
+                queue.add(element);
+            }
+        };
+
+        algorithm.initialize(enqueue);
+
+        while (!queue.isEmpty()) {
+            final int current = queue.remove();
+            tracking.remove(current);
+
+            algorithm.update(current, enqueue);
+        }
+
+        return algorithm.result();
+    }
+
+    /**
+     * Processes the given {@link WorksetAlgorithm} in parallel. The workset is processed in rounds: all elements of the
+     * current round are {@link WorksetAlgorithm#update(Object) updated} concurrently (via a parallel stream, i.e., in
+     * the {@link java.util.concurrent.ForkJoinPool} of the calling thread or the common pool) and the (distinct)
+     * elements discovered during a round constitute the workset of the next round.
+     * <p>
+     * The given algorithm must support concurrent invocations of {@link WorksetAlgorithm#update(Object) update}.
+     * Elements are not processed in any particular order.
+     *
+     * @param algorithm
+     *         the algorithm to process
+     * @param <T>
+     *         element type
+     * @param <R>
+     *         result type
+     *
+     * @return the result of the algorithm
+     */
+    public static <T, R> R processParallel(WorksetAlgorithm<T, R> algorithm) {
+
+        Collection<T> round = new LinkedHashSet<>(algorithm.initialize());
+
+        while (!round.isEmpty()) {
+            final Set<T> next = ConcurrentHashMap.newKeySet();
+            round.parallelStream().forEach(element -> next.addAll(algorithm.update(element)));
+            round = next;
+        }
+
+        return algorithm.result();
+    }
+
+    /**
+     * Processes the given {@link WorksetMappingAlgorithm} in parallel. Analogous to
+     * {@link #processParallel(WorksetAlgorithm)}, the workset is processed in rounds and the given algorithm must
+     * support concurrent invocations of {@link WorksetMappingAlgorithm#update(Map, Object) update}. The mapping passed
+     * to the algorithm is a {@link ConcurrentHashMap} and therefore does not support {@code null} keys or values.
+     *
+     * @param algorithm
+     *         the algorithm to process
+     * @param <T>
+     *         element type
+     * @param <E>
+     *         mapping value type
+     * @param <R>
+     *         result type
+     *
+     * @return a pair of the computed mapping and the result of the algorithm
+     */
+    public static <T, E, R> Pair<Map<T, E>, R> mapParallel(WorksetMappingAlgorithm<T, E, R> algorithm) {
+
+        final Map<T, E> mapping = new ConcurrentHashMap<>(HashUtil.capacity(algorithm.expectedElementCount()));
+        Collection<T> round = new LinkedHashSet<>(algorithm.initialize(mapping));
+
+        while (!round.isEmpty()) {
+            final Set<T> next = ConcurrentHashMap.newKeySet();
+            round.parallelStream().forEach(element -> next.addAll(algorithm.update(mapping, element)));
+            round = next;
+        }
+
+        return Pair.of(mapping, algorithm.result());
+    }
+
+    /**
+     * A growable ring buffer of ints. The buffer starts small since it only needs to hold the pending elements, which
+     * are typically far fewer than the total number of elements.
+     */
+    private static final class IntQueue {
+
+        private static final int DEFAULT_CAPACITY = 16;
+
+        private int[] data;
+        private int head;
+        private int size;
+
+        IntQueue() {
+            this.data = new int[DEFAULT_CAPACITY];
+        }
+
+        void add(int element) {
+            if (size == data.length) {
+                final int[] newData = new int[data.length * 2];
+                final int firstChunk = data.length - head;
+                System.arraycopy(data, head, newData, 0, firstChunk);
+                System.arraycopy(data, 0, newData, firstChunk, head);
+                data = newData;
+                head = 0;
+            }
+            data[(head + size) % data.length] = element;
+            size++;
+        }
+
+        int remove() {
+            final int result = data[head];
+            head = (head + 1) % data.length;
+            size--;
+            return result;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
+    /**
+     * An open-addressing (linear probing) hash set of non-negative ints with backward-shift deletion.
+     */
+    private static final class IntSet {
+
+        private static final int EMPTY = -1;
+        private static final int MIN_CAPACITY = 16;
+        private static final int MAX_CAPACITY = 1 << 30;
+
+        private int[] table;
+        private int size;
+
+        IntSet(int expectedSize) {
+            // keep the load factor at most 0.5
+            final long minCapacity = Math.max(2L * expectedSize, MIN_CAPACITY);
+            final int capacity = (int) Math.min(Long.highestOneBit(minCapacity - 1) << 1, MAX_CAPACITY);
+            this.table = new int[capacity];
+            Arrays.fill(table, EMPTY);
+        }
+
+        boolean add(int element) {
+            if (element < 0) {
+                throw new IllegalArgumentException("Elements must be non-negative: " + element);
+            }
+
+            final int mask = table.length - 1;
+            int slot = hash(element) & mask;
+            while (table[slot] != EMPTY) {
+                if (table[slot] == element) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            // always keep a free slot so that probing terminates
+            if (size == table.length - 1) {
+                throw new IllegalStateException("Maximum capacity exceeded");
+            }
+
+            table[slot] = element;
+            size++;
+            if (size > table.length / 2 && table.length < MAX_CAPACITY) {
+                rehash();
+            }
+            return true;
+        }
+
+        void remove(int element) {
+            final int mask = table.length - 1;
+            int slot = hash(element) & mask;
+            while (table[slot] != element) {
+                if (table[slot] == EMPTY) {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            // shift back subsequent entries of the probe sequence
+            int gap = slot;
+            int next = (gap + 1) & mask;
+            while (table[next] != EMPTY) {
+                final int home = hash(table[next]) & mask;
+                // move the entry if its home slot does not lie cyclically in (gap, next]
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    table[gap] = table[next];
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            table[gap] = EMPTY;
+            size--;
+        }
+
+        private void rehash() {
+            final int[] oldTable = table;
+            final int mask = oldTable.length * 2 - 1;
+            table = new int[oldTable.length * 2];
+            Arrays.fill(table, EMPTY);
+
+            for (int element : oldTable) {
+                if (element != EMPTY) {
+                    int slot = hash(element) & mask;
+                    while (table[slot] != EMPTY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    table[slot] = element;
+                }
+            }
+        }
+
+        private static int hash(int element) {
+            final int h = element * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
 }
@@ -0,0 +1,67 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util.concurrent;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class AtomicBitSetTest {
+
+    @Test
+    public void testSet() {
+        final AtomicBitSet bits = new AtomicBitSet(130);
+
+        Assert.assertEquals(bits.size(), 130);
+        Assert.assertTrue(bits.set(0));
+        Assert.assertTrue(bits.set(64));
+        Assert.assertTrue(bits.set(129));
+        Assert.assertFalse(bits.set(64));
+
+        Assert.assertTrue(bits.get(129));
+        Assert.assertFalse(bits.get(1));
+
+        final BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(64);
+        expected.set(129);
+        Assert.assertEquals(bits.toBitSet(), expected);
+
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> bits.set(130));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> bits.get(-1));
+        Assert.assertTrue(new AtomicBitSet(0).toBitSet().isEmpty());
+    }
+
+    @Test
+    public void testConcurrentSet() {
+        final int size = 10_000;
+        final AtomicBitSet bits = new AtomicBitSet(size);
+        final AtomicInteger successes = new AtomicInteger();
+
+        // every bit is set by multiple threads, but only one of them may succeed
+        IntStream.range(0, 8 * size).parallel().forEach(i -> {
+            if (bits.set(i % size)) {
+                successes.incrementAndGet();
+            }
+        });
+
+        Assert.assertEquals(successes.get(), size);
+        Assert.assertEquals(bits.toBitSet().cardinality(), size);
+    }
+}
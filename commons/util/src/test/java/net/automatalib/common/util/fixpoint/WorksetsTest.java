@@ -0,0 +1,261 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util.fixpoint;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+
+import net.automatalib.common.util.Pair;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class WorksetsTest {
+
+    private static final int SIZE = 5000;
+
+    private final int[][] graph = randomGraph(new Random(42), SIZE, 2);
+
+    @Test
+    public void testIntProcess() {
+        final BitSet intResult = Worksets.process(new IntReachability(graph));
+        final Set<Integer> genericResult = Worksets.process(new Reachability(graph));
+
+        Assert.assertEquals(intResult.cardinality(), genericResult.size());
+        for (Integer i : genericResult) {
+            Assert.assertTrue(intResult.get(i));
+        }
+    }
+
+    @Test
+    public void testIntReEnqueue() {
+        final int[] updates = new int[SIZE];
+
+        final IntWorksetAlgorithm<int[]> algorithm = new IntWorksetAlgorithm<int[]>() {
+
+            @Override
+            public int expectedElementCount() {
+                return 1;
+            }
+
+            @Override
+            public void initialize(IntConsumer discovered) {
+                // duplicates are only enqueued once
+                for (int i = 0; i < SIZE; i++) {
+                    discovered.accept(i);
+                    discovered.accept(i);
+                }
+            }
+
+            @Override
+            public void update(int current, IntConsumer discovered) {
+                // elements may be re-enqueued once they have been processed
+                if (++updates[current] < 3) {
+                    discovered.accept(current);
+                }
+            }
+
+            @Override
+            public int[] result() {
+                return updates;
+            }
+        };
+
+        for (int u : Worksets.process(algorithm)) {
+            Assert.assertEquals(u, 3);
+        }
+    }
+
+    @Test
+    public void testIntNegativeElement() {
+        final IntWorksetAlgorithm<Void> algorithm = new IntWorksetAlgorithm<Void>() {
+
+            @Override
+            public int expectedElementCount() {
+                return 1;
+            }
+
+            @Override
+            public void initialize(IntConsumer discovered) {
+                discovered.accept(-1);
+            }
+
+            @Override
+            public void update(int current, IntConsumer discovered) {}
+
+            @Override
+            public Void result() {
+                return null;
+            }
+        };
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> Worksets.process(algorithm));
+    }
+
+    @Test
+    public void testParallel() throws InterruptedException, ExecutionException {
+        final Set<Integer> expected = Worksets.process(new Reachability(graph));
+        final Pair<Map<Integer, Integer>, Void> expectedDistances = Worksets.map(new Distances(graph, new HashSet<>()));
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final Set<Integer> actual = pool.submit(() -> Worksets.processParallel(new Reachability(graph))).get();
+            Assert.assertEquals(actual, expected);
+
+            final Pair<Map<Integer, Integer>, Void> actualDistances =
+                    pool.submit(() -> Worksets.mapParallel(new Distances(graph, ConcurrentHashMap.newKeySet()))).get();
+            Assert.assertEquals(actualDistances.getFirst(), expectedDistances.getFirst());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static int[][] randomGraph(Random random, int size, int degree) {
+        final int[][] result = new int[size][degree];
+
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < degree; j++) {
+                result[i][j] = random.nextInt(size);
+            }
+        }
+
+        return result;
+    }
+
+    private static final class IntReachability implements IntWorksetAlgorithm<BitSet> {
+
+        private final int[][] graph;
+        private final BitSet visited = new BitSet();
+
+        IntReachability(int[][] graph) {
+            this.graph = graph;
+        }
+
+        @Override
+        public int expectedElementCount() {
+            return graph.length;
+        }
+
+        @Override
+        public void initialize(IntConsumer discovered) {
+            visited.set(0);
+            discovered.accept(0);
+        }
+
+        @Override
+        public void update(int current, IntConsumer discovered) {
+            for (int succ : graph[current]) {
+                if (!visited.get(succ)) {
+                    visited.set(succ);
+                    discovered.accept(succ);
+                }
+            }
+        }
+
+        @Override
+        public BitSet result() {
+            return visited;
+        }
+    }
+
+    private static final class Reachability implements WorksetAlgorithm<Integer, Set<Integer>> {
+
+        private final int[][] graph;
+        private final Set<Integer> visited = ConcurrentHashMap.newKeySet();
+
+        Reachability(int[][] graph) {
+            this.graph = graph;
+        }
+
+        @Override
+        public int expectedElementCount() {
+            return graph.length;
+        }
+
+        @Override
+        public Collection<Integer> initialize() {
+            visited.add(0);
+            return Collections.singleton(0);
+        }
+
+        @Override
+        public Collection<Integer> update(Integer currentT) {
+            final List<Integer> result = new ArrayList<>();
+            for (int succ : graph[currentT]) {
+                if (visited.add(succ)) {
+                    result.add(succ);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public Set<Integer> result() {
+            return visited;
+        }
+    }
+
+    private static final class Distances implements WorksetMappingAlgorithm<Integer, Integer, Void> {
+
+        private final int[][] graph;
+        private final Set<Integer> visited;
+
+        Distances(int[][] graph, Set<Integer> visited) {
+            this.graph = graph;
+            this.visited = visited;
+        }
+
+        @Override
+        public int expectedElementCount() {
+            return graph.length;
+        }
+
+        @Override
+        public Collection<Integer> initialize(Map<Integer, Integer> mapping) {
+            mapping.put(0, 0);
+            visited.add(0);
+            return Collections.singleton(0);
+        }
+
+        @Override
+        public Collection<Integer> update(Map<Integer, Integer> mapping, Integer currentT) {
+            final int distance = mapping.get(currentT) + 1;
+            final List<Integer> result = new ArrayList<>();
+            for (int succ : graph[currentT]) {
+                if (visited.add(succ)) {
+                    mapping.put(succ, distance);
+                    result.add(succ);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public Void result() {
+            return null;
+        }
+    }
+}
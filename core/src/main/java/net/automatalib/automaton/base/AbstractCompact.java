@@ -77,6 +77,24 @@ public abstract class AbstractCompact<I, T, SP, TP> implements MutableAutomaton<
         this.stateCapacity = stateCapacity;
     }
 
+    /**
+     * Constructor for subclasses that adopt pre-populated storage arrays for the given number of states, e.g., when
+     * thawing a frozen snapshot.
+     *
+     * @param alphabet
+     *         the input alphabet
+     * @param numStates
+     *         the number of (already populated) states
+     * @param stateCapacity
+     *         the capacity of the adopted storage arrays
+     * @param resizeFactor
+     *         the resize factor
+     */
+    protected AbstractCompact(Alphabet<I> alphabet, int numStates, int stateCapacity, float resizeFactor) {
+        this(alphabet, stateCapacity, resizeFactor);
+        this.numStates = numStates;
+    }
+
     @Override
     public Collection<Integer> getStates() {
         return CollectionUtil.intRange(0, numStates);
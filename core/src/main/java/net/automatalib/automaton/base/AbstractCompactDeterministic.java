@@ -49,6 +49,11 @@ public abstract class AbstractCompactDeterministic<I, T, SP, TP> extends Abstrac
         super(alphabet, stateCapacity, resizeFactor);
     }
 
+    protected AbstractCompactDeterministic(Alphabet<I> alphabet, int numStates, int initial, float resizeFactor) {
+        super(alphabet, numStates, numStates, resizeFactor);
+        this.initial = initial;
+    }
+
     protected AbstractCompactDeterministic(Alphabet<I> alphabet, AbstractCompactDeterministic<?, ?, ?, ?> other) {
         super(alphabet, other);
         this.initial = other.initial;
@@ -43,6 +43,11 @@ public abstract class AbstractCompactSimpleDeterministic<I, SP>
         Arrays.fill(this.transitions, AbstractCompact.INVALID_STATE);
     }
 
+    protected AbstractCompactSimpleDeterministic(Alphabet<I> alphabet, int numStates, int initial, int[] transitions) {
+        super(alphabet, numStates, initial, DEFAULT_RESIZE_FACTOR);
+        this.transitions = transitions;
+    }
+
     protected AbstractCompactSimpleDeterministic(Alphabet<I> alphabet, AbstractCompactSimpleDeterministic<?, SP> other) {
         super(alphabet, other);
         this.transitions = other.transitions.clone();
@@ -212,11 +212,77 @@ public abstract class AbstractCompactSimpleNondet<I, SP> extends AbstractCompact
         return transition == null ? Collections.emptySet() : new PositiveIntSet(transition);
     }
 
+    /**
+     * Returns the number of successors of the given state for the given input (index).
+     *
+     * @param state
+     *         the state (id)
+     * @param inputIdx
+     *         the input (index)
+     *
+     * @return the number of successors
+     */
+    public int getSuccessorCount(int state, int inputIdx) {
+        final BitSet transition = transitions[toMemoryIndex(state, inputIdx)];
+        return transition == null ? 0 : transition.cardinality();
+    }
+
+    /**
+     * Returns the smallest successor (id) of the given state for the given input (index) that is greater than or equal
+     * to the given id. This allows for iterating over the successors without creating any intermediate objects, e.g.
+     * <pre> {@code
+     * for (int succ = nextSuccessor(state, inputIdx, 0); succ >= 0; succ = nextSuccessor(state, inputIdx, succ + 1)) {
+     *     // ...
+     * }
+     * }</pre>
+     *
+     * @param state
+     *         the state (id)
+     * @param inputIdx
+     *         the input (index)
+     * @param fromSuccessor
+     *         the (inclusive) lower bound for the successor id
+     *
+     * @return the next successor id, or {@code -1} if no such successor exists
+     */
+    public int nextSuccessor(int state, int inputIdx, int fromSuccessor) {
+        final BitSet transition = transitions[toMemoryIndex(state, inputIdx)];
+        return transition == null ? -1 : transition.nextSetBit(fromSuccessor);
+    }
+
+    /**
+     * Adds the successors (ids) of the given state for the given input (index) to the given {@link BitSet}. This allows
+     * for aggregating the successors of multiple states without creating any intermediate objects.
+     *
+     * @param state
+     *         the state (id)
+     * @param inputIdx
+     *         the input (index)
+     * @param target
+     *         the {@link BitSet} to which the successors should be added
+     */
+    public void addSuccessors(int state, int inputIdx, BitSet target) {
+        final BitSet transition = transitions[toMemoryIndex(state, inputIdx)];
+        if (transition != null) {
+            target.or(transition);
+        }
+    }
+
     @Override
     public Set<Integer> getInitialStates() {
         return new PositiveIntSet(initial);
     }
 
+    /**
+     * Adds the initial states (ids) of this automaton to the given {@link BitSet}.
+     *
+     * @param target
+     *         the {@link BitSet} to which the initial states should be added
+     */
+    public void addInitialStates(BitSet target) {
+        target.or(initial);
+    }
+
     @Override
     public PowersetViewTS<BitSet, I, BitSet, Integer, Integer> powersetView() {
         return new CompactPowersetDTS();
@@ -230,10 +296,7 @@ public abstract class AbstractCompactSimpleNondet<I, SP> extends AbstractCompact
             final int inputIdx = getSymbolIndex(input);
 
             for (int i = state.nextSetBit(0); i >= 0; i = state.nextSetBit(i+1)) {
-                final BitSet transitions = AbstractCompactSimpleNondet.this.transitions[toMemoryIndex(i, inputIdx)];
-                if (transitions != null) {
-                    result.or(transitions);
-                }
+                addSuccessors(i, inputIdx, result);
             }
 
             return result;
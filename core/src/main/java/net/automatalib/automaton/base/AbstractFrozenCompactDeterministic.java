@@ -0,0 +1,241 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.base;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.GrowingAlphabet;
+import net.automatalib.alphabet.impl.GrowingMapAlphabet;
+import net.automatalib.alphabet.impl.MapAlphabet;
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.UniversalFiniteAlphabetAutomaton;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.automaton.concept.StateLocalInput;
+import net.automatalib.common.util.collection.CollectionUtil;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Abstract super class for immutable snapshots of {@link AbstractCompactDeterministic compact} deterministic automata.
+ * Analogous to its mutable counterpart, states are represented as integers and the successors of each (state, input)
+ * pair are stored in a single array. However, all arrays are trimmed to the size of the automaton and are never
+ * modified after construction.
+ * <p>
+ * Since all data is stored in {@code final} fields and is not modified after construction, instances of (subclasses
+ * of) this class are safely published and can be read concurrently by multiple threads without any further
+ * synchronization.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <T>
+ *         transition type
+ * @param <SP>
+ *         state property type
+ * @param <TP>
+ *         transition property type
+ */
+public abstract class AbstractFrozenCompactDeterministic<I, T, SP, TP>
+        implements UniversalDeterministicAutomaton<Integer, I, T, SP, TP>,
+                   UniversalDeterministicAutomaton.StateIntAbstraction<I, T, SP, TP>,
+                   UniversalDeterministicAutomaton.FullIntAbstraction<T, SP, TP>,
+                   UniversalFiniteAlphabetAutomaton<Integer, I, T, SP, TP>,
+                   StateIDs<Integer>,
+                   StateLocalInput<Integer, I> {
+
+    private final Alphabet<I> alphabet;
+    private final boolean growingAlphabet;
+    private final int numInputs;
+    private final int numStates;
+    private final int initial;
+    protected final int[] transitions;
+
+    /**
+     * Constructor. The given array is used as-is and must not be modified afterward.
+     *
+     * @param alphabet
+     *         the input alphabet. A {@link GrowingAlphabet} is copied, so that symbols which are added to it afterward
+     *         do not affect this automaton
+     * @param numStates
+     *         the number of states
+     * @param initial
+     *         the initial state (id), or {@link #INVALID_STATE} if the automaton has no initial state
+     * @param transitions
+     *         the successors (ids) of each (state, input) pair, stored at index {@code state * alphabet.size() + input}
+     */
+    protected AbstractFrozenCompactDeterministic(Alphabet<I> alphabet, int numStates, int initial, int[] transitions) {
+        this.growingAlphabet = alphabet instanceof GrowingAlphabet;
+        this.alphabet = growingAlphabet ? new MapAlphabet<>(alphabet) : alphabet;
+        this.numInputs = alphabet.size();
+        this.numStates = numStates;
+        this.initial = initial;
+        this.transitions = transitions;
+    }
+
+    @Override
+    public Alphabet<I> getInputAlphabet() {
+        return alphabet;
+    }
+
+    /**
+     * Returns the input alphabet for a mutable copy of this automaton. If this automaton has been created from a
+     * {@link GrowingAlphabet}, a fresh {@link GrowingAlphabet} with the same symbols is returned, so that the copy may
+     * add symbols without affecting this automaton.
+     *
+     * @return the input alphabet for a mutable copy of this automaton
+     */
+    protected Alphabet<I> thawAlphabet() {
+        return growingAlphabet ? new GrowingMapAlphabet<>(alphabet) : alphabet;
+    }
+
+    @Override
+    public Collection<Integer> getStates() {
+        return CollectionUtil.intRange(0, numStates);
+    }
+
+    @Override
+    public int size() {
+        return numStates;
+    }
+
+    @Override
+    public int numInputs() {
+        return numInputs;
+    }
+
+    @Override
+    public StateIDs<Integer> stateIDs() {
+        return this;
+    }
+
+    @Override
+    public int getStateId(Integer state) {
+        return state;
+    }
+
+    @Override
+    public Integer getState(int id) {
+        return id;
+    }
+
+    @Override
+    public int getIntInitialState() {
+        return initial;
+    }
+
+    @Override
+    public @Nullable Integer getInitialState() {
+        return toState(initial);
+    }
+
+    @Override
+    public int getSuccessor(int state, int input) {
+        return transitions[toMemoryIndex(state, input)];
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent autoboxing of default implementation)
+    public int getSuccessor(int state, I input) {
+        return getSuccessor(state, alphabet.getSymbolIndex(input));
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent object instantiation of default implementation)
+    public @Nullable Integer getSuccessor(Integer state, I input) {
+        return toState(getSuccessor(state.intValue(), input));
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent autoboxing of default implementation)
+    public @Nullable Integer getSuccessor(Integer state, Iterable<? extends I> input) {
+        return toState(getIntSuccessor(state, input));
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent autoboxing of default implementation)
+    public @Nullable Integer getState(Iterable<? extends I> input) {
+        return toState(getIntSuccessor(initial, input));
+    }
+
+    @Override
+    public Integer getSuccessor(T transition) {
+        return getIntSuccessor(transition);
+    }
+
+    @Override
+    public @Nullable T getTransition(Integer state, I input) {
+        return getTransition(state.intValue(), input);
+    }
+
+    @Override
+    public @Nullable T getTransition(int state, I input) {
+        return getTransition(state, alphabet.getSymbolIndex(input));
+    }
+
+    @Override
+    public SP getStateProperty(Integer state) {
+        return getStateProperty(state.intValue());
+    }
+
+    @Override
+    public FullIntAbstraction<T, SP, TP> fullIntAbstraction(Alphabet<I> alphabet) {
+        if (Objects.equals(this.alphabet, alphabet)) {
+            return this;
+        }
+        return UniversalDeterministicAutomaton.super.fullIntAbstraction(alphabet);
+    }
+
+    @Override
+    public StateIntAbstraction<I, T, SP, TP> stateIntAbstraction() {
+        return this;
+    }
+
+    @Override
+    public Collection<I> getLocalInputs(Integer state) {
+        final List<I> result = new ArrayList<>(numInputs);
+        final int offset = toMemoryIndex(state, 0);
+        for (int i = 0; i < numInputs; i++) {
+            if (transitions[offset + i] != INVALID_STATE) {
+                result.add(alphabet.getSymbol(i));
+            }
+        }
+
+        return result;
+    }
+
+    protected final int toMemoryIndex(int state, int input) {
+        return state * numInputs + input;
+    }
+
+    protected static @Nullable Integer toState(int id) {
+        return (id == INVALID_STATE) ? null : id;
+    }
+
+    private int getIntSuccessor(int state, Iterable<? extends I> input) {
+        int current = state;
+
+        final Iterator<? extends I> inputIt = input.iterator();
+
+        while (current >= 0 && inputIt.hasNext()) {
+            current = transitions[toMemoryIndex(current, alphabet.getSymbolIndex(inputIt.next()))];
+        }
+
+        return current;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package net.automatalib.automaton.fsa.impl;
 
+import java.util.Arrays;
 import java.util.BitSet;
 
 import net.automatalib.alphabet.Alphabet;
@@ -47,6 +48,11 @@ public class CompactDFA<I> extends AbstractCompactSimpleDeterministic<I, Boolean
         this(other.getInputAlphabet(), other);
     }
 
+    CompactDFA(Alphabet<I> alphabet, int numStates, int initial, int[] transitions, BitSet acceptance) {
+        super(alphabet, numStates, initial, transitions);
+        this.acceptance = acceptance;
+    }
+
     protected CompactDFA(Alphabet<I> alphabet, CompactDFA<?> other) {
         super(alphabet, other);
         this.acceptance = (BitSet) other.acceptance.clone();
@@ -61,6 +67,24 @@ public class CompactDFA<I> extends AbstractCompactSimpleDeterministic<I, Boolean
         return new CompactDFA<>(newAlphabet, this);
     }
 
+    /**
+     * Returns an immutable snapshot of this automaton which can be read concurrently by multiple threads. The state ids
+     * of the returned snapshot coincide with the state ids of this automaton. Subsequent modifications of this
+     * automaton are not reflected in the snapshot.
+     *
+     * @return an immutable snapshot of this automaton
+     *
+     * @see FrozenCompactDFA#thaw()
+     */
+    public FrozenCompactDFA<I> freeze() {
+        final int numStates = size();
+        return new FrozenCompactDFA<>(getInputAlphabet(),
+                                      numStates,
+                                      getIntInitialState(),
+                                      Arrays.copyOf(transitions, numStates * numInputs()),
+                                      acceptance.get(0, numStates));
+    }
+
     @Override
     public void flipAcceptance() {
         acceptance.flip(0, size());
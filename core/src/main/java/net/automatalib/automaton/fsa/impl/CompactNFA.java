@@ -25,7 +25,8 @@ import net.automatalib.common.util.WrapperUtil;
 import net.automatalib.ts.AcceptorPowersetViewTS;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-public class CompactNFA<I> extends AbstractCompactSimpleNondet<I, Boolean> implements MutableNFA<Integer, I> {
+public class CompactNFA<I> extends AbstractCompactSimpleNondet<I, Boolean>
+        implements MutableNFA<Integer, I>, SimulableNFA<I> {
 
     private final BitSet accepting;
 
@@ -65,6 +66,45 @@ public class CompactNFA<I> extends AbstractCompactSimpleNondet<I, Boolean> imple
         return accepting.get(stateId);
     }
 
+    /**
+     * Checks whether the given set of states (ids) contains an accepting state.
+     *
+     * @param states
+     *         the set of states (ids)
+     *
+     * @return {@code true} if the given set contains an accepting state, {@code false} otherwise
+     */
+    public boolean isAccepting(BitSet states) {
+        return accepting.intersects(states);
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent autoboxing of default implementation)
+    public boolean accepts(Iterable<? extends I> input) {
+        return new CompactNFASimulator<>(this, 0).accepts(input);
+    }
+
+    /**
+     * Returns a {@link CompactNFASimulator} for (repeatedly) evaluating words on this automaton.
+     *
+     * @return a simulator for this automaton
+     */
+    public CompactNFASimulator<I> simulator() {
+        return new CompactNFASimulator<>(this);
+    }
+
+    /**
+     * Returns an immutable copy of this automaton that stores its transitions in a compressed sparse row format. The
+     * state ids of the returned automaton coincide with the state ids of this automaton.
+     *
+     * @return an immutable copy of this automaton
+     *
+     * @see FrozenCompactNFA
+     */
+    public FrozenCompactNFA<I> freeze() {
+        return FrozenCompactNFA.of(this);
+    }
+
     @Override
     public void flipAcceptance() {
         this.accepting.flip(0, size());
@@ -114,13 +154,7 @@ public class CompactNFA<I> extends AbstractCompactSimpleNondet<I, Boolean> imple
 
         @Override
         public boolean isAccepting(BitSet state) {
-            for (int i = state.nextSetBit(0); i >= 0; i = state.nextSetBit(i + 1)) {
-                if (CompactNFA.this.isAccepting(i)) {
-                    return true;
-                }
-            }
-
-            return false;
+            return CompactNFA.this.isAccepting(state);
         }
     }
 
@@ -0,0 +1,208 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.fsa.impl;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+
+import net.automatalib.alphabet.Alphabet;
+
+/**
+ * A simulator for evaluating words on a {@link CompactNFA} or a {@link FrozenCompactNFA} by means of an on-the-fly
+ * subset construction. In contrast to the {@link CompactNFA#powersetView() powerset view}, the simulator re-uses two
+ * {@link BitSet} buffers for the current and the next set of states instead of allocating a new set for each step.
+ * Simulators are meant for evaluating many words on the same automaton; single words may simply be evaluated via
+ * {@link CompactNFA#accepts(Iterable)}.
+ * <p>
+ * Additionally, the simulator memoizes computed subset transitions in a bounded, direct-mapped cache, so that
+ * (frequently) re-visited subsets do not need to be re-computed from the transitions of their individual states. New
+ * entries simply replace older entries that map to the same cache slot. A cache size of {@code 0} disables memoization.
+ * <p>
+ * The cache reflects the automaton at the time the respective entries have been computed. If the automaton is modified,
+ * the cache needs to be {@link #clearCache() cleared}. Simulators are not thread-safe.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public final class CompactNFASimulator<I> {
+
+    /**
+     * The default number of slots of the transition cache.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1 << 10;
+
+    private final SimulableNFA<I> nfa;
+
+    private BitSet current;
+    private BitSet next;
+
+    private final int mask;
+    private final BitSet[] cachedSources;
+    private final int[] cachedInputs;
+    private final BitSet[] cachedTargets;
+
+    /**
+     * Constructor. Uses a cache with {@link #DEFAULT_CACHE_SIZE} slots.
+     *
+     * @param nfa
+     *         the automaton to simulate
+     */
+    public CompactNFASimulator(CompactNFA<I> nfa) {
+        this(nfa, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nfa
+     *         the automaton to simulate
+     * @param cacheSize
+     *         the (maximum) number of memoized subset transitions. Will be rounded up to the next power of two. A value
+     *         of {@code 0} disables memoization
+     */
+    public CompactNFASimulator(CompactNFA<I> nfa, int cacheSize) {
+        this((SimulableNFA<I>) nfa, cacheSize);
+    }
+
+    /**
+     * Constructor. Uses a cache with {@link #DEFAULT_CACHE_SIZE} slots.
+     *
+     * @param nfa
+     *         the automaton to simulate
+     */
+    public CompactNFASimulator(FrozenCompactNFA<I> nfa) {
+        this(nfa, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nfa
+     *         the automaton to simulate
+     * @param cacheSize
+     *         the (maximum) number of memoized subset transitions. Will be rounded up to the next power of two. A value
+     *         of {@code 0} disables memoization
+     */
+    public CompactNFASimulator(FrozenCompactNFA<I> nfa, int cacheSize) {
+        this((SimulableNFA<I>) nfa, cacheSize);
+    }
+
+    private CompactNFASimulator(SimulableNFA<I> nfa, int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative");
+        }
+
+        final int slots = cacheSize <= 1 ? cacheSize : Integer.highestOneBit(cacheSize - 1) << 1;
+
+        this.nfa = nfa;
+        this.current = new BitSet(nfa.size());
+        this.next = new BitSet(nfa.size());
+        this.mask = Math.max(slots, 1) - 1;
+        this.cachedSources = new BitSet[slots];
+        this.cachedInputs = new int[slots];
+        this.cachedTargets = new BitSet[slots];
+    }
+
+    /**
+     * Determines whether the given word is accepted by the simulated automaton.
+     *
+     * @param input
+     *         the input word
+     *
+     * @return {@code true} if the word is accepted, {@code false} otherwise
+     */
+    public boolean accepts(Iterable<? extends I> input) {
+        final Alphabet<I> alphabet = nfa.getInputAlphabet();
+
+        current.clear();
+        nfa.addInitialStates(current);
+
+        for (I sym : input) {
+            if (current.isEmpty()) {
+                return false;
+            }
+            step(alphabet.getSymbolIndex(sym));
+        }
+
+        return nfa.isAccepting(current);
+    }
+
+    /**
+     * Determines for each of the given words whether it is accepted by the simulated automaton. The buffers and the
+     * cache of this simulator are shared across all words.
+     *
+     * @param inputs
+     *         the input words
+     *
+     * @return a {@link BitSet} whose {@code i}-th bit is set iff the {@code i}-th word (w.r.t. the iteration order of
+     * the given collection) is accepted
+     */
+    public BitSet acceptsAll(Collection<? extends Iterable<? extends I>> inputs) {
+        final BitSet result = new BitSet(inputs.size());
+        int idx = 0;
+
+        for (Iterable<? extends I> input : inputs) {
+            if (accepts(input)) {
+                result.set(idx);
+            }
+            idx++;
+        }
+
+        return result;
+    }
+
+    /**
+     * Clears the memoized subset transitions. Needs to be called if the simulated automaton has been modified after
+     * the construction of this simulator.
+     */
+    public void clearCache() {
+        Arrays.fill(cachedSources, null);
+        Arrays.fill(cachedTargets, null);
+    }
+
+    private void step(int inputIdx) {
+        final BitSet target = this.next;
+        target.clear();
+
+        if (cachedSources.length == 0) {
+            computeSuccessors(inputIdx, target);
+        } else {
+            final int slot = (current.hashCode() * 31 + inputIdx) & mask;
+            final BitSet cachedSource = cachedSources[slot];
+
+            if (cachedSource != null && cachedInputs[slot] == inputIdx && cachedSource.equals(current)) {
+                target.or(cachedTargets[slot]);
+            } else {
+                computeSuccessors(inputIdx, target);
+                cachedSources[slot] = (BitSet) current.clone();
+                cachedInputs[slot] = inputIdx;
+                cachedTargets[slot] = (BitSet) target.clone();
+            }
+        }
+
+        // swap buffers
+        this.next = current;
+        this.current = target;
+    }
+
+    private void computeSuccessors(int inputIdx, BitSet target) {
+        final BitSet source = this.current;
+        for (int s = source.nextSetBit(0); s >= 0; s = source.nextSetBit(s + 1)) {
+            nfa.addSuccessors(s, inputIdx, target);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.fsa.impl;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.base.AbstractFrozenCompactDeterministic;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable snapshot of a {@link CompactDFA}, obtained via {@link CompactDFA#freeze()}. Instances of this class can
+ * be shared between and read concurrently by multiple threads without any further synchronization. A mutable copy can
+ * be obtained via {@link #thaw()}.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public final class FrozenCompactDFA<I> extends AbstractFrozenCompactDeterministic<I, Integer, Boolean, Void>
+        implements DFA<Integer, I> {
+
+    // the number of words that are processed in lock-step, chosen so that the current states stay in the L1 cache
+    private static final int BLOCK_SIZE = 1024;
+
+    private final BitSet acceptance;
+
+    FrozenCompactDFA(Alphabet<I> alphabet, int numStates, int initial, int[] transitions, BitSet acceptance) {
+        super(alphabet, numStates, initial, transitions);
+        this.acceptance = acceptance;
+    }
+
+    /**
+     * Returns a mutable copy of this snapshot. The state ids of the returned automaton coincide with the state ids of
+     * this snapshot.
+     *
+     * @return a mutable copy of this snapshot
+     */
+    public CompactDFA<I> thaw() {
+        return new CompactDFA<>(thawAlphabet(),
+                                size(),
+                                getIntInitialState(),
+                                Arrays.copyOf(transitions, transitions.length),
+                                (BitSet) acceptance.clone());
+    }
+
+    @Override
+    public boolean isAccepting(Integer state) {
+        return isAccepting(state.intValue());
+    }
+
+    /**
+     * Checks whether the given state (id) is accepting.
+     *
+     * @param state
+     *         the state (id)
+     *
+     * @return {@code true} if the state is accepting, {@code false} otherwise
+     */
+    public boolean isAccepting(int state) {
+        return acceptance.get(state);
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent autoboxing of default implementation)
+    public boolean accepts(Iterable<? extends I> input) {
+        final Integer state = getState(input);
+        return state != null && isAccepting(state.intValue());
+    }
+
+    /**
+     * Evaluates a batch of words of equal length. The words are given as input (indices) in row-major order, i.e., the
+     * {@code j}-th symbol of the {@code w}-th word is stored at index {@code w * length + j} of {@code words}. The
+     * words are processed in blocks whose runs are advanced in lock-step, i.e., all words of a block read their
+     * {@code j}-th symbol before any word of the block reads its {@code j+1}-th symbol. This keeps the current states
+     * of a block in a small, contiguous array and allows for overlapping the (independent) successor lookups of
+     * different words.
+     * <p>
+     * Since this snapshot is immutable, disjoint batches may be evaluated concurrently.
+     *
+     * @param words
+     *         the input indices of the words
+     * @param numWords
+     *         the number of words
+     * @param length
+     *         the length of each word
+     *
+     * @return a {@link BitSet} whose {@code w}-th bit is set iff the {@code w}-th word is accepted
+     *
+     * @throws IllegalArgumentException
+     *         if the dimensions of the batch exceed the given array or if an input index that is read while evaluating
+     *         the batch lies outside {@code [0, numInputs)}. Symbols that follow an undefined transition are not read
+     */
+    public BitSet acceptsBatch(int[] words, int numWords, int length) {
+        if (numWords < 0 || length < 0 || words.length < (long) numWords * length) {
+            throw new IllegalArgumentException("Invalid batch dimensions: " + numWords + " * " + length);
+        }
+
+        final BitSet result = new BitSet(numWords);
+        final int initial = getIntInitialState();
+
+        if (initial == INVALID_STATE) {
+            return result;
+        }
+
+        final int numInputs = numInputs();
+        final int[] states = new int[Math.min(BLOCK_SIZE, numWords)];
+
+        for (int lo = 0; lo < numWords; lo += BLOCK_SIZE) {
+            final int n = Math.min(BLOCK_SIZE, numWords - lo);
+            Arrays.fill(states, 0, n, initial);
+
+            for (int pos = 0; pos < length; pos++) {
+                int idx = lo * length + pos;
+                boolean alive = false;
+                for (int w = 0; w < n; w++, idx += length) {
+                    final int state = states[w];
+                    if (state != INVALID_STATE) {
+                        final int input = words[idx];
+                        if (input < 0 || input >= numInputs) {
+                            throw new IllegalArgumentException("Invalid input index at position " + idx + ": " + input);
+                        }
+                        final int succ = transitions[state * numInputs + input];
+                        states[w] = succ;
+                        alive |= succ != INVALID_STATE;
+                    }
+                }
+                if (!alive) {
+                    break;
+                }
+            }
+
+            collectAccepted(states, n, lo, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Evaluates a batch of (possibly differently long) words. Analogous to {@link #acceptsBatch(int[], int, int)}, the
+     * words are processed in blocks whose runs are advanced in lock-step and a block is abandoned as soon as none of
+     * its runs can advance any further. Since every symbol needs to be looked up in the input alphabet, this mainly
+     * pays off for automata whose transitions do not fit into the CPU caches. For throughput-critical code, prefer
+     * {@link #acceptsBatch(int[], int, int)}.
+     *
+     * @param words
+     *         the words
+     *
+     * @return a {@link BitSet} whose {@code w}-th bit is set iff the {@code w}-th word is accepted
+     */
+    public BitSet acceptsBatch(List<? extends Word<? extends I>> words) {
+        final int numWords = words.size();
+        final BitSet result = new BitSet(numWords);
+        final int initial = getIntInitialState();
+
+        if (initial == INVALID_STATE) {
+            return result;
+        }
+
+        final Alphabet<I> alphabet = getInputAlphabet();
+        final int numInputs = numInputs();
+        final int[] states = new int[Math.min(BLOCK_SIZE, numWords)];
+
+        for (int lo = 0; lo < numWords; lo += BLOCK_SIZE) {
+            final int n = Math.min(BLOCK_SIZE, numWords - lo);
+            final List<? extends Word<? extends I>> block = words.subList(lo, lo + n);
+
+            int maxLength = 0;
+            for (Word<? extends I> w : block) {
+                maxLength = Math.max(maxLength, w.length());
+            }
+
+            Arrays.fill(states, 0, n, initial);
+
+            for (int pos = 0; pos < maxLength; pos++) {
+                boolean alive = false;
+                for (int w = 0; w < n; w++) {
+                    final int state = states[w];
+                    final Word<? extends I> word = block.get(w);
+                    if (state != INVALID_STATE && pos < word.length()) {
+                        final int input = alphabet.getSymbolIndex(word.getSymbol(pos));
+                        final int succ = transitions[state * numInputs + input];
+                        states[w] = succ;
+                        alive |= succ != INVALID_STATE;
+                    }
+                }
+                // runs that did not advance are either dead or have consumed their word
+                if (!alive) {
+                    break;
+                }
+            }
+
+            collectAccepted(states, n, lo, result);
+        }
+
+        return result;
+    }
+
+    private void collectAccepted(int[] states, int n, int offset, BitSet result) {
+        for (int w = 0; w < n; w++) {
+            final int state = states[w];
+            if (state != INVALID_STATE && acceptance.get(state)) {
+                result.set(offset + w);
+            }
+        }
+    }
+
+    @Override
+    public Boolean getStateProperty(int state) {
+        return isAccepting(state);
+    }
+
+    @Override
+    public @Nullable Integer getTransition(int state, int input) {
+        return toState(getSuccessor(state, input));
+    }
+
+    @Override
+    public int getIntSuccessor(Integer transition) {
+        return transition;
+    }
+
+    @Override
+    public Void getTransitionProperty(Integer transition) {
+        return null;
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent autoboxing of default implementation)
+    public Void getTransitionProperty(int state, int input) {
+        return null;
+    }
+}
@@ -0,0 +1,586 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.fsa.impl;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.GrowingAlphabet;
+import net.automatalib.alphabet.impl.GrowingMapAlphabet;
+import net.automatalib.alphabet.impl.MapAlphabet;
+import net.automatalib.automaton.UniversalFiniteAlphabetAutomaton;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.automaton.fsa.NFA;
+import net.automatalib.common.util.collection.CollectionUtil;
+import net.automatalib.common.util.collection.PositiveIntSet;
+
+/**
+ * An immutable {@link NFA} that stores its transitions in a <i>compressed sparse row</i> (CSR) format. The successors
+ * of all (state, input) slots are stored consecutively in a single array (sorted and without duplicates per slot) and
+ * an additional offset array marks the beginning of each slot. As a result, the memory consumption of this class only
+ * depends on the number of (state, input) slots and the number of transitions, which makes it especially suitable for
+ * large but sparse automata.
+ * <p>
+ * Instances of this class can be obtained via {@link CompactNFA#freeze()} or a {@link Builder}. A mutable copy can be
+ * obtained via {@link #thaw()}. The states of this automaton are represented by their ids, consistent with the
+ * {@link CompactNFA} they were frozen from.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public final class FrozenCompactNFA<I>
+        implements NFA<Integer, I>, UniversalFiniteAlphabetAutomaton<Integer, I, Integer, Boolean, Void>,
+                   StateIDs<Integer>, SimulableNFA<I> {
+
+    private final Alphabet<I> alphabet;
+    private final boolean growingAlphabet;
+    private final int numStates;
+    private final int numInputs;
+    private final int[] initial;
+    private final BitSet accepting;
+    private final int[] offsets;
+    private final int[] successors;
+
+    private FrozenCompactNFA(Alphabet<I> alphabet,
+                             boolean growingAlphabet,
+                             int numStates,
+                             int[] initial,
+                             BitSet accepting,
+                             int[] offsets,
+                             int[] successors) {
+        this.alphabet = alphabet;
+        this.growingAlphabet = growingAlphabet;
+        this.numStates = numStates;
+        this.numInputs = alphabet.size();
+        this.initial = initial;
+        this.accepting = accepting;
+        this.offsets = offsets;
+        this.successors = successors;
+    }
+
+    static <I> FrozenCompactNFA<I> of(CompactNFA<I> nfa) {
+        final Alphabet<I> alphabet = snapshot(nfa.getInputAlphabet());
+        final int numStates = nfa.size();
+        final int numInputs = alphabet.size();
+        final int numSlots = numStates * numInputs;
+
+        final int[] offsets = new int[numSlots + 1];
+        for (int s = 0; s < numStates; s++) {
+            for (int i = 0; i < numInputs; i++) {
+                final int slot = s * numInputs + i;
+                offsets[slot + 1] = offsets[slot] + nfa.getSuccessorCount(s, i);
+            }
+        }
+
+        final int[] successors = new int[offsets[numSlots]];
+        int idx = 0;
+        for (int s = 0; s < numStates; s++) {
+            for (int i = 0; i < numInputs; i++) {
+                for (int t = nfa.nextSuccessor(s, i, 0); t >= 0; t = nfa.nextSuccessor(s, i, t + 1)) {
+                    successors[idx++] = t;
+                }
+            }
+        }
+
+        final BitSet initialStates = new BitSet();
+        nfa.addInitialStates(initialStates);
+
+        final BitSet accepting = new BitSet(numStates);
+        for (int s = 0; s < numStates; s++) {
+            if (nfa.isAccepting(s)) {
+                accepting.set(s);
+            }
+        }
+
+        return new FrozenCompactNFA<>(alphabet,
+                                      nfa.getInputAlphabet() instanceof GrowingAlphabet,
+                                      numStates,
+                                      initialStates.stream().toArray(),
+                                      accepting,
+                                      offsets,
+                                      successors);
+    }
+
+    /**
+     * Returns a mutable copy of this automaton. The state ids of the returned automaton coincide with the state ids of
+     * this automaton.
+     *
+     * @return a mutable copy of this automaton
+     */
+    public CompactNFA<I> thaw() {
+        final CompactNFA<I> result =
+                new CompactNFA<>(growingAlphabet ? new GrowingMapAlphabet<>(alphabet) : alphabet, numStates);
+
+        for (int s = 0; s < numStates; s++) {
+            result.addState(accepting.get(s));
+        }
+
+        for (int s : initial) {
+            result.setInitial(s, true);
+        }
+
+        for (int s = 0; s < numStates; s++) {
+            for (int i = 0; i < numInputs; i++) {
+                final int slot = s * numInputs + i;
+                for (int j = offsets[slot]; j < offsets[slot + 1]; j++) {
+                    result.addTransition(s, i, successors[j]);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public Alphabet<I> getInputAlphabet() {
+        return alphabet;
+    }
+
+    @Override
+    public Collection<Integer> getStates() {
+        return CollectionUtil.intRange(0, numStates);
+    }
+
+    @Override
+    public int size() {
+        return numStates;
+    }
+
+    @Override
+    public StateIDs<Integer> stateIDs() {
+        return this;
+    }
+
+    @Override
+    public int getStateId(Integer state) {
+        return state;
+    }
+
+    @Override
+    public Integer getState(int id) {
+        return id;
+    }
+
+    @Override
+    public Set<Integer> getInitialStates() {
+        final BitSet result = new BitSet();
+        addInitialStates(result);
+        return new PositiveIntSet(result);
+    }
+
+    /**
+     * Adds the initial states (ids) of this automaton to the given {@link BitSet}.
+     *
+     * @param target
+     *         the {@link BitSet} to which the initial states should be added
+     */
+    public void addInitialStates(BitSet target) {
+        for (int s : initial) {
+            target.set(s);
+        }
+    }
+
+    @Override
+    public Collection<Integer> getTransitions(Integer state, I input) {
+        return getTransitions(state.intValue(), input);
+    }
+
+    /**
+     * Returns the successors (ids) of the given state for the given input. The returned list is an unmodifiable view on
+     * the (sorted) successors of the respective slot and does not copy any data.
+     *
+     * @param state
+     *         the state (id)
+     * @param input
+     *         the input symbol
+     *
+     * @return the successors of the given state for the given input
+     */
+    public List<Integer> getTransitions(int state, I input) {
+        return getTransitions(state, alphabet.getSymbolIndex(input));
+    }
+
+    /**
+     * Returns the successors (ids) of the given state for the given input (index). The returned list is an
+     * unmodifiable view on the (sorted) successors of the respective slot and does not copy any data.
+     *
+     * @param state
+     *         the state (id)
+     * @param inputIdx
+     *         the input (index)
+     *
+     * @return the successors of the given state for the given input
+     */
+    public List<Integer> getTransitions(int state, int inputIdx) {
+        final int slot = toSlot(state, inputIdx);
+        return new SlotView(offsets[slot], offsets[slot + 1]);
+    }
+
+    @Override
+    public Integer getSuccessor(Integer transition) {
+        return transition;
+    }
+
+    @Override
+    public Boolean getStateProperty(Integer state) {
+        return isAccepting(state);
+    }
+
+    @Override
+    public Void getTransitionProperty(Integer transition) {
+        return null;
+    }
+
+    @Override
+    public boolean isAccepting(Integer state) {
+        return isAccepting(state.intValue());
+    }
+
+    /**
+     * Checks whether the given state (id) is accepting.
+     *
+     * @param state
+     *         the state (id)
+     *
+     * @return {@code true} if the state is accepting, {@code false} otherwise
+     */
+    public boolean isAccepting(int state) {
+        return accepting.get(state);
+    }
+
+    /**
+     * Checks whether the given set of states (ids) contains an accepting state.
+     *
+     * @param states
+     *         the set of states (ids)
+     *
+     * @return {@code true} if the given set contains an accepting state, {@code false} otherwise
+     */
+    public boolean isAccepting(BitSet states) {
+        return accepting.intersects(states);
+    }
+
+    /**
+     * Returns the number of successors of the given state for the given input (index).
+     *
+     * @param state
+     *         the state (id)
+     * @param inputIdx
+     *         the input (index)
+     *
+     * @return the number of successors
+     */
+    public int getSuccessorCount(int state, int inputIdx) {
+        final int slot = toSlot(state, inputIdx);
+        return offsets[slot + 1] - offsets[slot];
+    }
+
+    /**
+     * Returns the smallest successor (id) of the given state for the given input (index) that is greater than or equal
+     * to the given id. Analogous to {@link CompactNFA#nextSuccessor(int, int, int)}, but uses a binary search on the
+     * (sorted) successors of the respective slot.
+     *
+     * @param state
+     *         the state (id)
+     * @param inputIdx
+     *         the input (index)
+     * @param fromSuccessor
+     *         the (inclusive) lower bound for the successor id
+     *
+     * @return the next successor id, or {@code -1} if no such successor exists
+     */
+    public int nextSuccessor(int state, int inputIdx, int fromSuccessor) {
+        final int slot = toSlot(state, inputIdx);
+        final int hi = offsets[slot + 1];
+        final int idx = Arrays.binarySearch(successors, offsets[slot], hi, fromSuccessor);
+        final int pos = idx >= 0 ? idx : -idx - 1;
+        return pos < hi ? successors[pos] : -1;
+    }
+
+    /**
+     * Passes the successors (ids) of the given state for the given input (index) in ascending order to the given
+     * consumer.
+     *
+     * @param state
+     *         the state (id)
+     * @param inputIdx
+     *         the input (index)
+     * @param consumer
+     *         the consumer of the successor ids
+     */
+    public void forEachSuccessor(int state, int inputIdx, IntConsumer consumer) {
+        final int slot = toSlot(state, inputIdx);
+        for (int j = offsets[slot]; j < offsets[slot + 1]; j++) {
+            consumer.accept(successors[j]);
+        }
+    }
+
+    /**
+     * Adds the successors (ids) of the given state for the given input (index) to the given {@link BitSet}.
+     *
+     * @param state
+     *         the state (id)
+     * @param inputIdx
+     *         the input (index)
+     * @param target
+     *         the {@link BitSet} to which the successors should be added
+     */
+    public void addSuccessors(int state, int inputIdx, BitSet target) {
+        final int slot = toSlot(state, inputIdx);
+        for (int j = offsets[slot]; j < offsets[slot + 1]; j++) {
+            target.set(successors[j]);
+        }
+    }
+
+    /**
+     * Returns the total number of transitions of this automaton.
+     *
+     * @return the number of transitions
+     */
+    public int getNumTransitions() {
+        return successors.length;
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent autoboxing of default implementation)
+    public boolean accepts(Iterable<? extends I> input) {
+        return new CompactNFASimulator<>(this, 0).accepts(input);
+    }
+
+    /**
+     * Returns a {@link CompactNFASimulator} for (repeatedly) evaluating words on this automaton.
+     *
+     * @return a simulator for this automaton
+     */
+    public CompactNFASimulator<I> simulator() {
+        return new CompactNFASimulator<>(this);
+    }
+
+    // copy growing alphabets, so that symbols which are added to them afterward do not affect this automaton
+    private static <I> Alphabet<I> snapshot(Alphabet<I> alphabet) {
+        return alphabet instanceof GrowingAlphabet ? new MapAlphabet<>(alphabet) : alphabet;
+    }
+
+    private int toSlot(int state, int inputIdx) {
+        return state * numInputs + inputIdx;
+    }
+
+    private final class SlotView extends AbstractList<Integer> implements RandomAccess {
+
+        private final int lo;
+        private final int hi;
+
+        SlotView(int lo, int hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        public Integer get(int index) {
+            if (index < 0 || index >= hi - lo) {
+                throw new IndexOutOfBoundsException(Integer.toString(index));
+            }
+            return successors[lo + index];
+        }
+
+        @Override
+        public int size() {
+            return hi - lo;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Integer && Arrays.binarySearch(successors, lo, hi, (Integer) o) >= 0;
+        }
+    }
+
+    /**
+     * A builder for {@link FrozenCompactNFA}s that directly constructs the compressed representation without the need
+     * for an intermediate {@link CompactNFA}. Transitions may be added in arbitrary order and duplicate transitions are
+     * ignored.
+     *
+     * @param <I>
+     *         input symbol type
+     */
+    public static final class Builder<I> {
+
+        private static final int DEFAULT_CAPACITY = 16;
+
+        private final Alphabet<I> alphabet;
+        private final boolean growingAlphabet;
+        private final BitSet initial;
+        private final BitSet accepting;
+        private int numStates;
+
+        private int[] sources;
+        private int[] targets;
+        private int numTransitions;
+
+        /**
+         * Constructor.
+         *
+         * @param alphabet
+         *         the input alphabet of the automaton to build. A {@link GrowingAlphabet} is copied, so that symbols
+         *         which are added to it afterward do not affect the builder or the built automaton
+         */
+        public Builder(Alphabet<I> alphabet) {
+            this.alphabet = snapshot(alphabet);
+            this.growingAlphabet = alphabet instanceof GrowingAlphabet;
+            this.initial = new BitSet();
+            this.accepting = new BitSet();
+            this.sources = new int[DEFAULT_CAPACITY];
+            this.targets = new int[DEFAULT_CAPACITY];
+        }
+
+        /**
+         * Adds a new state.
+         *
+         * @param accepting
+         *         whether the state is accepting
+         *
+         * @return the id of the new state
+         */
+        public int addState(boolean accepting) {
+            final int state = numStates++;
+            if (accepting) {
+                this.accepting.set(state);
+            }
+            return state;
+        }
+
+        /**
+         * Marks the given state as initial.
+         *
+         * @param state
+         *         the state (id)
+         */
+        public void setInitial(int state) {
+            checkState(state);
+            this.initial.set(state);
+        }
+
+        /**
+         * Adds a transition. Adding the same transition multiple times has no effect on the constructed automaton.
+         *
+         * @param source
+         *         the source state (id)
+         * @param input
+         *         the input symbol
+         * @param target
+         *         the target state (id)
+         *
+         * @throws IllegalArgumentException
+         *         if one of the states has not been added yet
+         */
+        public void addTransition(int source, I input, int target) {
+            addTransition(source, alphabet.getSymbolIndex(input), target);
+        }
+
+        /**
+         * Adds a transition. Adding the same transition multiple times has no effect on the constructed automaton.
+         *
+         * @param source
+         *         the source state (id)
+         * @param inputIdx
+         *         the input (index)
+         * @param target
+         *         the target state (id)
+         *
+         * @throws IllegalArgumentException
+         *         if one of the states has not been added yet or if the input index is out of bounds
+         */
+        public void addTransition(int source, int inputIdx, int target) {
+            checkState(source);
+            checkState(target);
+            if (inputIdx < 0 || inputIdx >= alphabet.size()) {
+                throw new IllegalArgumentException("Invalid input index " + inputIdx);
+            }
+
+            if (numTransitions == sources.length) {
+                final int newCapacity = sources.length << 1;
+                sources = Arrays.copyOf(sources, newCapacity);
+                targets = Arrays.copyOf(targets, newCapacity);
+            }
+
+            sources[numTransitions] = source * alphabet.size() + inputIdx;
+            targets[numTransitions] = target;
+            numTransitions++;
+        }
+
+        /**
+         * Constructs the frozen automaton from the states and transitions added so far. The builder may be used further
+         * afterward.
+         *
+         * @return the frozen automaton
+         */
+        public FrozenCompactNFA<I> build() {
+            final int numSlots = numStates * alphabet.size();
+
+            // counting sort by slot
+            final int[] offsets = new int[numSlots + 1];
+            for (int i = 0; i < numTransitions; i++) {
+                offsets[sources[i] + 1]++;
+            }
+            for (int i = 0; i < numSlots; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+
+            final int[] sorted = new int[numTransitions];
+            final int[] pos = Arrays.copyOf(offsets, numSlots);
+            for (int i = 0; i < numTransitions; i++) {
+                sorted[pos[sources[i]]++] = targets[i];
+            }
+
+            // sort and de-duplicate each slot in-place
+            int write = 0;
+            for (int slot = 0; slot < numSlots; slot++) {
+                final int lo = offsets[slot];
+                final int hi = offsets[slot + 1];
+                Arrays.sort(sorted, lo, hi);
+
+                final int start = write;
+                offsets[slot] = start;
+                for (int j = lo; j < hi; j++) {
+                    if (write == start || sorted[j] != sorted[write - 1]) {
+                        sorted[write++] = sorted[j];
+                    }
+                }
+            }
+            offsets[numSlots] = write;
+
+            return new FrozenCompactNFA<>(alphabet,
+                                          growingAlphabet,
+                                          numStates,
+                                          initial.stream().toArray(),
+                                          (BitSet) accepting.clone(),
+                                          offsets,
+                                          write == sorted.length ? sorted : Arrays.copyOf(sorted, write));
+        }
+
+        private void checkState(int state) {
+            if (state < 0 || state >= numStates) {
+                throw new IllegalArgumentException("Invalid state " + state);
+            }
+        }
+    }
+}
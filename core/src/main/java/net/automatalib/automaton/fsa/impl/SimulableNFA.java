@@ -0,0 +1,40 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.fsa.impl;
+
+import java.util.BitSet;
+
+import net.automatalib.alphabet.Alphabet;
+
+/**
+ * The primitive, {@link BitSet}-based operations of the {@link CompactNFA} and the {@link FrozenCompactNFA} on which the
+ * {@link CompactNFASimulator} is built.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+interface SimulableNFA<I> {
+
+    Alphabet<I> getInputAlphabet();
+
+    int size();
+
+    void addInitialStates(BitSet target);
+
+    void addSuccessors(int state, int inputIdx, BitSet target);
+
+    boolean isAccepting(BitSet states);
+}
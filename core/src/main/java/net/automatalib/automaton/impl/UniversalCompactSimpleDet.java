@@ -47,6 +47,15 @@ public class UniversalCompactSimpleDet<I, SP> extends AbstractCompactSimpleDeter
         this(other.getInputAlphabet(), other);
     }
 
+    protected UniversalCompactSimpleDet(Alphabet<I> alphabet,
+                                        int numStates,
+                                        int initial,
+                                        int[] transitions,
+                                        @Nullable Object[] stateProperties) {
+        super(alphabet, numStates, initial, transitions);
+        this.stateProperties = stateProperties;
+    }
+
     protected UniversalCompactSimpleDet(Alphabet<I> alphabet, UniversalCompactSimpleDet<?, SP> other) {
         super(alphabet, other);
         this.stateProperties = other.stateProperties.clone();
@@ -56,6 +56,12 @@ public class CompactMealy<I, O> extends AbstractCompactDeterministic<I, CompactT
         this(other.getInputAlphabet(), other);
     }
 
+    CompactMealy(Alphabet<I> alphabet, int numStates, int initial, int[] transitions, @Nullable Object[] outputs) {
+        super(alphabet, numStates, initial, DEFAULT_RESIZE_FACTOR);
+        this.transitions = transitions;
+        this.outputs = outputs;
+    }
+
     protected CompactMealy(Alphabet<I> alphabet, CompactMealy<?, O> other) {
         super(alphabet, other);
         this.transitions = other.transitions.clone();
@@ -71,6 +77,24 @@ public class CompactMealy<I, O> extends AbstractCompactDeterministic<I, CompactT
         return new CompactMealy<>(newAlphabet, this);
     }
 
+    /**
+     * Returns an immutable snapshot of this automaton which can be read concurrently by multiple threads. The state ids
+     * of the returned snapshot coincide with the state ids of this automaton. Subsequent modifications of this
+     * automaton are not reflected in the snapshot.
+     *
+     * @return an immutable snapshot of this automaton
+     *
+     * @see FrozenCompactMealy#thaw()
+     */
+    public FrozenCompactMealy<I, O> freeze() {
+        final int length = size() * numInputs();
+        return new FrozenCompactMealy<>(getInputAlphabet(),
+                                        size(),
+                                        getIntInitialState(),
+                                        Arrays.copyOf(transitions, length),
+                                        Arrays.copyOf(outputs, length));
+    }
+
     @Override
     protected void updateTransitionStorage(Payload payload) {
         this.transitions = updateTransitionStorage(this.transitions, AbstractCompact.INVALID_STATE, payload);
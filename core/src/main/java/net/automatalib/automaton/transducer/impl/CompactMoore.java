@@ -15,10 +15,13 @@
  */
 package net.automatalib.automaton.transducer.impl;
 
+import java.util.Arrays;
+
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.AutomatonCreator;
 import net.automatalib.automaton.impl.UniversalCompactSimpleDet;
 import net.automatalib.automaton.transducer.MutableMooreMachine;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 public class CompactMoore<I, O> extends UniversalCompactSimpleDet<I, O>
         implements MutableMooreMachine<Integer, I, Integer, O> {
@@ -39,6 +42,37 @@ public class CompactMoore<I, O> extends UniversalCompactSimpleDet<I, O>
         super(alphabet, other);
     }
 
+    CompactMoore(Alphabet<I> alphabet,
+                 int numStates,
+                 int initial,
+                 int[] transitions,
+                 @Nullable Object[] stateOutputs) {
+        super(alphabet, numStates, initial, transitions, stateOutputs);
+    }
+
+    /**
+     * Returns an immutable snapshot of this automaton which can be read concurrently by multiple threads. The state ids
+     * of the returned snapshot coincide with the state ids of this automaton. Subsequent modifications of this
+     * automaton are not reflected in the snapshot.
+     *
+     * @return an immutable snapshot of this automaton
+     *
+     * @see FrozenCompactMoore#thaw()
+     */
+    public FrozenCompactMoore<I, O> freeze() {
+        final int numStates = size();
+        final Object[] stateOutputs = new Object[numStates];
+        for (int i = 0; i < numStates; i++) {
+            stateOutputs[i] = getStateProperty(i);
+        }
+
+        return new FrozenCompactMoore<>(getInputAlphabet(),
+                                        numStates,
+                                        getIntInitialState(),
+                                        Arrays.copyOf(transitions, numStates * numInputs()),
+                                        stateOutputs);
+    }
+
     @Override
     public void setStateOutput(Integer state, O output) {
         setStateProperty(state, output);
@@ -0,0 +1,128 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.transducer.impl;
+
+import java.util.Arrays;
+import java.util.List;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.base.AbstractFrozenCompactDeterministic;
+import net.automatalib.automaton.transducer.StateLocalInputMealyMachine;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable snapshot of a {@link CompactMealy}, obtained via {@link CompactMealy#freeze()}. Instances of this class
+ * can be shared between and read concurrently by multiple threads without any further synchronization. A mutable copy
+ * can be obtained via {@link #thaw()}.
+ * <p>
+ * Transitions are represented by the (integer) index of their memory location, i.e., {@code state * numInputs() +
+ * input}, so that no transition objects need to be instantiated. The primitive read paths (e.g.,
+ * {@link #getSuccessor(int, int)} and {@link #getTransitionProperty(int, int)}) as well as
+ * {@link #trace(Integer, Iterable, List)} directly operate on the underlying arrays.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public final class FrozenCompactMealy<I, O> extends AbstractFrozenCompactDeterministic<I, Integer, Void, O>
+        implements StateLocalInputMealyMachine<Integer, I, Integer, O> {
+
+    private final @Nullable Object[] outputs;
+
+    FrozenCompactMealy(Alphabet<I> alphabet,
+                       int numStates,
+                       int initial,
+                       int[] transitions,
+                       @Nullable Object[] outputs) {
+        super(alphabet, numStates, initial, transitions);
+        this.outputs = outputs;
+    }
+
+    /**
+     * Returns a mutable copy of this snapshot. The state ids of the returned automaton coincide with the state ids of
+     * this snapshot.
+     *
+     * @return a mutable copy of this snapshot
+     */
+    public CompactMealy<I, O> thaw() {
+        return new CompactMealy<>(thawAlphabet(),
+                                  size(),
+                                  getIntInitialState(),
+                                  Arrays.copyOf(transitions, transitions.length),
+                                  Arrays.copyOf(outputs, outputs.length));
+    }
+
+    @Override
+    public @Nullable Integer getTransition(int state, int input) {
+        final int idx = toMemoryIndex(state, input);
+        return transitions[idx] == INVALID_STATE ? null : idx;
+    }
+
+    @Override
+    public int getIntSuccessor(Integer transition) {
+        return transitions[transition];
+    }
+
+    @Override
+    public Void getStateProperty(int state) {
+        return null;
+    }
+
+    @Override
+    public O getTransitionOutput(Integer transition) {
+        return getOutput(transition.intValue());
+    }
+
+    @Override
+    public O getTransitionProperty(Integer transition) {
+        return getOutput(transition.intValue());
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent object instantiation of default implementation)
+    public @Nullable O getTransitionProperty(int state, int input) {
+        return getOutput(toMemoryIndex(state, input));
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent object instantiation of default implementation)
+    public @Nullable O getOutput(Integer state, I input) {
+        return getTransitionProperty(state.intValue(), getInputAlphabet().getSymbolIndex(input));
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent object instantiation of default implementation)
+    public boolean trace(Integer state, Iterable<? extends I> input, List<? super O> output) {
+        final Alphabet<I> alphabet = getInputAlphabet();
+        int current = state;
+
+        for (I sym : input) {
+            final int idx = toMemoryIndex(current, alphabet.getSymbolIndex(sym));
+            current = transitions[idx];
+            if (current == INVALID_STATE) {
+                return false;
+            }
+            output.add(getOutput(idx));
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private O getOutput(int memoryIdx) {
+        return (O) outputs[memoryIdx];
+    }
+}
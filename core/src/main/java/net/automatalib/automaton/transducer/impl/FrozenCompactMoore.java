@@ -0,0 +1,112 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.transducer.impl;
+
+import java.util.Arrays;
+import java.util.List;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.base.AbstractFrozenCompactDeterministic;
+import net.automatalib.automaton.transducer.MooreMachine;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable snapshot of a {@link CompactMoore}, obtained via {@link CompactMoore#freeze()}. Instances of this class
+ * can be shared between and read concurrently by multiple threads without any further synchronization. A mutable copy
+ * can be obtained via {@link #thaw()}.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public final class FrozenCompactMoore<I, O> extends AbstractFrozenCompactDeterministic<I, Integer, O, Void>
+        implements MooreMachine<Integer, I, Integer, O> {
+
+    private final @Nullable Object[] stateOutputs;
+
+    FrozenCompactMoore(Alphabet<I> alphabet,
+                       int numStates,
+                       int initial,
+                       int[] transitions,
+                       @Nullable Object[] stateOutputs) {
+        super(alphabet, numStates, initial, transitions);
+        this.stateOutputs = stateOutputs;
+    }
+
+    /**
+     * Returns a mutable copy of this snapshot. The state ids of the returned automaton coincide with the state ids of
+     * this snapshot.
+     *
+     * @return a mutable copy of this snapshot
+     */
+    public CompactMoore<I, O> thaw() {
+        return new CompactMoore<>(thawAlphabet(),
+                                  size(),
+                                  getIntInitialState(),
+                                  Arrays.copyOf(transitions, transitions.length),
+                                  Arrays.copyOf(stateOutputs, stateOutputs.length));
+    }
+
+    @Override
+    public O getStateOutput(Integer state) {
+        return getStateProperty(state.intValue());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public O getStateProperty(int state) {
+        return (O) stateOutputs[state];
+    }
+
+    @Override
+    public @Nullable Integer getTransition(int state, int input) {
+        return toState(getSuccessor(state, input));
+    }
+
+    @Override
+    public int getIntSuccessor(Integer transition) {
+        return transition;
+    }
+
+    @Override
+    public Void getTransitionProperty(Integer transition) {
+        return null;
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent autoboxing of default implementation)
+    public Void getTransitionProperty(int state, int input) {
+        return null;
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent autoboxing of default implementation)
+    public boolean trace(Integer state, Iterable<? extends I> input, List<? super O> output) {
+        final Alphabet<I> alphabet = getInputAlphabet();
+        int current = state;
+
+        output.add(getStateProperty(current));
+        for (I sym : input) {
+            current = getSuccessor(current, alphabet.getSymbolIndex(sym));
+            if (current == INVALID_STATE) {
+                return false;
+            }
+            output.add(getStateProperty(current));
+        }
+        return true;
+    }
+}
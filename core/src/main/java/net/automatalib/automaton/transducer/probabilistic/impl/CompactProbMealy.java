@@ -0,0 +1,596 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.transducer.probabilistic.impl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.GrowingAlphabet;
+import net.automatalib.alphabet.impl.MapAlphabet;
+import net.automatalib.automaton.UniversalFiniteAlphabetAutomaton;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.automaton.transducer.probabilistic.ProbabilisticMealyMachine;
+import net.automatalib.automaton.transducer.probabilistic.ProbabilisticOutput;
+import net.automatalib.common.util.collection.CollectionUtil;
+import net.automatalib.common.util.collection.PositiveIntSet;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+
+/**
+ * An immutable {@link ProbabilisticMealyMachine} that stores its transitions in flat arrays. The transitions of all
+ * (state, input) slots are stored consecutively (successors, output indices, and probabilities) and an additional
+ * offset array marks the beginning of each slot. Transitions are represented by their (global) index.
+ * <p>
+ * In addition, each slot stores an <i>alias table</i> (cf. Vose's alias method) over the normalized probabilities of
+ * its transitions, so that sampling a transition of a slot takes constant time, regardless of the number of
+ * transitions of the slot. This makes this class especially suitable for sampling-based testing that simulates many
+ * random runs (see {@link #sampleRuns(SplittableRandom, int, int)}).
+ * <p>
+ * Instances of this class can be obtained via {@link FastProbMealy#toCompact()} or
+ * {@link #copyOf(ProbabilisticMealyMachine, Alphabet)}.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public final class CompactProbMealy<I, O>
+        implements ProbabilisticMealyMachine<Integer, I, Integer, O>,
+                   UniversalFiniteAlphabetAutomaton<Integer, I, Integer, Void, ProbabilisticOutput<O>>,
+                   StateIDs<Integer> {
+
+    private final Alphabet<I> alphabet;
+    private final int numStates;
+    private final int numInputs;
+    private final int[] initial;
+    private final List<O> outputSymbols;
+
+    private final int[] offsets;
+    private final int[] successors;
+    private final int[] outputs;
+    private final float[] probabilities;
+
+    private final double[] aliasProbabilities;
+    private final int[] aliases;
+
+    private CompactProbMealy(Alphabet<I> alphabet,
+                             int numStates,
+                             int[] initial,
+                             List<O> outputSymbols,
+                             int[] offsets,
+                             int[] successors,
+                             int[] outputs,
+                             float[] probabilities) {
+        this.alphabet = alphabet;
+        this.numStates = numStates;
+        this.numInputs = alphabet.size();
+        this.initial = initial;
+        this.outputSymbols = outputSymbols;
+        this.offsets = offsets;
+        this.successors = successors;
+        this.outputs = outputs;
+        this.probabilities = probabilities;
+        this.aliasProbabilities = new double[successors.length];
+        this.aliases = new int[successors.length];
+
+        for (int slot = 0; slot < offsets.length - 1; slot++) {
+            buildAliasTable(offsets[slot], offsets[slot + 1]);
+        }
+    }
+
+    /**
+     * Creates a compact copy of the given {@link ProbabilisticMealyMachine}. The states of the returned automaton are
+     * identified by the {@link StateIDs state ids} of the given automaton.
+     *
+     * @param source
+     *         the automaton to copy
+     * @param inputs
+     *         the input symbols to consider. A {@link GrowingAlphabet} is copied, so that symbols which are added to it
+     *         afterward do not affect the returned automaton
+     * @param <S>
+     *         state type
+     * @param <I>
+     *         input symbol type
+     * @param <T>
+     *         transition type
+     * @param <O>
+     *         output symbol type
+     *
+     * @return the compact copy
+     */
+    public static <S, I, T, O> CompactProbMealy<I, O> copyOf(ProbabilisticMealyMachine<S, I, T, O> source,
+                                                             Alphabet<I> inputs) {
+        final Alphabet<I> alphabet = inputs instanceof GrowingAlphabet ? new MapAlphabet<>(inputs) : inputs;
+        final StateIDs<S> ids = source.stateIDs();
+        final int numStates = source.size();
+        final int numInputs = alphabet.size();
+        final int numSlots = numStates * numInputs;
+
+        final int[] offsets = new int[numSlots + 1];
+        for (S s : source) {
+            final int id = ids.getStateId(s);
+            for (int i = 0; i < numInputs; i++) {
+                offsets[id * numInputs + i + 1] = source.getTransitions(s, alphabet.getSymbol(i)).size();
+            }
+        }
+        for (int slot = 0; slot < numSlots; slot++) {
+            offsets[slot + 1] += offsets[slot];
+        }
+
+        final int numTransitions = offsets[numSlots];
+        final int[] successors = new int[numTransitions];
+        final int[] outputs = new int[numTransitions];
+        final float[] probabilities = new float[numTransitions];
+        final Map<O, Integer> outputIds = new HashMap<>();
+        final List<O> outputSymbols = new ArrayList<>();
+
+        for (S s : source) {
+            final int id = ids.getStateId(s);
+            for (int i = 0; i < numInputs; i++) {
+                int idx = offsets[id * numInputs + i];
+                for (T t : source.getTransitions(s, alphabet.getSymbol(i))) {
+                    final ProbabilisticOutput<O> property = source.getTransitionProperty(t);
+                    final O output = property.getOutput();
+
+                    Integer outputId = outputIds.get(output);
+                    if (outputId == null) {
+                        outputId = outputSymbols.size();
+                        outputIds.put(output, outputId);
+                        outputSymbols.add(output);
+                    }
+
+                    successors[idx] = ids.getStateId(source.getSuccessor(t));
+                    outputs[idx] = outputId;
+                    probabilities[idx] = property.getProbability();
+                    idx++;
+                }
+            }
+        }
+
+        final Collection<S> initialStates = source.getInitialStates();
+        final int[] initial = new int[initialStates.size()];
+        int idx = 0;
+        for (S s : initialStates) {
+            initial[idx++] = ids.getStateId(s);
+        }
+
+        return new CompactProbMealy<>(alphabet,
+                                      numStates,
+                                      initial,
+                                      Collections.unmodifiableList(outputSymbols),
+                                      offsets,
+                                      successors,
+                                      outputs,
+                                      probabilities);
+    }
+
+    // Vose's alias method on the normalized probabilities of the transitions [lo, hi)
+    private void buildAliasTable(int lo, int hi) {
+        final int n = hi - lo;
+        if (n == 0) {
+            return;
+        }
+
+        double sum = 0;
+        for (int t = lo; t < hi; t++) {
+            sum += probabilities[t];
+        }
+
+        // scale probabilities so that their average is 1 (fall back to a uniform distribution for zero weights)
+        final double[] scaled = new double[n];
+        for (int j = 0; j < n; j++) {
+            scaled[j] = sum > 0 ? probabilities[lo + j] * n / sum : 1;
+        }
+
+        final int[] small = new int[n];
+        final int[] large = new int[n];
+        int numSmall = 0;
+        int numLarge = 0;
+
+        for (int j = 0; j < n; j++) {
+            if (scaled[j] < 1) {
+                small[numSmall++] = j;
+            } else {
+                large[numLarge++] = j;
+            }
+        }
+
+        while (numSmall > 0 && numLarge > 0) {
+            final int s = small[--numSmall];
+            final int l = large[--numLarge];
+
+            aliasProbabilities[lo + s] = scaled[s];
+            aliases[lo + s] = lo + l;
+
+            scaled[l] = (scaled[l] + scaled[s]) - 1;
+            if (scaled[l] < 1) {
+                small[numSmall++] = l;
+            } else {
+                large[numLarge++] = l;
+            }
+        }
+
+        // remaining entries (up to numerical inaccuracies) have a probability of 1
+        while (numLarge > 0) {
+            final int l = large[--numLarge];
+            aliasProbabilities[lo + l] = 1;
+            aliases[lo + l] = lo + l;
+        }
+        while (numSmall > 0) {
+            final int s = small[--numSmall];
+            aliasProbabilities[lo + s] = 1;
+            aliases[lo + s] = lo + s;
+        }
+    }
+
+    @Override
+    public Alphabet<I> getInputAlphabet() {
+        return alphabet;
+    }
+
+    @Override
+    public Collection<Integer> getStates() {
+        return CollectionUtil.intRange(0, numStates);
+    }
+
+    @Override
+    public int size() {
+        return numStates;
+    }
+
+    @Override
+    public StateIDs<Integer> stateIDs() {
+        return this;
+    }
+
+    @Override
+    public int getStateId(Integer state) {
+        return state;
+    }
+
+    @Override
+    public Integer getState(int id) {
+        return id;
+    }
+
+    @Override
+    public Set<Integer> getInitialStates() {
+        final BitSet result = new BitSet();
+        for (int s : initial) {
+            result.set(s);
+        }
+        return new PositiveIntSet(result);
+    }
+
+    @Override
+    public Collection<Integer> getTransitions(Integer state, I input) {
+        return getTransitions(state.intValue(), input);
+    }
+
+    /**
+     * Returns the transitions (indices) of the given state for the given input. The returned list is an unmodifiable
+     * view on the range of transitions of the respective slot and does not copy any data.
+     *
+     * @param state
+     *         the state (id)
+     * @param input
+     *         the input symbol
+     *
+     * @return the transitions of the given state for the given input
+     */
+    public List<Integer> getTransitions(int state, I input) {
+        return getTransitions(state, alphabet.getSymbolIndex(input));
+    }
+
+    /**
+     * Returns the transitions (indices) of the given state for the given input (index). The returned list is an
+     * unmodifiable view on the range of transitions of the respective slot and does not copy any data.
+     *
+     * @param state
+     *         the state (id)
+     * @param inputIdx
+     *         the input (index)
+     *
+     * @return the transitions of the given state for the given input
+     */
+    public List<Integer> getTransitions(int state, int inputIdx) {
+        final int slot = state * numInputs + inputIdx;
+        return CollectionUtil.intRange(offsets[slot], offsets[slot + 1]);
+    }
+
+    @Override
+    public Integer getSuccessor(Integer transition) {
+        return getSuccessor(transition.intValue());
+    }
+
+    /**
+     * Returns the successor (id) of the given transition.
+     *
+     * @param transition
+     *         the transition (index)
+     *
+     * @return the successor of the given transition
+     */
+    public int getSuccessor(int transition) {
+        return successors[transition];
+    }
+
+    @Override
+    public ProbabilisticOutput<O> getTransitionProperty(Integer transition) {
+        return new ProbabilisticOutput<>(probabilities[transition], getTransitionOutput(transition.intValue()));
+    }
+
+    @Override
+    public O getTransitionOutput(Integer transition) {
+        return getTransitionOutput(transition.intValue());
+    }
+
+    /**
+     * Returns the output symbol of the given transition.
+     *
+     * @param transition
+     *         the transition (index)
+     *
+     * @return the output symbol of the given transition
+     */
+    public O getTransitionOutput(int transition) {
+        return outputSymbols.get(outputs[transition]);
+    }
+
+    @Override
+    public float getTransitionProbability(Integer transition) {
+        return probabilities[transition];
+    }
+
+    /**
+     * Returns the (interned) output symbols of this automaton. The index of an output symbol in this list is the
+     * output index used by {@link Runs#getOutputIndex(int, int)}.
+     *
+     * @return the output symbols of this automaton
+     */
+    public List<O> getOutputSymbols() {
+        return outputSymbols;
+    }
+
+    /**
+     * Returns the total number of transitions of this automaton.
+     *
+     * @return the number of transitions
+     */
+    public int getNumTransitions() {
+        return successors.length;
+    }
+
+    /**
+     * Samples a transition of the given state for the given input (index) in constant time. The probabilities of the
+     * transitions of a (state, input) pair are normalized, i.e., they do not need to sum up to 1. If all transitions
+     * have a probability of 0, a transition is chosen uniformly at random.
+     *
+     * @param state
+     *         the state (id)
+     * @param inputIdx
+     *         the input (index)
+     * @param random
+     *         the source of randomness
+     *
+     * @return the sampled transition, or {@code -1} if the state has no transitions for the given input
+     */
+    public int sampleTransition(int state, int inputIdx, SplittableRandom random) {
+        final int slot = state * numInputs + inputIdx;
+        final int lo = offsets[slot];
+        final int n = offsets[slot + 1] - lo;
+
+        if (n == 0) {
+            return -1;
+        }
+
+        final double u = random.nextDouble() * n;
+        final int column = (int) u;
+        final int t = lo + column;
+
+        return u - column < aliasProbabilities[t] ? t : aliases[t];
+    }
+
+    /**
+     * Samples a batch of random runs. Each run starts in the initial state, chooses its inputs uniformly at random from
+     * the input alphabet, and samples the transitions via {@link #sampleTransition(int, int, SplittableRandom)}. A run
+     * ends early if the current state has no transitions for the chosen input (in which case the chosen input is not
+     * part of the run).
+     * <p>
+     * Since {@link SplittableRandom}s are not thread-safe, runs can be sampled concurrently by passing
+     * {@link SplittableRandom#split() split} instances to concurrent invocations of this method.
+     *
+     * @param random
+     *         the source of randomness
+     * @param n
+     *         the number of runs
+     * @param length
+     *         the (maximum) length of each run
+     *
+     * @return the sampled runs
+     *
+     * @throws IllegalArgumentException
+     *         if the total number of steps ({@code n * length}) exceeds {@link Integer#MAX_VALUE}
+     * @throws IllegalStateException
+     *         if this automaton does not have exactly one initial state
+     */
+    public Runs<I, O> sampleRuns(SplittableRandom random, int n, int length) {
+        if (initial.length != 1) {
+            throw new IllegalStateException("Sampling requires exactly one initial state, but found " +
+                                            initial.length);
+        }
+
+        if ((long) n * length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many runs for a single batch: " + n + " * " + length);
+        }
+
+        final int init = initial[0];
+        final int[] runInputs = new int[n * length];
+        final int[] runOutputs = new int[n * length];
+        final int[] runLengths = new int[n];
+
+        for (int r = 0; r < n; r++) {
+            final int base = r * length;
+            int state = init;
+            int step = 0;
+
+            while (step < length) {
+                final int input = numInputs == 0 ? -1 : random.nextInt(numInputs);
+                final int t = input < 0 ? -1 : sampleTransition(state, input, random);
+
+                if (t < 0) {
+                    break;
+                }
+
+                runInputs[base + step] = input;
+                runOutputs[base + step] = outputs[t];
+                state = successors[t];
+                step++;
+            }
+
+            runLengths[r] = step;
+        }
+
+        return new Runs<>(alphabet, outputSymbols, length, runInputs, runOutputs, runLengths);
+    }
+
+    /**
+     * A batch of runs sampled by {@link #sampleRuns(SplittableRandom, int, int)}. The inputs and outputs of all runs
+     * are stored as indices in flat arrays. {@link Word}s are only constructed on request.
+     *
+     * @param <I>
+     *         input symbol type
+     * @param <O>
+     *         output symbol type
+     */
+    public static final class Runs<I, O> {
+
+        private final Alphabet<I> alphabet;
+        private final List<O> outputSymbols;
+        private final int maxLength;
+        private final int[] inputs;
+        private final int[] outputs;
+        private final int[] lengths;
+
+        Runs(Alphabet<I> alphabet, List<O> outputSymbols, int maxLength, int[] inputs, int[] outputs, int[] lengths) {
+            this.alphabet = alphabet;
+            this.outputSymbols = outputSymbols;
+            this.maxLength = maxLength;
+            this.inputs = inputs;
+            this.outputs = outputs;
+            this.lengths = lengths;
+        }
+
+        /**
+         * Returns the number of runs.
+         *
+         * @return the number of runs
+         */
+        public int size() {
+            return lengths.length;
+        }
+
+        /**
+         * Returns the length of the given run.
+         *
+         * @param run
+         *         the index of the run
+         *
+         * @return the length of the run
+         */
+        public int getLength(int run) {
+            return lengths[run];
+        }
+
+        /**
+         * Returns the index (in the input alphabet) of the input symbol of the given run at the given step.
+         *
+         * @param run
+         *         the index of the run
+         * @param step
+         *         the step of the run
+         *
+         * @return the input index
+         */
+        public int getInputIndex(int run, int step) {
+            return inputs[index(run, step)];
+        }
+
+        /**
+         * Returns the index (in {@link CompactProbMealy#getOutputSymbols()}) of the output symbol of the given run at
+         * the given step.
+         *
+         * @param run
+         *         the index of the run
+         * @param step
+         *         the step of the run
+         *
+         * @return the output index
+         */
+        public int getOutputIndex(int run, int step) {
+            return outputs[index(run, step)];
+        }
+
+        /**
+         * Returns the input word of the given run.
+         *
+         * @param run
+         *         the index of the run
+         *
+         * @return the input word
+         */
+        public Word<I> getInputWord(int run) {
+            final int length = lengths[run];
+            final WordBuilder<I> wb = new WordBuilder<>(length);
+            for (int step = 0; step < length; step++) {
+                wb.append(alphabet.getSymbol(getInputIndex(run, step)));
+            }
+            return wb.toWord();
+        }
+
+        /**
+         * Returns the output word of the given run.
+         *
+         * @param run
+         *         the index of the run
+         *
+         * @return the output word
+         */
+        public Word<O> getOutputWord(int run) {
+            final int length = lengths[run];
+            final WordBuilder<O> wb = new WordBuilder<>(length);
+            for (int step = 0; step < length; step++) {
+                wb.append(outputSymbols.get(getOutputIndex(run, step)));
+            }
+            return wb.toWord();
+        }
+
+        private int index(int run, int step) {
+            if (step < 0 || step >= lengths[run]) {
+                throw new IndexOutOfBoundsException(Integer.toString(step));
+            }
+            return run * maxLength + step;
+        }
+    }
+}
@@ -68,4 +68,14 @@ public class FastProbMealy<I, O>
         return new FastProbMealyState<>(inputAlphabet.size());
     }
 
+    /**
+     * Returns a {@link CompactProbMealy compact}, immutable copy of this automaton that supports constant-time sampling
+     * of transitions. The state ids of the returned automaton coincide with the state ids of this automaton.
+     *
+     * @return a compact copy of this automaton
+     */
+    public CompactProbMealy<I, O> toCompact() {
+        return CompactProbMealy.copyOf(this, inputAlphabet);
+    }
+
 }
@@ -0,0 +1,150 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.fsa.impl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.ts.AcceptorPowersetViewTS;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class CompactNFASimulatorTest {
+
+    private static final int K = 6;
+    private static final Character A = 'a';
+    private static final Character B = 'b';
+
+    private final Alphabet<Character> alphabet = Alphabets.characters('a', 'b');
+
+    @Test
+    public void testSimulation() {
+        final CompactNFA<Character> nfa = buildKthLastNFA();
+        final AcceptorPowersetViewTS<BitSet, Character, Integer> powerset = nfa.powersetView();
+        final List<Word<Character>> words = randomWords(new Random(42), 500);
+
+        // cache sizes that disable memoization, enforce collisions, and cover all subsets
+        for (int cacheSize : new int[] {0, 1, 7, 1 << (K + 2)}) {
+            final CompactNFASimulator<Character> simulator = new CompactNFASimulator<>(nfa, cacheSize);
+            final BitSet bulk = simulator.acceptsAll(words);
+            final BitSet frozenBulk = new CompactNFASimulator<>(nfa.freeze(), cacheSize).acceptsAll(words);
+
+            for (int i = 0; i < words.size(); i++) {
+                final Word<Character> w = words.get(i);
+                final boolean expected = isKthLastA(w);
+
+                Assert.assertEquals(simulator.accepts(w), expected, w.toString());
+                Assert.assertEquals(bulk.get(i), expected, w.toString());
+                Assert.assertEquals(frozenBulk.get(i), expected, w.toString());
+                Assert.assertEquals(nfa.accepts(w), expected, w.toString());
+                Assert.assertEquals(powerset.accepts(w), expected, w.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testAcceptsAgainstPowerset() {
+        final Random random = new Random(1337);
+        final CompactNFA<Character> nfa = new CompactNFA<>(alphabet);
+        final int size = 20;
+
+        for (int i = 0; i < size; i++) {
+            nfa.addIntState(random.nextInt(4) == 0);
+        }
+        nfa.setInitial(0, true);
+        nfa.setInitial(1, true);
+
+        for (int i = 0; i < 2 * size; i++) {
+            nfa.addTransition(random.nextInt(size), alphabet.getSymbol(random.nextInt(2)), random.nextInt(size));
+        }
+
+        final FrozenCompactNFA<Character> frozen = nfa.freeze();
+        final AcceptorPowersetViewTS<BitSet, Character, Integer> powerset = nfa.powersetView();
+        final AcceptorPowersetViewTS<?, Character, Integer> frozenPowerset = frozen.powersetView();
+
+        for (Word<Character> w : randomWords(random, 500)) {
+            final boolean expected = powerset.accepts(w);
+            Assert.assertEquals(nfa.accepts(w), expected, w.toString());
+            Assert.assertEquals(frozen.accepts(w), expected, w.toString());
+            Assert.assertEquals(frozenPowerset.accepts(w), expected, w.toString());
+        }
+
+        Assert.assertFalse(new CompactNFA<>(alphabet).accepts(Word.epsilon()));
+        Assert.assertFalse(new CompactNFA<>(alphabet).freeze().accepts(Word.fromString("ab")));
+    }
+
+    @Test
+    public void testClearCache() {
+        final CompactNFA<Character> nfa = buildKthLastNFA();
+        final CompactNFASimulator<Character> simulator = nfa.simulator();
+        final Word<Character> word = Word.fromString("aaaaaaa");
+
+        Assert.assertTrue(simulator.accepts(word));
+
+        // make the accepting states unreachable
+        nfa.removeAllTransitions(0, A);
+        simulator.clearCache();
+
+        Assert.assertFalse(simulator.accepts(word));
+        Assert.assertFalse(simulator.accepts(Word.epsilon()));
+    }
+
+    // accepts all words whose K-th last symbol is an 'a'
+    private CompactNFA<Character> buildKthLastNFA() {
+        final CompactNFA<Character> nfa = new CompactNFA<>(alphabet);
+        final int init = nfa.addIntState(false);
+        nfa.setInitial(init, true);
+        int prev = nfa.addIntState(false);
+
+        nfa.addTransition(init, A, init);
+        nfa.addTransition(init, B, init);
+        nfa.addTransition(init, A, prev);
+
+        for (int i = 1; i < K; i++) {
+            final int succ = nfa.addIntState(i == K - 1);
+            nfa.addTransition(prev, A, succ);
+            nfa.addTransition(prev, B, succ);
+            prev = succ;
+        }
+
+        return nfa;
+    }
+
+    private List<Word<Character>> randomWords(Random random, int num) {
+        final List<Word<Character>> result = new ArrayList<>(num);
+
+        for (int i = 0; i < num; i++) {
+            final int length = random.nextInt(3 * K);
+            final WordBuilder<Character> wb = new WordBuilder<>(length);
+            for (int j = 0; j < length; j++) {
+                wb.append(alphabet.getSymbol(random.nextInt(alphabet.size())));
+            }
+            result.add(wb.toWord());
+        }
+
+        return result;
+    }
+
+    private static boolean isKthLastA(Word<Character> word) {
+        return word.length() >= K && word.getSymbol(word.length() - K) == 'a';
+    }
+}
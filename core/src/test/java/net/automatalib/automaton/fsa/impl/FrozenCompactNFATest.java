@@ -0,0 +1,181 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.fsa.impl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.GrowingAlphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.alphabet.impl.GrowingMapAlphabet;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class FrozenCompactNFATest {
+
+    private static final int SIZE = 200;
+    private static final int TRANSITIONS = 500;
+
+    private final Alphabet<Character> alphabet = Alphabets.characters('a', 'c');
+
+    @Test
+    public void testFreeze() {
+        final CompactNFA<Character> nfa = randomNFA(new Random(42), null);
+        final FrozenCompactNFA<Character> frozen = nfa.freeze();
+
+        checkEquivalent(nfa, frozen);
+    }
+
+    @Test
+    public void testBuilder() {
+        final FrozenCompactNFA.Builder<Character> builder = new FrozenCompactNFA.Builder<>(alphabet);
+        final CompactNFA<Character> nfa = randomNFA(new Random(1337), builder);
+        final FrozenCompactNFA<Character> frozen = builder.build();
+
+        checkEquivalent(nfa, frozen);
+        Assert.assertThrows(IllegalArgumentException.class, () -> builder.addTransition(0, 0, SIZE));
+    }
+
+    @Test
+    public void testThaw() {
+        final CompactNFA<Character> nfa = randomNFA(new Random(7), null);
+        final CompactNFA<Character> thawed = nfa.freeze().thaw();
+
+        checkEquivalent(thawed, nfa.freeze());
+
+        // the thawed copy is independent of the original automaton
+        thawed.removeAllTransitions(0);
+        Assert.assertNotEquals(thawed.freeze().getNumTransitions(), nfa.freeze().getNumTransitions());
+    }
+
+    @Test
+    public void testGrowingAlphabet() {
+        final Character x = 'x';
+        final GrowingAlphabet<Character> inputs = new GrowingMapAlphabet<>(alphabet);
+        final FrozenCompactNFA.Builder<Character> builder = new FrozenCompactNFA.Builder<>(inputs);
+        final CompactNFA<Character> nfa = randomNFA(new Random(3), builder, inputs);
+        final FrozenCompactNFA<Character> frozen = nfa.freeze();
+
+        nfa.addAlphabetSymbol(x);
+        nfa.addTransition(0, x, 0);
+
+        // neither the snapshot nor the builder see the new symbol
+        Assert.assertEquals(frozen.getInputAlphabet().size(), alphabet.size());
+        Assert.assertThrows(IllegalArgumentException.class, () -> frozen.getTransitions(0, x));
+        Assert.assertThrows(IllegalArgumentException.class, () -> builder.addTransition(0, x, 0));
+        checkEquivalent(nfa, frozen);
+        checkEquivalent(nfa, builder.build());
+
+        // thawed copies may grow again without affecting the snapshot
+        final CompactNFA<Character> thawed = frozen.thaw();
+        thawed.addAlphabetSymbol(x);
+        Assert.assertEquals(thawed.getInputAlphabet().size(), alphabet.size() + 1);
+        Assert.assertEquals(frozen.getInputAlphabet().size(), alphabet.size());
+    }
+
+    private void checkEquivalent(CompactNFA<Character> nfa, FrozenCompactNFA<Character> frozen) {
+        Assert.assertEquals(frozen.size(), nfa.size());
+        Assert.assertEquals(frozen.getInitialStates(), nfa.getInitialStates());
+
+        int numTransitions = 0;
+        for (int s = 0; s < nfa.size(); s++) {
+            Assert.assertEquals(frozen.isAccepting(s), nfa.isAccepting(s));
+
+            for (int i = 0; i < alphabet.size(); i++) {
+                final Character sym = alphabet.getSymbol(i);
+                final List<Integer> expected = new ArrayList<>(nfa.getTransitions(s, i));
+
+                Assert.assertEquals(new ArrayList<>(frozen.getTransitions(s, sym)), expected);
+                Assert.assertEquals(frozen.getSuccessorCount(s, i), nfa.getSuccessorCount(s, i));
+                numTransitions += expected.size();
+
+                final List<Integer> iterated = new ArrayList<>();
+                frozen.forEachSuccessor(s, i, iterated::add);
+                Assert.assertEquals(iterated, expected);
+
+                for (int t = 0; t <= nfa.size(); t++) {
+                    Assert.assertEquals(frozen.nextSuccessor(s, i, t), nfa.nextSuccessor(s, i, t));
+                }
+
+                final BitSet frozenSuccs = new BitSet();
+                final BitSet nfaSuccs = new BitSet();
+                frozen.addSuccessors(s, i, frozenSuccs);
+                nfa.addSuccessors(s, i, nfaSuccs);
+                Assert.assertEquals(frozenSuccs, nfaSuccs);
+            }
+        }
+        Assert.assertEquals(frozen.getNumTransitions(), numTransitions);
+
+        final Random random = new Random(0);
+        for (int i = 0; i < 200; i++) {
+            final Word<Character> word = randomWord(random);
+            Assert.assertEquals(frozen.accepts(word), nfa.accepts(word), word.toString());
+        }
+    }
+
+    private CompactNFA<Character> randomNFA(Random random, FrozenCompactNFA.Builder<Character> builder) {
+        return randomNFA(random, builder, alphabet);
+    }
+
+    private CompactNFA<Character> randomNFA(Random random,
+                                            FrozenCompactNFA.Builder<Character> builder,
+                                            Alphabet<Character> inputs) {
+        final CompactNFA<Character> nfa = new CompactNFA<>(inputs);
+
+        for (int i = 0; i < SIZE; i++) {
+            final boolean accepting = random.nextInt(10) == 0;
+            nfa.addState(accepting);
+            if (builder != null) {
+                builder.addState(accepting);
+            }
+        }
+
+        for (int i = 0; i < 3; i++) {
+            final int init = random.nextInt(SIZE);
+            nfa.setInitial(init, true);
+            if (builder != null) {
+                builder.setInitial(init);
+            }
+        }
+
+        // small target range to provoke duplicate transitions
+        for (int i = 0; i < TRANSITIONS; i++) {
+            final int src = random.nextInt(SIZE);
+            final int inputIdx = random.nextInt(alphabet.size());
+            final int tgt = (src + random.nextInt(10)) % SIZE;
+            nfa.addTransition(src, inputIdx, tgt);
+            if (builder != null) {
+                builder.addTransition(src, inputIdx, tgt);
+            }
+        }
+
+        return nfa;
+    }
+
+    private Word<Character> randomWord(Random random) {
+        final int length = random.nextInt(20);
+        final WordBuilder<Character> wb = new WordBuilder<>(length);
+        for (int i = 0; i < length; i++) {
+            wb.append(alphabet.getSymbol(random.nextInt(alphabet.size())));
+        }
+        return wb.toWord();
+    }
+}
@@ -0,0 +1,348 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.alphabet.impl.GrowingMapAlphabet;
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.base.AbstractCompactSimpleDeterministic;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.FrozenCompactDFA;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.automaton.transducer.MooreMachine;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.automaton.transducer.impl.CompactMoore;
+import net.automatalib.automaton.transducer.impl.FrozenCompactMealy;
+import net.automatalib.automaton.transducer.impl.FrozenCompactMoore;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class FrozenCompactTest {
+
+    private static final int SIZE = 50;
+    private static final int NUM_WORDS = 200;
+
+    private final Alphabet<Character> alphabet = Alphabets.characters('a', 'c');
+
+    @Test
+    public void testDFA() {
+        final Random random = new Random(42);
+        final CompactDFA<Character> dfa = new CompactDFA<>(alphabet);
+        for (int i = 0; i < SIZE; i++) {
+            dfa.addState(random.nextBoolean());
+        }
+        dfa.setInitialState(0);
+        populate(dfa, random);
+
+        final FrozenCompactDFA<Character> frozen = dfa.freeze();
+        checkStructure(dfa, frozen);
+
+        final List<Word<Character>> words = randomWords(random);
+        final boolean[] expected = new boolean[words.size()];
+        for (int i = 0; i < words.size(); i++) {
+            expected[i] = dfa.accepts(words.get(i));
+        }
+        IntStream.range(0, words.size())
+                 .parallel()
+                 .forEach(i -> Assert.assertEquals(frozen.accepts(words.get(i)), expected[i]));
+
+        // modifications of the original are not reflected in the snapshot
+        dfa.flipAcceptance();
+        dfa.removeAllTransitions(0);
+        Assert.assertNotEquals(frozen.isAccepting(0), dfa.isAccepting(0));
+        Assert.assertNotNull(frozen.getSuccessor(0, (Character) 'a'));
+
+        // thawed copies are independent of the snapshot and can grow
+        final CompactDFA<Character> thawed = frozen.thaw();
+        checkStructure(thawed, frozen);
+        final int newState = thawed.addIntState(true);
+        thawed.setTransition(0, 0, newState);
+        Assert.assertEquals(thawed.size(), SIZE + 1);
+        Assert.assertEquals(frozen.size(), SIZE);
+        Assert.assertNotEquals(frozen.getSuccessor(0, 0), newState);
+        for (int i = 0; i < words.size(); i++) {
+            Assert.assertEquals(frozen.accepts(words.get(i)), expected[i]);
+        }
+    }
+
+    @Test
+    public void testDFABatch() {
+        final Random random = new Random(7);
+        final CompactDFA<Character> dfa = new CompactDFA<>(alphabet);
+        for (int i = 0; i < SIZE; i++) {
+            dfa.addState(random.nextBoolean());
+        }
+        dfa.setInitialState(0);
+        populate(dfa, random);
+
+        final FrozenCompactDFA<Character> frozen = dfa.freeze();
+
+        // more words than fit into a single block
+        final int numWords = 2500;
+        final int length = 8;
+        final int[] indices = new int[numWords * length];
+        final List<Word<Character>> words = new ArrayList<>(numWords);
+
+        for (int w = 0; w < numWords; w++) {
+            final WordBuilder<Character> wb = new WordBuilder<>(length);
+            for (int j = 0; j < length; j++) {
+                final int idx = random.nextInt(alphabet.size());
+                indices[w * length + j] = idx;
+                wb.append(alphabet.getSymbol(idx));
+            }
+            words.add(wb.toWord());
+        }
+
+        final BitSet fixedLength = frozen.acceptsBatch(indices, numWords, length);
+        for (int w = 0; w < numWords; w++) {
+            Assert.assertEquals(fixedLength.get(w), dfa.accepts(words.get(w)));
+        }
+
+        final List<Word<Character>> variableWords = randomWords(random);
+        final BitSet variableLength = frozen.acceptsBatch(variableWords);
+        for (int w = 0; w < variableWords.size(); w++) {
+            Assert.assertEquals(variableLength.get(w), dfa.accepts(variableWords.get(w)));
+        }
+
+        Assert.assertTrue(new CompactDFA<>(alphabet).freeze().acceptsBatch(indices, numWords, length).isEmpty());
+        Assert.assertThrows(IllegalArgumentException.class, () -> frozen.acceptsBatch(indices, numWords + 1, length));
+
+        indices[length] = alphabet.size();
+        Assert.assertThrows(IllegalArgumentException.class, () -> frozen.acceptsBatch(indices, numWords, length));
+        indices[length] = -1;
+        Assert.assertThrows(IllegalArgumentException.class, () -> frozen.acceptsBatch(indices, numWords, length));
+    }
+
+    @Test
+    public void testDFABatchDeadRuns() {
+        final CompactDFA<Character> dfa = new CompactDFA<>(alphabet);
+        final int init = dfa.addInitialState(true);
+        dfa.addTransition(init, 'a', init);
+
+        final FrozenCompactDFA<Character> frozen = dfa.freeze();
+
+        // the remaining (long) run must not be abandoned once all other runs are dead or have finished
+        final List<Word<Character>> words =
+                Arrays.asList(Word.fromString("b"), Word.epsilon(), Word.fromString("aaaaaaaa"), Word.fromString("ab"));
+        final BitSet expected = new BitSet();
+        expected.set(1);
+        expected.set(2);
+        Assert.assertEquals(frozen.acceptsBatch(words), expected);
+
+        // every run dies in the first step, symbols after the undefined transitions are never read
+        final int[] indices = {1, -1, -1, 2, 7, 7};
+        Assert.assertTrue(frozen.acceptsBatch(indices, 2, 3).isEmpty());
+    }
+
+    @Test
+    public void testMealy() {
+        final Random random = new Random(1337);
+        final CompactMealy<Character, Integer> mealy = new CompactMealy<>(alphabet);
+        for (int i = 0; i < SIZE; i++) {
+            mealy.addState();
+        }
+        mealy.setInitialState(0);
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < alphabet.size(); i++) {
+                if (random.nextInt(10) > 0) {
+                    mealy.setTransition(s, i, random.nextInt(SIZE), random.nextInt(5));
+                }
+            }
+        }
+
+        final FrozenCompactMealy<Character, Integer> frozen = mealy.freeze();
+        checkStructure(mealy, frozen);
+        checkOutputs(mealy, frozen, randomWords(random));
+
+        final CompactMealy<Character, Integer> thawed = frozen.thaw();
+        checkStructure(thawed, frozen);
+        thawed.setTransition(0, 0, 1, 42);
+        Assert.assertNotEquals(frozen.getOutput(0, (Character) 'a'), (Integer) 42);
+    }
+
+    @Test
+    public void testMoore() {
+        final Random random = new Random(7);
+        final CompactMoore<Character, Integer> moore = new CompactMoore<>(alphabet);
+        for (int i = 0; i < SIZE; i++) {
+            moore.addState(random.nextInt(5));
+        }
+        moore.setInitialState(0);
+        populate(moore, random);
+
+        final FrozenCompactMoore<Character, Integer> frozen = moore.freeze();
+        checkStructure(moore, frozen);
+        checkOutputs(moore, frozen, randomWords(random));
+
+        final CompactMoore<Character, Integer> thawed = frozen.thaw();
+        checkStructure(thawed, frozen);
+        thawed.setStateOutput(0, 42);
+        Assert.assertNotEquals(frozen.getStateOutput(0), (Integer) 42);
+    }
+
+    @Test
+    public void testGrowingAlphabet() {
+        final Random random = new Random(99);
+        final Character x = 'x';
+        final List<Word<Character>> words = randomWords(random);
+
+        final CompactDFA<Character> dfa = new CompactDFA<>(new GrowingMapAlphabet<>(alphabet));
+        for (int i = 0; i < SIZE; i++) {
+            dfa.addState(random.nextBoolean());
+        }
+        dfa.setInitialState(0);
+        populate(dfa, random);
+
+        final FrozenCompactDFA<Character> frozenDFA = dfa.freeze();
+        dfa.addAlphabetSymbol(x);
+        dfa.setTransition(0, x, (Integer) 1);
+
+        Assert.assertEquals(frozenDFA.getInputAlphabet().size(), alphabet.size());
+        Assert.assertThrows(IllegalArgumentException.class, () -> frozenDFA.getSuccessor(0, x));
+        for (Word<Character> w : words) {
+            Assert.assertEquals(frozenDFA.accepts(w), dfa.accepts(w));
+        }
+
+        final CompactMealy<Character, Integer> mealy = new CompactMealy<>(new GrowingMapAlphabet<>(alphabet));
+        for (int i = 0; i < SIZE; i++) {
+            mealy.addState();
+        }
+        mealy.setInitialState(0);
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < alphabet.size(); i++) {
+                mealy.setTransition(s, i, random.nextInt(SIZE), random.nextInt(5));
+            }
+        }
+
+        final FrozenCompactMealy<Character, Integer> frozenMealy = mealy.freeze();
+        mealy.addAlphabetSymbol(x);
+        mealy.setTransition(0, alphabet.size(), 1, 42);
+
+        Assert.assertEquals(frozenMealy.getInputAlphabet().size(), alphabet.size());
+        Assert.assertThrows(IllegalArgumentException.class, () -> frozenMealy.getOutput(0, x));
+        checkOutputs(mealy, frozenMealy, words);
+
+        final CompactMoore<Character, Integer> moore = new CompactMoore<>(new GrowingMapAlphabet<>(alphabet));
+        for (int i = 0; i < SIZE; i++) {
+            moore.addState(random.nextInt(5));
+        }
+        moore.setInitialState(0);
+        populate(moore, random);
+
+        final FrozenCompactMoore<Character, Integer> frozenMoore = moore.freeze();
+        moore.addAlphabetSymbol(x);
+        moore.setTransition(0, alphabet.size(), 1);
+
+        Assert.assertEquals(frozenMoore.getInputAlphabet().size(), alphabet.size());
+        Assert.assertThrows(IllegalArgumentException.class, () -> frozenMoore.getSuccessor(0, x));
+        checkOutputs(moore, frozenMoore, words);
+
+        // thawed copies may grow again without affecting the snapshot
+        final CompactDFA<Character> thawed = frozenDFA.thaw();
+        thawed.addAlphabetSymbol(x);
+        Assert.assertEquals(thawed.getInputAlphabet().size(), alphabet.size() + 1);
+        Assert.assertEquals(frozenDFA.getInputAlphabet().size(), alphabet.size());
+    }
+
+    private void populate(AbstractCompactSimpleDeterministic<Character, ?> automaton, Random random) {
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < alphabet.size(); i++) {
+                if (random.nextInt(10) > 0) {
+                    automaton.setTransition(s, i, random.nextInt(SIZE));
+                }
+            }
+        }
+    }
+
+    private <T1, T2, SP, TP> void checkStructure(UniversalDeterministicAutomaton<Integer, Character, T1, SP, TP> expected,
+                                                 UniversalDeterministicAutomaton<Integer, Character, T2, SP, TP> actual) {
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertEquals(actual.getInitialState(), expected.getInitialState());
+
+        final UniversalDeterministicAutomaton.FullIntAbstraction<T1, SP, TP> expectedAbs =
+                expected.fullIntAbstraction(alphabet);
+        final UniversalDeterministicAutomaton.FullIntAbstraction<T2, SP, TP> actualAbs =
+                actual.fullIntAbstraction(alphabet);
+
+        for (int s = 0; s < expected.size(); s++) {
+            Assert.assertEquals(actual.getStateProperty(s), expected.getStateProperty(s));
+            Assert.assertEquals(actualAbs.getStateProperty(s), expectedAbs.getStateProperty(s));
+
+            for (int i = 0; i < alphabet.size(); i++) {
+                final Character sym = alphabet.getSymbol(i);
+                Assert.assertEquals(actualAbs.getSuccessor(s, i), expectedAbs.getSuccessor(s, i));
+                Assert.assertEquals(actualAbs.getTransitionProperty(s, i), expectedAbs.getTransitionProperty(s, i));
+                Assert.assertEquals(actual.getSuccessor(s, sym), expected.getSuccessor(s, sym));
+
+                final T2 trans = actual.getTransition(s, sym);
+                if (trans == null) {
+                    Assert.assertNull(expected.getTransition(s, sym));
+                } else {
+                    Assert.assertEquals(actual.getSuccessor(trans), expected.getSuccessor(s, sym));
+                    Assert.assertEquals(actual.getTransitionProperty(trans),
+                                        expected.getTransitionProperty(expected.getTransition(s, sym)));
+                }
+            }
+        }
+    }
+
+    private <O> void checkOutputs(MealyMachine<?, Character, ?, O> expected,
+                                  MealyMachine<?, Character, ?, O> actual,
+                                  List<Word<Character>> words) {
+        final List<Word<O>> outputs = new ArrayList<>(words.size());
+        for (Word<Character> w : words) {
+            outputs.add(expected.computeOutput(w));
+        }
+        IntStream.range(0, words.size())
+                 .parallel()
+                 .forEach(i -> Assert.assertEquals(actual.computeOutput(words.get(i)), outputs.get(i)));
+    }
+
+    private <O> void checkOutputs(MooreMachine<?, Character, ?, O> expected,
+                                  MooreMachine<?, Character, ?, O> actual,
+                                  List<Word<Character>> words) {
+        final List<Word<O>> outputs = new ArrayList<>(words.size());
+        for (Word<Character> w : words) {
+            outputs.add(expected.computeOutput(w));
+        }
+        IntStream.range(0, words.size())
+                 .parallel()
+                 .forEach(i -> Assert.assertEquals(actual.computeOutput(words.get(i)), outputs.get(i)));
+    }
+
+    private List<Word<Character>> randomWords(Random random) {
+        final List<Word<Character>> result = new ArrayList<>(NUM_WORDS);
+        for (int i = 0; i < NUM_WORDS; i++) {
+            final int length = random.nextInt(15);
+            final WordBuilder<Character> wb = new WordBuilder<>(length);
+            for (int j = 0; j < length; j++) {
+                wb.append(alphabet.getSymbol(random.nextInt(alphabet.size())));
+            }
+            result.add(wb.toWord());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,178 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.transducer.probabilistic.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.alphabet.impl.GrowingMapAlphabet;
+import net.automatalib.automaton.transducer.impl.MealyTransition;
+import net.automatalib.automaton.transducer.probabilistic.ProbabilisticOutput;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class CompactProbMealyTest {
+
+    private static final Alphabet<Character> ALPHABET = Alphabets.characters('a', 'b');
+
+    @Test
+    public void testCopy() {
+        final FastProbMealy<Character, String> source = buildModel();
+        final CompactProbMealy<Character, String> compact = source.toCompact();
+
+        Assert.assertEquals(compact.size(), source.size());
+        Assert.assertEquals(compact.getInputAlphabet(), ALPHABET);
+        Assert.assertEquals(compact.getInitialStates().size(), 1);
+        Assert.assertEquals(compact.getNumTransitions(), 5);
+        Assert.assertEquals(compact.getOutputSymbols().size(), 4);
+
+        for (FastProbMealyState<String> s : source) {
+            final int id = source.getStateId(s);
+            for (Character i : ALPHABET) {
+                final List<ProbabilisticOutput<String>> expected = new ArrayList<>();
+                final List<Integer> expectedSuccs = new ArrayList<>();
+                for (MealyTransition<FastProbMealyState<String>, ProbabilisticOutput<String>> t : source.getTransitions(
+                        s,
+                        i)) {
+                    expected.add(source.getTransitionProperty(t));
+                    expectedSuccs.add(source.getStateId(source.getSuccessor(t)));
+                }
+
+                final List<ProbabilisticOutput<String>> actual = new ArrayList<>();
+                final List<Integer> actualSuccs = new ArrayList<>();
+                for (Integer t : compact.getTransitions(id, i)) {
+                    actual.add(compact.getTransitionProperty(t));
+                    actualSuccs.add(compact.getSuccessor(t));
+                    Assert.assertEquals(compact.getTransitionOutput(t), compact.getTransitionProperty(t).getOutput());
+                    Assert.assertEquals(compact.getTransitionProbability(t),
+                                        compact.getTransitionProperty(t).getProbability());
+                }
+
+                Assert.assertEquals(actual, expected);
+                Assert.assertEquals(actualSuccs, expectedSuccs);
+            }
+        }
+    }
+
+    @Test
+    public void testSampleTransition() {
+        final CompactProbMealy<Character, String> compact = buildModel().toCompact();
+        final SplittableRandom random = new SplittableRandom(42);
+        final int samples = 100_000;
+
+        final Collection<Integer> transitions = compact.getTransitions(0, ALPHABET.getSymbolIndex('a'));
+        final int[] counts = new int[compact.getNumTransitions()];
+
+        for (int i = 0; i < samples; i++) {
+            counts[compact.sampleTransition(0, ALPHABET.getSymbolIndex('a'), random)]++;
+        }
+
+        // probabilities are normalized per (state, input) pair
+        float sum = 0;
+        for (Integer t : transitions) {
+            sum += compact.getTransitionProbability(t);
+        }
+
+        for (Integer t : transitions) {
+            final double frequency = (double) counts[t] / samples;
+            Assert.assertEquals(frequency, compact.getTransitionProbability(t) / sum, 0.01);
+        }
+
+        Assert.assertEquals(compact.sampleTransition(1, ALPHABET.getSymbolIndex('b'), random), -1);
+    }
+
+    @Test
+    public void testSampleRuns() {
+        final CompactProbMealy<Character, String> compact = buildModel().toCompact();
+        final CompactProbMealy.Runs<Character, String> runs = compact.sampleRuns(new SplittableRandom(42), 1000, 10);
+
+        Assert.assertEquals(runs.size(), 1000);
+
+        boolean sawShortRun = false;
+        for (int r = 0; r < runs.size(); r++) {
+            final Word<Character> input = runs.getInputWord(r);
+            final Word<String> output = runs.getOutputWord(r);
+
+            Assert.assertEquals(input.length(), runs.getLength(r));
+            Assert.assertEquals(output.length(), runs.getLength(r));
+            sawShortRun |= runs.getLength(r) < 10;
+
+            // outputs uniquely determine the successors in the test model
+            int state = compact.getInitialStates().iterator().next();
+            for (int step = 0; step < input.length(); step++) {
+                Integer next = null;
+                for (Integer t : compact.getTransitions(state, input.getSymbol(step))) {
+                    if (compact.getTransitionOutput(t).equals(output.getSymbol(step))) {
+                        next = compact.getSuccessor(t);
+                    }
+                }
+                Assert.assertNotNull(next);
+                state = next;
+            }
+        }
+
+        Assert.assertTrue(sawShortRun);
+    }
+
+    @Test
+    public void testMultipleInitialStates() {
+        final FastProbMealy<Character, String> source = buildModel();
+        source.setInitial(source.getState(1), true);
+
+        final CompactProbMealy<Character, String> compact = source.toCompact();
+        Assert.assertEquals(compact.getInitialStates().size(), 2);
+        Assert.assertThrows(IllegalStateException.class, () -> compact.sampleRuns(new SplittableRandom(), 1, 1));
+    }
+
+    @Test
+    public void testGrowingAlphabet() {
+        final Character c = 'c';
+        final FastProbMealy<Character, String> source = buildModel(new GrowingMapAlphabet<>(ALPHABET));
+        final CompactProbMealy<Character, String> compact = source.toCompact();
+
+        source.addAlphabetSymbol(c);
+        source.addTransition(source.getState(0), c, source.getState(1), new ProbabilisticOutput<>(1f, "v"));
+
+        Assert.assertEquals(compact.getInputAlphabet().size(), ALPHABET.size());
+        Assert.assertEquals(compact.getNumTransitions(), 5);
+        Assert.assertEquals(compact.getTransitions(0, (Character) 'a').size(), 2);
+        Assert.assertThrows(IllegalArgumentException.class, () -> compact.getTransitions(0, c));
+    }
+
+    private static FastProbMealy<Character, String> buildModel() {
+        return buildModel(ALPHABET);
+    }
+
+    private static FastProbMealy<Character, String> buildModel(Alphabet<Character> alphabet) {
+        final FastProbMealy<Character, String> result = new FastProbMealy<>(alphabet);
+
+        final FastProbMealyState<String> s0 = result.addInitialState();
+        final FastProbMealyState<String> s1 = result.addState();
+
+        result.addTransition(s0, 'a', s0, new ProbabilisticOutput<>(0.2f, "x"));
+        result.addTransition(s0, 'a', s1, new ProbabilisticOutput<>(0.3f, "y"));
+        result.addTransition(s0, 'b', s0, new ProbabilisticOutput<>(1f, "z"));
+        result.addTransition(s1, 'a', s0, new ProbabilisticOutput<>(0.5f, "x"));
+        result.addTransition(s1, 'a', s1, new ProbabilisticOutput<>(0.5f, "w"));
+
+        return result;
+    }
+}
@@ -0,0 +1,293 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Counters and latency histograms for the operations of an incremental construction. Instances of this class are
+ * usually populated by an instrumenting wrapper of a construction (see, e.g.,
+ * {@link net.automatalib.incremental.mealy.InstrumentedMealyBuilder}), so that un-instrumented constructions do not pay
+ * for the bookkeeping. Recording can additionally be paused via {@link #setEnabled(boolean)}.
+ * <p>
+ * The metrics can be exported as a {@link Map} of named values via {@link #get()}, which also includes the
+ * {@link IncrementalStatistics structural statistics} of the construction, if available. This class is not
+ * thread-safe.
+ */
+public final class IncrementalMetrics implements Supplier<Map<String, Number>> {
+
+    public static final String LOOKUPS = "lookups";
+    public static final String DEFINITIVE_HITS = "hits.definitive";
+    public static final String PARTIAL_HITS = "hits.partial";
+    public static final String MISSES = "misses";
+    public static final String INSERTS = "inserts";
+    public static final String CONFLICTS = "conflicts";
+    public static final String LOOKUP_LATENCY = "latency.lookup";
+    public static final String INSERT_LATENCY = "latency.insert";
+    public static final String NODES = "nodes";
+    public static final String REGISTER_SIZE = "register.size";
+    public static final String MEMORY = "memory.bytes";
+
+    private final @Nullable IncrementalStatistics statistics;
+    private final LatencyHistogram lookupLatency;
+    private final LatencyHistogram insertLatency;
+
+    private boolean enabled;
+    private long lookups;
+    private long definitiveHits;
+    private long partialHits;
+    private long inserts;
+    private long conflicts;
+
+    /**
+     * Constructor for metrics without structural statistics.
+     */
+    public IncrementalMetrics() {
+        this(null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param statistics
+     *         the source of structural statistics (may be {@code null})
+     */
+    public IncrementalMetrics(@Nullable IncrementalStatistics statistics) {
+        this.statistics = statistics;
+        this.lookupLatency = new LatencyHistogram();
+        this.insertLatency = new LatencyHistogram();
+        this.enabled = true;
+    }
+
+    /**
+     * Returns whether operations are currently recorded.
+     *
+     * @return {@code true} if operations are recorded, {@code false} otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the recording of operations. Already recorded values are retained.
+     *
+     * @param enabled
+     *         whether operations should be recorded
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Records a lookup.
+     *
+     * @param definitive
+     *         whether the construction had definitive information about the looked-up word
+     * @param partial
+     *         whether the construction had (non-trivial) information about a proper prefix of the looked-up word
+     * @param nanos
+     *         the latency of the lookup
+     */
+    public void recordLookup(boolean definitive, boolean partial, long nanos) {
+        lookups++;
+        if (definitive) {
+            definitiveHits++;
+        } else if (partial) {
+            partialHits++;
+        }
+        lookupLatency.record(nanos);
+    }
+
+    /**
+     * Records a batch of lookups. The latency of the batch is amortized over its words.
+     *
+     * @param size
+     *         the number of looked-up words
+     * @param definitive
+     *         the number of words for which the construction had definitive information
+     * @param partial
+     *         the number of words for which the construction had (non-trivial) information about a proper prefix
+     * @param nanos
+     *         the latency of the whole batch
+     */
+    public void recordLookups(int size, int definitive, int partial, long nanos) {
+        if (size > 0) {
+            lookups += size;
+            definitiveHits += definitive;
+            partialHits += partial;
+            lookupLatency.record(nanos / size, size);
+        }
+    }
+
+    /**
+     * Records an insertion.
+     *
+     * @param nanos
+     *         the latency of the insertion
+     */
+    public void recordInsert(long nanos) {
+        inserts++;
+        insertLatency.record(nanos);
+    }
+
+    /**
+     * Records a batch of insertions. The latency of the batch is amortized over its words.
+     *
+     * @param size
+     *         the number of inserted words
+     * @param nanos
+     *         the latency of the whole batch
+     */
+    public void recordInserts(int size, long nanos) {
+        if (size > 0) {
+            inserts += size;
+            insertLatency.record(nanos / size, size);
+        }
+    }
+
+    /**
+     * Records an insertion that has been rejected due to a {@link ConflictException}.
+     */
+    public void recordConflict() {
+        conflicts++;
+    }
+
+    /**
+     * Returns the number of recorded lookups.
+     *
+     * @return the number of recorded lookups
+     */
+    public long getNumLookups() {
+        return lookups;
+    }
+
+    /**
+     * Returns the number of lookups for which the construction had definitive information.
+     *
+     * @return the number of lookups for which the construction had definitive information
+     */
+    public long getNumDefinitiveHits() {
+        return definitiveHits;
+    }
+
+    /**
+     * Returns the number of lookups for which the construction only had information about a proper prefix.
+     *
+     * @return the number of lookups for which the construction only had information about a proper prefix
+     */
+    public long getNumPartialHits() {
+        return partialHits;
+    }
+
+    /**
+     * Returns the number of lookups for which the construction had no (non-trivial) information.
+     *
+     * @return the number of lookups for which the construction had no (non-trivial) information
+     */
+    public long getNumMisses() {
+        return lookups - definitiveHits - partialHits;
+    }
+
+    /**
+     * Returns the number of recorded insertions.
+     *
+     * @return the number of recorded insertions
+     */
+    public long getNumInserts() {
+        return inserts;
+    }
+
+    /**
+     * Returns the number of insertions that have been rejected due to a conflict.
+     *
+     * @return the number of insertions that have been rejected due to a conflict
+     */
+    public long getNumConflicts() {
+        return conflicts;
+    }
+
+    /**
+     * Returns the (live) histogram of lookup latencies.
+     *
+     * @return the (live) histogram of lookup latencies
+     */
+    public LatencyHistogram getLookupLatency() {
+        return lookupLatency;
+    }
+
+    /**
+     * Returns the (live) histogram of insertion latencies.
+     *
+     * @return the (live) histogram of insertion latencies
+     */
+    public LatencyHistogram getInsertLatency() {
+        return insertLatency;
+    }
+
+    /**
+     * Discards all recorded values.
+     */
+    public void reset() {
+        lookups = 0;
+        definitiveHits = 0;
+        partialHits = 0;
+        inserts = 0;
+        conflicts = 0;
+        lookupLatency.reset();
+        insertLatency.reset();
+    }
+
+    /**
+     * Returns a snapshot of the current metrics. Latency histograms are exported via their count, mean, maximum and
+     * 50th/90th/99th percentiles (e.g., {@code latency.lookup.p99}). Structural statistics are only included if a
+     * source has been provided at construction time.
+     *
+     * @return a (modifiable) snapshot of the current metrics
+     */
+    @Override
+    public Map<String, Number> get() {
+        final Map<String, Number> result = new LinkedHashMap<>();
+        result.put(LOOKUPS, lookups);
+        result.put(DEFINITIVE_HITS, definitiveHits);
+        result.put(PARTIAL_HITS, partialHits);
+        result.put(MISSES, getNumMisses());
+        result.put(INSERTS, inserts);
+        result.put(CONFLICTS, conflicts);
+        putHistogram(result, LOOKUP_LATENCY, lookupLatency);
+        putHistogram(result, INSERT_LATENCY, insertLatency);
+
+        if (statistics != null) {
+            result.put(NODES, statistics.getNumNodes());
+            result.put(REGISTER_SIZE, statistics.getRegisterSize());
+            result.put(MEMORY, statistics.getEstimatedMemory());
+        }
+
+        return result;
+    }
+
+    private static void putHistogram(Map<String, Number> map, String prefix, LatencyHistogram histogram) {
+        map.put(prefix + ".count", histogram.getCount());
+        map.put(prefix + ".mean", histogram.getMean());
+        map.put(prefix + ".p50", histogram.getPercentile(50));
+        map.put(prefix + ".p90", histogram.getPercentile(90));
+        map.put(prefix + ".p99", histogram.getPercentile(99));
+        map.put(prefix + ".max", histogram.getMax());
+    }
+}
@@ -0,0 +1,49 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental;
+
+/**
+ * An interface for incremental constructions that can report (structural) statistics about their current state, e.g.,
+ * for monitoring the memory consumption of a query cache. The statistics are maintained by the construction itself, so
+ * querying them does not require a traversal of the construction.
+ *
+ * @see IncrementalMetrics
+ */
+public interface IncrementalStatistics {
+
+    /**
+     * Returns the number of nodes (or states) of the construction.
+     *
+     * @return the number of nodes
+     */
+    long getNumNodes();
+
+    /**
+     * Returns the number of entries in the register of canonical states. Constructions that do not merge states (e.g.,
+     * tree-based constructions) return {@code 0}.
+     *
+     * @return the size of the register
+     */
+    long getRegisterSize();
+
+    /**
+     * Returns an estimate of the number of bytes occupied by the construction. The estimate is based on the number of
+     * nodes, edges, and register entries and assumes compressed object references.
+     *
+     * @return the estimated memory consumption (in bytes)
+     */
+    long getEstimatedMemory();
+}
@@ -0,0 +1,136 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of latencies (in nanoseconds) with logarithmic buckets. Bucket {@code i > 0} contains all values in
+ * {@code [2^(i-1), 2^i)}, so recording a value takes constant time and the histogram has a fixed size independent of
+ * the number of recorded values. Percentiles are reported as the upper bound of the respective bucket and are therefore
+ * accurate up to a factor of two.
+ */
+public final class LatencyHistogram {
+
+    private static final int NUM_BUCKETS = Long.SIZE;
+
+    private final long[] buckets = new long[NUM_BUCKETS];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Records a single value.
+     *
+     * @param nanos
+     *         the latency (in nanoseconds)
+     */
+    public void record(long nanos) {
+        record(nanos, 1);
+    }
+
+    /**
+     * Records the same value multiple times, e.g., the amortized latency of the elements of a batch operation.
+     *
+     * @param nanos
+     *         the latency (in nanoseconds)
+     * @param times
+     *         the number of times the value should be recorded
+     */
+    public void record(long nanos, long times) {
+        final long value = Math.max(0, nanos);
+        buckets[bucketOf(value)] += times;
+        count += times;
+        total += value * times;
+        max = Math.max(max, value);
+    }
+
+    private static int bucketOf(long value) {
+        return Math.min(NUM_BUCKETS - 1, NUM_BUCKETS - Long.numberOfLeadingZeros(value));
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of all recorded values.
+     *
+     * @return the sum of all recorded values (in nanoseconds)
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the maximum recorded value.
+     *
+     * @return the maximum recorded value (in nanoseconds), or {@code 0} if no values have been recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the recorded values.
+     *
+     * @return the mean of the recorded values (in nanoseconds), or {@code 0} if no values have been recorded
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Returns an upper bound for the given percentile of the recorded values.
+     *
+     * @param percentile
+     *         the percentile, must be within {@code [0, 100]}
+     *
+     * @return the upper bound of the bucket containing the given percentile (in nanoseconds), or {@code 0} if no values
+     * have been recorded
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be within [0, 100]: " + percentile);
+        }
+
+        final long rank = (long) Math.ceil(percentile / 100 * count);
+        long seen = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= rank && seen > 0) {
+                final long upper = i == NUM_BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+                return Math.min(upper, max);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Discards all recorded values.
+     */
+    public void reset() {
+        Arrays.fill(buckets, 0);
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+}
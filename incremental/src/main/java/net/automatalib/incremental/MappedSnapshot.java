@@ -0,0 +1,226 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A read-only, memory-mapped view on a snapshot of an incremental construction.
+ * <p>
+ * A snapshot consists of a small header, a table of {@link #getNumNodes() n} rows of {@code alphabetSize + 1} integers
+ * each (node {@code 0} being the root), and a table of (interned) labels. The first integer of each row stores
+ * node-specific data (e.g., the index of the label of the incoming transition or the ordinal of the node's acceptance)
+ * and the remaining integers store the indices of the successor nodes ({@code -1} if undefined). Snapshots are written
+ * by {@link SnapshotWriter}s.
+ * <p>
+ * Opening a snapshot only maps the node table into memory and eagerly reads the label table, so that (large) snapshots
+ * can be re-opened without re-constructing their contents.
+ *
+ * @see SnapshotWriter
+ */
+public final class MappedSnapshot {
+
+    static final int MAGIC = 0x414C4953; // "ALIS"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 5 * Integer.BYTES;
+
+    private static final int SEGMENT_BITS = 28;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_BITS;
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final Type type;
+    private final int alphabetSize;
+    private final int numNodes;
+    private final IntBuffer[] segments;
+    private final List<String> labels;
+
+    /**
+     * Opens the snapshot stored in the given file.
+     *
+     * @param path
+     *         the path to the snapshot file
+     * @param type
+     *         the expected type of the snapshot
+     *
+     * @throws IOException
+     *         if reading the snapshot file fails or the file does not contain a valid snapshot of the given type
+     */
+    public MappedSnapshot(Path path, Type type) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new IOException("Unexpected end of snapshot header");
+                }
+            }
+            header.flip();
+
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a snapshot file");
+            }
+            final int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version);
+            }
+            final int typeIdx = header.getInt();
+            if (typeIdx != type.ordinal()) {
+                throw new IOException("Expected snapshot of type " + type + ", but found type " + typeIdx);
+            }
+
+            this.type = type;
+            this.alphabetSize = header.getInt();
+            this.numNodes = header.getInt();
+
+            if (alphabetSize < 0 || numNodes < 1) {
+                throw new IOException("Invalid snapshot dimensions");
+            }
+
+            final long numInts = (long) numNodes * (alphabetSize + 1);
+            final long labelOffset = HEADER_BYTES + numInts * Integer.BYTES;
+
+            if (channel.size() < labelOffset + Integer.BYTES) {
+                throw new IOException("Unexpected end of snapshot data");
+            }
+
+            this.segments = new IntBuffer[(int) ((numInts + SEGMENT_SIZE - 1) >>> SEGMENT_BITS)];
+            for (int i = 0; i < segments.length; i++) {
+                final long start = i * SEGMENT_SIZE;
+                final long length = Math.min(SEGMENT_SIZE, numInts - start);
+                segments[i] = channel.map(MapMode.READ_ONLY,
+                                          HEADER_BYTES + start * Integer.BYTES,
+                                          length * Integer.BYTES).asIntBuffer();
+            }
+
+            channel.position(labelOffset);
+            this.labels = readLabels(Channels.newInputStream(channel));
+        }
+    }
+
+    // the underlying channel is closed by the caller
+    private static List<String> readLabels(InputStream is) throws IOException {
+        final DataInputStream dis = new DataInputStream(new BufferedInputStream(is));
+        final int numLabels = dis.readInt();
+        if (numLabels < 0) {
+            throw new IOException("Invalid number of labels");
+        }
+
+        final List<String> result = new ArrayList<>(numLabels);
+        for (int i = 0; i < numLabels; i++) {
+            final byte[] bytes = new byte[dis.readInt()];
+            dis.readFully(bytes);
+            result.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns the type of this snapshot.
+     *
+     * @return the type of this snapshot
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the size of the input alphabet at the time the snapshot was written.
+     *
+     * @return the size of the input alphabet
+     */
+    public int getAlphabetSize() {
+        return alphabetSize;
+    }
+
+    /**
+     * Returns the number of nodes of this snapshot.
+     *
+     * @return the number of nodes
+     */
+    public int getNumNodes() {
+        return numNodes;
+    }
+
+    /**
+     * Returns the (interned) labels of this snapshot.
+     *
+     * @return the labels
+     */
+    public List<String> getLabels() {
+        return labels;
+    }
+
+    /**
+     * Returns the node-specific data of the given node.
+     *
+     * @param node
+     *         the node index
+     *
+     * @return the node-specific data
+     */
+    public int getData(int node) {
+        return get((long) node * (alphabetSize + 1));
+    }
+
+    /**
+     * Returns the successor of the given node for the given input index.
+     *
+     * @param node
+     *         the node index
+     * @param input
+     *         the input index
+     *
+     * @return the index of the successor node, or {@code -1} if the successor is undefined (including inputs that
+     * exceed the {@link #getAlphabetSize() alphabet size} of the snapshot)
+     */
+    public int getSuccessor(int node, int input) {
+        if (input >= alphabetSize) {
+            return -1;
+        }
+        return get((long) node * (alphabetSize + 1) + 1 + input);
+    }
+
+    private int get(long idx) {
+        return segments[(int) (idx >>> SEGMENT_BITS)].get((int) (idx & SEGMENT_MASK));
+    }
+
+    /**
+     * The kinds of incremental constructions that can be stored in a snapshot.
+     */
+    public enum Type {
+        /**
+         * A Mealy tree. The data of a node is the index of the output label of its incoming transition.
+         */
+        MEALY_TREE,
+        /**
+         * A DFA DAG. The data of a node is the ordinal of its {@link net.automatalib.incremental.dfa.Acceptance}.
+         */
+        DFA_DAG
+    }
+}
@@ -0,0 +1,141 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental;
+
+import java.util.Arrays;
+import java.util.List;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.word.Word;
+
+/**
+ * A batch of words that is sorted lexicographically (w.r.t. the symbol indices of an {@link Alphabet}), so that words
+ * with a common prefix are adjacent. This allows batch operations of incremental constructions to traverse each shared
+ * prefix only once by resuming the traversal of a word at the {@link #getCommonPrefixLength(int) longest common
+ * prefix} with its predecessor.
+ */
+public final class PrefixSortedBatch {
+
+    private final int[][] words;
+    private final int[] order;
+    private final int[] lcps;
+
+    /**
+     * Constructor.
+     *
+     * @param alphabet
+     *         the alphabet for determining the symbol indices
+     * @param words
+     *         the words of the batch
+     * @param <I>
+     *         input symbol type
+     */
+    public <I> PrefixSortedBatch(Alphabet<I> alphabet, List<? extends Word<? extends I>> words) {
+        final int size = words.size();
+        final int[][] converted = new int[size][];
+
+        for (int i = 0; i < size; i++) {
+            final Word<? extends I> w = words.get(i);
+            final int[] symbols = new int[w.length()];
+            int j = 0;
+            for (I sym : w) {
+                symbols[j++] = alphabet.getSymbolIndex(sym);
+            }
+            converted[i] = symbols;
+        }
+
+        final Integer[] boxedOrder = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            boxedOrder[i] = i;
+        }
+        Arrays.sort(boxedOrder, (i1, i2) -> compare(converted[i1], converted[i2]));
+
+        this.words = new int[size][];
+        this.order = new int[size];
+        this.lcps = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            final int idx = boxedOrder[i];
+            this.order[i] = idx;
+            this.words[i] = converted[idx];
+            this.lcps[i] = i == 0 ? 0 : commonPrefixLength(this.words[i - 1], this.words[i]);
+        }
+    }
+
+    private static int compare(int[] w1, int[] w2) {
+        final int len = Math.min(w1.length, w2.length);
+        for (int i = 0; i < len; i++) {
+            if (w1[i] != w2[i]) {
+                return Integer.compare(w1[i], w2[i]);
+            }
+        }
+        return Integer.compare(w1.length, w2.length);
+    }
+
+    private static int commonPrefixLength(int[] w1, int[] w2) {
+        final int len = Math.min(w1.length, w2.length);
+        int i = 0;
+        while (i < len && w1[i] == w2[i]) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the number of words in this batch.
+     *
+     * @return the number of words
+     */
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * Returns the index of the {@code pos}-th (sorted) word in the original list of words.
+     *
+     * @param pos
+     *         the position in the sorted batch
+     *
+     * @return the index in the original list
+     */
+    public int getIndex(int pos) {
+        return order[pos];
+    }
+
+    /**
+     * Returns the symbol indices of the {@code pos}-th (sorted) word. The returned array must not be modified.
+     *
+     * @param pos
+     *         the position in the sorted batch
+     *
+     * @return the symbol indices of the word
+     */
+    public int[] getWord(int pos) {
+        return words[pos];
+    }
+
+    /**
+     * Returns the length of the longest common prefix of the {@code pos}-th (sorted) word and its predecessor.
+     *
+     * @param pos
+     *         the position in the sorted batch
+     *
+     * @return the length of the longest common prefix, or {@code 0} for the first word
+     */
+    public int getCommonPrefixLength(int pos) {
+        return lcps[pos];
+    }
+}
@@ -0,0 +1,140 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import net.automatalib.incremental.MappedSnapshot.Type;
+
+/**
+ * A writer for the binary snapshot format of {@link MappedSnapshot}s. The node table has to be written row by row via
+ * {@link #writeRow(int, int[])} before the label table is written via {@link #writeLabels(List)}.
+ *
+ * @see MappedSnapshot
+ */
+public final class SnapshotWriter implements Closeable {
+
+    private final DataOutputStream out;
+    private final int alphabetSize;
+    private final int numNodes;
+    private int rowsWritten;
+    private boolean labelsWritten;
+
+    /**
+     * Constructor. Creates (or truncates) the given file and writes the snapshot header.
+     *
+     * @param path
+     *         the path to the snapshot file
+     * @param type
+     *         the type of the snapshot
+     * @param alphabetSize
+     *         the size of the input alphabet, i.e., the number of successors per node
+     * @param numNodes
+     *         the number of nodes (rows) to be written
+     *
+     * @throws IOException
+     *         if writing the header fails
+     */
+    public SnapshotWriter(Path path, Type type, int alphabetSize, int numNodes) throws IOException {
+        if (numNodes < 1) {
+            throw new IllegalArgumentException("A snapshot needs to contain at least the root node");
+        }
+
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        this.alphabetSize = alphabetSize;
+        this.numNodes = numNodes;
+
+        out.writeInt(MappedSnapshot.MAGIC);
+        out.writeInt(MappedSnapshot.VERSION);
+        out.writeInt(type.ordinal());
+        out.writeInt(alphabetSize);
+        out.writeInt(numNodes);
+    }
+
+    /**
+     * Writes the next row of the node table.
+     *
+     * @param data
+     *         the node-specific data
+     * @param successors
+     *         the indices of the successors of the node ({@code -1} for undefined successors), must have length
+     *         {@code alphabetSize}
+     *
+     * @throws IOException
+     *         if writing the row fails
+     */
+    public void writeRow(int data, int[] successors) throws IOException {
+        if (rowsWritten >= numNodes) {
+            throw new IllegalStateException("All " + numNodes + " rows have already been written");
+        }
+        assert successors.length == alphabetSize;
+
+        out.writeInt(data);
+        for (int succ : successors) {
+            out.writeInt(succ);
+        }
+        rowsWritten++;
+    }
+
+    /**
+     * Writes the label table. Must be called after all rows of the node table have been written.
+     *
+     * @param labels
+     *         the labels
+     *
+     * @throws IOException
+     *         if writing the labels fails
+     */
+    public void writeLabels(List<String> labels) throws IOException {
+        if (rowsWritten != numNodes) {
+            throw new IllegalStateException("Expected " + numNodes + " rows, but only " + rowsWritten +
+                                            " have been written");
+        }
+
+        out.writeInt(labels.size());
+        for (String label : labels) {
+            final byte[] bytes = label.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        labelsWritten = true;
+    }
+
+    /**
+     * Closes the underlying file. If no labels have been written, an empty label table is written.
+     *
+     * @throws IOException
+     *         if writing the label table or closing the file fails
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!labelsWritten && rowsWritten == numNodes) {
+                writeLabels(Collections.emptyList());
+            }
+        } finally {
+            out.close();
+        }
+    }
+}
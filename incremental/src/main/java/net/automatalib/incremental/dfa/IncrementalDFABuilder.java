@@ -15,6 +15,9 @@
  */
 package net.automatalib.incremental.dfa;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import net.automatalib.alphabet.SupportsGrowingAlphabet;
 import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.graph.Graph;
@@ -69,6 +72,47 @@ public interface IncrementalDFABuilder<I> extends IncrementalConstruction<DFA<?,
         insert(word, true);
     }
 
+    /**
+     * Looks up the tri-state acceptance values for a batch of words. This is equivalent to invoking
+     * {@link #lookup(Word)} for each of the words, but implementations may share the traversal of common prefixes among
+     * the words.
+     *
+     * @param inputWords
+     *         the words
+     *
+     * @return the tri-state acceptance values in the order of the given words
+     */
+    default List<Acceptance> lookupAll(List<? extends Word<? extends I>> inputWords) {
+        final List<Acceptance> result = new ArrayList<>(inputWords.size());
+        for (Word<? extends I> inputWord : inputWords) {
+            result.add(lookup(inputWord));
+        }
+        return result;
+    }
+
+    /**
+     * Inserts a batch of words into the automaton, with given acceptance values. This is equivalent to invoking
+     * {@link #insert(Word, boolean)} for each pair of word and acceptance value, but implementations may share the
+     * traversal of common prefixes among the words.
+     *
+     * @param words
+     *         the words to insert
+     * @param acceptances
+     *         the corresponding acceptance values
+     *
+     * @throws ConflictException
+     *         if the newly provided information conflicts with existing information (or within the batch). In this
+     *         case, the batch may have been inserted partially
+     */
+    default void insertAll(List<? extends Word<? extends I>> words, List<Boolean> acceptances) {
+        if (words.size() != acceptances.size()) {
+            throw new IllegalArgumentException("The number of words and acceptance values differ");
+        }
+        for (int i = 0; i < words.size(); i++) {
+            insert(words.get(i), acceptances.get(i));
+        }
+    }
+
     @Override
     default boolean hasDefinitiveInformation(Word<? extends I> word) {
         return lookup(word) != Acceptance.DONT_KNOW;
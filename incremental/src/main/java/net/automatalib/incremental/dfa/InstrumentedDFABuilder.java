@@ -0,0 +1,167 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.dfa;
+
+import java.util.Collection;
+import java.util.List;
+
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.graph.Graph;
+import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.IncrementalMetrics;
+import net.automatalib.incremental.IncrementalStatistics;
+import net.automatalib.ts.UniversalDTS;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An {@link IncrementalDFABuilder} that delegates to another builder and records the lookups, insertions, and conflicts
+ * of the delegate in an {@link IncrementalMetrics} instance. Lookups that return {@link Acceptance#DONT_KNOW} are
+ * counted as misses, all other lookups as definitive hits. If the delegate provides {@link IncrementalStatistics},
+ * these are included in the exported metrics as well.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public class InstrumentedDFABuilder<I> implements IncrementalDFABuilder<I> {
+
+    private final IncrementalDFABuilder<I> delegate;
+    private final IncrementalMetrics metrics;
+
+    /**
+     * Constructor. Records the metrics in a new {@link IncrementalMetrics} instance that also includes the
+     * {@link IncrementalStatistics} of the given delegate, if available.
+     *
+     * @param delegate
+     *         the builder to delegate to
+     */
+    public InstrumentedDFABuilder(IncrementalDFABuilder<I> delegate) {
+        this(delegate,
+             new IncrementalMetrics(delegate instanceof IncrementalStatistics ? (IncrementalStatistics) delegate : null));
+    }
+
+    /**
+     * Constructor. Records the metrics in the given {@link IncrementalMetrics} instance, which allows to share an
+     * instance among multiple builders.
+     *
+     * @param delegate
+     *         the builder to delegate to
+     * @param metrics
+     *         the metrics in which the operations of the delegate are recorded
+     */
+    public InstrumentedDFABuilder(IncrementalDFABuilder<I> delegate, IncrementalMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the metrics of this builder.
+     *
+     * @return the metrics of this builder
+     */
+    public IncrementalMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public Acceptance lookup(Word<? extends I> inputWord) {
+        if (!metrics.isEnabled()) {
+            return delegate.lookup(inputWord);
+        }
+
+        final long start = System.nanoTime();
+        final Acceptance result = delegate.lookup(inputWord);
+        metrics.recordLookup(result != Acceptance.DONT_KNOW, false, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public List<Acceptance> lookupAll(List<? extends Word<? extends I>> inputWords) {
+        if (!metrics.isEnabled()) {
+            return delegate.lookupAll(inputWords);
+        }
+
+        final long start = System.nanoTime();
+        final List<Acceptance> result = delegate.lookupAll(inputWords);
+        final long nanos = System.nanoTime() - start;
+
+        int definitive = 0;
+        for (Acceptance acc : result) {
+            if (acc != Acceptance.DONT_KNOW) {
+                definitive++;
+            }
+        }
+
+        metrics.recordLookups(inputWords.size(), definitive, 0, nanos);
+        return result;
+    }
+
+    @Override
+    public void insert(Word<? extends I> word, boolean accepting) {
+        if (!metrics.isEnabled()) {
+            delegate.insert(word, accepting);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        try {
+            delegate.insert(word, accepting);
+        } catch (ConflictException e) {
+            metrics.recordConflict();
+            throw e;
+        }
+        metrics.recordInsert(System.nanoTime() - start);
+    }
+
+    @Override
+    public void insertAll(List<? extends Word<? extends I>> words, List<Boolean> acceptances) {
+        if (!metrics.isEnabled()) {
+            delegate.insertAll(words, acceptances);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        try {
+            delegate.insertAll(words, acceptances);
+        } catch (ConflictException e) {
+            metrics.recordConflict();
+            throw e;
+        }
+        metrics.recordInserts(words.size(), System.nanoTime() - start);
+    }
+
+    @Override
+    public @Nullable Word<I> findSeparatingWord(DFA<?, I> target,
+                                                Collection<? extends I> inputs,
+                                                boolean omitUndefined) {
+        return delegate.findSeparatingWord(target, inputs, omitUndefined);
+    }
+
+    @Override
+    public void addAlphabetSymbol(I symbol) {
+        delegate.addAlphabetSymbol(symbol);
+    }
+
+    @Override
+    public Graph<?, ?> asGraph() {
+        return delegate.asGraph();
+    }
+
+    @Override
+    public UniversalDTS<?, I, ?, Acceptance, Void> asTransitionSystem() {
+        return delegate.asTransitionSystem();
+    }
+}
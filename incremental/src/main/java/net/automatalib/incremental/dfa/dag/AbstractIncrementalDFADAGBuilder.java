@@ -34,6 +34,7 @@ import net.automatalib.automaton.graph.UniversalAutomatonGraphView;
 import net.automatalib.common.util.IntDisjointSets;
 import net.automatalib.common.util.UnionFind;
 import net.automatalib.graph.Graph;
+import net.automatalib.incremental.IncrementalStatistics;
 import net.automatalib.incremental.dfa.AbstractIncrementalDFABuilder;
 import net.automatalib.incremental.dfa.AbstractVisualizationHelper;
 import net.automatalib.incremental.dfa.Acceptance;
@@ -43,7 +44,11 @@ import net.automatalib.word.Word;
 import net.automatalib.word.WordBuilder;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-abstract class AbstractIncrementalDFADAGBuilder<I> extends AbstractIncrementalDFABuilder<I> {
+abstract class AbstractIncrementalDFADAGBuilder<I> extends AbstractIncrementalDFABuilder<I>
+        implements IncrementalStatistics {
+
+    // object headers and fields of a state, its signature (with successor storage), and its register entry
+    private static final int STATE_BYTES = 120;
 
     final Map<StateSignature, State> register;
     final State init;
@@ -68,6 +73,21 @@ abstract class AbstractIncrementalDFADAGBuilder<I> extends AbstractIncrementalDF
         }
     }
 
+    @Override
+    public long getNumNodes() {
+        return register.size() + (sink == null ? 0 : 1);
+    }
+
+    @Override
+    public long getRegisterSize() {
+        return register.size();
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        return getNumNodes() * (STATE_BYTES + (long) Integer.BYTES * alphabetSize);
+    }
+
     @Override
     public @Nullable Word<I> findSeparatingWord(DFA<?, I> target,
                                                 Collection<? extends I> inputs,
@@ -15,12 +15,15 @@
  */
 package net.automatalib.incremental.dfa.dag;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.MappedSnapshot;
 import net.automatalib.incremental.dfa.Acceptance;
 import net.automatalib.word.Word;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -221,6 +224,21 @@ public class IncrementalDFADAGBuilder<I> extends AbstractIncrementalDFADAGBuilde
         updateInitSignature(finalIdx, last);
     }
 
+    /**
+     * Writes the current state of the construction to a snapshot file, which can be re-opened (memory-mapped) via
+     * {@link MappedDFADAGBuilder}.
+     *
+     * @param path
+     *         the path of the snapshot file
+     *
+     * @throws IOException
+     *         if writing the snapshot fails
+     * @see MappedSnapshot
+     */
+    public void writeSnapshot(Path path) throws IOException {
+        MappedDFADAGBuilder.writeSnapshot(path, inputAlphabet, asTransitionSystem());
+    }
+
     /**
      * Creates a suffix state sequence, i.e., a linear sequence of states connected by transitions labeled by the
      * letters of the given suffix word.
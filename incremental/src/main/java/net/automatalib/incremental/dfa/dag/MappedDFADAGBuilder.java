@@ -0,0 +1,387 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.dfa.dag;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.UniversalAutomaton;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.automaton.graph.TransitionEdge;
+import net.automatalib.automaton.graph.UniversalAutomatonGraphView;
+import net.automatalib.common.util.Pair;
+import net.automatalib.common.util.collection.IteratorUtil;
+import net.automatalib.common.util.mapping.MapMapping;
+import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.graph.Graph;
+import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.MappedSnapshot;
+import net.automatalib.incremental.MappedSnapshot.Type;
+import net.automatalib.incremental.SnapshotWriter;
+import net.automatalib.incremental.dfa.AbstractIncrementalDFABuilder;
+import net.automatalib.incremental.dfa.AbstractVisualizationHelper;
+import net.automatalib.incremental.dfa.Acceptance;
+import net.automatalib.ts.UniversalDTS;
+import net.automatalib.util.ts.traversal.TSTraversal;
+import net.automatalib.visualization.VisualizationHelper;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An incremental DFA builder that is backed by a (read-only) memory-mapped snapshot, e.g., written by
+ * {@link IncrementalDFADAGBuilder#writeSnapshot(Path)}. Re-opening a snapshot does not require replaying any queries,
+ * as the automaton is directly read from the snapshot file.
+ * <p>
+ * Since states of the snapshot may be shared by multiple words, they cannot be updated in place. Instead, new
+ * information is stored in an on-heap {@link IncrementalDFADAGBuilder overlay} which is only consulted for words whose
+ * acceptance is unknown to the snapshot. Hence, only information that is not contained in the snapshot consumes heap
+ * memory.
+ *
+ * @param <I>
+ *         input symbol class
+ */
+public class MappedDFADAGBuilder<I> extends AbstractIncrementalDFABuilder<I> {
+
+    private static final Acceptance[] ACCEPTANCES = Acceptance.values();
+
+    private final MappedSnapshot snapshot;
+    private final IncrementalDFADAGBuilder<I> overlay;
+    private final MappedState init;
+
+    /**
+     * Constructor. Opens the given snapshot file.
+     *
+     * @param inputAlphabet
+     *         the input alphabet. Must contain (at least) the symbols of the alphabet of the snapshot in the same order
+     * @param path
+     *         the path of the snapshot file
+     *
+     * @throws IOException
+     *         if reading the snapshot fails
+     */
+    public MappedDFADAGBuilder(Alphabet<I> inputAlphabet, Path path) throws IOException {
+        super(inputAlphabet);
+        this.snapshot = new MappedSnapshot(path, Type.DFA_DAG);
+
+        if (snapshot.getAlphabetSize() > alphabetSize) {
+            throw new IllegalArgumentException("The snapshot requires an alphabet of size " +
+                                               snapshot.getAlphabetSize());
+        }
+
+        this.overlay = new IncrementalDFADAGBuilder<>(inputAlphabet);
+        this.init = new MappedState(0, overlay.init);
+    }
+
+    @Override
+    public Acceptance lookup(Word<? extends I> word) {
+        MappedState s = init;
+
+        for (I sym : word) {
+            s = getSuccessor(s, inputAlphabet.getSymbolIndex(sym));
+            if (s == null) {
+                return Acceptance.DONT_KNOW;
+            }
+        }
+
+        return getAcceptance(s);
+    }
+
+    @Override
+    public void insert(Word<? extends I> word, boolean accepting) {
+        int s = 0;
+
+        for (I sym : word) {
+            s = snapshot.getSuccessor(s, inputAlphabet.getSymbolIndex(sym));
+            if (s < 0) {
+                break;
+            }
+        }
+
+        if (s >= 0) {
+            final Acceptance acc = ACCEPTANCES[snapshot.getData(s)];
+            if (acc != Acceptance.DONT_KNOW) {
+                if (acc.conflicts(accepting)) {
+                    throw new ConflictException("Incompatible acceptances: " + acc + " vs " +
+                                                Acceptance.fromBoolean(accepting));
+                }
+                return;
+            }
+        }
+
+        overlay.insert(word, accepting);
+    }
+
+    @Override
+    public void addAlphabetSymbol(I symbol) {
+        super.addAlphabetSymbol(symbol);
+        // snapshot states do not need to be resized because the snapshot treats exceeding inputs as undefined
+        overlay.addAlphabetSymbol(symbol);
+    }
+
+    /**
+     * Writes the current state of the construction, i.e., the contents of the snapshot and the overlay, to a new
+     * snapshot file.
+     *
+     * @param path
+     *         the path of the snapshot file. Must not be the path of the snapshot backing this builder
+     *
+     * @throws IOException
+     *         if writing the snapshot fails
+     * @see IncrementalDFADAGBuilder#writeSnapshot(Path)
+     */
+    public void writeSnapshot(Path path) throws IOException {
+        writeSnapshot(path, inputAlphabet, new TransitionSystemView());
+    }
+
+    /**
+     * Writes the (reachable) states of the given transition system to a {@link Type#DFA_DAG} snapshot. States are
+     * numbered in breadth-first order.
+     */
+    static <S, I> void writeSnapshot(Path path, Alphabet<I> alphabet, UniversalDTS<S, I, ?, Acceptance, ?> ts)
+            throws IOException {
+        final S initial = ts.getInitialState();
+        assert initial != null;
+
+        final Map<S, Integer> ids = new HashMap<>();
+        final List<S> states = new ArrayList<>();
+
+        ids.put(initial, 0);
+        states.add(initial);
+
+        for (int i = 0; i < states.size(); i++) {
+            final S s = states.get(i);
+            for (I sym : alphabet) {
+                final S succ = ts.getSuccessor(s, sym);
+                if (succ != null && !ids.containsKey(succ)) {
+                    ids.put(succ, states.size());
+                    states.add(succ);
+                }
+            }
+        }
+
+        final int[] successors = new int[alphabet.size()];
+
+        try (SnapshotWriter writer = new SnapshotWriter(path, Type.DFA_DAG, alphabet.size(), states.size())) {
+            for (S s : states) {
+                for (int i = 0; i < successors.length; i++) {
+                    final S succ = ts.getSuccessor(s, alphabet.getSymbol(i));
+                    successors[i] = succ == null ? -1 : ids.get(succ);
+                }
+                writer.writeRow(ts.getStateProperty(s).ordinal(), successors);
+            }
+        }
+    }
+
+    private @Nullable MappedState getSuccessor(MappedState state, int idx) {
+        final int baseSucc = state.base < 0 ? -1 : snapshot.getSuccessor(state.base, idx);
+        final State overlaySucc = state.overlay == null ? null : state.overlay.getSuccessor(idx);
+
+        if (baseSucc < 0 && overlaySucc == null) {
+            return null;
+        }
+
+        return new MappedState(baseSucc, overlaySucc);
+    }
+
+    private Acceptance getAcceptance(MappedState state) {
+        if (state.base >= 0) {
+            final Acceptance acc = ACCEPTANCES[snapshot.getData(state.base)];
+            if (acc != Acceptance.DONT_KNOW) {
+                return acc;
+            }
+        }
+
+        return state.overlay == null ? Acceptance.DONT_KNOW : state.overlay.getAcceptance();
+    }
+
+    @Override
+    public @Nullable Word<I> findSeparatingWord(DFA<?, I> target,
+                                                Collection<? extends I> inputs,
+                                                boolean omitUndefined) {
+        return doFindSeparatingWord(target, inputs, omitUndefined);
+    }
+
+    private <S> @Nullable Word<I> doFindSeparatingWord(DFA<S, I> target,
+                                                       Collection<? extends I> inputs,
+                                                       boolean omitUndefined) {
+        final S init2 = target.getInitialState();
+
+        if (init2 == null && omitUndefined) {
+            return null;
+        }
+
+        if (getAcceptance(init).conflicts(init2 != null && target.isAccepting(init2))) {
+            return Word.epsilon();
+        }
+
+        // the snapshot does not provide a (compact) state numbering, so we explore the product state space
+        final Set<Pair<MappedState, @Nullable S>> visited = new HashSet<>();
+        final Queue<Record<@Nullable S, I>> queue = new ArrayDeque<>();
+
+        visited.add(Pair.of(init, init2));
+        queue.add(new Record<>(init, init2));
+
+        Record<@Nullable S, I> current;
+
+        while ((current = queue.poll()) != null) {
+            final MappedState state1 = current.state1;
+            final @Nullable S state2 = current.state2;
+
+            for (I sym : inputs) {
+                final @Nullable S succ2 = state2 != null ? target.getSuccessor(state2, sym) : null;
+                if (succ2 == null && omitUndefined) {
+                    continue;
+                }
+
+                final MappedState succ1 = getSuccessor(state1, inputAlphabet.getSymbolIndex(sym));
+                if (succ1 == null) {
+                    continue;
+                }
+
+                final Record<@Nullable S, I> next = new Record<>(succ1, succ2, sym, current);
+
+                if (getAcceptance(succ1).conflicts(succ2 != null && target.isAccepting(succ2))) {
+                    return next.toWord();
+                }
+
+                if (visited.add(Pair.of(succ1, succ2))) {
+                    queue.add(next);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public UniversalDTS<?, I, ?, Acceptance, Void> asTransitionSystem() {
+        return new TransitionSystemView();
+    }
+
+    @Override
+    public Graph<?, ?> asGraph() {
+        return new UniversalAutomatonGraphView<MappedState, I, MappedState, Acceptance, Void, TransitionSystemView>(
+                new TransitionSystemView(),
+                inputAlphabet) {
+
+            @Override
+            public VisualizationHelper<MappedState, TransitionEdge<I, MappedState>> getVisualizationHelper() {
+                return new AbstractVisualizationHelper<MappedState, I, MappedState, TransitionSystemView>(automaton) {
+
+                    @Override
+                    public Acceptance getAcceptance(MappedState state) {
+                        return MappedDFADAGBuilder.this.getAcceptance(state);
+                    }
+                };
+            }
+        };
+    }
+
+    private static final class Record<S, I> {
+
+        private final MappedState state1;
+        private final S state2;
+        private final I reachedVia;
+        private final @Nullable Record<S, I> reachedFrom;
+        private final int depth;
+
+        @SuppressWarnings("nullness") // we will only access reachedVia after checking reachedFrom for null
+        Record(MappedState state1, S state2) {
+            this.state1 = state1;
+            this.state2 = state2;
+            this.reachedVia = null;
+            this.reachedFrom = null;
+            this.depth = 0;
+        }
+
+        Record(MappedState state1, S state2, I reachedVia, Record<S, I> reachedFrom) {
+            this.state1 = state1;
+            this.state2 = state2;
+            this.reachedVia = reachedVia;
+            this.reachedFrom = reachedFrom;
+            this.depth = reachedFrom.depth + 1;
+        }
+
+        Word<I> toWord() {
+            @SuppressWarnings("nullness") // we make sure to set each index to a value of type I
+            final WordBuilder<I> wb = new WordBuilder<>(null, depth);
+
+            Record<S, I> current = this;
+            int index = depth;
+
+            while (current.reachedFrom != null) {
+                wb.setSymbol(--index, current.reachedVia);
+                current = current.reachedFrom;
+            }
+
+            return wb.toWord();
+        }
+    }
+
+    private final class TransitionSystemView implements UniversalDTS<MappedState, I, MappedState, Acceptance, Void>,
+                                                        UniversalAutomaton<MappedState, I, MappedState, Acceptance, Void> {
+
+        @Override
+        public MappedState getSuccessor(MappedState transition) {
+            return transition;
+        }
+
+        @Override
+        public @Nullable MappedState getTransition(MappedState state, I input) {
+            return MappedDFADAGBuilder.this.getSuccessor(state, inputAlphabet.getSymbolIndex(input));
+        }
+
+        @Override
+        public MappedState getInitialState() {
+            return init;
+        }
+
+        @Override
+        public Acceptance getStateProperty(MappedState state) {
+            return getAcceptance(state);
+        }
+
+        @Override
+        public Void getTransitionProperty(MappedState transition) {
+            return null;
+        }
+
+        @Override
+        public Collection<MappedState> getStates() {
+            return IteratorUtil.list(TSTraversal.breadthFirstIterator(this, inputAlphabet));
+        }
+
+        /*
+         * We need to override the default mapping, because its StateIDStaticMapping class requires our nodeIDs, which
+         * requires our states, which requires our nodeIDs, which requires ... infinite loop!
+         */
+        @Override
+        public <V> MutableMapping<MappedState, V> createStaticStateMapping() {
+            return new MapMapping<>();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.dfa.dag;
+
+import java.util.Objects;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A state in the automaton internally used by {@link MappedDFADAGBuilder}. A state combines a state of the (read-only)
+ * snapshot with a {@link State} of the on-heap overlay, each of which may be undefined.
+ */
+final class MappedState {
+
+    final int base;
+    final @Nullable State overlay;
+
+    MappedState(int base, @Nullable State overlay) {
+        this.base = base;
+        this.overlay = overlay;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MappedState)) {
+            return false;
+        }
+
+        final MappedState that = (MappedState) o;
+        return base == that.base && overlay == that.overlay;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * base + Objects.hashCode(overlay);
+    }
+
+    @Override
+    public String toString() {
+        return "s";
+    }
+}
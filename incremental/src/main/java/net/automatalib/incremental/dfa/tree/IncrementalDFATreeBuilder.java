@@ -16,9 +16,12 @@
 package net.automatalib.incremental.dfa.tree;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.UniversalAutomaton;
@@ -30,6 +33,8 @@ import net.automatalib.common.util.mapping.MapMapping;
 import net.automatalib.common.util.mapping.MutableMapping;
 import net.automatalib.graph.Graph;
 import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.IncrementalStatistics;
+import net.automatalib.incremental.PrefixSortedBatch;
 import net.automatalib.incremental.dfa.AbstractIncrementalDFABuilder;
 import net.automatalib.incremental.dfa.AbstractVisualizationHelper;
 import net.automatalib.incremental.dfa.Acceptance;
@@ -51,13 +56,22 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * @param <I>
  *         input symbol class
  */
-public class IncrementalDFATreeBuilder<I> extends AbstractIncrementalDFABuilder<I> {
+public class IncrementalDFATreeBuilder<I> extends AbstractIncrementalDFABuilder<I> implements IncrementalStatistics {
+
+    // object headers and fields of a node, and of its (lazily allocated) child storage
+    private static final int NODE_BYTES = 24;
+    private static final int CHILDREN_BYTES = 32;
 
     final Node root;
 
+    // maintained on insertion, so that the statistics do not require a traversal of the tree
+    long numNodes;
+    long numInnerNodes;
+
     public IncrementalDFATreeBuilder(Alphabet<I> inputAlphabet) {
         super(inputAlphabet);
         this.root = new Node();
+        this.numNodes = 1;
     }
 
     @Override
@@ -172,8 +186,7 @@ public class IncrementalDFATreeBuilder<I> extends AbstractIncrementalDFABuilder<
             int inputIdx = inputAlphabet.getSymbolIndex(sym);
             Node succ = curr.getChild(inputIdx);
             if (succ == null) {
-                succ = new Node();
-                curr.setChild(inputIdx, alphabetSize, succ);
+                succ = addChild(curr, inputIdx, Acceptance.DONT_KNOW);
             }
             curr = succ;
         }
@@ -188,6 +201,111 @@ public class IncrementalDFATreeBuilder<I> extends AbstractIncrementalDFABuilder<
         }
     }
 
+    /**
+     * Creates a new node with the given acceptance value and attaches it as the {@code idx}-th child of the given
+     * parent.
+     */
+    Node addChild(Node parent, int idx, Acceptance acceptance) {
+        final Node child = new Node(acceptance);
+        setChild(parent, idx, child);
+        numNodes++;
+        return child;
+    }
+
+    /**
+     * Sets the {@code idx}-th child of the given parent and keeps track of the inner nodes of the tree. The (optional)
+     * previous child is not accounted for.
+     */
+    void setChild(Node parent, int idx, Node child) {
+        if (!parent.hasChildren()) {
+            numInnerNodes++;
+        }
+        parent.setChild(idx, alphabetSize, child);
+    }
+
+    @Override
+    public long getNumNodes() {
+        return numNodes;
+    }
+
+    @Override
+    public long getRegisterSize() {
+        return 0;
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        return numNodes * NODE_BYTES + numInnerNodes * (CHILDREN_BYTES + (long) Integer.BYTES * alphabetSize);
+    }
+
+    @Override
+    public List<Acceptance> lookupAll(List<? extends Word<? extends I>> inputWords) {
+        final PrefixSortedBatch batch = new PrefixSortedBatch(inputAlphabet, inputWords);
+        final Acceptance[] result = new Acceptance[batch.size()];
+
+        // the nodes along the (defined prefix of the) previous word
+        final List<Node> path = new ArrayList<>();
+        path.add(root);
+
+        for (int pos = 0; pos < batch.size(); pos++) {
+            final int[] word = batch.getWord(pos);
+            int depth = Math.min(batch.getCommonPrefixLength(pos), path.size() - 1);
+
+            path.subList(depth + 1, path.size()).clear();
+
+            Node curr = path.get(depth);
+            while (curr != null && depth < word.length) {
+                curr = curr.getChild(word[depth++]);
+                if (curr != null) {
+                    path.add(curr);
+                }
+            }
+
+            result[batch.getIndex(pos)] = curr == null ? Acceptance.DONT_KNOW : curr.getAcceptance();
+        }
+
+        return Arrays.asList(result);
+    }
+
+    @Override
+    public void insertAll(List<? extends Word<? extends I>> words, List<Boolean> acceptances) {
+        if (words.size() != acceptances.size()) {
+            throw new IllegalArgumentException("The number of words and acceptance values differ");
+        }
+
+        final PrefixSortedBatch batch = new PrefixSortedBatch(inputAlphabet, words);
+
+        // the nodes along the previous word
+        final List<Node> path = new ArrayList<>();
+        path.add(root);
+
+        for (int pos = 0; pos < batch.size(); pos++) {
+            final int[] word = batch.getWord(pos);
+            final int prefixLen = batch.getCommonPrefixLength(pos);
+
+            path.subList(prefixLen + 1, path.size()).clear();
+
+            Node curr = path.get(prefixLen);
+            for (int i = prefixLen; i < word.length; i++) {
+                Node succ = curr.getChild(word[i]);
+                if (succ == null) {
+                    succ = addChild(curr, word[i], Acceptance.DONT_KNOW);
+                }
+                curr = succ;
+                path.add(curr);
+            }
+
+            final Acceptance acc = curr.getAcceptance();
+            final Acceptance newWordAcc = Acceptance.fromBoolean(acceptances.get(batch.getIndex(pos)));
+            if (acc == Acceptance.DONT_KNOW) {
+                curr.setAcceptance(newWordAcc);
+            } else if (acc != newWordAcc) {
+                throw new ConflictException("Conflicting acceptance values for word " +
+                                            words.get(batch.getIndex(pos)) + ": " + acc + " vs " + newWordAcc);
+            }
+        }
+    }
+
     @Override
     public UniversalDTS<?, I, ?, Acceptance, Void> asTransitionSystem() {
         return new TransitionSystemView();
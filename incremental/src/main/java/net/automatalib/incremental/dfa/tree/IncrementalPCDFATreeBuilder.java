@@ -16,9 +16,11 @@
 package net.automatalib.incremental.dfa.tree;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.fsa.DFA;
@@ -167,6 +169,26 @@ public class IncrementalPCDFATreeBuilder<I> extends IncrementalDFATreeBuilder<I>
         }
     }
 
+    // prefix-closure semantics may affect arbitrary parts of the tree, so process the words one after another
+    @Override
+    public List<Acceptance> lookupAll(List<? extends Word<? extends I>> inputWords) {
+        final List<Acceptance> result = new ArrayList<>(inputWords.size());
+        for (Word<? extends I> inputWord : inputWords) {
+            result.add(lookup(inputWord));
+        }
+        return result;
+    }
+
+    @Override
+    public void insertAll(List<? extends Word<? extends I>> words, List<Boolean> acceptances) {
+        if (words.size() != acceptances.size()) {
+            throw new IllegalArgumentException("The number of words and acceptance values differ");
+        }
+        for (int i = 0; i < words.size(); i++) {
+            insert(words.get(i), acceptances.get(i));
+        }
+    }
+
     @Override
     public UniversalDTS<?, I, ?, Acceptance, Void> asTransitionSystem() {
         return new TransitionSystemView();
@@ -203,8 +225,7 @@ public class IncrementalPCDFATreeBuilder<I> extends IncrementalDFATreeBuilder<I>
             int symIdx = inputAlphabet.getSymbolIndex(sym);
             Node succ = curr.getChild(symIdx);
             if (succ == null) {
-                succ = new Node(Acceptance.TRUE);
-                curr.setChild(symIdx, alphabetSize, succ);
+                succ = addChild(curr, symIdx, Acceptance.TRUE);
             }
             curr = succ;
             idx++;
@@ -228,8 +249,7 @@ public class IncrementalPCDFATreeBuilder<I> extends IncrementalDFATreeBuilder<I>
             int symIdx = inputAlphabet.getSymbolIndex(sym);
             Node succ = curr.getChild(symIdx);
             if (succ == null) {
-                succ = new Node(Acceptance.DONT_KNOW);
-                curr.setChild(symIdx, alphabetSize, succ);
+                succ = addChild(curr, symIdx, Acceptance.DONT_KNOW);
             }
             prev = curr;
             curr = succ;
@@ -247,19 +267,44 @@ public class IncrementalPCDFATreeBuilder<I> extends IncrementalDFATreeBuilder<I>
         if (prev == null) {
             assert curr == root;
             root.makeSink();
-        } else {
-            Node sink = getSink();
-            prev.setChild(lastSymIdx, alphabetSize, sink);
+            // only the root and the (retained) sink remain
+            numNodes = sink == null ? 1 : 2;
+            numInnerNodes = 0;
+        } else if (curr != sink) {
+            removeSubtree(curr);
+            setChild(prev, lastSymIdx, getSink());
         }
     }
 
     private Node getSink() {
         if (sink == null) {
             sink = new Node(Acceptance.FALSE);
+            numNodes++;
         }
         return sink;
     }
 
+    /**
+     * Accounts for the removal of the sub-tree rooted in the given node. The (shared) sink is not removed.
+     */
+    private void removeSubtree(Node node) {
+        final Deque<Node> stack = new ArrayDeque<>();
+        Node curr = node;
+
+        do {
+            numNodes--;
+            if (curr.hasChildren()) {
+                numInnerNodes--;
+                for (int i = 0; i < alphabetSize; i++) {
+                    final Node child = curr.getChild(i);
+                    if (child != null && child != sink) {
+                        stack.push(child);
+                    }
+                }
+            }
+        } while ((curr = stack.poll()) != null);
+    }
+
     private static <S, I> @Nullable Word<I> findLive(DFA<S, I> dfa,
                                                      S state,
                                                      Collection<? extends I> inputs,
@@ -100,6 +100,10 @@ final class Node {
         acceptance = Acceptance.FALSE;
     }
 
+    boolean hasChildren() {
+        return children != null;
+    }
+
     void ensureInputCapacity(int capacity) {
         if (this.children != null) {
             this.children.ensureCapacity(capacity);
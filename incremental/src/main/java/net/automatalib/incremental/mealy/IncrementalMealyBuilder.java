@@ -15,6 +15,8 @@
  */
 package net.automatalib.incremental.mealy;
 
+import java.util.List;
+
 import net.automatalib.incremental.ConflictException;
 import net.automatalib.word.Word;
 
@@ -41,4 +43,28 @@ public interface IncrementalMealyBuilder<I, O> extends MealyBuilder<I, O> {
      */
     void insert(Word<? extends I> inputWord, Word<? extends O> outputWord);
 
+    /**
+     * Incorporates a batch of input/output words into the stored information. This is equivalent to invoking
+     * {@link #insert(Word, Word)} for each pair of input/output words, but implementations may share the traversal of
+     * common prefixes among the words.
+     *
+     * @param inputWords
+     *         the input words
+     * @param outputWords
+     *         the corresponding output words
+     *
+     * @throws ConflictException
+     *         if this information conflicts with information already stored (or within the batch). In this case, the
+     *         batch may have been incorporated partially
+     */
+    default void insertAll(List<? extends Word<? extends I>> inputWords,
+                           List<? extends Word<? extends O>> outputWords) {
+        if (inputWords.size() != outputWords.size()) {
+            throw new IllegalArgumentException("The number of input words and output words differ");
+        }
+        for (int i = 0; i < inputWords.size(); i++) {
+            insert(inputWords.get(i), outputWords.get(i));
+        }
+    }
+
 }
@@ -0,0 +1,186 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy;
+
+import java.util.Collection;
+import java.util.List;
+
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.graph.Graph;
+import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.IncrementalMetrics;
+import net.automatalib.incremental.IncrementalStatistics;
+import net.automatalib.ts.output.MealyTransitionSystem;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An {@link IncrementalMealyBuilder} that delegates to another builder and records the lookups, insertions, and
+ * conflicts of the delegate in an {@link IncrementalMetrics} instance. If the delegate provides
+ * {@link IncrementalStatistics}, these are included in the exported metrics as well.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public class InstrumentedMealyBuilder<I, O> implements IncrementalMealyBuilder<I, O> {
+
+    private final IncrementalMealyBuilder<I, O> delegate;
+    private final IncrementalMetrics metrics;
+
+    /**
+     * Constructor. Records the metrics in a new {@link IncrementalMetrics} instance that also includes the
+     * {@link IncrementalStatistics} of the given delegate, if available.
+     *
+     * @param delegate
+     *         the builder to delegate to
+     */
+    public InstrumentedMealyBuilder(IncrementalMealyBuilder<I, O> delegate) {
+        this(delegate,
+             new IncrementalMetrics(delegate instanceof IncrementalStatistics ? (IncrementalStatistics) delegate : null));
+    }
+
+    /**
+     * Constructor. Records the metrics in the given {@link IncrementalMetrics} instance, which allows to share an
+     * instance among multiple builders.
+     *
+     * @param delegate
+     *         the builder to delegate to
+     * @param metrics
+     *         the metrics in which the operations of the delegate are recorded
+     */
+    public InstrumentedMealyBuilder(IncrementalMealyBuilder<I, O> delegate, IncrementalMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the metrics of this builder.
+     *
+     * @return the metrics of this builder
+     */
+    public IncrementalMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public boolean lookup(Word<? extends I> inputWord, List<? super O> output) {
+        if (!metrics.isEnabled()) {
+            return delegate.lookup(inputWord, output);
+        }
+
+        final int oldSize = output.size();
+        final long start = System.nanoTime();
+        final boolean result = delegate.lookup(inputWord, output);
+        metrics.recordLookup(result, output.size() > oldSize, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public List<Word<O>> lookupAll(List<? extends Word<? extends I>> inputWords) {
+        if (!metrics.isEnabled()) {
+            return delegate.lookupAll(inputWords);
+        }
+
+        final long start = System.nanoTime();
+        final List<Word<O>> result = delegate.lookupAll(inputWords);
+        final long nanos = System.nanoTime() - start;
+
+        int definitive = 0;
+        int partial = 0;
+        for (int i = 0; i < inputWords.size(); i++) {
+            final int length = result.get(i).length();
+            if (length == inputWords.get(i).length()) {
+                definitive++;
+            } else if (length > 0) {
+                partial++;
+            }
+        }
+
+        metrics.recordLookups(inputWords.size(), definitive, partial, nanos);
+        return result;
+    }
+
+    @Override
+    public boolean hasDefinitiveInformation(Word<? extends I> word) {
+        if (!metrics.isEnabled()) {
+            return delegate.hasDefinitiveInformation(word);
+        }
+
+        final long start = System.nanoTime();
+        final boolean result = delegate.hasDefinitiveInformation(word);
+        metrics.recordLookup(result, false, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public void insert(Word<? extends I> inputWord, Word<? extends O> outputWord) {
+        if (!metrics.isEnabled()) {
+            delegate.insert(inputWord, outputWord);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        try {
+            delegate.insert(inputWord, outputWord);
+        } catch (ConflictException e) {
+            metrics.recordConflict();
+            throw e;
+        }
+        metrics.recordInsert(System.nanoTime() - start);
+    }
+
+    @Override
+    public void insertAll(List<? extends Word<? extends I>> inputWords,
+                          List<? extends Word<? extends O>> outputWords) {
+        if (!metrics.isEnabled()) {
+            delegate.insertAll(inputWords, outputWords);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        try {
+            delegate.insertAll(inputWords, outputWords);
+        } catch (ConflictException e) {
+            metrics.recordConflict();
+            throw e;
+        }
+        metrics.recordInserts(inputWords.size(), System.nanoTime() - start);
+    }
+
+    @Override
+    public @Nullable Word<I> findSeparatingWord(MealyMachine<?, I, ?, O> target,
+                                                Collection<? extends I> inputs,
+                                                boolean omitUndefined) {
+        return delegate.findSeparatingWord(target, inputs, omitUndefined);
+    }
+
+    @Override
+    public void addAlphabetSymbol(I symbol) {
+        delegate.addAlphabetSymbol(symbol);
+    }
+
+    @Override
+    public Graph<?, ?> asGraph() {
+        return delegate.asGraph();
+    }
+
+    @Override
+    public MealyTransitionSystem<?, I, ?, O> asTransitionSystem() {
+        return delegate.asTransitionSystem();
+    }
+}
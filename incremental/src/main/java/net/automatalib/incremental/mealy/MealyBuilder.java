@@ -57,6 +57,23 @@ public interface MealyBuilder<I, O>
         return wb.toWord();
     }
 
+    /**
+     * Retrieves the output words for a batch of input words. This is equivalent to invoking {@link #lookup(Word)} for
+     * each of the input words, but implementations may share the traversal of common prefixes among the words.
+     *
+     * @param inputWords
+     *         the input words
+     *
+     * @return the output words (for the longest known prefixes) in the order of the given input words
+     */
+    default List<Word<O>> lookupAll(List<? extends Word<? extends I>> inputWords) {
+        final List<Word<O>> result = new ArrayList<>(inputWords.size());
+        for (Word<? extends I> inputWord : inputWords) {
+            result.add(lookup(inputWord));
+        }
+        return result;
+    }
+
     @Override
     default boolean hasDefinitiveInformation(Word<? extends I> word) {
         return lookup(word, new ArrayList<>(word.length()));
@@ -37,6 +37,7 @@ import net.automatalib.common.util.IntDisjointSets;
 import net.automatalib.common.util.UnionFind;
 import net.automatalib.graph.Graph;
 import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.IncrementalStatistics;
 import net.automatalib.incremental.mealy.IncrementalMealyBuilder;
 import net.automatalib.ts.output.MealyTransitionSystem;
 import net.automatalib.visualization.VisualizationHelper;
@@ -52,7 +53,11 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * @param <O>
  *         output symbol class
  */
-public class IncrementalMealyDAGBuilder<I, O> implements IncrementalMealyBuilder<I, O>, InputAlphabetHolder<I> {
+public class IncrementalMealyDAGBuilder<I, O>
+        implements IncrementalMealyBuilder<I, O>, InputAlphabetHolder<I>, IncrementalStatistics {
+
+    // object headers and fields of a state, its signature (with successor and output storage), and its register entry
+    private static final int STATE_BYTES = 152;
 
     private final Map<@Nullable StateSignature<O>, State<O>> register;
     private final Alphabet<I> inputAlphabet;
@@ -88,6 +93,21 @@ public class IncrementalMealyDAGBuilder<I, O> implements IncrementalMealyBuilder
         }
     }
 
+    @Override
+    public long getNumNodes() {
+        return register.size();
+    }
+
+    @Override
+    public long getRegisterSize() {
+        return register.size();
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        return getNumNodes() * (STATE_BYTES + 2L * Integer.BYTES * alphabetSize);
+    }
+
     @Override
     public boolean hasDefinitiveInformation(Word<? extends I> word) {
         return getState(word) != null;
@@ -15,7 +15,10 @@
  */
 package net.automatalib.incremental.mealy.tree;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.concept.InputAlphabetHolder;
@@ -26,20 +29,30 @@ import net.automatalib.common.util.collection.IteratorUtil;
 import net.automatalib.common.util.mapping.MapMapping;
 import net.automatalib.common.util.mapping.MutableMapping;
 import net.automatalib.graph.Graph;
+import net.automatalib.incremental.IncrementalStatistics;
+import net.automatalib.incremental.PrefixSortedBatch;
 import net.automatalib.util.ts.traversal.TSTraversal;
 import net.automatalib.visualization.VisualizationHelper;
+import net.automatalib.word.Word;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 abstract class AbstractAlphabetBasedMealyTreeBuilder<I, O> extends AbstractMealyTreeBuilder<Node<O>, I, O>
-        implements InputAlphabetHolder<I> {
+        implements InputAlphabetHolder<I>, IncrementalStatistics {
+
+    // object headers and fields of a node and its edge storage, and of an edge
+    private static final int NODE_BYTES = 48;
+    private static final int EDGE_BYTES = 24;
 
     private final Alphabet<I> inputAlphabet;
     private int alphabetSize;
+    // maintained on insertion, so that the statistics do not require a traversal of the tree
+    private long numNodes;
 
     AbstractAlphabetBasedMealyTreeBuilder(Alphabet<I> inputAlphabet) {
         super(new Node<>(inputAlphabet.size()));
         this.inputAlphabet = inputAlphabet;
         this.alphabetSize = inputAlphabet.size();
+        this.numNodes = 1;
     }
 
     @Override
@@ -66,13 +79,74 @@ abstract class AbstractAlphabetBasedMealyTreeBuilder<I, O> extends AbstractMealy
         }
     }
 
+    @Override
+    public long getNumNodes() {
+        return numNodes;
+    }
+
+    /**
+     * Accounts for the removal of the given number of nodes from the tree.
+     */
+    void removeNodes(long count) {
+        numNodes -= count;
+    }
+
+    @Override
+    public long getRegisterSize() {
+        return 0;
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        return numNodes * (NODE_BYTES + (long) Integer.BYTES * alphabetSize) + (numNodes - 1) * EDGE_BYTES;
+    }
+
+    @Override
+    public List<Word<O>> lookupAll(List<? extends Word<? extends I>> inputWords) {
+        final PrefixSortedBatch batch = new PrefixSortedBatch(inputAlphabet, inputWords);
+        final List<Word<O>> result = new ArrayList<>(Collections.nCopies(batch.size(), Word.epsilon()));
+
+        // the nodes and outputs along the (defined prefix of the) previous word
+        final List<Node<O>> path = new ArrayList<>();
+        final List<O> outputs = new ArrayList<>();
+        path.add(root);
+
+        for (int pos = 0; pos < batch.size(); pos++) {
+            final int[] word = batch.getWord(pos);
+            int depth = Math.min(batch.getCommonPrefixLength(pos), outputs.size());
+
+            path.subList(depth + 1, path.size()).clear();
+            outputs.subList(depth, outputs.size()).clear();
+
+            Node<O> curr = path.get(depth);
+            while (depth < word.length) {
+                final Edge<Node<O>, O> edge = curr.getEdge(word[depth]);
+                if (edge == null) {
+                    break;
+                }
+                curr = edge.getTarget();
+                path.add(curr);
+                outputs.add(edge.getOutput());
+                depth++;
+            }
+
+            result.set(batch.getIndex(pos), Word.fromList(outputs));
+        }
+
+        return result;
+    }
+
     @Override
     @Nullable Edge<Node<O>, O> getEdge(Node<O> node, I symbol) {
         return node.getEdge(inputAlphabet.getSymbolIndex(symbol));
     }
 
+    /**
+     * Creates a new node. Note that every created node is immediately attached to the tree.
+     */
     @Override
     Node<O> createNode() {
+        numNodes++;
         return new Node<>(alphabetSize);
     }
 
@@ -15,14 +15,24 @@
  */
 package net.automatalib.incremental.mealy.tree;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.function.Function;
 
+import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.incremental.MappedSnapshot.Type;
+import net.automatalib.incremental.SnapshotWriter;
 import net.automatalib.incremental.mealy.MealyBuilder;
 import net.automatalib.ts.output.MealyTransitionSystem;
 import net.automatalib.word.Word;
@@ -117,6 +127,64 @@ abstract class AbstractMealyTreeBuilder<N, I, O> implements MealyBuilder<I, O> {
         return null;
     }
 
+    /**
+     * Writes the tree (restricted to the given alphabet) to a {@link Type#MEALY_TREE} snapshot. Nodes are numbered in
+     * breadth-first order and the (interned) outputs are encoded via the given function.
+     */
+    void writeSnapshot(Path path, Alphabet<I> alphabet, Function<? super O, String> encoder) throws IOException {
+        final Deque<N> stack = new ArrayDeque<>();
+        int numNodes = 0;
+        N node = root;
+
+        // first pass: count nodes
+        do {
+            numNodes++;
+            for (I sym : alphabet) {
+                final Edge<N, O> edge = getEdge(node, sym);
+                if (edge != null) {
+                    stack.push(edge.getTarget());
+                }
+            }
+        } while ((node = stack.poll()) != null);
+
+        final Map<O, Integer> outputIds = new HashMap<>();
+        final List<String> outputs = new ArrayList<>();
+        final Queue<Edge<N, O>> queue = new ArrayDeque<>();
+        final int[] successors = new int[alphabet.size()];
+
+        // second pass: write nodes in BFS order, so that IDs are assigned in the order the nodes are enqueued
+        try (SnapshotWriter writer = new SnapshotWriter(path, Type.MEALY_TREE, alphabet.size(), numNodes)) {
+            int nextId = 1;
+            int outputId = -1;
+            node = root;
+
+            while (true) {
+                for (int i = 0; i < successors.length; i++) {
+                    final Edge<N, O> edge = getEdge(node, alphabet.getSymbol(i));
+                    if (edge == null) {
+                        successors[i] = -1;
+                    } else {
+                        successors[i] = nextId++;
+                        queue.add(edge);
+                    }
+                }
+                writer.writeRow(outputId, successors);
+
+                final Edge<N, O> next = queue.poll();
+                if (next == null) {
+                    break;
+                }
+                node = next.getTarget();
+                outputId = outputIds.computeIfAbsent(next.getOutput(), o -> {
+                    outputs.add(encoder.apply(o));
+                    return outputs.size() - 1;
+                });
+            }
+
+            writer.writeLabels(outputs);
+        }
+    }
+
     @Override
     public MealyTransitionSystem<?, I, ?, O> asTransitionSystem() {
         return new TransitionSystemView();
@@ -69,8 +69,16 @@ public class AdaptiveMealyTreeBuilder<I, O> extends AbstractAlphabetBasedMealyTr
     }
 
     private void removeQueries(Node<O> node) {
-        GraphTraversal.breadthFirstIterator(this.asGraph(), Collections.singleton(node))
-                      .forEachRemaining(nodeToQuery::remove);
+        final Iterator<Node<O>> iter =
+                GraphTraversal.breadthFirstIterator(this.asGraph(), Collections.singleton(node));
+        long numRemoved = 0;
+
+        while (iter.hasNext()) {
+            nodeToQuery.remove(iter.next());
+            numRemoved++;
+        }
+
+        removeNodes(numRemoved);
     }
 
     private void removeEdge(Node<O> node, I symbol) {
@@ -0,0 +1,582 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy.tree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.concept.InputAlphabetHolder;
+import net.automatalib.automaton.graph.TransitionEdge;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.automaton.transducer.MealyMachine.MealyGraphView;
+import net.automatalib.common.util.collection.IteratorUtil;
+import net.automatalib.common.util.mapping.MapMapping;
+import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.graph.Graph;
+import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.mealy.IncrementalMealyBuilder;
+import net.automatalib.util.ts.traversal.TSTraversal;
+import net.automatalib.visualization.VisualizationHelper;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An incremental Mealy builder that tries to keep its (estimated) memory consumption within a given budget.
+ * <p>
+ * New information is stored in a tree, just like in the {@link IncrementalMealyTreeBuilder}. Whenever the estimated
+ * memory consumption exceeds the budget, <i>cold</i> sub-trees (i.e., sub-trees that have not been accessed during the
+ * more recent half of the operations since the previous compaction) are compacted into a minimized DAG by sharing
+ * equivalent sub-trees (see {@link #compact()}). Shared nodes are immutable: insertions that need to extend a shared
+ * node first create a private copy of it (and of its shared ancestors). If compaction is not sufficient and eviction is
+ * enabled, the least recently used sub-trees are removed, i.e., previously inserted information may be lost. Without
+ * eviction, the builder may exceed the budget but compacts only after a sufficient number of new nodes have been
+ * added.
+ * <p>
+ * The memory consumption is estimated based on the number of nodes and the size of the input alphabet and is therefore
+ * only a rough approximation of the actual heap usage.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public class BoundedMealyTreeBuilder<I, O> extends AbstractMealyTreeBuilder<BoundedNode<O>, I, O>
+        implements IncrementalMealyBuilder<I, O>, InputAlphabetHolder<I> {
+
+    // object headers, fields, successor storage, and incoming edge of a node (assuming compressed references)
+    private static final int BYTES_PER_NODE = 80;
+    private static final int BYTES_PER_INPUT = 4;
+
+    private final Alphabet<I> inputAlphabet;
+    private final long memoryBudget;
+    private final boolean evict;
+    private int alphabetSize;
+
+    private long clock;
+    private long lastCompaction;
+    private long nextCompaction;
+    private long numNodes;
+
+    private long lookups;
+    private long hits;
+    private long inserts;
+    private long compactions;
+    private long evictions;
+
+    /**
+     * Constructor.
+     *
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param memoryBudget
+     *         the (estimated) memory budget in bytes
+     * @param evict
+     *         whether sub-trees may be evicted in order to stay within the memory budget
+     */
+    public BoundedMealyTreeBuilder(Alphabet<I> inputAlphabet, long memoryBudget, boolean evict) {
+        super(new BoundedNode<>(inputAlphabet.size()));
+        this.inputAlphabet = inputAlphabet;
+        this.memoryBudget = memoryBudget;
+        this.evict = evict;
+        this.alphabetSize = inputAlphabet.size();
+        this.nextCompaction = memoryBudget;
+        this.numNodes = 1;
+    }
+
+    @Override
+    public boolean lookup(Word<? extends I> word, List<? super O> output) {
+        final long time = ++clock;
+        BoundedNode<O> curr = root;
+        curr.touch(time);
+        lookups++;
+
+        for (I sym : word) {
+            final Edge<BoundedNode<O>, O> edge = getEdge(curr, sym);
+            if (edge == null) {
+                return false;
+            }
+            output.add(edge.getOutput());
+            curr = edge.getTarget();
+            curr.touch(time);
+        }
+
+        hits++;
+        return true;
+    }
+
+    @Override
+    public void insert(Word<? extends I> input, Word<? extends O> outputWord) {
+        final long time = ++clock;
+        BoundedNode<O> curr = root;
+        curr.touch(time);
+        inserts++;
+
+        // first pass: check for conflicts and find the longest prefix that is already stored
+        int prefixLen = 0;
+        while (prefixLen < input.length()) {
+            final Edge<BoundedNode<O>, O> edge = getEdge(curr, input.getSymbol(prefixLen));
+            if (edge == null) {
+                break;
+            }
+            if (!Objects.equals(outputWord.getSymbol(prefixLen), edge.getOutput())) {
+                throw new ConflictException();
+            }
+            curr = edge.getTarget();
+            curr.touch(time);
+            prefixLen++;
+        }
+
+        if (prefixLen == input.length()) {
+            return;
+        }
+
+        // second pass: copy the shared nodes of the prefix, so that we can safely modify them
+        curr = root;
+        for (int i = 0; i < prefixLen; i++) {
+            final int idx = inputAlphabet.getSymbolIndex(input.getSymbol(i));
+            final Edge<BoundedNode<O>, O> edge = curr.getEdge(idx);
+            assert edge != null;
+            BoundedNode<O> succ = edge.getTarget();
+            if (succ.isFrozen()) {
+                succ = succ.thaw();
+                curr.setEdge(idx, new Edge<>(edge.getOutput(), succ));
+                numNodes++;
+            }
+            curr = succ;
+        }
+
+        for (int i = prefixLen; i < input.length(); i++) {
+            curr = insertNode(curr, input.getSymbol(i), outputWord.getSymbol(i));
+            curr.touch(time);
+        }
+
+        if (getEstimatedMemory() > nextCompaction) {
+            enforceBudget();
+        }
+    }
+
+    /**
+     * Compacts the whole tree into a minimized DAG, i.e., equivalent sub-trees are shared. Note that subsequent
+     * insertions into shared sub-trees need to (partially) copy the shared structure again.
+     */
+    public void compact() {
+        compact(Long.MAX_VALUE);
+        lastCompaction = clock;
+    }
+
+    private void enforceBudget() {
+        // only compact the nodes that have not been accessed during the more recent half of the period
+        final long coldThreshold = lastCompaction + (clock - lastCompaction) / 2;
+        final long lowWater = memoryBudget / 4 * 3;
+
+        compact(coldThreshold);
+
+        if (evict && getEstimatedMemory() > lowWater) {
+            evict(coldThreshold, lowWater);
+        }
+
+        if (getEstimatedMemory() > lowWater) {
+            compact(Long.MAX_VALUE);
+            if (evict && getEstimatedMemory() > lowWater) {
+                evict(Long.MAX_VALUE, lowWater);
+            }
+        }
+
+        lastCompaction = clock;
+        // if we could not sufficiently reduce the memory consumption, postpone the next compaction
+        nextCompaction = Math.max(memoryBudget, getEstimatedMemory() + memoryBudget / 4);
+    }
+
+    private void compact(long coldThreshold) {
+        final Map<Signature<O>, BoundedNode<O>> register = new HashMap<>();
+        final Set<BoundedNode<O>> frozenNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        // register the existing shared nodes first, so that new sub-trees are merged into them
+        registerFrozen(root, register, frozenNodes);
+        final long numUnfrozen = canonicalize(root, coldThreshold, register, frozenNodes);
+
+        this.numNodes = numUnfrozen + frozenNodes.size();
+        this.compactions++;
+    }
+
+    private void registerFrozen(BoundedNode<O> root,
+                                Map<Signature<O>, BoundedNode<O>> register,
+                                Set<BoundedNode<O>> frozenNodes) {
+        final Deque<BoundedNode<O>> stack = new ArrayDeque<>();
+        BoundedNode<O> node = root;
+
+        do {
+            if (node.isFrozen()) {
+                if (!frozenNodes.add(node)) {
+                    continue;
+                }
+                register.putIfAbsent(new Signature<>(node), node);
+            }
+
+            for (int i = 0; i < alphabetSize; i++) {
+                final Edge<BoundedNode<O>, O> edge = node.getEdge(i);
+                if (edge != null) {
+                    stack.push(edge.getTarget());
+                }
+            }
+        } while ((node = stack.poll()) != null);
+    }
+
+    /**
+     * Replaces the cold sub-trees of the given (non-frozen) node with their canonical representatives and returns the
+     * number of non-frozen nodes in the sub-tree of the given node. The sub-tree is traversed in post-order (using an
+     * explicit stack) so that the successors of a node are canonicalized before the node itself.
+     */
+    private long canonicalize(BoundedNode<O> root,
+                              long coldThreshold,
+                              Map<Signature<O>, BoundedNode<O>> register,
+                              Set<BoundedNode<O>> frozenNodes) {
+        final Deque<Frame<O>> stack = new ArrayDeque<>();
+        stack.push(new Frame<>(root));
+
+        while (true) {
+            final Frame<O> frame = stack.peek();
+            assert frame != null;
+
+            if (frame.nextIdx < alphabetSize) {
+                final Edge<BoundedNode<O>, O> edge = frame.node.getEdge(frame.nextIdx++);
+                if (edge != null && !edge.getTarget().isFrozen()) {
+                    stack.push(new Frame<>(edge.getTarget()));
+                }
+                continue;
+            }
+
+            stack.pop();
+            final Frame<O> parent = stack.peek();
+            if (parent == null) {
+                return frame.numUnfrozen;
+            }
+
+            final int idx = parent.nextIdx - 1;
+            final Edge<BoundedNode<O>, O> edge = parent.node.getEdge(idx);
+            assert edge != null;
+            final BoundedNode<O> succ = frame.node;
+
+            if (frame.numUnfrozen == 1 && succ.getLastAccess() < coldThreshold) {
+                // all successors of succ are shared, so succ can be shared as well
+                final Signature<O> sig = new Signature<>(succ);
+                final BoundedNode<O> canonical = register.get(sig);
+                if (canonical == null) {
+                    succ.freeze();
+                    register.put(sig, succ);
+                    frozenNodes.add(succ);
+                } else {
+                    parent.node.setEdge(idx, new Edge<>(edge.getOutput(), canonical));
+                }
+            } else {
+                parent.numUnfrozen += frame.numUnfrozen;
+            }
+        }
+    }
+
+    private void evict(long coldThreshold, long lowWater) {
+        final long bytesPerNode = getBytesPerNode();
+
+        while (getEstimatedMemory() > lowWater) {
+            final List<Candidate<O>> candidates = collectCandidates();
+
+            if (candidates.isEmpty()) {
+                return;
+            }
+
+            // ancestors are always accessed at least as recently as their descendants, so we evict bottom-up. For equal
+            // access times, the (stable) sort keeps ancestors before their descendants
+            candidates.sort(Comparator.comparingLong(c -> c.target.getLastAccess()));
+
+            final Set<BoundedNode<O>> evicted = Collections.newSetFromMap(new IdentityHashMap<>());
+            final long excess = (getEstimatedMemory() - lowWater + bytesPerNode - 1) / bytesPerNode;
+
+            for (Candidate<O> c : candidates) {
+                if (evicted.size() >= excess) {
+                    break;
+                }
+                if (evicted.contains(c.parent)) {
+                    // already removed together with one of its ancestors
+                    continue;
+                }
+                c.parent.setEdge(c.idx, null);
+                collectNodes(c.target, evicted);
+                evictions++;
+            }
+
+            // re-count the remaining nodes (shared nodes may still be referenced elsewhere)
+            compact(coldThreshold);
+        }
+    }
+
+    /**
+     * Collects the edges of the non-frozen part of the tree. The edge to a node is always collected before the edges
+     * of its sub-tree.
+     */
+    private List<Candidate<O>> collectCandidates() {
+        final List<Candidate<O>> candidates = new ArrayList<>();
+        final Deque<BoundedNode<O>> stack = new ArrayDeque<>();
+        BoundedNode<O> node = root;
+
+        do {
+            for (int i = 0; i < alphabetSize; i++) {
+                final Edge<BoundedNode<O>, O> edge = node.getEdge(i);
+                if (edge != null) {
+                    final BoundedNode<O> succ = edge.getTarget();
+                    candidates.add(new Candidate<>(node, i, succ));
+                    if (!succ.isFrozen()) {
+                        stack.push(succ);
+                    }
+                }
+            }
+        } while ((node = stack.poll()) != null);
+
+        return candidates;
+    }
+
+    private void collectNodes(BoundedNode<O> root, Set<BoundedNode<O>> nodes) {
+        final Deque<BoundedNode<O>> stack = new ArrayDeque<>();
+        BoundedNode<O> node = root;
+
+        do {
+            if (!nodes.add(node)) {
+                continue;
+            }
+            for (int i = 0; i < alphabetSize; i++) {
+                final Edge<BoundedNode<O>, O> edge = node.getEdge(i);
+                if (edge != null) {
+                    stack.push(edge.getTarget());
+                }
+            }
+        } while ((node = stack.poll()) != null);
+    }
+
+    /**
+     * Returns the number of (distinct) nodes currently stored by this builder.
+     *
+     * @return the number of nodes
+     */
+    public long getNumNodes() {
+        return numNodes;
+    }
+
+    /**
+     * Returns the estimated memory consumption (in bytes) of the nodes currently stored by this builder.
+     *
+     * @return the estimated memory consumption
+     */
+    public long getEstimatedMemory() {
+        return numNodes * getBytesPerNode();
+    }
+
+    private long getBytesPerNode() {
+        return BYTES_PER_NODE + (long) BYTES_PER_INPUT * alphabetSize;
+    }
+
+    /**
+     * Returns the number of lookups performed on this builder. This counts every invocation of
+     * {@link #lookup(Word, List)}, including the ones that {@link #lookup(Word)}, {@link #lookupAll(List)}, and
+     * {@link #hasDefinitiveInformation(Word)} delegate to.
+     *
+     * @return the number of lookups
+     */
+    public long getNumLookups() {
+        return lookups;
+    }
+
+    /**
+     * Returns the number of lookups for which complete information was available.
+     *
+     * @return the number of lookups that were hits
+     */
+    public long getNumHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the ratio of lookups for which complete information was available.
+     *
+     * @return the hit rate, or {@code 0} if no lookups have been performed yet
+     */
+    public double getHitRate() {
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * Returns the number of insertions performed on this builder.
+     *
+     * @return the number of insertions
+     */
+    public long getNumInserts() {
+        return inserts;
+    }
+
+    /**
+     * Returns the number of compactions performed by this builder.
+     *
+     * @return the number of compactions
+     */
+    public long getNumCompactions() {
+        return compactions;
+    }
+
+    /**
+     * Returns the number of sub-trees that have been evicted by this builder.
+     *
+     * @return the number of evicted sub-trees
+     */
+    public long getNumEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public void addAlphabetSymbol(I symbol) {
+        if (!inputAlphabet.containsSymbol(symbol)) {
+            inputAlphabet.asGrowingAlphabetOrThrowException().addSymbol(symbol);
+        }
+
+        final int newAlphabetSize = inputAlphabet.size();
+        if (alphabetSize < newAlphabetSize) {
+            final Set<BoundedNode<O>> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+            collectNodes(root, nodes);
+            for (BoundedNode<O> n : nodes) {
+                n.ensureInputCapacity(newAlphabetSize);
+            }
+            alphabetSize = newAlphabetSize;
+        }
+    }
+
+    @Override
+    @Nullable Edge<BoundedNode<O>, O> getEdge(BoundedNode<O> node, I symbol) {
+        return node.getEdge(inputAlphabet.getSymbolIndex(symbol));
+    }
+
+    @Override
+    BoundedNode<O> createNode() {
+        return new BoundedNode<>(alphabetSize);
+    }
+
+    @Override
+    BoundedNode<O> insertNode(BoundedNode<O> parent, I symIdx, O output) {
+        BoundedNode<O> succ = createNode();
+        Edge<BoundedNode<O>, O> edge = new Edge<>(output, succ);
+        parent.setEdge(inputAlphabet.getSymbolIndex(symIdx), edge);
+        numNodes++;
+        return succ;
+    }
+
+    @Override
+    public Alphabet<I> getInputAlphabet() {
+        return inputAlphabet;
+    }
+
+    @Override
+    public Graph<BoundedNode<O>, ?> asGraph() {
+        return new MealyGraphView<BoundedNode<O>, I, Edge<BoundedNode<O>, O>, O, MealyMachineView>(
+                new MealyMachineView(),
+                inputAlphabet) {
+            @Override
+            public VisualizationHelper<BoundedNode<O>, TransitionEdge<I, Edge<BoundedNode<O>, O>>>
+                    getVisualizationHelper() {
+                return new net.automatalib.incremental.mealy.VisualizationHelper<>(automaton);
+            }
+        };
+    }
+
+    private static final class Signature<O> {
+
+        private final BoundedNode<O> node;
+        private final int hashCode;
+
+        Signature(BoundedNode<O> node) {
+            this.node = node;
+            this.hashCode = node.signatureHashCode();
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Signature)) {
+                return false;
+            }
+
+            @SuppressWarnings("unchecked")
+            final Signature<O> that = (Signature<O>) o;
+            return hashCode == that.hashCode && node.hasSameSignature(that.node);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class Candidate<O> {
+
+        private final BoundedNode<O> parent;
+        private final int idx;
+        private final BoundedNode<O> target;
+
+        Candidate(BoundedNode<O> parent, int idx, BoundedNode<O> target) {
+            this.parent = parent;
+            this.idx = idx;
+            this.target = target;
+        }
+    }
+
+    private static final class Frame<O> {
+
+        private final BoundedNode<O> node;
+        private int nextIdx;
+        private long numUnfrozen;
+
+        Frame(BoundedNode<O> node) {
+            this.node = node;
+            this.numUnfrozen = 1;
+        }
+    }
+
+    private final class MealyMachineView extends TransitionSystemView
+            implements MealyMachine<BoundedNode<O>, I, Edge<BoundedNode<O>, O>, O> {
+
+        @Override
+        public Collection<BoundedNode<O>> getStates() {
+            return IteratorUtil.list(TSTraversal.breadthFirstIterator(this, inputAlphabet));
+        }
+
+        /*
+         * We need to override the default MooreMachine mapping, because its StateIDStaticMapping class requires our
+         * nodeIDs, which requires our states, which requires our nodeIDs, which requires ... infinite loop!
+         */
+        @Override
+        public <V> MutableMapping<BoundedNode<O>, V> createStaticStateMapping() {
+            return new MapMapping<>();
+        }
+    }
+}
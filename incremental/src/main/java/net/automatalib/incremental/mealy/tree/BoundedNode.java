@@ -0,0 +1,116 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy.tree;
+
+import java.util.Objects;
+
+import net.automatalib.common.util.array.ArrayStorage;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A node in the (partially shared) tree internally used by {@link BoundedMealyTreeBuilder}. Frozen nodes may be shared
+ * by multiple parents and must not be modified anymore.
+ *
+ * @param <O>
+ *         output symbol type
+ */
+final class BoundedNode<O> {
+
+    private final ArrayStorage<@Nullable Edge<BoundedNode<O>, O>> outEdges;
+    private boolean frozen;
+    private long lastAccess;
+
+    BoundedNode(int alphabetSize) {
+        this.outEdges = new ArrayStorage<>(alphabetSize);
+    }
+
+    private BoundedNode(BoundedNode<O> other) {
+        this.outEdges = new ArrayStorage<>(other.outEdges);
+        this.lastAccess = other.lastAccess;
+    }
+
+    @Nullable Edge<BoundedNode<O>, O> getEdge(int idx) {
+        return outEdges.get(idx);
+    }
+
+    void setEdge(int idx, @Nullable Edge<BoundedNode<O>, O> edge) {
+        assert !frozen;
+        outEdges.set(idx, edge);
+    }
+
+    boolean isFrozen() {
+        return frozen;
+    }
+
+    void freeze() {
+        this.frozen = true;
+    }
+
+    /**
+     * Returns a (non-frozen) copy of this node that shares the successors of this node.
+     */
+    BoundedNode<O> thaw() {
+        return new BoundedNode<>(this);
+    }
+
+    long getLastAccess() {
+        return lastAccess;
+    }
+
+    void touch(long time) {
+        this.lastAccess = time;
+    }
+
+    void ensureInputCapacity(int capacity) {
+        this.outEdges.ensureCapacity(capacity);
+    }
+
+    /**
+     * Checks whether this node and the given node have equal outputs and identical successors for all inputs.
+     */
+    boolean hasSameSignature(BoundedNode<O> other) {
+        final int size = Math.max(outEdges.size(), other.outEdges.size());
+
+        for (int i = 0; i < size; i++) {
+            final Edge<BoundedNode<O>, O> e1 = i < outEdges.size() ? outEdges.get(i) : null;
+            final Edge<BoundedNode<O>, O> e2 = i < other.outEdges.size() ? other.outEdges.get(i) : null;
+
+            if (e1 == null || e2 == null) {
+                if (e1 != e2) {
+                    return false;
+                }
+            } else if (e1.getTarget() != e2.getTarget() || !Objects.equals(e1.getOutput(), e2.getOutput())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    int signatureHashCode() {
+        int result = 1;
+        for (int i = 0; i < outEdges.size(); i++) {
+            final Edge<BoundedNode<O>, O> e = outEdges.get(i);
+            // skip undefined successors, so that the hash code does not depend on the capacity
+            if (e != null) {
+                result = 31 * result + i;
+                result = 31 * result + Objects.hashCode(e.getOutput());
+                result = 31 * result + System.identityHashCode(e.getTarget());
+            }
+        }
+        return result;
+    }
+}
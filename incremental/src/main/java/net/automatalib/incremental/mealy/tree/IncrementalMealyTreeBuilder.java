@@ -15,10 +15,17 @@
  */
 package net.automatalib.incremental.mealy.tree;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.MappedSnapshot;
+import net.automatalib.incremental.PrefixSortedBatch;
 import net.automatalib.incremental.mealy.IncrementalMealyBuilder;
 import net.automatalib.word.Word;
 
@@ -55,4 +62,70 @@ public class IncrementalMealyTreeBuilder<I, O> extends AbstractAlphabetBasedMeal
             }
         }
     }
+
+    @Override
+    public void insertAll(List<? extends Word<? extends I>> inputWords,
+                          List<? extends Word<? extends O>> outputWords) {
+        if (inputWords.size() != outputWords.size()) {
+            throw new IllegalArgumentException("The number of input words and output words differ");
+        }
+
+        final PrefixSortedBatch batch = new PrefixSortedBatch(getInputAlphabet(), inputWords);
+
+        // the nodes and outputs along the previous word
+        final List<Node<O>> path = new ArrayList<>();
+        final List<O> outputs = new ArrayList<>();
+        path.add(root);
+
+        for (int pos = 0; pos < batch.size(); pos++) {
+            final int[] word = batch.getWord(pos);
+            final Word<? extends O> outputWord = outputWords.get(batch.getIndex(pos));
+            final int prefixLen = batch.getCommonPrefixLength(pos);
+
+            path.subList(prefixLen + 1, path.size()).clear();
+            outputs.subList(prefixLen, outputs.size()).clear();
+
+            // the shared prefix already exists, but its outputs may conflict with the current output word
+            for (int i = 0; i < prefixLen; i++) {
+                if (!Objects.equals(outputWord.getSymbol(i), outputs.get(i))) {
+                    throw new ConflictException();
+                }
+            }
+
+            Node<O> curr = path.get(prefixLen);
+            for (int i = prefixLen; i < word.length; i++) {
+                final O out = outputWord.getSymbol(i);
+                final Edge<Node<O>, O> edge = curr.getEdge(word[i]);
+                if (edge == null) {
+                    final Node<O> succ = createNode();
+                    curr.setEdge(word[i], new Edge<>(out, succ));
+                    curr = succ;
+                } else {
+                    if (!Objects.equals(out, edge.getOutput())) {
+                        throw new ConflictException();
+                    }
+                    curr = edge.getTarget();
+                }
+                path.add(curr);
+                outputs.add(out);
+            }
+        }
+    }
+
+    /**
+     * Writes the current state of the construction to a snapshot file, which can be re-opened (memory-mapped) via
+     * {@link MappedMealyTreeBuilder}. Output symbols are interned and stored in their encoded form.
+     *
+     * @param path
+     *         the path of the snapshot file
+     * @param encoder
+     *         the function for encoding output symbols
+     *
+     * @throws IOException
+     *         if writing the snapshot fails
+     * @see MappedSnapshot
+     */
+    public void writeSnapshot(Path path, Function<? super O, String> encoder) throws IOException {
+        writeSnapshot(path, getInputAlphabet(), encoder);
+    }
 }
@@ -0,0 +1,245 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy.tree;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.concept.InputAlphabetHolder;
+import net.automatalib.automaton.graph.TransitionEdge;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.automaton.transducer.MealyMachine.MealyGraphView;
+import net.automatalib.common.util.collection.IteratorUtil;
+import net.automatalib.common.util.mapping.MapMapping;
+import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.graph.Graph;
+import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.MappedSnapshot;
+import net.automatalib.incremental.MappedSnapshot.Type;
+import net.automatalib.incremental.mealy.IncrementalMealyBuilder;
+import net.automatalib.util.ts.traversal.TSTraversal;
+import net.automatalib.visualization.VisualizationHelper;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An {@link IncrementalMealyBuilder} that is backed by a (read-only) memory-mapped snapshot, e.g., written by
+ * {@link IncrementalMealyTreeBuilder#writeSnapshot(Path, Function)}. Re-opening a snapshot does not require replaying
+ * any queries, as the tree is directly read from the snapshot file.
+ * <p>
+ * New information is stored in an on-heap overlay: whenever an insertion leaves the tree of the snapshot, the new
+ * sub-tree is attached to the respective snapshot node. Hence, only information that is not contained in the snapshot
+ * consumes heap memory.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public class MappedMealyTreeBuilder<I, O> extends AbstractMealyTreeBuilder<MappedNode<O>, I, O>
+        implements IncrementalMealyBuilder<I, O>, InputAlphabetHolder<I> {
+
+    private final Alphabet<I> inputAlphabet;
+    private final MappedSnapshot snapshot;
+    private final List<O> outputs;
+    private final Map<Long, Edge<Node<O>, O>> overlayEdges;
+    private int alphabetSize;
+
+    /**
+     * Constructor. Opens the given snapshot file.
+     *
+     * @param inputAlphabet
+     *         the input alphabet. Must contain (at least) the symbols of the alphabet of the snapshot in the same order
+     * @param path
+     *         the path of the snapshot file
+     * @param decoder
+     *         the function for decoding the output symbols of the snapshot
+     *
+     * @throws IOException
+     *         if reading the snapshot fails
+     */
+    public MappedMealyTreeBuilder(Alphabet<I> inputAlphabet, Path path, Function<? super String, ? extends O> decoder)
+            throws IOException {
+        super(new MappedNode<>(0));
+        this.inputAlphabet = inputAlphabet;
+        this.snapshot = new MappedSnapshot(path, Type.MEALY_TREE);
+        this.alphabetSize = inputAlphabet.size();
+
+        if (snapshot.getAlphabetSize() > alphabetSize) {
+            throw new IllegalArgumentException("The snapshot requires an alphabet of size " +
+                                               snapshot.getAlphabetSize());
+        }
+
+        final List<String> labels = snapshot.getLabels();
+        this.outputs = new ArrayList<>(labels.size());
+        for (String l : labels) {
+            outputs.add(decoder.apply(l));
+        }
+
+        this.overlayEdges = new HashMap<>();
+    }
+
+    @Override
+    public void insert(Word<? extends I> input, Word<? extends O> outputWord) {
+        MappedNode<O> curr = root;
+
+        for (int i = 0; i < input.length(); i++) {
+            I sym = input.getSymbol(i);
+            O out = outputWord.getSymbol(i);
+            Edge<MappedNode<O>, O> edge = getEdge(curr, sym);
+            if (edge == null) {
+                curr = insertNode(curr, sym, out);
+            } else {
+                if (!Objects.equals(out, edge.getOutput())) {
+                    throw new ConflictException();
+                }
+                curr = edge.getTarget();
+            }
+        }
+    }
+
+    /**
+     * Writes the current state of the construction, i.e., the contents of the snapshot and the overlay, to a new
+     * snapshot file.
+     *
+     * @param path
+     *         the path of the snapshot file. Must not be the path of the snapshot backing this builder
+     * @param encoder
+     *         the function for encoding output symbols
+     *
+     * @throws IOException
+     *         if writing the snapshot fails
+     * @see IncrementalMealyTreeBuilder#writeSnapshot(Path, Function)
+     */
+    public void writeSnapshot(Path path, Function<? super O, String> encoder) throws IOException {
+        writeSnapshot(path, inputAlphabet, encoder);
+    }
+
+    @Override
+    public void addAlphabetSymbol(I symbol) {
+        if (!inputAlphabet.containsSymbol(symbol)) {
+            inputAlphabet.asGrowingAlphabetOrThrowException().addSymbol(symbol);
+        }
+
+        // snapshot nodes do not need to be resized because the snapshot treats exceeding inputs as undefined
+        final int newAlphabetSize = inputAlphabet.size();
+        if (alphabetSize < newAlphabetSize) {
+            for (Edge<Node<O>, O> edge : overlayEdges.values()) {
+                ensureInputCapacity(edge.getTarget(), alphabetSize, newAlphabetSize);
+            }
+            alphabetSize = newAlphabetSize;
+        }
+    }
+
+    private void ensureInputCapacity(Node<O> node, int oldAlphabetSize, int newAlphabetSize) {
+        node.ensureInputCapacity(newAlphabetSize);
+        for (int i = 0; i < oldAlphabetSize; i++) {
+            final Node<O> child = node.getSuccessor(i);
+            if (child != null) {
+                ensureInputCapacity(child, oldAlphabetSize, newAlphabetSize);
+            }
+        }
+    }
+
+    @Override
+    @Nullable Edge<MappedNode<O>, O> getEdge(MappedNode<O> node, I symbol) {
+        final int idx = inputAlphabet.getSymbolIndex(symbol);
+        final Edge<Node<O>, O> overlayEdge;
+
+        if (node.overlay == null) {
+            final int succ = snapshot.getSuccessor(node.base, idx);
+            if (succ >= 0) {
+                return new Edge<>(outputs.get(snapshot.getData(succ)), new MappedNode<>(succ));
+            }
+            overlayEdge = overlayEdges.get(key(node.base, idx));
+        } else {
+            overlayEdge = node.overlay.getEdge(idx);
+        }
+
+        if (overlayEdge == null) {
+            return null;
+        }
+        return new Edge<>(overlayEdge.getOutput(), new MappedNode<>(overlayEdge.getTarget()));
+    }
+
+    @Override
+    MappedNode<O> createNode() {
+        return new MappedNode<>(new Node<>(alphabetSize));
+    }
+
+    @Override
+    MappedNode<O> insertNode(MappedNode<O> parent, I symIdx, O output) {
+        final int idx = inputAlphabet.getSymbolIndex(symIdx);
+        final MappedNode<O> succ = createNode();
+        assert succ.overlay != null;
+        final Edge<Node<O>, O> edge = new Edge<>(output, succ.overlay);
+
+        if (parent.overlay == null) {
+            overlayEdges.put(key(parent.base, idx), edge);
+        } else {
+            parent.overlay.setEdge(idx, edge);
+        }
+
+        return succ;
+    }
+
+    private static Long key(int node, int idx) {
+        return ((long) node << Integer.SIZE) | idx;
+    }
+
+    @Override
+    public Alphabet<I> getInputAlphabet() {
+        return inputAlphabet;
+    }
+
+    @Override
+    public Graph<MappedNode<O>, ?> asGraph() {
+        return new MealyGraphView<MappedNode<O>, I, Edge<MappedNode<O>, O>, O, MealyMachineView>(new MealyMachineView(),
+                                                                                                 inputAlphabet) {
+            @Override
+            public VisualizationHelper<MappedNode<O>, TransitionEdge<I, Edge<MappedNode<O>, O>>>
+                    getVisualizationHelper() {
+                return new net.automatalib.incremental.mealy.VisualizationHelper<>(automaton);
+            }
+        };
+    }
+
+    private final class MealyMachineView extends TransitionSystemView
+            implements MealyMachine<MappedNode<O>, I, Edge<MappedNode<O>, O>, O> {
+
+        @Override
+        public Collection<MappedNode<O>> getStates() {
+            return IteratorUtil.list(TSTraversal.breadthFirstIterator(this, inputAlphabet));
+        }
+
+        /*
+         * We need to override the default MooreMachine mapping, because its StateIDStaticMapping class requires our
+         * nodeIDs, which requires our states, which requires our nodeIDs, which requires ... infinite loop!
+         */
+        @Override
+        public <V> MutableMapping<MappedNode<O>, V> createStaticStateMapping() {
+            return new MapMapping<>();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy.tree;
+
+import java.util.Objects;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A node in the tree internally used by {@link MappedMealyTreeBuilder}. A node either refers to a node of the
+ * (read-only) snapshot or to a {@link Node} of the on-heap overlay.
+ *
+ * @param <O>
+ *         output symbol type
+ */
+final class MappedNode<O> {
+
+    final int base;
+    final @Nullable Node<O> overlay;
+
+    MappedNode(int base) {
+        this.base = base;
+        this.overlay = null;
+    }
+
+    MappedNode(Node<O> overlay) {
+        this.base = -1;
+        this.overlay = overlay;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MappedNode)) {
+            return false;
+        }
+
+        final MappedNode<?> that = (MappedNode<?>) o;
+        return base == that.base && overlay == that.overlay;
+    }
+
+    @Override
+    public int hashCode() {
+        return overlay == null ? base : Objects.hashCode(overlay);
+    }
+}
@@ -57,6 +57,23 @@ public interface IncrementalMooreBuilder<I, O>
         return wb.toWord();
     }
 
+    /**
+     * Retrieves the output words for a batch of input words. This is equivalent to invoking {@link #lookup(Word)} for
+     * each of the input words, but implementations may share the traversal of common prefixes among the words.
+     *
+     * @param inputWords
+     *         the input words
+     *
+     * @return the output words (for the longest known prefixes) in the order of the given input words
+     */
+    default List<Word<O>> lookupAll(List<? extends Word<? extends I>> inputWords) {
+        final List<Word<O>> result = new ArrayList<>(inputWords.size());
+        for (Word<? extends I> inputWord : inputWords) {
+            result.add(lookup(inputWord));
+        }
+        return result;
+    }
+
     @Override
     default boolean hasDefinitiveInformation(Word<? extends I> word) {
         return lookup(word, new ArrayList<>(word.length() + 1));
@@ -75,6 +92,30 @@ public interface IncrementalMooreBuilder<I, O>
      */
     void insert(Word<? extends I> inputWord, Word<? extends O> outputWord);
 
+    /**
+     * Incorporates a batch of input/output words into the stored information. This is equivalent to invoking
+     * {@link #insert(Word, Word)} for each pair of input/output words, but implementations may share the traversal of
+     * common prefixes among the words.
+     *
+     * @param inputWords
+     *         the input words
+     * @param outputWords
+     *         the corresponding output words
+     *
+     * @throws ConflictException
+     *         if this information conflicts with information already stored (or within the batch). In this case, the
+     *         batch may have been incorporated partially
+     */
+    default void insertAll(List<? extends Word<? extends I>> inputWords,
+                           List<? extends Word<? extends O>> outputWords) {
+        if (inputWords.size() != outputWords.size()) {
+            throw new IllegalArgumentException("The number of input words and output words differ");
+        }
+        for (int i = 0; i < inputWords.size(); i++) {
+            insert(inputWords.get(i), outputWords.get(i));
+        }
+    }
+
     @Override
     MooreTransitionSystem<?, I, ?, O> asTransitionSystem();
 
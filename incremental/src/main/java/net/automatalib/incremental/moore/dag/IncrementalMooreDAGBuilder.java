@@ -38,6 +38,7 @@ import net.automatalib.common.util.IntDisjointSets;
 import net.automatalib.common.util.UnionFind;
 import net.automatalib.graph.Graph;
 import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.IncrementalStatistics;
 import net.automatalib.incremental.moore.IncrementalMooreBuilder;
 import net.automatalib.ts.output.MooreTransitionSystem;
 import net.automatalib.visualization.VisualizationHelper;
@@ -54,7 +55,11 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * @param <O>
  *         output symbol class
  */
-public class IncrementalMooreDAGBuilder<I, O> implements IncrementalMooreBuilder<I, O>, InputAlphabetHolder<I> {
+public class IncrementalMooreDAGBuilder<I, O>
+        implements IncrementalMooreBuilder<I, O>, InputAlphabetHolder<I>, IncrementalStatistics {
+
+    // object headers and fields of a state, its signature (with successor storage), and its register entry
+    private static final int STATE_BYTES = 120;
 
     private final Map<@Nullable StateSignature<O>, State<O>> register;
     private final Alphabet<I> inputAlphabet;
@@ -87,6 +92,21 @@ public class IncrementalMooreDAGBuilder<I, O> implements IncrementalMooreBuilder
         }
     }
 
+    @Override
+    public long getNumNodes() {
+        return register.size();
+    }
+
+    @Override
+    public long getRegisterSize() {
+        return register.size();
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        return getNumNodes() * (STATE_BYTES + (long) Integer.BYTES * alphabetSize);
+    }
+
     @Override
     public boolean hasDefinitiveInformation(Word<? extends I> word) {
         return getState(word) != null;
@@ -16,7 +16,9 @@
 package net.automatalib.incremental.moore.tree;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
@@ -33,6 +35,8 @@ import net.automatalib.common.util.mapping.MapMapping;
 import net.automatalib.common.util.mapping.MutableMapping;
 import net.automatalib.graph.Graph;
 import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.IncrementalStatistics;
+import net.automatalib.incremental.PrefixSortedBatch;
 import net.automatalib.incremental.moore.IncrementalMooreBuilder;
 import net.automatalib.ts.output.MooreTransitionSystem;
 import net.automatalib.util.ts.traversal.TSTraversal;
@@ -50,12 +54,20 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * @param <O>
  *         output symbol class
  */
-public class IncrementalMooreTreeBuilder<I, O> implements IncrementalMooreBuilder<I, O> {
+public class IncrementalMooreTreeBuilder<I, O> implements IncrementalMooreBuilder<I, O>, IncrementalStatistics {
+
+    // object headers and fields of a node, and of its (lazily allocated) child storage
+    private static final int NODE_BYTES = 24;
+    private static final int CHILDREN_BYTES = 32;
 
     private final Alphabet<I> alphabet;
     private int alphabetSize;
     private @Nullable Node<O> root;
 
+    // maintained on insertion, so that the statistics do not require a traversal of the tree
+    private long numNodes;
+    private long numInnerNodes;
+
     public IncrementalMooreTreeBuilder(Alphabet<I> alphabet) {
         this.alphabet = alphabet;
         this.alphabetSize = alphabet.size();
@@ -85,6 +97,36 @@ public class IncrementalMooreTreeBuilder<I, O> implements IncrementalMooreBuilde
         }
     }
 
+    @Override
+    public long getNumNodes() {
+        return numNodes;
+    }
+
+    @Override
+    public long getRegisterSize() {
+        return 0;
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        return numNodes * NODE_BYTES + numInnerNodes * (CHILDREN_BYTES + (long) Integer.BYTES * alphabetSize);
+    }
+
+    private Node<O> createRoot(O output) {
+        numNodes++;
+        return new Node<>(output);
+    }
+
+    private Node<O> addChild(Node<O> parent, int idx, O output) {
+        final Node<O> child = new Node<>(output);
+        if (!parent.hasChildren()) {
+            numInnerNodes++;
+        }
+        parent.setChild(idx, alphabetSize, child);
+        numNodes++;
+        return child;
+    }
+
     @Override
     public @Nullable Word<I> findSeparatingWord(MooreMachine<?, I, ?, O> target,
                                                 Collection<? extends I> inputs,
@@ -183,7 +225,7 @@ public class IncrementalMooreTreeBuilder<I, O> implements IncrementalMooreBuilde
         final O rootOut = outIter.next();
 
         if (root == null) {
-            root = new Node<>(rootOut);
+            root = createRoot(rootOut);
         }
 
         Node<O> curr = root;
@@ -191,8 +233,7 @@ public class IncrementalMooreTreeBuilder<I, O> implements IncrementalMooreBuilde
             int inputIdx = alphabet.getSymbolIndex(sym);
             Node<O> succ = curr.getChild(inputIdx);
             if (succ == null) {
-                succ = new Node<>(outIter.next());
-                curr.setChild(inputIdx, alphabetSize, succ);
+                succ = addChild(curr, inputIdx, outIter.next());
             } else if (!Objects.equals(succ.getOutput(), outIter.next())) {
                 throw new ConflictException();
             }
@@ -200,6 +241,97 @@ public class IncrementalMooreTreeBuilder<I, O> implements IncrementalMooreBuilde
         }
     }
 
+    @Override
+    public List<Word<O>> lookupAll(List<? extends Word<? extends I>> inputWords) {
+        if (root == null) {
+            return new ArrayList<>(Collections.nCopies(inputWords.size(), Word.epsilon()));
+        }
+
+        final PrefixSortedBatch batch = new PrefixSortedBatch(alphabet, inputWords);
+        final List<Word<O>> result = new ArrayList<>(Collections.nCopies(batch.size(), Word.epsilon()));
+
+        // the nodes and outputs along the (defined prefix of the) previous word
+        final List<Node<O>> path = new ArrayList<>();
+        final List<O> outputs = new ArrayList<>();
+        path.add(root);
+        outputs.add(root.getOutput());
+
+        for (int pos = 0; pos < batch.size(); pos++) {
+            final int[] word = batch.getWord(pos);
+            int depth = Math.min(batch.getCommonPrefixLength(pos), path.size() - 1);
+
+            path.subList(depth + 1, path.size()).clear();
+            outputs.subList(depth + 1, outputs.size()).clear();
+
+            Node<O> curr = path.get(depth);
+            while (depth < word.length) {
+                final Node<O> succ = curr.getChild(word[depth]);
+                if (succ == null) {
+                    break;
+                }
+                curr = succ;
+                path.add(curr);
+                outputs.add(curr.getOutput());
+                depth++;
+            }
+
+            result.set(batch.getIndex(pos), Word.fromList(outputs));
+        }
+
+        return result;
+    }
+
+    @Override
+    public void insertAll(List<? extends Word<? extends I>> inputWords,
+                          List<? extends Word<? extends O>> outputWords) {
+        if (inputWords.size() != outputWords.size()) {
+            throw new IllegalArgumentException("The number of input words and output words differ");
+        }
+
+        if (inputWords.isEmpty()) {
+            return;
+        }
+
+        final PrefixSortedBatch batch = new PrefixSortedBatch(alphabet, inputWords);
+
+        if (root == null) {
+            root = createRoot(outputWords.get(batch.getIndex(0)).firstSymbol());
+        }
+
+        // the nodes along the previous word
+        final List<Node<O>> path = new ArrayList<>();
+        path.add(root);
+
+        for (int pos = 0; pos < batch.size(); pos++) {
+            final int[] word = batch.getWord(pos);
+            final Word<? extends O> outputWord = outputWords.get(batch.getIndex(pos));
+            final int prefixLen = batch.getCommonPrefixLength(pos);
+            assert word.length + 1 == outputWord.size();
+
+            path.subList(prefixLen + 1, path.size()).clear();
+
+            // the shared prefix already exists, but its outputs may conflict with the current output word
+            for (int i = 1; i <= prefixLen; i++) {
+                if (!Objects.equals(path.get(i).getOutput(), outputWord.getSymbol(i))) {
+                    throw new ConflictException();
+                }
+            }
+
+            Node<O> curr = path.get(prefixLen);
+            for (int i = prefixLen; i < word.length; i++) {
+                final O out = outputWord.getSymbol(i + 1);
+                Node<O> succ = curr.getChild(word[i]);
+                if (succ == null) {
+                    succ = addChild(curr, word[i], out);
+                } else if (!Objects.equals(succ.getOutput(), out)) {
+                    throw new ConflictException();
+                }
+                curr = succ;
+                path.add(curr);
+            }
+        }
+    }
+
     @Override
     public MooreTransitionSystem<?, I, ?, O> asTransitionSystem() {
         return new TransitionSystemView();
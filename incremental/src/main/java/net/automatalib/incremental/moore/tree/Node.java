@@ -80,6 +80,10 @@ final class Node<O> {
         children.set(idx, child);
     }
 
+    boolean hasChildren() {
+        return children != null;
+    }
+
     void ensureInputCapacity(int capacity) {
         if (this.children != null) {
             this.children.ensureCapacity(capacity);
@@ -18,6 +18,10 @@ package net.automatalib.incremental.dfa;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.GrowingAlphabet;
@@ -240,4 +244,34 @@ public abstract class AbstractIncrementalDFABuilderTest {
         Assert.assertEquals(growableBuilder.lookup(input2), Acceptance.FALSE);
     }
 
+    @Test
+    public void testBatch() {
+        final IncrementalDFABuilder<Character> builder = createIncrementalDFABuilder(TEST_ALPHABET);
+
+        builder.insertAll(Arrays.asList(W_3, W_1, Word.epsilon(), W_2), Arrays.asList(true, true, false, false));
+
+        final List<Word<Character>> queries =
+                Arrays.asList(W_1, Word.fromString("acc"), W_3, Word.fromString("b"), W_2, W_1.prefix(2));
+        final List<Acceptance> expected = new ArrayList<>(queries.size());
+        for (Word<Character> q : queries) {
+            expected.add(builder.lookup(q));
+        }
+
+        Assert.assertEquals(builder.lookupAll(queries), expected);
+        Assert.assertEquals(expected.subList(0, 5),
+                            Arrays.asList(Acceptance.TRUE,
+                                          Acceptance.DONT_KNOW,
+                                          Acceptance.TRUE,
+                                          Acceptance.DONT_KNOW,
+                                          Acceptance.FALSE));
+
+        // conflicts with existing information and within the batch
+        Assert.assertThrows(ConflictException.class,
+                            () -> builder.insertAll(Collections.singletonList(W_2), Collections.singletonList(true)));
+        Assert.assertThrows(ConflictException.class,
+                            () -> builder.insertAll(Arrays.asList(Word.fromString("bab"), Word.fromString("bab")),
+                                                    Arrays.asList(true, false)));
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> builder.insertAll(Collections.singletonList(W_1), Collections.emptyList()));
+    }
 }
@@ -0,0 +1,99 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.dfa;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.IncrementalMetrics;
+import net.automatalib.incremental.dfa.tree.IncrementalDFATreeBuilder;
+import net.automatalib.incremental.dfa.tree.IncrementalPCDFATreeBuilder;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class InstrumentedDFABuilderTest extends AbstractIncrementalDFABuilderTest {
+
+    @Override
+    protected <I> IncrementalDFABuilder<I> createIncrementalDFABuilder(Alphabet<I> alphabet) {
+        return new InstrumentedDFABuilder<>(new IncrementalDFATreeBuilder<>(alphabet));
+    }
+
+    @Override
+    protected String getDOTResource() {
+        return "/dfa/tree.dot";
+    }
+
+    @Test
+    public void testCounters() {
+        final InstrumentedDFABuilder<Character> builder =
+                new InstrumentedDFABuilder<>(new IncrementalDFATreeBuilder<>(Alphabets.characters('a', 'b')));
+        final IncrementalMetrics metrics = builder.getMetrics();
+
+        builder.insertAll(Arrays.asList(Word.fromString("ab"), Word.fromString("a")), Arrays.asList(true, false));
+        Assert.assertThrows(ConflictException.class, () -> builder.insert(Word.fromString("a"), true));
+
+        Assert.assertEquals(builder.lookup(Word.fromString("ab")), Acceptance.TRUE);
+        Assert.assertEquals(builder.lookupAll(Arrays.asList(Word.fromString("a"), Word.fromString("b"))),
+                            Arrays.asList(Acceptance.FALSE, Acceptance.DONT_KNOW));
+
+        Assert.assertEquals(metrics.getNumInserts(), 2);
+        Assert.assertEquals(metrics.getNumConflicts(), 1);
+        Assert.assertEquals(metrics.getNumLookups(), 3);
+        Assert.assertEquals(metrics.getNumDefinitiveHits(), 2);
+        Assert.assertEquals(metrics.getNumPartialHits(), 0);
+        Assert.assertEquals(metrics.getNumMisses(), 1);
+        Assert.assertEquals(metrics.get().get(IncrementalMetrics.NODES), 3L);
+    }
+
+    @Test
+    public void testNodeStatistics() {
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 2);
+        final Random random = new Random(42);
+        final IncrementalDFATreeBuilder<Integer> tree = new IncrementalDFATreeBuilder<>(alphabet);
+        final IncrementalPCDFATreeBuilder<Integer> pcTree = new IncrementalPCDFATreeBuilder<>(alphabet);
+
+        for (int i = 0; i < 200; i++) {
+            final Word<Integer> word = randomWord(random, alphabet);
+            final boolean acceptance = random.nextBoolean();
+
+            // only insert consistent information
+            if (tree.lookup(word) == Acceptance.DONT_KNOW) {
+                tree.insert(word, acceptance);
+            }
+            if (pcTree.lookup(word) == Acceptance.DONT_KNOW) {
+                pcTree.insert(word, acceptance);
+            }
+
+            // the counters are maintained incrementally and must match the (distinct) nodes of the tree
+            Assert.assertEquals(tree.getNumNodes(), tree.asGraph().getNodes().size());
+            Assert.assertEquals(pcTree.getNumNodes(), pcTree.asGraph().getNodes().size());
+        }
+    }
+
+    private static Word<Integer> randomWord(Random random, Alphabet<Integer> alphabet) {
+        final int length = 1 + random.nextInt(6);
+        final Integer[] symbols = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            symbols[i] = alphabet.getSymbol(random.nextInt(alphabet.size()));
+        }
+        return Word.fromSymbols(symbols);
+    }
+}
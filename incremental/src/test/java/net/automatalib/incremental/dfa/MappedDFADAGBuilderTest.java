@@ -0,0 +1,100 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.dfa;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.common.util.Pair;
+import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.IntegrationUtil;
+import net.automatalib.incremental.IntegrationUtil.ParsedTraces;
+import net.automatalib.incremental.dfa.dag.IncrementalDFADAGBuilder;
+import net.automatalib.incremental.dfa.dag.MappedDFADAGBuilder;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class MappedDFADAGBuilderTest extends AbstractIncrementalDFABuilderTest {
+
+    @Override
+    protected <I> IncrementalDFABuilder<I> createIncrementalDFABuilder(Alphabet<I> alphabet) {
+        try {
+            final Path snapshot = createSnapshotFile();
+            new IncrementalDFADAGBuilder<>(alphabet).writeSnapshot(snapshot);
+            return new MappedDFADAGBuilder<>(alphabet, snapshot);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected String getDOTResource() {
+        return "/dfa/mapped_dag.dot";
+    }
+
+    @Test
+    public void testSnapshots() throws IOException {
+        final ParsedTraces<Integer, Boolean> parsedData = IntegrationUtil.parseDFATraces("/spa/dfa_traces.gz");
+        final Alphabet<Integer> alphabet = parsedData.alphabet;
+        final List<Pair<Word<Integer>, Boolean>> traces = parsedData.traces;
+        final int split = traces.size() / 2;
+
+        final IncrementalDFADAGBuilder<Integer> heapCache = new IncrementalDFADAGBuilder<>(alphabet);
+        for (Pair<Word<Integer>, Boolean> trace : traces.subList(0, split)) {
+            heapCache.insert(trace.getFirst(), trace.getSecond());
+        }
+
+        final Path snapshot1 = createSnapshotFile();
+        heapCache.writeSnapshot(snapshot1);
+
+        final MappedDFADAGBuilder<Integer> mappedCache = new MappedDFADAGBuilder<>(alphabet, snapshot1);
+
+        for (Pair<Word<Integer>, Boolean> trace : traces.subList(0, split)) {
+            Assert.assertEquals(mappedCache.lookup(trace.getFirst()), Acceptance.fromBoolean(trace.getSecond()));
+        }
+
+        // new information goes to the overlay
+        for (Pair<Word<Integer>, Boolean> trace : traces.subList(split, traces.size())) {
+            mappedCache.insert(trace.getFirst(), trace.getSecond());
+            Assert.assertEquals(mappedCache.lookup(trace.getFirst()), Acceptance.fromBoolean(trace.getSecond()));
+        }
+
+        final Pair<Word<Integer>, Boolean> first = traces.get(0);
+        Assert.assertThrows(ConflictException.class, () -> mappedCache.insert(first.getFirst(), !first.getSecond()));
+
+        // merge snapshot and overlay into a new snapshot
+        final Path snapshot2 = createSnapshotFile();
+        mappedCache.writeSnapshot(snapshot2);
+
+        final MappedDFADAGBuilder<Integer> reopenedCache = new MappedDFADAGBuilder<>(alphabet, snapshot2);
+
+        for (Pair<Word<Integer>, Boolean> trace : traces) {
+            Assert.assertEquals(reopenedCache.lookup(trace.getFirst()), Acceptance.fromBoolean(trace.getSecond()));
+        }
+    }
+
+    private static Path createSnapshotFile() throws IOException {
+        final Path path = Files.createTempFile("dfa", ".snapshot");
+        path.toFile().deleteOnExit();
+        return path;
+    }
+}
@@ -19,6 +19,9 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.GrowingAlphabet;
@@ -255,4 +258,32 @@ public abstract class AbstractIncrementalMealyBuilderTest {
         Assert.assertEquals(growableBuilder.lookup(input2), Word.fromLetter('1'));
     }
 
+    @Test
+    public void testBatch() {
+        final IncrementalMealyBuilder<Character, Character> builder = createIncrementalMealyBuilder(TEST_ALPHABET);
+
+        builder.insertAll(Arrays.asList(W_3, W_1, Word.epsilon(), W_2),
+                          Arrays.asList(W_3_O, W_1_O, Word.epsilon(), W_2_O));
+
+        final List<Word<Character>> queries =
+                Arrays.asList(W_1, Word.fromString("acc"), W_3, Word.fromString("b"), W_2, W_1.prefix(2));
+        final List<Word<Character>> expected = new ArrayList<>(queries.size());
+        for (Word<Character> q : queries) {
+            expected.add(builder.lookup(q));
+        }
+
+        Assert.assertEquals(builder.lookupAll(queries), expected);
+        Assert.assertEquals(expected,
+                            Arrays.asList(W_1_O, W_2_O, W_3_O, Word.epsilon(), W_2_O, W_1_O.prefix(2)));
+
+        // conflicts with existing information and within the batch
+        Assert.assertThrows(ConflictException.class,
+                            () -> builder.insertAll(Collections.singletonList(W_2),
+                                                    Collections.singletonList(W_1_O.prefix(2))));
+        Assert.assertThrows(ConflictException.class,
+                            () -> builder.insertAll(Arrays.asList(Word.fromString("bab"), Word.fromString("ba")),
+                                                    Arrays.asList(Word.fromString("123"), Word.fromString("14"))));
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> builder.insertAll(Collections.singletonList(W_1), Collections.emptyList()));
+    }
 }
@@ -0,0 +1,183 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy;
+
+import java.io.IOException;
+import java.util.List;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.common.util.Pair;
+import net.automatalib.incremental.IntegrationUtil;
+import net.automatalib.incremental.IntegrationUtil.ParsedTraces;
+import net.automatalib.incremental.mealy.tree.BoundedMealyTreeBuilder;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class BoundedMealyTreeBuilderTest extends AbstractIncrementalMealyBuilderTest {
+
+    @Override
+    protected <I, O> IncrementalMealyBuilder<I, O> createIncrementalMealyBuilder(Alphabet<I> alphabet) {
+        return new BoundedMealyTreeBuilder<>(alphabet, Long.MAX_VALUE, false);
+    }
+
+    @Override
+    protected String getDOTResource() {
+        return "/mealy/tree.dot";
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        final Alphabet<Character> alphabet = Alphabets.characters('a', 'b');
+        final BoundedMealyTreeBuilder<Character, Character> builder =
+                new BoundedMealyTreeBuilder<>(alphabet, Long.MAX_VALUE, false);
+
+        builder.insert(Word.fromString("aa"), Word.fromString("xy"));
+        builder.insert(Word.fromString("ba"), Word.fromString("zy"));
+        Assert.assertEquals(builder.getNumNodes(), 5);
+
+        // the sub-trees reached by 'a' and 'b' are equivalent
+        builder.compact();
+        Assert.assertEquals(builder.getNumNodes(), 3);
+        Assert.assertEquals(builder.lookup(Word.fromString("aa")), Word.fromString("xy"));
+        Assert.assertEquals(builder.lookup(Word.fromString("ba")), Word.fromString("zy"));
+
+        // extending a shared sub-tree must not affect other paths
+        builder.insert(Word.fromString("aab"), Word.fromString("xyz"));
+        Assert.assertEquals(builder.lookup(Word.fromString("aab")), Word.fromString("xyz"));
+        Assert.assertFalse(builder.hasDefinitiveInformation(Word.fromString("bab")));
+        Assert.assertEquals(builder.lookup(Word.fromString("bab")), Word.fromString("zy"));
+    }
+
+    @Test
+    public void testCompaction() throws IOException {
+        final ParsedTraces<Integer, Word<Integer>> parsedData = IntegrationUtil.parseMealyTraces("/spa/mealy_traces.gz");
+        final Alphabet<Integer> alphabet = parsedData.alphabet;
+        final List<Pair<Word<Integer>, Word<Integer>>> traces = parsedData.traces;
+
+        final BoundedMealyTreeBuilder<Integer, Integer> unbounded =
+                new BoundedMealyTreeBuilder<>(alphabet, Long.MAX_VALUE, false);
+        insertAll(unbounded, traces);
+
+        final long budget = unbounded.getEstimatedMemory() / 4;
+        final BoundedMealyTreeBuilder<Integer, Integer> bounded = new BoundedMealyTreeBuilder<>(alphabet, budget, false);
+        insertAll(bounded, traces);
+
+        Assert.assertEquals(unbounded.getNumCompactions(), 0);
+        Assert.assertTrue(bounded.getNumCompactions() > 0);
+        Assert.assertEquals(bounded.getNumEvictions(), 0);
+        Assert.assertTrue(bounded.getNumNodes() < unbounded.getNumNodes());
+
+        // compaction must not lose any information
+        for (Pair<Word<Integer>, Word<Integer>> trace : traces) {
+            Assert.assertEquals(bounded.lookup(trace.getFirst()), trace.getSecond());
+        }
+
+        Assert.assertEquals(bounded.getNumLookups(), 2L * traces.size());
+        Assert.assertEquals(bounded.getNumHits(), 2L * traces.size());
+        Assert.assertEquals(bounded.getHitRate(), 1.0);
+    }
+
+    @Test
+    public void testEviction() throws IOException {
+        final ParsedTraces<Integer, Word<Integer>> parsedData = IntegrationUtil.parseMealyTraces("/spa/mealy_traces.gz");
+        final Alphabet<Integer> alphabet = parsedData.alphabet;
+        final List<Pair<Word<Integer>, Word<Integer>>> traces = parsedData.traces;
+
+        final BoundedMealyTreeBuilder<Integer, Integer> unbounded =
+                new BoundedMealyTreeBuilder<>(alphabet, Long.MAX_VALUE, false);
+        insertAll(unbounded, traces);
+        unbounded.compact();
+
+        // not even the minimized DAG fits into the budget
+        final long budget = unbounded.getEstimatedMemory() / 2;
+        final BoundedMealyTreeBuilder<Integer, Integer> bounded = new BoundedMealyTreeBuilder<>(alphabet, budget, true);
+        insertAll(bounded, traces);
+
+        Assert.assertTrue(bounded.getNumEvictions() > 0);
+        Assert.assertTrue(bounded.getEstimatedMemory() <= budget);
+
+        // evicted information may be missing, but the remaining information must be correct
+        for (Pair<Word<Integer>, Word<Integer>> trace : traces) {
+            final Word<Integer> expected = trace.getSecond();
+            final WordBuilder<Integer> output = new WordBuilder<>();
+            final boolean complete = bounded.lookup(trace.getFirst(), output);
+            Assert.assertEquals(output.toWord(), expected.prefix(output.size()));
+            Assert.assertEquals(complete, output.size() == expected.size());
+        }
+
+        // the most recent information is still available
+        final Pair<Word<Integer>, Word<Integer>> last = traces.get(traces.size() - 1);
+        Assert.assertEquals(bounded.lookup(last.getFirst()), last.getSecond());
+        Assert.assertTrue(bounded.getHitRate() < 1.0);
+    }
+
+    @Test
+    public void testLongWords() {
+        final Alphabet<Character> alphabet = Alphabets.characters('a', 'b');
+        final int length = 200_000;
+        final Word<Character> input = Word.fromSymbols(new Character[length]).transform(c -> 'a');
+        final Word<Character> output = input.transform(c -> 'x');
+
+        // compaction and eviction must not recurse along the (deep) paths of the tree
+        final BoundedMealyTreeBuilder<Character, Character> unbounded =
+                new BoundedMealyTreeBuilder<>(alphabet, Long.MAX_VALUE, false);
+        unbounded.insert(input, output);
+        unbounded.insert(input.append('b'), output.append('y'));
+        unbounded.compact();
+
+        Assert.assertEquals(unbounded.getNumNodes(), length + 2);
+        Assert.assertEquals(unbounded.lookup(input.append('b')), output.append('y'));
+
+        final long budget = unbounded.getEstimatedMemory() / 2;
+        final BoundedMealyTreeBuilder<Character, Character> bounded =
+                new BoundedMealyTreeBuilder<>(alphabet, budget, true);
+        bounded.insert(input, output);
+
+        // all nodes of the path have been accessed at the same time, so only the sub-tree of the root is evicted
+        Assert.assertEquals(bounded.getNumEvictions(), 1);
+        Assert.assertEquals(bounded.getNumNodes(), 1);
+        Assert.assertFalse(bounded.hasDefinitiveInformation(input.prefix(1)));
+    }
+
+    @Test
+    public void testLookupMetrics() {
+        final Alphabet<Character> alphabet = Alphabets.characters('a', 'b');
+        final BoundedMealyTreeBuilder<Character, Character> builder =
+                new BoundedMealyTreeBuilder<>(alphabet, Long.MAX_VALUE, false);
+
+        builder.insert(Word.fromString("ab"), Word.fromString("xy"));
+
+        Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("a")));
+        Assert.assertFalse(builder.hasDefinitiveInformation(Word.fromString("b")));
+        Assert.assertEquals(builder.lookup(Word.fromString("ab")), Word.fromString("xy"));
+        Assert.assertEquals(builder.lookupAll(List.of(Word.fromString("a"), Word.fromString("ba"))).size(), 2);
+
+        Assert.assertEquals(builder.getNumLookups(), 5);
+        Assert.assertEquals(builder.getNumHits(), 3);
+    }
+
+    private static void insertAll(IncrementalMealyBuilder<Integer, Integer> builder,
+                                  List<Pair<Word<Integer>, Word<Integer>>> traces) {
+        for (Pair<Word<Integer>, Word<Integer>> trace : traces) {
+            builder.insert(trace.getFirst(), trace.getSecond());
+            Assert.assertEquals(builder.lookup(trace.getFirst()), trace.getSecond());
+        }
+    }
+}
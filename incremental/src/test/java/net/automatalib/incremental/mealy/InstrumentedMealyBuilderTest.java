@@ -0,0 +1,170 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.IncrementalMetrics;
+import net.automatalib.incremental.LatencyHistogram;
+import net.automatalib.incremental.mealy.dag.IncrementalMealyDAGBuilder;
+import net.automatalib.incremental.mealy.tree.AdaptiveMealyTreeBuilder;
+import net.automatalib.incremental.mealy.tree.IncrementalMealyTreeBuilder;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class InstrumentedMealyBuilderTest extends AbstractIncrementalMealyBuilderTest {
+
+    private static final Alphabet<Character> ALPHABET = Alphabets.characters('a', 'c');
+
+    @Override
+    protected <I, O> IncrementalMealyBuilder<I, O> createIncrementalMealyBuilder(Alphabet<I> alphabet) {
+        return new InstrumentedMealyBuilder<>(new IncrementalMealyDAGBuilder<>(alphabet));
+    }
+
+    @Override
+    protected String getDOTResource() {
+        return "/mealy/dag.dot";
+    }
+
+    @Test
+    public void testCounters() {
+        final InstrumentedMealyBuilder<Character, Character> builder =
+                new InstrumentedMealyBuilder<>(new IncrementalMealyTreeBuilder<>(ALPHABET));
+        final IncrementalMetrics metrics = builder.getMetrics();
+
+        builder.insert(Word.fromString("abc"), Word.fromString("123"));
+        builder.insert(Word.fromString("ab"), Word.fromString("12"));
+        Assert.assertThrows(ConflictException.class,
+                            () -> builder.insert(Word.fromString("ac"), Word.fromString("21")));
+
+        Assert.assertEquals(builder.lookup(Word.fromString("abc")), Word.fromString("123"));
+        Assert.assertEquals(builder.lookup(Word.fromString("abb")), Word.fromString("12"));
+        Assert.assertEquals(builder.lookup(Word.fromString("bbb")), Word.epsilon());
+        Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("a")));
+
+        Assert.assertEquals(metrics.getNumInserts(), 2);
+        Assert.assertEquals(metrics.getNumConflicts(), 1);
+        Assert.assertEquals(metrics.getNumLookups(), 4);
+        Assert.assertEquals(metrics.getNumDefinitiveHits(), 2);
+        Assert.assertEquals(metrics.getNumPartialHits(), 1);
+        Assert.assertEquals(metrics.getNumMisses(), 1);
+        Assert.assertEquals(metrics.getLookupLatency().getCount(), 4);
+
+        builder.lookupAll(Arrays.asList(Word.fromString("abc"), Word.fromString("b"), Word.fromString("acc")));
+
+        Assert.assertEquals(metrics.getNumLookups(), 7);
+        Assert.assertEquals(metrics.getNumDefinitiveHits(), 3);
+        Assert.assertEquals(metrics.getNumPartialHits(), 2);
+        Assert.assertEquals(metrics.getNumMisses(), 2);
+
+        // the tree consists of the root and the three nodes along "abc"
+        final Map<String, Number> values = metrics.get();
+        Assert.assertEquals(values.get(IncrementalMetrics.LOOKUPS), 7L);
+        Assert.assertEquals(values.get(IncrementalMetrics.CONFLICTS), 1L);
+        Assert.assertEquals(values.get(IncrementalMetrics.NODES), 4L);
+        Assert.assertEquals(values.get(IncrementalMetrics.REGISTER_SIZE), 0L);
+        Assert.assertTrue(values.get(IncrementalMetrics.MEMORY).longValue() > 0);
+        Assert.assertEquals(values.get(IncrementalMetrics.LOOKUP_LATENCY + ".count"), 7L);
+
+        metrics.setEnabled(false);
+        builder.lookup(Word.fromString("abc"));
+        builder.insert(Word.fromString("b"), Word.fromString("1"));
+        Assert.assertEquals(metrics.getNumLookups(), 7);
+        Assert.assertEquals(metrics.getNumInserts(), 2);
+
+        metrics.reset();
+        Assert.assertEquals(metrics.getNumLookups(), 0);
+        Assert.assertEquals(metrics.getLookupLatency().getCount(), 0);
+    }
+
+    @Test
+    public void testDAGStatistics() {
+        final IncrementalMealyDAGBuilder<Character, Character> dag = new IncrementalMealyDAGBuilder<>(ALPHABET);
+        final InstrumentedMealyBuilder<Character, Character> builder = new InstrumentedMealyBuilder<>(dag);
+
+        builder.insert(Word.fromString("aa"), Word.fromString("11"));
+        builder.insert(Word.fromString("ba"), Word.fromString("11"));
+
+        final Map<String, Number> values = builder.getMetrics().get();
+        Assert.assertEquals(values.get(IncrementalMetrics.NODES), dag.getNumNodes());
+        Assert.assertEquals(values.get(IncrementalMetrics.REGISTER_SIZE), dag.getRegisterSize());
+        // the suffixes of both words are shared
+        Assert.assertEquals(dag.getNumNodes(), 3);
+    }
+
+    @Test
+    public void testHistogram() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        Assert.assertEquals(histogram.getPercentile(50), 0);
+        Assert.assertEquals(histogram.getMean(), 0.0);
+
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        histogram.record(1000, 10);
+
+        Assert.assertEquals(histogram.getCount(), 110);
+        Assert.assertEquals(histogram.getMax(), 1000);
+        Assert.assertEquals(histogram.getTotal(), 5050 + 10_000);
+        // 55 is in bucket [32, 64), 100 in bucket [64, 128)
+        Assert.assertEquals(histogram.getPercentile(50), 63);
+        Assert.assertEquals(histogram.getPercentile(90), 127);
+        Assert.assertEquals(histogram.getPercentile(100), 1000);
+        Assert.assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+    }
+
+    @Test
+    public void testNodeStatistics() {
+        final Random random = new Random(42);
+        final IncrementalMealyTreeBuilder<Character, Character> tree = new IncrementalMealyTreeBuilder<>(ALPHABET);
+        final AdaptiveMealyTreeBuilder<Character, Character> adaptive = new AdaptiveMealyTreeBuilder<>(ALPHABET);
+
+        for (int i = 0; i < 200; i++) {
+            final int length = 1 + random.nextInt(6);
+            final WordBuilder<Character> input = new WordBuilder<>(length);
+            final WordBuilder<Character> output = new WordBuilder<>(length);
+            for (int j = 0; j < length; j++) {
+                input.append(ALPHABET.getSymbol(random.nextInt(ALPHABET.size())));
+                output.append(random.nextBoolean() ? 'x' : 'y');
+            }
+
+            final Word<Character> in = input.toWord();
+            if (!tree.hasDefinitiveInformation(in)) {
+                // may conflict with a shorter prefix
+                try {
+                    tree.insert(in, output.toWord());
+                } catch (ConflictException e) {
+                    // ignore
+                }
+            }
+            // overwrites (and thereby removes) conflicting sub-trees
+            adaptive.insert(in, output.toWord());
+
+            // the counters are maintained incrementally and must match the nodes of the tree
+            Assert.assertEquals(tree.getNumNodes(), tree.asGraph().getNodes().size());
+            Assert.assertEquals(adaptive.getNumNodes(), adaptive.asGraph().getNodes().size());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.common.util.Pair;
+import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.IntegrationUtil;
+import net.automatalib.incremental.IntegrationUtil.ParsedTraces;
+import net.automatalib.incremental.mealy.tree.IncrementalMealyTreeBuilder;
+import net.automatalib.incremental.mealy.tree.MappedMealyTreeBuilder;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class MappedMealyTreeBuilderTest extends AbstractIncrementalMealyBuilderTest {
+
+    @Override
+    protected <I, O> IncrementalMealyBuilder<I, O> createIncrementalMealyBuilder(Alphabet<I> alphabet) {
+        try {
+            final Path snapshot = createSnapshotFile();
+            new IncrementalMealyTreeBuilder<I, O>(alphabet).writeSnapshot(snapshot, String::valueOf);
+            return new MappedMealyTreeBuilder<>(alphabet, snapshot, s -> {
+                throw new IllegalStateException("The empty snapshot should not contain any outputs");
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected String getDOTResource() {
+        return "/mealy/tree.dot";
+    }
+
+    @Test
+    public void testSnapshots() throws IOException {
+        final ParsedTraces<Integer, Word<Integer>> parsedData = IntegrationUtil.parseMealyTraces("/spa/mealy_traces.gz");
+        final Alphabet<Integer> alphabet = parsedData.alphabet;
+        final List<Pair<Word<Integer>, Word<Integer>>> traces = parsedData.traces;
+        final int split = traces.size() / 2;
+
+        final IncrementalMealyTreeBuilder<Integer, Integer> heapCache = new IncrementalMealyTreeBuilder<>(alphabet);
+        for (Pair<Word<Integer>, Word<Integer>> trace : traces.subList(0, split)) {
+            heapCache.insert(trace.getFirst(), trace.getSecond());
+        }
+
+        final Path snapshot1 = createSnapshotFile();
+        heapCache.writeSnapshot(snapshot1, String::valueOf);
+
+        final MappedMealyTreeBuilder<Integer, Integer> mappedCache =
+                new MappedMealyTreeBuilder<>(alphabet, snapshot1, Integer::valueOf);
+
+        for (Pair<Word<Integer>, Word<Integer>> trace : traces.subList(0, split)) {
+            Assert.assertEquals(mappedCache.lookup(trace.getFirst()), trace.getSecond());
+        }
+
+        // new information goes to the overlay
+        for (Pair<Word<Integer>, Word<Integer>> trace : traces.subList(split, traces.size())) {
+            mappedCache.insert(trace.getFirst(), trace.getSecond());
+            Assert.assertEquals(mappedCache.lookup(trace.getFirst()), trace.getSecond());
+        }
+
+        final Pair<Word<Integer>, Word<Integer>> first = traces.get(0);
+        final Word<Integer> output = first.getSecond();
+        final Word<Integer> conflict = output.prefix(-1).append(output.lastSymbol() + 1);
+        Assert.assertThrows(ConflictException.class, () -> mappedCache.insert(first.getFirst(), conflict));
+
+        // merge snapshot and overlay into a new snapshot
+        final Path snapshot2 = createSnapshotFile();
+        mappedCache.writeSnapshot(snapshot2, String::valueOf);
+
+        final MappedMealyTreeBuilder<Integer, Integer> reopenedCache =
+                new MappedMealyTreeBuilder<>(alphabet, snapshot2, Integer::valueOf);
+
+        for (Pair<Word<Integer>, Word<Integer>> trace : traces) {
+            Assert.assertEquals(reopenedCache.lookup(trace.getFirst()), trace.getSecond());
+            Assert.assertTrue(reopenedCache.hasDefinitiveInformation(trace.getFirst()));
+        }
+    }
+
+    private static Path createSnapshotFile() throws IOException {
+        final Path path = Files.createTempFile("mealy", ".snapshot");
+        path.toFile().deleteOnExit();
+        return path;
+    }
+}
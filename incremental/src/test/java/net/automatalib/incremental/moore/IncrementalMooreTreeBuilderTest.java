@@ -15,8 +15,13 @@
  */
 package net.automatalib.incremental.moore;
 
+import java.util.List;
+
 import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.incremental.moore.tree.IncrementalMooreTreeBuilder;
+import net.automatalib.word.Word;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 @Test
@@ -31,4 +36,26 @@ public class IncrementalMooreTreeBuilderTest extends AbstractIncrementalMooreBui
     protected String getDOTResource() {
         return "/moore/tree.dot";
     }
+
+    @Test
+    public void testNodeStatistics() {
+        final IncrementalMooreTreeBuilder<Character, Character> builder =
+                new IncrementalMooreTreeBuilder<>(Alphabets.characters('a', 'b'));
+
+        Assert.assertEquals(builder.getNumNodes(), 0);
+        Assert.assertEquals(builder.getEstimatedMemory(), 0);
+
+        builder.insert(Word.fromString("ab"), Word.fromString("xyz"));
+        builder.insert(Word.fromString("aa"), Word.fromString("xyx"));
+        builder.insertAll(List.of(Word.fromString("b"), Word.fromString("ab")),
+                          List.of(Word.fromString("xx"), Word.fromString("xyz")));
+
+        Assert.assertEquals(builder.getNumNodes(), 5);
+        Assert.assertEquals(builder.getNumNodes(), builder.asGraph().getNodes().size());
+
+        final long memory = builder.getEstimatedMemory();
+        builder.insert(Word.fromString("abb"), Word.fromString("xyzz"));
+        // the new leaf also turns its parent into an inner node
+        Assert.assertTrue(builder.getEstimatedMemory() > memory);
+    }
 }
@@ -51,6 +51,7 @@ open module net.automatalib.modelchecker.m3c {
     exports net.automatalib.modelchecker.m3c.formula.parser;
     exports net.automatalib.modelchecker.m3c.formula.visitor;
     exports net.automatalib.modelchecker.m3c.solver;
+    exports net.automatalib.modelchecker.m3c.symbolic;
     exports net.automatalib.modelchecker.m3c.transformer;
     exports net.automatalib.modelchecker.m3c.visualization;
 }
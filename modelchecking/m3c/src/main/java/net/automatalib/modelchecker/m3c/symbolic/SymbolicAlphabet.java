@@ -0,0 +1,101 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.modelchecker.m3c.symbolic;
+
+import info.scce.addlib.dd.bdd.BDD;
+import info.scce.addlib.dd.bdd.BDDManager;
+import net.automatalib.alphabet.Alphabet;
+
+/**
+ * A binary encoding of an {@link Alphabet} in {@link BDD} variables. Each input symbol is represented by the binary
+ * encoding of its {@link Alphabet#getSymbolIndex(Object) index}.
+ * <p>
+ * A symbolic alphabet determines the {@link BDDManager} and the input variables shared by all {@link SymbolicDFA}s that
+ * are created for it. Only symbolic DFAs of the same symbolic alphabet can be combined with each other.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public final class SymbolicAlphabet<I> {
+
+    private final BDDManager manager;
+    private final Alphabet<I> alphabet;
+    private final int[] variables;
+    private final BDD[] symbols;
+
+    /**
+     * Constructor. Allocates fresh variables in the given {@link BDDManager} for encoding the symbols of the given
+     * alphabet.
+     *
+     * @param manager
+     *         the manager for creating the BDDs
+     * @param alphabet
+     *         the alphabet to encode
+     */
+    public SymbolicAlphabet(BDDManager manager, Alphabet<I> alphabet) {
+        this.manager = manager;
+        this.alphabet = alphabet;
+        this.variables = SymbolicUtil.newVars(manager, SymbolicUtil.numBits(alphabet.size()));
+        this.symbols = new BDD[alphabet.size()];
+
+        for (int i = 0; i < symbols.length; i++) {
+            symbols[i] = SymbolicUtil.cube(manager, variables, i);
+        }
+    }
+
+    /**
+     * Returns the manager for creating the BDDs.
+     *
+     * @return the manager for creating the BDDs
+     */
+    public BDDManager getManager() {
+        return manager;
+    }
+
+    /**
+     * Returns the encoded alphabet.
+     *
+     * @return the encoded alphabet
+     */
+    public Alphabet<I> getAlphabet() {
+        return alphabet;
+    }
+
+    /**
+     * Returns the (characteristic function) BDD that encodes the given symbol. The returned BDD is owned by this
+     * symbolic alphabet and must not be de-referenced.
+     *
+     * @param symbol
+     *         the symbol
+     *
+     * @return the BDD that encodes the given symbol
+     */
+    public BDD getSymbol(I symbol) {
+        return symbols[alphabet.getSymbolIndex(symbol)];
+    }
+
+    BDD getSymbol(int idx) {
+        return symbols[idx];
+    }
+
+    int[] getVariables() {
+        return variables;
+    }
+
+    int size() {
+        return symbols.length;
+    }
+}
@@ -0,0 +1,556 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.modelchecker.m3c.symbolic;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.LongFunction;
+
+import info.scce.addlib.dd.bdd.BDD;
+import info.scce.addlib.dd.bdd.BDDManager;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A symbolic representation of a (complete) DFA, in which states and input symbols are binary encoded in {@link BDD}
+ * variables. A symbolic DFA consists of
+ * <ul>
+ *     <li>a characteristic function of its initial state over the (current) state variables,</li>
+ *     <li>a characteristic function of its accepting states over the (current) state variables, and</li>
+ *     <li>a transition relation over the (current) state variables, the input variables of its
+ *     {@link SymbolicAlphabet}, and the next-state variables.</li>
+ * </ul>
+ * Products of symbolic DFAs are constructed symbolically, i.e., their size is only determined by the size of the
+ * involved BDDs, not by the (potentially very large) number of product states. Reachability, emptiness and equivalence
+ * checks are performed via a breadth-first image computation on the characteristic functions of state sets.
+ * <p>
+ * Memory management: all BDDs that are owned by a symbolic DFA stay referenced until the underlying {@link BDDManager}
+ * is {@link BDDManager#quit() shut down}. BDDs returned by public methods are referenced and need to be de-referenced by
+ * the caller unless stated otherwise.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public final class SymbolicDFA<I> {
+
+    private final SymbolicAlphabet<I> alphabet;
+    private final int[] stateVars;
+    private final int[] nextStateVars;
+    private final BDD initialState;
+    private final BDD acceptingStates;
+    private final BDD transitions;
+
+    private SymbolicDFA(SymbolicAlphabet<I> alphabet,
+                        int[] stateVars,
+                        int[] nextStateVars,
+                        BDD initialState,
+                        BDD acceptingStates,
+                        BDD transitions) {
+        this.alphabet = alphabet;
+        this.stateVars = stateVars;
+        this.nextStateVars = nextStateVars;
+        this.initialState = initialState;
+        this.acceptingStates = acceptingStates;
+        this.transitions = transitions;
+    }
+
+    /**
+     * Creates the symbolic representation of the given (explicit) DFA. Fresh state variables are allocated in the
+     * {@link BDDManager} of the given symbolic alphabet. Partial DFAs are completed by an additional (rejecting) sink
+     * state.
+     *
+     * @param alphabet
+     *         the symbolic alphabet whose symbols should be considered
+     * @param dfa
+     *         the explicit DFA
+     * @param <S>
+     *         state type
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the symbolic representation of the given DFA
+     */
+    public static <S, I> SymbolicDFA<I> fromDFA(SymbolicAlphabet<I> alphabet, DFA<S, I> dfa) {
+        final BDDManager manager = alphabet.getManager();
+        final Alphabet<I> inputs = alphabet.getAlphabet();
+        final int numInputs = inputs.size();
+        final int size = dfa.size();
+        final StateIDs<S> ids = dfa.stateIDs();
+        final S init = dfa.getInitialState();
+
+        // explicit successor table, using 'size' as the id of the (potential) sink
+        final int[] successors = new int[size * numInputs];
+        final BitSet accepting = new BitSet(size);
+        boolean partial = false;
+
+        for (int s = 0; s < size; s++) {
+            final S state = ids.getState(s);
+            accepting.set(s, dfa.isAccepting(state));
+
+            for (int i = 0; i < numInputs; i++) {
+                final S succ = dfa.getSuccessor(state, inputs.getSymbol(i));
+                if (succ == null) {
+                    successors[s * numInputs + i] = size;
+                    partial = true;
+                } else {
+                    successors[s * numInputs + i] = ids.getStateId(succ);
+                }
+            }
+        }
+
+        final int numStates = partial ? size + 1 : size;
+        final int numBits = SymbolicUtil.numBits(numStates);
+        final int[] stateVars = new int[numBits];
+        final int[] nextStateVars = new int[numBits];
+
+        // interleave current and next-state variables for a compact transition relation
+        for (int b = numBits - 1; b >= 0; b--) {
+            stateVars[b] = SymbolicUtil.newVar(manager);
+            nextStateVars[b] = SymbolicUtil.newVar(manager);
+        }
+
+        final BDD initialState = init == null ?
+                manager.readLogicZero() :
+                SymbolicUtil.cube(manager, stateVars, ids.getStateId(init));
+        final BDD acceptingStates = SymbolicUtil.decompose(manager,
+                                                           stateVars,
+                                                           numStates,
+                                                           s -> accepting.get((int) s) ?
+                                                                   manager.readOne() :
+                                                                   manager.readLogicZero());
+        final LongFunction<BDD> stateTransitions =
+                s -> SymbolicUtil.decompose(manager, alphabet.getVariables(), numInputs, i -> {
+                    final int succ = s == size ? size : successors[(int) s * numInputs + (int) i];
+                    return SymbolicUtil.cube(manager, nextStateVars, succ);
+                });
+        final BDD transitions = SymbolicUtil.decompose(manager, stateVars, numStates, stateTransitions);
+
+        return new SymbolicDFA<>(alphabet, stateVars, nextStateVars, initialState, acceptingStates, transitions);
+    }
+
+    /**
+     * Returns the symbolic alphabet of this symbolic DFA.
+     *
+     * @return the symbolic alphabet
+     */
+    public SymbolicAlphabet<I> getAlphabet() {
+        return alphabet;
+    }
+
+    /**
+     * Returns the number of (current) state variables, i.e., the logarithm of the number of representable states.
+     *
+     * @return the number of state variables
+     */
+    public int getNumStateVariables() {
+        return stateVars.length;
+    }
+
+    /**
+     * Returns the characteristic function of the initial state. The returned BDD is owned by this symbolic DFA and must
+     * not be de-referenced.
+     *
+     * @return the characteristic function of the initial state
+     */
+    public BDD getInitialState() {
+        return initialState;
+    }
+
+    /**
+     * Returns the characteristic function of the accepting states. The returned BDD is owned by this symbolic DFA and
+     * must not be de-referenced.
+     *
+     * @return the characteristic function of the accepting states
+     */
+    public BDD getAcceptingStates() {
+        return acceptingStates;
+    }
+
+    /**
+     * Returns the transition relation. The returned BDD is owned by this symbolic DFA and must not be de-referenced.
+     *
+     * @return the transition relation
+     */
+    public BDD getTransitionRelation() {
+        return transitions;
+    }
+
+    /**
+     * Returns the symbolic DFA that accepts the complement of the language of this symbolic DFA. The returned DFA shares
+     * its state variables with this DFA.
+     *
+     * @return the complement DFA
+     */
+    public SymbolicDFA<I> complement() {
+        return new SymbolicDFA<>(alphabet,
+                                 stateVars,
+                                 nextStateVars,
+                                 initialState.withRef(),
+                                 acceptingStates.not(),
+                                 transitions.withRef());
+    }
+
+    /**
+     * Returns the (symbolic) product DFA that accepts the intersection of the languages of this and the given DFA.
+     *
+     * @param other
+     *         the other DFA
+     *
+     * @return the product DFA
+     *
+     * @see #product(SymbolicDFA, BinaryOperator)
+     */
+    public SymbolicDFA<I> intersection(SymbolicDFA<I> other) {
+        return product(other, BDD::and);
+    }
+
+    /**
+     * Returns the (symbolic) product DFA that accepts the union of the languages of this and the given DFA.
+     *
+     * @param other
+     *         the other DFA
+     *
+     * @return the product DFA
+     *
+     * @see #product(SymbolicDFA, BinaryOperator)
+     */
+    public SymbolicDFA<I> union(SymbolicDFA<I> other) {
+        return product(other, BDD::or);
+    }
+
+    /**
+     * Returns the (symbolic) product DFA that accepts the symmetric difference of the languages of this and the given
+     * DFA.
+     *
+     * @param other
+     *         the other DFA
+     *
+     * @return the product DFA
+     *
+     * @see #product(SymbolicDFA, BinaryOperator)
+     */
+    public SymbolicDFA<I> xor(SymbolicDFA<I> other) {
+        return product(other, BDD::xor);
+    }
+
+    /**
+     * Returns the (symbolic) product of this and the given DFA. The state variables of the product are the union of
+     * the state variables of both DFAs, which therefore must be disjoint.
+     *
+     * @param other
+     *         the other DFA
+     * @param acceptance
+     *         the function for combining the characteristic functions of the accepting states of both DFAs. The
+     *         returned BDD must be referenced.
+     *
+     * @return the product DFA
+     *
+     * @throws IllegalArgumentException
+     *         if the two DFAs have a different symbolic alphabet or share state variables
+     */
+    public SymbolicDFA<I> product(SymbolicDFA<I> other, BinaryOperator<BDD> acceptance) {
+        if (alphabet != other.alphabet) {
+            throw new IllegalArgumentException("Symbolic DFAs need to share the same symbolic alphabet");
+        }
+
+        final BitSet vars = new BitSet();
+        for (int v : stateVars) {
+            vars.set(v);
+        }
+        for (int v : other.stateVars) {
+            if (vars.get(v)) {
+                throw new IllegalArgumentException("Symbolic DFAs must not share state variables");
+            }
+        }
+
+        return new SymbolicDFA<>(alphabet,
+                                 SymbolicUtil.concat(stateVars, other.stateVars),
+                                 SymbolicUtil.concat(nextStateVars, other.nextStateVars),
+                                 initialState.and(other.initialState),
+                                 acceptance.apply(acceptingStates, other.acceptingStates),
+                                 transitions.and(other.transitions));
+    }
+
+    /**
+     * Computes the image of the given set of states, i.e., the set of all states that are reachable from a state of the
+     * given set via a single transition.
+     *
+     * @param states
+     *         the characteristic function of the set of states (over the state variables)
+     *
+     * @return the characteristic function of the image
+     */
+    public BDD computeImage(BDD states) {
+        final BDDManager manager = alphabet.getManager();
+        final BDD next = SymbolicUtil.andExists(manager,
+                                                states,
+                                                transitions,
+                                                SymbolicUtil.concat(stateVars, alphabet.getVariables()));
+        return SymbolicUtil.rename(manager, next, nextStateVars, stateVars);
+    }
+
+    /**
+     * Computes the set of all states that are reachable from the initial state.
+     *
+     * @return the characteristic function of the set of reachable states
+     */
+    public BDD computeReachableStates() {
+        final BDD zero = alphabet.getManager().readLogicZero();
+
+        BDD reached = initialState.withRef();
+        BDD frontier = initialState.withRef();
+
+        while (!frontier.equals(zero)) {
+            final BDD newStates = newStates(frontier, reached);
+            final BDD newReached = reached.or(newStates);
+
+            frontier.recursiveDeref();
+            reached.recursiveDeref();
+
+            frontier = newStates;
+            reached = newReached;
+        }
+
+        frontier.recursiveDeref();
+        zero.recursiveDeref();
+
+        return reached;
+    }
+
+    /**
+     * Checks whether this DFA accepts the empty language.
+     *
+     * @return {@code true} if this DFA accepts no word, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return findAcceptedWord() == null;
+    }
+
+    /**
+     * Returns a shortest word that is accepted by this DFA.
+     *
+     * @return a shortest accepted word, or {@code null} if this DFA accepts the empty language
+     */
+    public @Nullable Word<I> findAcceptedWord() {
+        final BDDManager manager = alphabet.getManager();
+        final BDD zero = manager.readLogicZero();
+        final List<BDD> layers = new ArrayList<>();
+
+        BDD reached = initialState.withRef();
+        BDD frontier = initialState.withRef();
+        @Nullable BDD target = null;
+
+        while (!frontier.equals(zero)) {
+            layers.add(frontier);
+
+            final BDD hit = frontier.and(acceptingStates);
+            if (!hit.equals(zero)) {
+                target = hit;
+                break;
+            }
+            hit.recursiveDeref();
+
+            final BDD newStates = newStates(frontier, reached);
+            final BDD newReached = reached.or(newStates);
+            reached.recursiveDeref();
+
+            frontier = newStates;
+            reached = newReached;
+        }
+
+        final Word<I> result = target == null ? null : extractWord(target, layers);
+
+        if (target == null) {
+            frontier.recursiveDeref();
+        } else {
+            target.recursiveDeref();
+        }
+        for (BDD layer : layers) {
+            layer.recursiveDeref();
+        }
+        reached.recursiveDeref();
+        zero.recursiveDeref();
+
+        return result;
+    }
+
+    /**
+     * Checks whether this and the given DFA accept the same language.
+     *
+     * @param other
+     *         the other DFA
+     *
+     * @return {@code true} if both DFAs accept the same language, {@code false} otherwise
+     *
+     * @see #findSeparatingWord(SymbolicDFA)
+     */
+    public boolean isEquivalent(SymbolicDFA<I> other) {
+        return findSeparatingWord(other) == null;
+    }
+
+    /**
+     * Returns a shortest word that is accepted by exactly one of this and the given DFA.
+     *
+     * @param other
+     *         the other DFA
+     *
+     * @return a shortest separating word, or {@code null} if both DFAs accept the same language
+     */
+    public @Nullable Word<I> findSeparatingWord(SymbolicDFA<I> other) {
+        final SymbolicDFA<I> product = xor(other);
+        final Word<I> result = product.findAcceptedWord();
+        product.dispose();
+        return result;
+    }
+
+    /**
+     * Constructs the explicit representation of the reachable part of this DFA.
+     *
+     * @return the explicit DFA
+     *
+     * @throws IllegalStateException
+     *         if the number of reachable states exceeds the capacity of a {@link CompactDFA}
+     */
+    public CompactDFA<I> toCompactDFA() {
+        final BDDManager manager = alphabet.getManager();
+        final BDD zero = manager.readLogicZero();
+        final int numInputs = alphabet.size();
+        final CompactDFA<I> result = new CompactDFA<>(alphabet.getAlphabet());
+
+        if (initialState.equals(zero)) {
+            zero.recursiveDeref();
+            return result;
+        }
+
+        final Map<BitSet, Integer> ids = new HashMap<>();
+        final Deque<BitSet> queue = new ArrayDeque<>();
+
+        final boolean[] initBits = SymbolicUtil.pickAssignment(manager, initialState, stateVars);
+        final BitSet init = toBitSet(initBits);
+        ids.put(init, result.addIntInitialState(isAccepting(initBits, zero)));
+        queue.add(init);
+
+        while (!queue.isEmpty()) {
+            final BitSet state = queue.poll();
+            final int stateId = ids.get(state);
+            final BDD stateCube = SymbolicUtil.cube(manager, stateVars, toBooleans(state, stateVars.length));
+            final BDD stateRelation = SymbolicUtil.and(stateCube, transitions.withRef());
+
+            for (int i = 0; i < numInputs; i++) {
+                final BDD relation = stateRelation.and(alphabet.getSymbol(i));
+
+                if (!relation.equals(zero)) {
+                    final boolean[] succBits = SymbolicUtil.pickAssignment(manager, relation, nextStateVars);
+                    final BitSet succ = toBitSet(succBits);
+                    Integer succId = ids.get(succ);
+
+                    if (succId == null) {
+                        succId = result.addIntState(isAccepting(succBits, zero));
+                        ids.put(succ, succId);
+                        queue.add(succ);
+                    }
+
+                    result.setTransition(stateId, i, succId.intValue());
+                }
+
+                relation.recursiveDeref();
+            }
+
+            stateRelation.recursiveDeref();
+        }
+
+        zero.recursiveDeref();
+
+        return result;
+    }
+
+    /**
+     * De-references all BDDs owned by this symbolic DFA. This symbolic DFA must not be used after calling this
+     * method.
+     */
+    public void dispose() {
+        initialState.recursiveDeref();
+        acceptingStates.recursiveDeref();
+        transitions.recursiveDeref();
+    }
+
+    private BDD newStates(BDD frontier, BDD reached) {
+        final BDD image = computeImage(frontier);
+        final BDD notReached = reached.not();
+        return SymbolicUtil.and(image, notReached);
+    }
+
+    private Word<I> extractWord(BDD target, List<BDD> layers) {
+        final BDDManager manager = alphabet.getManager();
+        final int[] inputVars = alphabet.getVariables();
+        final int[] predVars = SymbolicUtil.concat(stateVars, inputVars);
+        final int length = layers.size() - 1;
+
+        @SuppressWarnings("nullness") // we make sure to set each index to a value of type I
+        final WordBuilder<I> wb = new WordBuilder<>(null, length);
+
+        boolean[] state = SymbolicUtil.pickAssignment(manager, target, stateVars);
+
+        for (int j = length - 1; j >= 0; j--) {
+            final BDD succCube = SymbolicUtil.cube(manager, nextStateVars, state);
+            final BDD relation = SymbolicUtil.and(succCube, layers.get(j).and(transitions));
+            final boolean[] assignment = SymbolicUtil.pickAssignment(manager, relation, predVars);
+            relation.recursiveDeref();
+
+            state = Arrays.copyOf(assignment, stateVars.length);
+            final boolean[] input = Arrays.copyOfRange(assignment, stateVars.length, assignment.length);
+            wb.setSymbol(j, alphabet.getAlphabet().getSymbol(SymbolicUtil.toInt(input)));
+        }
+
+        return wb.toWord();
+    }
+
+    private boolean isAccepting(boolean[] state, BDD zero) {
+        final BDD cube = SymbolicUtil.cube(alphabet.getManager(), stateVars, state);
+        final BDD accepting = SymbolicUtil.and(cube, acceptingStates.withRef());
+        final boolean result = !accepting.equals(zero);
+        accepting.recursiveDeref();
+        return result;
+    }
+
+    private static BitSet toBitSet(boolean[] bits) {
+        final BitSet result = new BitSet(bits.length);
+        for (int i = 0; i < bits.length; i++) {
+            result.set(i, bits[i]);
+        }
+        return result;
+    }
+
+    private static boolean[] toBooleans(BitSet bits, int length) {
+        final boolean[] result = new boolean[length];
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            result[i] = true;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,419 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.modelchecker.m3c.symbolic;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+import info.scce.addlib.dd.bdd.BDD;
+import info.scce.addlib.dd.bdd.BDDManager;
+import net.automatalib.common.util.Pair;
+
+/**
+ * Utility methods for encoding (binary) values in {@link BDD}s.
+ * <p>
+ * Unless stated otherwise, all returned {@link BDD}s are referenced and need to be de-referenced by the caller. Methods
+ * that <i>consume</i> their argument de-reference it (and the caller must not use it afterward).
+ */
+final class SymbolicUtil {
+
+    private SymbolicUtil() {
+        // prevent instantiation
+    }
+
+    /**
+     * Returns the number of bits required to binary encode the given number of values.
+     */
+    static int numBits(long numValues) {
+        return numValues <= 1 ? 0 : 64 - Long.numberOfLeadingZeros(numValues - 1);
+    }
+
+    /**
+     * Allocates the given number of fresh variables and returns their indices.
+     */
+    static int[] newVars(BDDManager manager, int numVars) {
+        final int[] result = new int[numVars];
+        for (int i = 0; i < numVars; i++) {
+            result[i] = newVar(manager);
+        }
+        return result;
+    }
+
+    static int newVar(BDDManager manager) {
+        final BDD var = manager.newVar();
+        final int idx = var.readIndex();
+        var.recursiveDeref();
+        return idx;
+    }
+
+    static int[] concat(int[] first, int[] second) {
+        final int[] result = new int[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    /**
+     * Returns the cube (conjunction of literals) that encodes the given value, where {@code vars[i]} represents the
+     * {@code i}-th bit of the value.
+     */
+    static BDD cube(BDDManager manager, int[] vars, long value) {
+        BDD result = manager.readOne();
+        for (int i = vars.length - 1; i >= 0; i--) {
+            result = and(result, literal(manager, vars[i], ((value >>> i) & 1) != 0));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the cube (conjunction of literals) that encodes the given assignment, where {@code vars[i]} is assigned
+     * {@code values[i]}.
+     */
+    static BDD cube(BDDManager manager, int[] vars, boolean[] values) {
+        BDD result = manager.readOne();
+        for (int i = vars.length - 1; i >= 0; i--) {
+            result = and(result, literal(manager, vars[i], values[i]));
+        }
+        return result;
+    }
+
+    private static BDD literal(BDDManager manager, int var, boolean positive) {
+        final BDD v = manager.ithVar(var);
+        if (positive) {
+            return v;
+        }
+        final BDD result = v.not();
+        v.recursiveDeref();
+        return result;
+    }
+
+    /**
+     * Encodes a function from the values {@code [0, numValues)} to {@link BDD}s via a Shannon decomposition over the
+     * given variables. All other values are mapped to {@code false}.
+     */
+    static BDD decompose(BDDManager manager, int[] vars, long numValues, LongFunction<BDD> leaf) {
+        return decompose(manager, vars, vars.length - 1, 0, numValues, leaf);
+    }
+
+    private static BDD decompose(BDDManager manager,
+                                 int[] vars,
+                                 int bit,
+                                 long prefix,
+                                 long numValues,
+                                 LongFunction<BDD> leaf) {
+        if (prefix >= numValues) {
+            return manager.readLogicZero();
+        } else if (bit < 0) {
+            return leaf.apply(prefix);
+        }
+
+        final BDD high = decompose(manager, vars, bit - 1, prefix | (1L << bit), numValues, leaf);
+        final BDD low = decompose(manager, vars, bit - 1, prefix, numValues, leaf);
+        final BDD var = manager.ithVar(vars[bit]);
+        final BDD result = var.ite(high, low);
+
+        var.recursiveDeref();
+        high.recursiveDeref();
+        low.recursiveDeref();
+
+        return result;
+    }
+
+    /**
+     * Computes the conjunction of the two given {@link BDD}s. Consumes both arguments.
+     */
+    static BDD and(BDD left, BDD right) {
+        final BDD result = left.and(right);
+        left.recursiveDeref();
+        right.recursiveDeref();
+        return result;
+    }
+
+    /**
+     * Computes the conjunction of the two given {@link BDD}s and existentially quantifies the given variables in a
+     * single pass (relational product), i.e., without constructing the (potentially large) intermediate conjunction.
+     * Does not consume the given {@link BDD}s.
+     */
+    static BDD andExists(BDDManager manager, BDD left, BDD right, int[] vars) {
+        final Quantifier quantifier = new Quantifier(manager, vars);
+        final BDD result = quantifier.andExists(left, right);
+        quantifier.dispose();
+        return result;
+    }
+
+    /**
+     * Existentially quantifies the given variables in a single pass over the given {@link BDD}. Consumes the given
+     * {@link BDD}.
+     */
+    static BDD exists(BDDManager manager, BDD bdd, int[] vars) {
+        final Quantifier quantifier = new Quantifier(manager, vars);
+        final BDD result = quantifier.exists(bdd);
+        quantifier.dispose();
+        bdd.recursiveDeref();
+        return result;
+    }
+
+    /**
+     * Substitutes each variable {@code from[i]} with the variable {@code to[i]} in a single pass via
+     * {@link BDD#vectorCompose(BDD...) vectorCompose}. The given {@link BDD} must not depend on any of the target
+     * variables. Consumes the given {@link BDD}.
+     */
+    static BDD rename(BDDManager manager, BDD bdd, int[] from, int[] to) {
+        final BDD[] vector = new BDD[numVars(manager)];
+
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = manager.ithVar(i);
+        }
+
+        for (int i = 0; i < from.length; i++) {
+            vector[from[i]].recursiveDeref();
+            vector[from[i]] = manager.ithVar(to[i]);
+        }
+
+        final BDD result = bdd.vectorCompose(vector);
+
+        for (BDD v : vector) {
+            v.recursiveDeref();
+        }
+        bdd.recursiveDeref();
+
+        return result;
+    }
+
+    /**
+     * Returns the number of variables of the given manager. The variable vector of
+     * {@link BDD#vectorCompose(BDD...) vectorCompose} needs to contain an entry for each variable, but the manager
+     * does not expose its size directly. Since {@link BDDManager#readPerm(int)} returns {@code -1} for unknown
+     * variables, the size is determined via a binary search.
+     */
+    private static int numVars(BDDManager manager) {
+        if (manager.readPerm(0) < 0) {
+            return 0;
+        }
+
+        // invariant: readPerm(lower) >= 0 and readPerm(upper) < 0
+        int lower = 0;
+        int upper = 1;
+        while (manager.readPerm(upper) >= 0) {
+            lower = upper;
+            upper <<= 1;
+        }
+
+        while (upper - lower > 1) {
+            final int mid = (lower + upper) >>> 1;
+            if (manager.readPerm(mid) >= 0) {
+                lower = mid;
+            } else {
+                upper = mid;
+            }
+        }
+
+        return upper;
+    }
+
+    /**
+     * Returns an assignment of the given variables that can be extended to a satisfying assignment of the given
+     * (satisfiable) {@link BDD}. Does not consume the given {@link BDD}.
+     */
+    static boolean[] pickAssignment(BDDManager manager, BDD bdd, int[] vars) {
+        final BDD one = manager.readOne();
+        final BDD zero = manager.readLogicZero();
+        final boolean[] result = new boolean[vars.length];
+
+        BDD current = bdd.withRef();
+        for (int i = 0; i < vars.length; i++) {
+            final BDD high = current.compose(one, vars[i]);
+            final BDD next;
+            if (high.equals(zero)) {
+                high.recursiveDeref();
+                next = current.compose(zero, vars[i]);
+            } else {
+                result[i] = true;
+                next = high;
+            }
+            current.recursiveDeref();
+            current = next;
+        }
+
+        current.recursiveDeref();
+        one.recursiveDeref();
+        zero.recursiveDeref();
+
+        return result;
+    }
+
+    static int toInt(boolean[] bits) {
+        int result = 0;
+        for (int i = 0; i < bits.length; i++) {
+            if (bits[i]) {
+                result |= 1 << i;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The backend-agnostic API of addlib does not offer quantification. This class implements existential
+     * quantification (and the relational product) via the usual recursive descent over the nodes of the given
+     * {@link BDD}s, memoizing the results of shared sub-graphs. Sub-graphs whose top variable lies below all quantified
+     * variables are returned as-is.
+     * <p>
+     * All cached {@link BDD}s are referenced and released by {@link #dispose()}.
+     */
+    private static final class Quantifier {
+
+        private final BDDManager manager;
+        private final BitSet quantified;
+        private final int maxLevel;
+        private final BDD one;
+        private final BDD zero;
+        private final Map<BDD, BDD> existsCache;
+        private final Map<Pair<BDD, BDD>, BDD> andExistsCache;
+
+        Quantifier(BDDManager manager, int[] vars) {
+            this.manager = manager;
+            this.quantified = new BitSet();
+
+            int level = -1;
+            for (int var : vars) {
+                this.quantified.set(var);
+                level = Math.max(level, manager.readPerm(var));
+            }
+
+            this.maxLevel = level;
+            this.one = manager.readOne();
+            this.zero = manager.readLogicZero();
+            this.existsCache = new HashMap<>();
+            this.andExistsCache = new HashMap<>();
+        }
+
+        BDD exists(BDD f) {
+            if (f.isConstant() || f.readPerm() > maxLevel) {
+                return f.withRef();
+            }
+
+            final BDD cached = existsCache.get(f);
+            if (cached != null) {
+                return cached.withRef();
+            }
+
+            final int var = f.readIndex();
+            final BDD high = cofactor(f, true);
+            final BDD low = cofactor(f, false);
+            final BDD highResult = exists(high);
+            final BDD result;
+
+            if (quantified.get(var) && highResult.equals(one)) {
+                result = highResult;
+            } else {
+                final BDD lowResult = exists(low);
+                result = combine(var, highResult, lowResult);
+                highResult.recursiveDeref();
+                lowResult.recursiveDeref();
+            }
+
+            high.recursiveDeref();
+            low.recursiveDeref();
+
+            existsCache.put(f, result);
+            return result.withRef();
+        }
+
+        BDD andExists(BDD f, BDD g) {
+            if (f.equals(zero) || g.equals(zero)) {
+                return zero.withRef();
+            } else if (f.equals(one) || f.equals(g)) {
+                return exists(g);
+            } else if (g.equals(one)) {
+                return exists(f);
+            }
+
+            final Pair<BDD, BDD> key = Pair.of(f, g);
+            final BDD cached = andExistsCache.get(key);
+            if (cached != null) {
+                return cached.withRef();
+            }
+
+            final int fLevel = f.isConstant() ? Integer.MAX_VALUE : f.readPerm();
+            final int gLevel = g.isConstant() ? Integer.MAX_VALUE : g.readPerm();
+
+            if (fLevel > maxLevel && gLevel > maxLevel) {
+                return f.and(g);
+            }
+            final int var = fLevel <= gLevel ? f.readIndex() : g.readIndex();
+
+            final BDD fHigh = fLevel <= gLevel ? cofactor(f, true) : f.withRef();
+            final BDD fLow = fLevel <= gLevel ? cofactor(f, false) : f.withRef();
+            final BDD gHigh = gLevel <= fLevel ? cofactor(g, true) : g.withRef();
+            final BDD gLow = gLevel <= fLevel ? cofactor(g, false) : g.withRef();
+
+            final BDD highResult = andExists(fHigh, gHigh);
+            final BDD result;
+
+            if (quantified.get(var) && highResult.equals(one)) {
+                result = highResult;
+            } else {
+                final BDD lowResult = andExists(fLow, gLow);
+                result = combine(var, highResult, lowResult);
+                highResult.recursiveDeref();
+                lowResult.recursiveDeref();
+            }
+
+            fHigh.recursiveDeref();
+            fLow.recursiveDeref();
+            gHigh.recursiveDeref();
+            gLow.recursiveDeref();
+
+            andExistsCache.put(key, result);
+            return result.withRef();
+        }
+
+        void dispose() {
+            for (BDD bdd : existsCache.values()) {
+                bdd.recursiveDeref();
+            }
+            for (BDD bdd : andExistsCache.values()) {
+                bdd.recursiveDeref();
+            }
+            existsCache.clear();
+            andExistsCache.clear();
+            one.recursiveDeref();
+            zero.recursiveDeref();
+        }
+
+        private BDD combine(int var, BDD high, BDD low) {
+            if (quantified.get(var)) {
+                return high.or(low);
+            }
+
+            final BDD v = manager.ithVar(var);
+            final BDD result = v.ite(high, low);
+            v.recursiveDeref();
+            return result;
+        }
+
+        /**
+         * Returns the (referenced) cofactor of the given (non-constant) node w.r.t. its top variable. The children
+         * reported by the backend refer to the regular node, so they need to be negated for complemented edges.
+         */
+        private static BDD cofactor(BDD f, boolean positive) {
+            final BDD child = positive ? f.t() : f.e();
+            return f.isComplement() ? child.not() : child.withRef();
+        }
+    }
+}
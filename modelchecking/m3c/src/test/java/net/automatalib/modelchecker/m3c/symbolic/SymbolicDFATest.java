@@ -0,0 +1,170 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.modelchecker.m3c.symbolic;
+
+import java.util.Random;
+
+import info.scce.addlib.dd.bdd.BDD;
+import info.scce.addlib.dd.bdd.BDDManager;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.fsa.DFAs;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class SymbolicDFATest {
+
+    private static final Alphabet<Integer> ALPHABET = Alphabets.integers(0, 4);
+    private static final int SIZE = 30;
+
+    private BDDManager manager;
+    private SymbolicAlphabet<Integer> alphabet;
+
+    @BeforeClass
+    public void setUp() {
+        this.manager = new BDDManager();
+        this.alphabet = new SymbolicAlphabet<>(manager, ALPHABET);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        this.manager.quit();
+    }
+
+    @Test
+    public void testConversion() {
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 5; i++) {
+            final CompactDFA<Integer> dfa = RandomAutomata.randomDFA(random, SIZE, ALPHABET, false);
+            final SymbolicDFA<Integer> symbolic = SymbolicDFA.fromDFA(alphabet, dfa);
+            final CompactDFA<Integer> explicit = symbolic.toCompactDFA();
+
+            Assert.assertTrue(Automata.testEquivalence(dfa, explicit, ALPHABET));
+        }
+    }
+
+    @Test
+    public void testPartialConversion() {
+        final CompactDFA<Integer> dfa = new CompactDFA<>(ALPHABET);
+        final int q0 = dfa.addIntInitialState(false);
+        final int q1 = dfa.addIntState(true);
+        dfa.setTransition(q0, 0, q1);
+        dfa.setTransition(q1, 1, q0);
+
+        final SymbolicDFA<Integer> symbolic = SymbolicDFA.fromDFA(alphabet, dfa);
+        final CompactDFA<Integer> explicit = symbolic.toCompactDFA();
+
+        Assert.assertEquals(explicit.size(), 3);
+        Assert.assertTrue(Automata.testEquivalence(DFAs.complete(dfa, ALPHABET), explicit, ALPHABET));
+        Assert.assertEquals(symbolic.findAcceptedWord(), Word.fromLetter(0));
+    }
+
+    @Test
+    public void testEmptiness() {
+        final CompactDFA<Integer> uninitialized = new CompactDFA<>(ALPHABET);
+        final SymbolicDFA<Integer> symbolicUninitialized = SymbolicDFA.fromDFA(alphabet, uninitialized);
+
+        Assert.assertTrue(symbolicUninitialized.isEmpty());
+        Assert.assertEquals(symbolicUninitialized.toCompactDFA().size(), 0);
+
+        final CompactDFA<Integer> dfa = new CompactDFA<>(ALPHABET);
+        final int q0 = dfa.addIntInitialState(false);
+        final int q1 = dfa.addIntState(false);
+        final int q2 = dfa.addIntState(true);
+        for (int i = 0; i < ALPHABET.size(); i++) {
+            dfa.setTransition(q0, i, q1);
+            dfa.setTransition(q1, i, q0);
+            dfa.setTransition(q2, i, q2);
+        }
+
+        final SymbolicDFA<Integer> symbolic = SymbolicDFA.fromDFA(alphabet, dfa);
+        Assert.assertTrue(symbolic.isEmpty());
+        Assert.assertFalse(symbolic.complement().isEmpty());
+        Assert.assertEquals(symbolic.complement().findAcceptedWord(), Word.epsilon());
+
+        final BDD reachable = symbolic.computeReachableStates();
+        final BDD reachableAccepting = reachable.and(symbolic.getAcceptingStates());
+        final BDD zero = manager.readLogicZero();
+
+        Assert.assertEquals(reachableAccepting, zero);
+        Assert.assertNotEquals(reachable, zero);
+
+        reachable.recursiveDeref();
+        reachableAccepting.recursiveDeref();
+        zero.recursiveDeref();
+    }
+
+    @Test
+    public void testProducts() {
+        final Random random = new Random(1337);
+
+        for (int i = 0; i < 5; i++) {
+            final CompactDFA<Integer> dfa1 = RandomAutomata.randomDFA(random, SIZE, ALPHABET, false);
+            final CompactDFA<Integer> dfa2 = RandomAutomata.randomDFA(random, SIZE, ALPHABET, false);
+
+            final SymbolicDFA<Integer> sym1 = SymbolicDFA.fromDFA(alphabet, dfa1);
+            final SymbolicDFA<Integer> sym2 = SymbolicDFA.fromDFA(alphabet, dfa2);
+
+            checkEquivalent(sym1.intersection(sym2), DFAs.and(dfa1, dfa2, ALPHABET));
+            checkEquivalent(sym1.union(sym2), DFAs.or(dfa1, dfa2, ALPHABET));
+            checkEquivalent(sym1.xor(sym2), DFAs.xor(dfa1, dfa2, ALPHABET));
+            checkEquivalent(sym1.complement(), DFAs.complement(dfa1, ALPHABET));
+
+            Assert.assertThrows(IllegalArgumentException.class, () -> sym1.intersection(sym1));
+        }
+    }
+
+    @Test
+    public void testEquivalence() {
+        final Random random = new Random(0);
+
+        for (int i = 0; i < 5; i++) {
+            final CompactDFA<Integer> dfa1 = RandomAutomata.randomDFA(random, SIZE, ALPHABET, false);
+            final CompactDFA<Integer> dfa2 = RandomAutomata.randomDFA(random, SIZE, ALPHABET, false);
+
+            final SymbolicDFA<Integer> sym1 = SymbolicDFA.fromDFA(alphabet, dfa1);
+            final SymbolicDFA<Integer> sym2 = SymbolicDFA.fromDFA(alphabet, dfa2);
+            final SymbolicDFA<Integer> sym1Copy = SymbolicDFA.fromDFA(alphabet, new CompactDFA<>(dfa1));
+
+            Assert.assertTrue(sym1.isEquivalent(sym1Copy));
+
+            final Word<Integer> explicitSepWord = Automata.findShortestSeparatingWord(dfa1, dfa2, ALPHABET);
+            final Word<Integer> symbolicSepWord = sym1.findSeparatingWord(sym2);
+
+            if (explicitSepWord == null) {
+                Assert.assertNull(symbolicSepWord);
+            } else {
+                Assert.assertNotNull(symbolicSepWord);
+                Assert.assertEquals(symbolicSepWord.length(), explicitSepWord.length());
+                Assert.assertNotEquals(dfa1.accepts(symbolicSepWord), dfa2.accepts(symbolicSepWord));
+            }
+        }
+    }
+
+    private static void checkEquivalent(SymbolicDFA<Integer> symbolic, DFA<?, Integer> explicit) {
+        final CompactDFA<Integer> converted = symbolic.toCompactDFA();
+        Assert.assertTrue(Automata.testEquivalence(explicit, converted, ALPHABET));
+        Assert.assertEquals(symbolic.isEmpty(), DFAs.acceptsEmptyLanguage(explicit));
+    }
+}
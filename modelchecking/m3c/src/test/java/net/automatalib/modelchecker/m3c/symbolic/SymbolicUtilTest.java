@@ -0,0 +1,160 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.modelchecker.m3c.symbolic;
+
+import java.util.Random;
+
+import info.scce.addlib.dd.bdd.BDD;
+import info.scce.addlib.dd.bdd.BDDManager;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class SymbolicUtilTest {
+
+    private static final int NUM_VARS = 8;
+    private static final int ROUNDS = 50;
+
+    private BDDManager manager;
+    private int[] vars;
+
+    @BeforeClass
+    public void setUp() {
+        this.manager = new BDDManager();
+        this.vars = SymbolicUtil.newVars(manager, NUM_VARS);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        this.manager.quit();
+    }
+
+    @Test
+    public void testExists() {
+        final Random random = new Random(42);
+
+        for (int i = 0; i < ROUNDS; i++) {
+            final BDD bdd = randomBDD(random);
+            final int[] quantified = randomVars(random);
+
+            final BDD expected = existsByCompose(bdd, quantified);
+            final BDD actual = SymbolicUtil.exists(manager, bdd.withRef(), quantified);
+
+            Assert.assertEquals(actual, expected);
+
+            bdd.recursiveDeref();
+            expected.recursiveDeref();
+            actual.recursiveDeref();
+        }
+    }
+
+    @Test
+    public void testAndExists() {
+        final Random random = new Random(1337);
+
+        for (int i = 0; i < ROUNDS; i++) {
+            final BDD left = randomBDD(random);
+            final BDD right = randomBDD(random);
+            final int[] quantified = randomVars(random);
+
+            final BDD conjunction = left.and(right);
+            final BDD expected = existsByCompose(conjunction, quantified);
+            final BDD actual = SymbolicUtil.andExists(manager, left, right, quantified);
+
+            Assert.assertEquals(actual, expected);
+
+            left.recursiveDeref();
+            right.recursiveDeref();
+            conjunction.recursiveDeref();
+            expected.recursiveDeref();
+            actual.recursiveDeref();
+        }
+    }
+
+    @Test
+    public void testRename() {
+        final Random random = new Random(7);
+        final int half = NUM_VARS / 2;
+        final int[] from = new int[half];
+        final int[] to = new int[half];
+
+        for (int i = 0; i < half; i++) {
+            from[i] = vars[half + i];
+            to[i] = vars[i];
+        }
+
+        for (int i = 0; i < ROUNDS; i++) {
+            // only depend on the source variables
+            final BDD bdd = SymbolicUtil.exists(manager, randomBDD(random), to);
+
+            BDD expected = bdd.withRef();
+            for (int j = 0; j < half; j++) {
+                final BDD var = manager.ithVar(to[j]);
+                final BDD renamed = expected.compose(var, from[j]);
+                var.recursiveDeref();
+                expected.recursiveDeref();
+                expected = renamed;
+            }
+
+            final BDD actual = SymbolicUtil.rename(manager, bdd, from, to);
+
+            Assert.assertEquals(actual, expected);
+
+            expected.recursiveDeref();
+            actual.recursiveDeref();
+        }
+    }
+
+    private BDD randomBDD(Random random) {
+        // negate some sub-functions to exercise complemented edges
+        return SymbolicUtil.decompose(manager, vars, 1L << NUM_VARS, v -> {
+            final BDD leaf = random.nextBoolean() ? manager.readOne() : manager.readLogicZero();
+            if (random.nextInt(4) > 0) {
+                return leaf;
+            }
+            final BDD var = manager.ithVar(vars[random.nextInt(NUM_VARS)]);
+            final BDD result = random.nextBoolean() ? var.xor(leaf) : var.and(leaf).not();
+            var.recursiveDeref();
+            leaf.recursiveDeref();
+            return result;
+        });
+    }
+
+    private int[] randomVars(Random random) {
+        return random.ints(random.nextInt(NUM_VARS), 0, NUM_VARS).distinct().map(i -> vars[i]).toArray();
+    }
+
+    private BDD existsByCompose(BDD bdd, int[] quantified) {
+        final BDD one = manager.readOne();
+        final BDD zero = manager.readLogicZero();
+
+        BDD result = bdd.withRef();
+        for (int var : quantified) {
+            final BDD high = result.compose(one, var);
+            final BDD low = result.compose(zero, var);
+            result.recursiveDeref();
+            result = high.or(low);
+            high.recursiveDeref();
+            low.recursiveDeref();
+        }
+
+        one.recursiveDeref();
+        zero.recursiveDeref();
+
+        return result;
+    }
+}
@@ -81,6 +81,37 @@ public final class AUTParsers {
     public static <I, T, @Nullable TP, A extends MutableAutomaton<Integer, I, T, ?, TP>> InputModelDeserializer<I, A> parser(
             Function<String, I> inputTransformer,
             AutomatonCreator<A, I> creator) {
-        return new InternalAUTParser<>(inputTransformer, creator);
+        return parser(inputTransformer, creator, false);
+    }
+
+    /**
+     * Constructs a {@link InputModelDeserializer} that reads an automaton description and writes it into a given
+     * {@link MutableAutomaton}. If {@code parallel} is {@code true}, the transitions of the description are parsed in
+     * chunks by the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, which may speed up reading large
+     * descriptions.
+     *
+     * @param inputTransformer
+     *         the transformer of String representatives to alphabet symbols. In parallel mode, it is only invoked by
+     *         the calling thread
+     * @param creator
+     *         the creator to construct the concrete automaton instance
+     * @param parallel
+     *         whether transitions should be parsed in parallel
+     * @param <I>
+     *         input symbol type
+     * @param <T>
+     *         transition type
+     * @param <TP>
+     *         (nullable) transition property type
+     * @param <A>
+     *         (concrete) automaton type
+     *
+     * @return a {@link InputModelDeserializer} that reads an automaton description
+     */
+    public static <I, T, @Nullable TP, A extends MutableAutomaton<Integer, I, T, ?, TP>> InputModelDeserializer<I, A> parser(
+            Function<String, I> inputTransformer,
+            AutomatonCreator<A, I> creator,
+            boolean parallel) {
+        return new InternalAUTParser<>(inputTransformer, creator, parallel);
     }
 }
@@ -18,261 +18,454 @@ package net.automatalib.serialization.aut;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Function;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.AutomatonCreator;
 import net.automatalib.automaton.MutableAutomaton;
-import net.automatalib.common.util.HashUtil;
 import net.automatalib.common.util.IOUtil;
+import net.automatalib.common.util.array.ArrayStorage;
+import net.automatalib.common.util.array.ArrayUtil;
 import net.automatalib.exception.FormatException;
 import net.automatalib.serialization.InputModelData;
 import net.automatalib.serialization.InputModelDeserializer;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+/**
+ * A parser for the AUT format. Transitions are parsed line by line into growable primitive arrays (using integer ids
+ * for the interned labels). The transition count of the header is only used as a (bounded) hint for the initial
+ * capacity because it cannot be trusted. The automaton is constructed in a second pass over these arrays so that the
+ * alphabet (which is only known after reading the complete file) can be passed to the {@link AutomatonCreator}.
+ * Repeated transitions are only added once.
+ * <p>
+ * In parallel mode, the lines of the file are parsed in chunks by the {@link ForkJoinPool#commonPool() common pool}.
+ * The number of buffered chunks is bounded by the parallelism of the pool.
+ */
 class InternalAUTParser<I, T, @Nullable TP, A extends MutableAutomaton<Integer, I, T, ?, TP>>
         implements InputModelDeserializer<I, A> {
 
+    private static final int CHUNK_SIZE = 1 << 14;
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
     private final Function<String, I> inputTransformer;
     private final AutomatonCreator<A, I> creator;
-    private final Set<String> alphabetSymbols;
-    private final Map<Integer, Map<String, Set<Integer>>> transitionMap;
-
-    private int initialState;
-    private int numStates;
-    private int currentLine;
-    private int currentPos;
+    private final boolean parallel;
 
-    InternalAUTParser(Function<String, I> inputTransformer, AutomatonCreator<A, I> creator) {
+    InternalAUTParser(Function<String, I> inputTransformer, AutomatonCreator<A, I> creator, boolean parallel) {
         this.inputTransformer = inputTransformer;
         this.creator = creator;
-        this.alphabetSymbols = new HashSet<>();
-        this.transitionMap = new HashMap<>();
+        this.parallel = parallel;
     }
 
     @Override
     public InputModelData<I, A> readModel(InputStream is) throws IOException, FormatException {
 
         try (BufferedReader br = new BufferedReader(IOUtil.asNonClosingUTF8Reader(is))) {
+            final String line = br.readLine();
+
+            if (line == null) {
+                throw new FormatException(new LineParser("", 0).buildErrorMessage("Missing description"));
+            }
+
             // parsing
-            parseHeader(br);
-            while (parseTransition(br)) {
-                // consume transitions
+            final LineParser header = new LineParser(line, 0);
+            header.shiftToNextNonWhitespace();
+            header.verifyDesAndShift();
+            header.verifyLBracketAndShift();
+            final int initialState = header.parseNumberAndShift();
+            header.verifyCommaAndShift();
+            final int numTransitions = header.parseNumberAndShift();
+            header.verifyCommaAndShift();
+            final int numStates = header.parseNumberAndShift();
+            if (numStates < 1) {
+                throw new FormatException("Number of states must be >= 1");
+            }
+            if (initialState >= numStates) {
+                throw new FormatException(header.buildErrorMessage("Initial state must be < number of states"));
+            }
+            header.verifyRBracketAndShift();
+
+            final Transitions transitions = new Transitions(numTransitions, numStates);
+
+            if (parallel) {
+                parseParallel(br, transitions);
+            } else {
+                int lineNumber = 1;
+                String l;
+                while ((l = br.readLine()) != null) {
+                    transitions.parse(l, lineNumber++);
+                }
             }
 
             // automaton construction
-            final Map<String, I> inputMap = new HashMap<>(HashUtil.capacity(this.alphabetSymbols.size()));
-            for (String s : this.alphabetSymbols) {
-                inputMap.put(s, inputTransformer.apply(s));
+            final List<I> inputs = new ArrayList<>(transitions.labels.size());
+            for (String s : transitions.labels) {
+                inputs.add(inputTransformer.apply(s));
             }
-            final Alphabet<I> alphabet = Alphabets.fromCollection(inputMap.values());
 
+            final Alphabet<I> alphabet = Alphabets.fromCollection(inputs);
             final A result = creator.createAutomaton(alphabet, numStates);
 
             for (int i = 0; i < numStates; i++) {
                 result.addState();
             }
 
-            for (Map.Entry<Integer, Map<String, Set<Integer>>> outgoing : transitionMap.entrySet()) {
-                final Integer src = outgoing.getKey();
-                for (Map.Entry<String, Set<Integer>> targets : outgoing.getValue().entrySet()) {
-                    final String input = targets.getKey();
-                    final Set<Integer> tgts = targets.getValue();
-                    for (Integer tgt : tgts) {
-                        result.addTransition(src, inputMap.get(input), tgt, null);
-                    }
-                }
-            }
+            addDistinctTransitions(result, inputs, transitions, numStates);
             result.setInitial(initialState, true);
 
             return new InputModelData<>(result, alphabet);
-        } finally {
-            // cleanup
-            initialState = 0;
-            numStates = 0;
-            currentLine = 0;
-            currentPos = 0;
-            alphabetSymbols.clear();
-            transitionMap.clear();
         }
     }
 
-    private void parseHeader(BufferedReader reader) throws IOException, FormatException {
-        final String line = reader.readLine();
+    /**
+     * Adds each distinct transition exactly once. To this end, the transitions are grouped by their source state
+     * (counting sort) and the (label, target) pairs of each group are sorted so that duplicates become adjacent.
+     */
+    private static <I, T, @Nullable TP> void addDistinctTransitions(MutableAutomaton<Integer, I, T, ?, TP> result,
+                                                          List<I> inputs,
+                                                          Transitions transitions,
+                                                          int numStates) {
+        final int[] offsets = new int[numStates + 1];
+        for (int i = 0; i < transitions.size; i++) {
+            offsets[transitions.sources[i] + 1]++;
+        }
+        for (int i = 0; i < numStates; i++) {
+            offsets[i + 1] += offsets[i];
+        }
 
-        if (line == null) {
-            throw new FormatException(buildErrorMessage("Missing description"));
+        final int[] positions = Arrays.copyOf(offsets, numStates);
+        final long[] edges = new long[transitions.size];
+        for (int i = 0; i < transitions.size; i++) {
+            edges[positions[transitions.sources[i]]++] =
+                    ((long) transitions.labelIds[i] << Integer.SIZE) | transitions.targets[i];
         }
 
-        char[] currentLineContent = line.toCharArray();
-        currentPos = 0;
-
-        shiftToNextNonWhitespace(currentLineContent);
-        verifyDesAndShift(currentLineContent);
-        verifyLBracketAndShift(currentLineContent);
-        initialState = parseNumberAndShift(currentLineContent);
-        verifyCommaAndShift(currentLineContent);
-        parseNumberAndShift(currentLineContent); // ignore number of transitions
-        verifyCommaAndShift(currentLineContent);
-        numStates = parseNumberAndShift(currentLineContent); // store number of states
-        if (numStates < 1) {
-            throw new FormatException("Number of states must be >= 1");
+        for (int src = 0; src < numStates; src++) {
+            final int low = offsets[src];
+            final int high = offsets[src + 1];
+            Arrays.sort(edges, low, high);
+
+            for (int i = low; i < high; i++) {
+                final long edge = edges[i];
+                if (i == low || edge != edges[i - 1]) {
+                    result.addTransition(src, inputs.get((int) (edge >>> Integer.SIZE)), (int) edge, null);
+                }
+            }
         }
-        verifyRBracketAndShift(currentLineContent);
     }
 
-    private boolean parseTransition(BufferedReader reader) throws IOException, FormatException {
-        final String line = reader.readLine();
+    private static void parseParallel(BufferedReader reader, Transitions transitions)
+            throws IOException, FormatException {
 
-        if (line == null) {
-            return false;
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        final int maxPending = 2 * pool.getParallelism();
+        final Deque<ForkJoinTask<Transitions>> pending = new ArrayDeque<>(maxPending);
+
+        int lineNumber = 1;
+        boolean eof = false;
+
+        while (!eof || !pending.isEmpty()) {
+            while (!eof && pending.size() < maxPending) {
+                final String[] chunk = new String[CHUNK_SIZE];
+                int numLines = 0;
+                String line;
+
+                while (numLines < CHUNK_SIZE && (line = reader.readLine()) != null) {
+                    chunk[numLines++] = line;
+                }
+
+                eof = numLines < CHUNK_SIZE;
+
+                if (numLines > 0) {
+                    final int firstLine = lineNumber;
+                    final int length = numLines;
+                    final int numStates = transitions.numStates;
+                    pending.add(pool.submit(() -> {
+                        final Transitions local = new Transitions(length, numStates);
+                        for (int i = 0; i < length; i++) {
+                            local.parse(chunk[i], firstLine + i);
+                        }
+                        return local;
+                    }));
+                    lineNumber += numLines;
+                }
+            }
+
+            if (!pending.isEmpty()) {
+                transitions.addAll(join(pending.poll()));
+            }
         }
+    }
 
-        char[] currentLineContent = line.toCharArray();
-        currentLine++;
-        currentPos = 0;
-
-        final int start;
-        final String label;
-        final int dest;
-
-        shiftToNextNonWhitespace(currentLineContent);
-        verifyLBracketAndShift(currentLineContent);
-        start = parseNumberAndShift(currentLineContent);
-        verifyCommaAndShift(currentLineContent);
-        label = parseLabelAndShift(currentLineContent);
-        verifyCommaAndShift(currentLineContent);
-        dest = parseNumberAndShift(currentLineContent);
-        verifyRBracketAndShift(currentLineContent);
-
-        alphabetSymbols.add(label);
-        transitionMap.computeIfAbsent(start, k -> new HashMap<>())
-                     .computeIfAbsent(label, k -> new HashSet<>())
-                     .add(dest);
-
-        return true;
+    private static Transitions join(ForkJoinTask<Transitions> task) throws FormatException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            // the pool may wrap checked exceptions (multiple times)
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof FormatException) {
+                    throw (FormatException) cause;
+                }
+            }
+            throw new IllegalStateException(e.getCause());
+        }
     }
 
-    private void verifyDesAndShift(char[] currentLineContent) throws FormatException {
+    /**
+     * A growable, array-based buffer of transitions with interned labels.
+     */
+    private static final class Transitions {
+
+        private final int numStates;
+        private final Map<String, Integer> labelIndex;
+        private final List<String> labels;
+
+        private int[] sources;
+        private int[] labelIds;
+        private int[] targets;
+        private int size;
+
+        Transitions(int expectedSize, int numStates) {
+            final int capacity =
+                    Math.max(Math.min(expectedSize, MAX_INITIAL_CAPACITY), ArrayStorage.DEFAULT_INITIAL_CAPACITY);
+
+            this.numStates = numStates;
+            this.labelIndex = new HashMap<>();
+            this.labels = new ArrayList<>();
+            this.sources = new int[capacity];
+            this.labelIds = new int[capacity];
+            this.targets = new int[capacity];
+        }
+
+        void parse(String line, int lineNumber) throws FormatException {
+            final LineParser parser = new LineParser(line, lineNumber);
+
+            parser.shiftToNextNonWhitespace();
+            if (parser.isEndOfLine()) {
+                // skip blank lines
+                return;
+            }
+
+            parser.verifyLBracketAndShift();
+            final int src = parser.parseStateAndShift(numStates);
+            parser.verifyCommaAndShift();
+            final String label = parser.parseLabelAndShift();
+            parser.verifyCommaAndShift();
+            final int dest = parser.parseStateAndShift(numStates);
+            parser.verifyRBracketAndShift();
 
-        if (currentLineContent[currentPos] != 'd' || currentLineContent[currentPos + 1] != 'e' ||
-            currentLineContent[currentPos + 2] != 's') {
-            throw new FormatException(buildErrorMessage("Missing 'des' keyword"));
+            add(src, intern(label), dest);
         }
 
-        currentPos += 3;
-        shiftToNextNonWhitespace(currentLineContent);
-    }
+        void addAll(Transitions other) {
+            final int[] mapping = new int[other.labels.size()];
+            for (int i = 0; i < mapping.length; i++) {
+                mapping[i] = intern(other.labels.get(i));
+            }
 
-    private void verifyLBracketAndShift(char[] currentLineContent) throws FormatException {
-        verifySymbolAndShift(currentLineContent, '(');
-    }
+            ensureCapacity(size + other.size);
+            for (int i = 0; i < other.size; i++) {
+                sources[size] = other.sources[i];
+                labelIds[size] = mapping[other.labelIds[i]];
+                targets[size] = other.targets[i];
+                size++;
+            }
+        }
 
-    private void verifyRBracketAndShift(char[] currentLineContent) throws FormatException {
-        verifySymbolAndShift(currentLineContent, ')');
-    }
+        private int intern(String label) {
+            final Integer id = labelIndex.get(label);
+            if (id != null) {
+                return id;
+            }
+
+            final int newId = labels.size();
+            labelIndex.put(label, newId);
+            labels.add(label);
+            return newId;
+        }
+
+        private void add(int src, int label, int dest) {
+            ensureCapacity(size + 1);
+            sources[size] = src;
+            labelIds[size] = label;
+            targets[size] = dest;
+            size++;
+        }
 
-    private void verifyCommaAndShift(char[] currentLineContent) throws FormatException {
-        verifySymbolAndShift(currentLineContent, ',');
+        private void ensureCapacity(int capacity) {
+            if (capacity > sources.length) {
+                final int newCapacity = ArrayUtil.computeNewCapacity(sources.length, capacity);
+                sources = Arrays.copyOf(sources, newCapacity);
+                labelIds = Arrays.copyOf(labelIds, newCapacity);
+                targets = Arrays.copyOf(targets, newCapacity);
+            }
+        }
     }
 
-    private void verifySymbolAndShift(char[] currentLineContent, char symbol) throws FormatException {
+    /**
+     * A parser for a single line of the AUT format.
+     */
+    private static final class LineParser {
+
+        private final String line;
+        private final int lineNumber;
+        private int currentPos;
 
-        if (currentLineContent[currentPos] != symbol) {
-            throw new FormatException(buildErrorMessage("Expected: " + symbol));
+        LineParser(String line, int lineNumber) {
+            this.line = line;
+            this.lineNumber = lineNumber;
         }
 
-        currentPos++;
-        shiftToNextNonWhitespace(currentLineContent);
-    }
+        boolean isEndOfLine() {
+            return currentPos >= line.length();
+        }
 
-    private void shiftToNextNonWhitespace(char[] currentLineContent) {
-        while (currentPos < currentLineContent.length && Character.isWhitespace(currentLineContent[currentPos])) {
-            currentPos++;
+        private char current() {
+            return currentPos < line.length() ? line.charAt(currentPos) : '\0';
+        }
+
+        void verifyDesAndShift() throws FormatException {
+
+            if (!line.startsWith("des", currentPos)) {
+                throw new FormatException(buildErrorMessage("Missing 'des' keyword"));
+            }
+
+            currentPos += 3;
+            shiftToNextNonWhitespace();
         }
-    }
 
-    private int parseNumberAndShift(char[] currentLineContent) throws FormatException {
+        void verifyLBracketAndShift() throws FormatException {
+            verifySymbolAndShift('(');
+        }
+
+        void verifyRBracketAndShift() throws FormatException {
+            verifySymbolAndShift(')');
+        }
 
-        final StringBuilder sb = new StringBuilder();
+        void verifyCommaAndShift() throws FormatException {
+            verifySymbolAndShift(',');
+        }
+
+        private void verifySymbolAndShift(char symbol) throws FormatException {
 
-        char sym = currentLineContent[currentPos];
+            if (current() != symbol) {
+                throw new FormatException(buildErrorMessage("Expected: " + symbol));
+            }
 
-        while (Character.isDigit(sym)) {
-            sb.append(sym);
             currentPos++;
-            sym = currentLineContent[currentPos];
+            shiftToNextNonWhitespace();
         }
 
-        if (sb.length() == 0) {
-            throw new FormatException(buildErrorMessage("Expected a positive number"));
+        void shiftToNextNonWhitespace() {
+            while (currentPos < line.length() && Character.isWhitespace(line.charAt(currentPos))) {
+                currentPos++;
+            }
         }
 
-        // forward pointer
-        shiftToNextNonWhitespace(currentLineContent);
-        return Integer.parseInt(sb.toString());
-    }
+        int parseStateAndShift(int numStates) throws FormatException {
+            final int startPos = currentPos;
+            final int state = parseNumberAndShift();
 
-    private String parseLabelAndShift(char[] currentLineContent) throws FormatException {
+            if (state >= numStates) {
+                currentPos = startPos;
+                throw new FormatException(buildErrorMessage("State must be < number of states"));
+            }
 
-        if (currentLineContent[currentPos] == '"') {
-            return parseQuotedLabelAndShift(currentLineContent);
-        } else {
-            return parseNormalLabelAndShift(currentLineContent);
+            return state;
         }
-    }
 
-    private String parseQuotedLabelAndShift(char[] currentLineContent) {
-        int openingIndex = currentPos;
-        int closingIndex = currentLineContent.length - 1;
+        int parseNumberAndShift() throws FormatException {
+
+            final int startPos = currentPos;
+            long result = 0;
 
-        // find terminating "
-        while (currentLineContent[closingIndex--] != '"') {
-            // consume characters
+            while (Character.isDigit(current())) {
+                result = result * 10 + Character.digit(current(), 10);
+                if (result > Integer.MAX_VALUE) {
+                    throw new FormatException(buildErrorMessage("Number too large"));
+                }
+                currentPos++;
+            }
+
+            if (currentPos == startPos) {
+                throw new FormatException(buildErrorMessage("Expected a positive number"));
+            }
+
+            // forward pointer
+            shiftToNextNonWhitespace();
+            return (int) result;
         }
 
-        // skip terminating " as well
-        currentPos = closingIndex + 2;
-        shiftToNextNonWhitespace(currentLineContent);
+        String parseLabelAndShift() throws FormatException {
 
-        return new String(currentLineContent, openingIndex + 1, closingIndex - openingIndex);
-    }
+            if (current() == '"') {
+                return parseQuotedLabelAndShift();
+            } else {
+                return parseNormalLabelAndShift();
+            }
+        }
 
-    private String parseNormalLabelAndShift(char[] currentLineContent) throws FormatException {
+        private String parseQuotedLabelAndShift() throws FormatException {
+            final int openingIndex = currentPos;
+            // find terminating "
+            final int closingIndex = line.lastIndexOf('"');
 
-        final char firstChar = currentLineContent[currentPos];
+            if (closingIndex == openingIndex) {
+                throw new FormatException(buildErrorMessage("Missing terminating '\"'"));
+            }
 
-        if (currentLineContent[currentPos] == '*') {
-            currentPos++;
-            shiftToNextNonWhitespace(currentLineContent);
-            return "*";
-        } else if (Character.isLetter(firstChar)) {
-            int startIdx = currentPos;
+            // skip terminating " as well
+            currentPos = closingIndex + 1;
+            shiftToNextNonWhitespace();
 
-            while (isValidIdentifier(currentLineContent)) {
+            return line.substring(openingIndex + 1, closingIndex);
+        }
+
+        private String parseNormalLabelAndShift() throws FormatException {
+
+            final char firstChar = current();
+
+            if (firstChar == '*') {
                 currentPos++;
-            }
+                shiftToNextNonWhitespace();
+                return "*";
+            } else if (Character.isLetter(firstChar)) {
+                final int startIdx = currentPos;
+
+                while (isValidIdentifier()) {
+                    currentPos++;
+                }
 
-            int endIdx = currentPos;
+                final int endIdx = currentPos;
 
-            shiftToNextNonWhitespace(currentLineContent);
-            return new String(currentLineContent, startIdx, endIdx - startIdx);
-        } else {
-            throw new FormatException(buildErrorMessage("Invalid unquoted label"));
+                shiftToNextNonWhitespace();
+                return line.substring(startIdx, endIdx);
+            } else {
+                throw new FormatException(buildErrorMessage("Invalid unquoted label"));
+            }
         }
-    }
 
-    private boolean isValidIdentifier(char[] currentLineContent) {
-        final char currentChar = currentLineContent[currentPos];
-        return Character.isLetterOrDigit(currentChar) || currentChar == '_';
-    }
+        private boolean isValidIdentifier() {
+            final char currentChar = current();
+            return Character.isLetterOrDigit(currentChar) || currentChar == '_';
+        }
 
-    private String buildErrorMessage(String desc) {
-        return "In line " + currentLine + ", col " + currentPos + ": " + desc;
+        String buildErrorMessage(String desc) {
+            return "In line " + lineNumber + ", col " + currentPos + ": " + desc;
+        }
     }
 }
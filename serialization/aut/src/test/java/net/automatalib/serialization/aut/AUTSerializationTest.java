@@ -20,22 +20,29 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Random;
 import java.util.Set;
+import java.util.function.Function;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.AutomatonCreator;
 import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.CompactNFA;
 import net.automatalib.automaton.impl.CompactSimpleAutomaton;
 import net.automatalib.automaton.simple.SimpleAutomaton;
 import net.automatalib.common.util.io.UnclosableInputStream;
 import net.automatalib.common.util.io.UnclosableOutputStream;
 import net.automatalib.exception.FormatException;
+import net.automatalib.serialization.InputModelData;
 import net.automatalib.serialization.InputModelDeserializer;
 import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.util.automaton.random.TabakovVardiRandomAutomata;
 import net.automatalib.word.Word;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -118,6 +125,73 @@ public class AUTSerializationTest {
         equalityTest(automaton, deserialized, alphabet);
     }
 
+    @Test
+    public void parallelTest() throws Exception {
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 4);
+        final Random random = new Random(42);
+        // large enough to be split into multiple chunks
+        final CompactNFA<Integer> automaton = TabakovVardiRandomAutomata.generateNFA(random, 10000, 2.5f, 0.5f, alphabet);
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new AUTWriter<Integer>().writeModel(baos, automaton, alphabet);
+        final byte[] bytes = baos.toByteArray();
+
+        final InputModelData<Integer, CompactNFA<Integer>> sequential =
+                AUTParsers.parser(Integer::parseInt, new CompactNFA.Creator<Integer>(), false)
+                          .readModel(new ByteArrayInputStream(bytes));
+        final InputModelData<Integer, CompactNFA<Integer>> parallel =
+                AUTParsers.parser(Integer::parseInt, new CompactNFA.Creator<Integer>(), true)
+                          .readModel(new ByteArrayInputStream(bytes));
+
+        Assert.assertEquals(new HashSet<>(sequential.alphabet), new HashSet<>(alphabet));
+        Assert.assertEquals(parallel.alphabet, sequential.alphabet);
+        Assert.assertEquals(sequential.model.size(), automaton.size());
+        Assert.assertEquals(parallel.model.size(), automaton.size());
+
+        equalityTest(automaton, sequential.model, alphabet);
+        equalityTest(automaton, parallel.model, alphabet);
+
+        // introduce an error in a late chunk
+        final String invalid = new String(bytes, StandardCharsets.UTF_8) + "(0, a, 10000)\n";
+        final InputStream is = new ByteArrayInputStream(invalid.getBytes(StandardCharsets.UTF_8));
+        Assert.assertThrows(FormatException.class,
+                            () -> AUTParsers.parser(Function.identity(), new CompactNFA.Creator<>(), true)
+                                            .readModel(is));
+    }
+
+    @Test
+    public void duplicateTransitionTest() throws Exception {
+        final String aut = "des (0, 5, 2)\n(0, a, 1)\n(0, a, 1)\n(0, b, 1)\n(1, a, 0)\n(0, a, 1)\n";
+        final int[] numTransitions = new int[1];
+
+        final AutomatonCreator<CompactNFA<String>, String> creator = alphabet -> new CompactNFA<>(alphabet) {
+
+            @Override
+            public void addTransition(int stateId, int inputIdx, int succId) {
+                numTransitions[0]++;
+                super.addTransition(stateId, inputIdx, succId);
+            }
+        };
+
+        final CompactNFA<String> automaton = AUTParsers.parser(Function.identity(), creator, false)
+                                                       .readModel(new ByteArrayInputStream(aut.getBytes(
+                                                               StandardCharsets.UTF_8))).model;
+
+        Assert.assertEquals(numTransitions[0], 3);
+        Assert.assertEquals(automaton.getStates(Arrays.asList("a", "a", "b")), Collections.singleton(1));
+    }
+
+    @Test
+    public void untrustedHeaderTest() throws Exception {
+        // the transition count of the header must not be used to allocate buffers
+        final String aut = "des (0, 2000000000, 1)\n(0, a, 0)\n";
+        final SimpleAutomaton<Integer, String> automaton =
+                AUTParsers.parser().readModel(new ByteArrayInputStream(aut.getBytes(StandardCharsets.UTF_8))).model;
+
+        Assert.assertEquals(automaton.size(), 1);
+        Assert.assertEquals(automaton.getStates(Arrays.asList("a", "a")), Collections.singleton(0));
+    }
+
     private <S, I> void equalityTest(SimpleAutomaton<S, I> src, SimpleAutomaton<S, I> target, Alphabet<I> inputs) {
         for (S s : src.getStates()) {
             for (I i : inputs) {
@@ -134,12 +208,14 @@ public class AUTSerializationTest {
              InputStream e2 = AUTSerializationTest.class.getResourceAsStream("/error2.aut");
              InputStream e3 = AUTSerializationTest.class.getResourceAsStream("/error3.aut");
              InputStream e4 = AUTSerializationTest.class.getResourceAsStream("/error4.aut");
-             InputStream e5 = AUTSerializationTest.class.getResourceAsStream("/error5.aut")) {
+             InputStream e5 = AUTSerializationTest.class.getResourceAsStream("/error5.aut");
+             InputStream e6 = AUTSerializationTest.class.getResourceAsStream("/error6.aut")) {
             Assert.assertThrows(FormatException.class, () -> parser.readModel(e1));
             Assert.assertThrows(FormatException.class, () -> parser.readModel(e2));
             Assert.assertThrows(FormatException.class, () -> parser.readModel(e3));
             Assert.assertThrows(FormatException.class, () -> parser.readModel(e4));
             Assert.assertThrows(FormatException.class, () -> parser.readModel(e5));
+            Assert.assertThrows(FormatException.class, () -> parser.readModel(e6));
         }
     }
 
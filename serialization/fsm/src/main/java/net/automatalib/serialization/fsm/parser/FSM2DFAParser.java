@@ -19,11 +19,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.StreamTokenizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
 import java.util.function.Function;
 
 import net.automatalib.alphabet.Alphabet;
@@ -33,7 +35,8 @@ import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.automaton.fsa.MutableDFA;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.common.util.IOUtil;
-import net.automatalib.common.util.Pair;
+import net.automatalib.common.util.array.ArrayStorage;
+import net.automatalib.common.util.array.ArrayUtil;
 import net.automatalib.exception.FormatException;
 import net.automatalib.serialization.ModelDeserializer;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -65,15 +68,39 @@ public final class FSM2DFAParser<I, A extends MutableDFA<Integer, I>> extends Ab
     private int acceptValue = -1;
 
     /**
-     * A sorted map of states indices, and whether they are accepting.
+     * The number of parsed state vectors. States are indexed by their (1-based) line number in the state vector part.
      */
-    private final SortedMap<Integer, Boolean> states = new TreeMap<>();
+    private int numStates;
 
     /**
-     * The map of transitions. Like a {@link DFA}, a transition is a pair of a state
-     * index, and an input, that maps to a next state index.
+     * The (1-based) indices of the accepting states.
      */
-    private final Map<Pair<Integer, I>, Integer> transitions = new HashMap<>();
+    private final BitSet acceptingStates = new BitSet();
+
+    /**
+     * The interned inputs of the transitions.
+     */
+    private final Map<I, Integer> inputIds = new HashMap<>();
+
+    /**
+     * The inputs of the transitions, indexed by their id.
+     */
+    private final List<I> inputList = new ArrayList<>();
+
+    /**
+     * The transitions. Like a {@link DFA}, a transition is a pair of a state index, and an input (id), that maps to a
+     * next state index. Additionally, we store the line of each transition for reporting non-determinism.
+     */
+    private int[] transitionSources = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+    private int[] transitionInputs = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+    private int[] transitionTargets = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+    private int[] transitionLines = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+    private int numTransitions;
+
+    /**
+     * The (1-based) index of the initial state.
+     */
+    private int firstState;
 
     /**
      * The variable name in the data definition that tells whether the state is accepting.
@@ -226,7 +253,8 @@ public final class FSM2DFAParser<I, A extends MutableDFA<Integer, I>> extends Ab
         if (accepting == null) {
             throw new FSMFormatException(String.format(ACCEPT_INDEX_NOT_FOUND, acceptIndex), streamTokenizer);
         } else {
-            states.put(getPartLineNumber(), accepting);
+            numStates = getPartLineNumber();
+            acceptingStates.set(numStates, accepting);
         }
     }
 
@@ -256,7 +284,7 @@ public final class FSM2DFAParser<I, A extends MutableDFA<Integer, I>> extends Ab
             int from = Integer.parseInt(streamTokenizer.sval);
 
             // check if such a state exists
-            if (!states.isEmpty() && !states.containsKey(from)) {
+            if (!isState(from)) {
                 throw new FSMFormatException(String.format(NO_SUCH_STATE, from), streamTokenizer);
             }
 
@@ -269,7 +297,7 @@ public final class FSM2DFAParser<I, A extends MutableDFA<Integer, I>> extends Ab
             int to = Integer.parseInt(streamTokenizer.sval);
 
             // check if such a state exists
-            if (!states.isEmpty() && !states.containsKey(to)) {
+            if (!isState(to)) {
                 throw new FSMFormatException(String.format(NO_SUCH_STATE, to), streamTokenizer);
             }
 
@@ -285,25 +313,89 @@ public final class FSM2DFAParser<I, A extends MutableDFA<Integer, I>> extends Ab
             getInputs().add(input);
 
             // add the new transition
-            final Integer prev = transitions.put(Pair.of(from, input), to);
-            if (prev != null) {
-                throw new FSMFormatException(String.format(NON_DETERMINISM_DETECTED, prev), streamTokenizer);
-            }
+            addTransition(from, input, to, streamTokenizer.lineno());
         } catch (NumberFormatException nfe) {
             throw new FSMFormatException(nfe, streamTokenizer);
         }
     }
 
     /**
-     * Do nothing.
+     * Checks the transitions for non-determinism.
+     *
+     * @throws FSMFormatException
+     *         when there exist two transitions for the same state and input.
      */
     @Override
-    protected void checkTransitions(StreamTokenizer streamTokenizer) {
+    protected void checkTransitions(StreamTokenizer streamTokenizer) throws FormatException {
         // Only if no states are defined we add all from the transitions we found.
         // This is necessary because states are not necessarily defined in FSMs.
-        if (states.isEmpty()) {
-            transitions.keySet().forEach(e -> states.put(e.getFirst(), true));
+        if (numStates == 0) {
+            for (int i = 0; i < numTransitions; i++) {
+                acceptingStates.set(transitionSources[i]);
+            }
+            numStates = acceptingStates.cardinality();
+            firstState = Math.max(acceptingStates.nextSetBit(0), 1);
+        } else {
+            firstState = 1;
+        }
+
+        // group the transitions by their source (stable w.r.t. the order in the file) and check the inputs
+        final int maxState = Math.max(numStates, acceptingStates.length() - 1);
+        final int[] offsets = new int[maxState + 2];
+        for (int i = 0; i < numTransitions; i++) {
+            offsets[transitionSources[i] + 1]++;
+        }
+        ArrayUtil.prefixSum(offsets, 0, offsets.length);
+
+        final int[] order = new int[numTransitions];
+        final int[] positions = Arrays.copyOf(offsets, offsets.length);
+        for (int i = 0; i < numTransitions; i++) {
+            order[positions[transitionSources[i]]++] = i;
+        }
+
+        final int[] lastTransition = new int[inputList.size()];
+        Arrays.fill(lastTransition, -1);
+
+        for (int s = 0; s <= maxState; s++) {
+            for (int j = offsets[s]; j < offsets[s + 1]; j++) {
+                final int t = order[j];
+                final int prev = lastTransition[transitionInputs[t]];
+
+                if (prev >= offsets[s]) {
+                    throw new FSMFormatException(String.format(NON_DETERMINISM_DETECTED,
+                                                               transitionTargets[order[prev]]),
+                                                 transitionLines[t]);
+                }
+                lastTransition[transitionInputs[t]] = j;
+            }
+        }
+    }
+
+    private boolean isState(int state) {
+        return state >= 1 && (numStates == 0 || state <= numStates);
+    }
+
+    private void addTransition(int from, I input, int to, int line) {
+        Integer inputId = inputIds.get(input);
+        if (inputId == null) {
+            inputId = inputList.size();
+            inputIds.put(input, inputId);
+            inputList.add(input);
+        }
+
+        if (numTransitions == transitionSources.length) {
+            final int newCapacity = ArrayUtil.computeNewCapacity(numTransitions, numTransitions + 1);
+            transitionSources = Arrays.copyOf(transitionSources, newCapacity);
+            transitionInputs = Arrays.copyOf(transitionInputs, newCapacity);
+            transitionTargets = Arrays.copyOf(transitionTargets, newCapacity);
+            transitionLines = Arrays.copyOf(transitionLines, newCapacity);
         }
+
+        transitionSources[numTransitions] = from;
+        transitionInputs[numTransitions] = inputId;
+        transitionTargets[numTransitions] = to;
+        transitionLines[numTransitions] = line;
+        numTransitions++;
     }
 
     /**
@@ -318,37 +410,44 @@ public final class FSM2DFAParser<I, A extends MutableDFA<Integer, I>> extends Ab
      */
     private A parseDFA(Reader reader) throws IOException, FormatException {
 
-        parse(reader);
-
-        final Alphabet<I> alphabet;
+        try {
+            parse(reader);
 
-        if (targetInputs != null) {
-            alphabet = Alphabets.fromCollection(targetInputs);
-        } else {
-            alphabet = Alphabets.fromCollection(getInputs());
-        }
+            final Alphabet<I> alphabet;
 
-        final A dfa = creator.createAutomaton(alphabet);
+            if (targetInputs != null) {
+                alphabet = Alphabets.fromCollection(targetInputs);
+            } else {
+                alphabet = Alphabets.fromCollection(getInputs());
+            }
 
-        // add all the states
-        states.forEach((key, value) -> dfa.addState(value));
+            final A dfa = creator.createAutomaton(alphabet, numStates);
 
-        // set the initial state (substract one because the StreamTokenizer starts counting at 1
-        dfa.setInitialState(states.firstKey() - 1);
+            // add all the states (in the order of their indices)
+            for (int i = 0; i < numStates; i++) {
+                dfa.addState(acceptingStates.get(firstState + i));
+            }
 
-        // add all the transitions
-        transitions.entrySet()
-                   .stream()
-                   .filter(e -> alphabet.containsSymbol(e.getKey().getSecond()))
-                   .forEach(e -> dfa.addTransition(e.getKey().getFirst() - 1,
-                                                   e.getKey().getSecond(),
-                                                   e.getValue() - 1));
+            // set the initial state (substract one because the StreamTokenizer starts counting at 1
+            dfa.setInitialState(firstState - 1);
 
-        // clear our state for next parse call
-        states.clear();
-        transitions.clear();
+            // add all the transitions
+            for (int i = 0; i < numTransitions; i++) {
+                final I input = inputList.get(transitionInputs[i]);
+                if (alphabet.containsSymbol(input)) {
+                    dfa.addTransition(transitionSources[i] - 1, input, transitionTargets[i] - 1);
+                }
+            }
 
-        return dfa;
+            return dfa;
+        } finally {
+            // clear our state for next parse call
+            numStates = 0;
+            numTransitions = 0;
+            acceptingStates.clear();
+            inputIds.clear();
+            inputList.clear();
+        }
     }
 
     @Override
@@ -30,6 +30,10 @@ class FSMFormatException extends FormatException {
         super(String.format(MESSAGE, message, streamTokenizer.lineno()));
     }
 
+    FSMFormatException(String message, int line) {
+        super(String.format(MESSAGE, message, line));
+    }
+
     FSMFormatException(Exception e, StreamTokenizer streamTokenizer) {
         super(String.format(MESSAGE, e.getMessage(), streamTokenizer.lineno()));
     }
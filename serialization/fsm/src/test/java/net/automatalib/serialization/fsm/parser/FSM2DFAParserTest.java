@@ -15,8 +15,10 @@
  */
 package net.automatalib.serialization.fsm.parser;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.function.Function;
 
@@ -78,6 +80,27 @@ public class FSM2DFAParserTest extends AbstractFSM2ParserTest {
         }
     }
 
+    @Test
+    public void testErrors() {
+        final String nonDeterministic = "label(2) label \"reject\" \"accept\"\n" + "---\n" + "0\n" + "1\n" + "---\n" +
+                                        "1 2 \"a\"\n" + "2 1 \"a\"\n" + "1 1 \"a\"\n";
+        final String undefinedState = "label(2) label \"reject\" \"accept\"\n" + "---\n" + "0\n" + "1\n" + "---\n" +
+                                      "1 3 \"a\"\n";
+
+        final FormatException e = Assert.expectThrows(FormatException.class,
+                                                      () -> parser.readModel(toInputStream(nonDeterministic)));
+        Assert.assertEquals(e.getMessage(),
+                            String.format(FSMFormatException.MESSAGE,
+                                          String.format(AbstractFSMParser.NON_DETERMINISM_DETECTED, 2),
+                                          8));
+
+        Assert.assertThrows(FormatException.class, () -> parser.readModel(toInputStream(undefinedState)));
+    }
+
+    private static InputStream toInputStream(String string) {
+        return new ByteArrayInputStream(string.getBytes(StandardCharsets.UTF_8));
+    }
+
     @Override
     protected CompactDFA<Character> getParsedAutomaton(@Nullable Collection<Character> requiredInputs)
             throws IOException, FormatException {
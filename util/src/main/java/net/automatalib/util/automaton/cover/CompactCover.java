@@ -0,0 +1,317 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.cover;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import net.automatalib.automaton.DeterministicAutomaton;
+import net.automatalib.common.util.array.ArrayStorage;
+import net.automatalib.common.util.collection.CollectionUtil;
+import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A compact representation of a state or transition cover. Instead of storing a {@link Word} for each cover sequence,
+ * the (breadth-first) spanning tree of the automaton is stored as parent-pointer and input-index arrays and the words
+ * of the cover are only reconstructed on demand, e.g., when {@link #iterator() iterating} or {@link #stream()
+ * streaming} the cover. This allows one to process the covers of very large automata without holding all cover
+ * sequences in memory at once.
+ * <p>
+ * The order of the sequences coincides with the order of the corresponding methods of {@link Covers}.
+ *
+ * @param <I>
+ *         input symbol type
+ *
+ * @see Covers#compactStateCover(DeterministicAutomaton, Collection)
+ * @see Covers#compactTransitionCover(DeterministicAutomaton, Collection)
+ */
+public final class CompactCover<I> implements Iterable<Word<I>> {
+
+    private final List<? extends I> inputs;
+
+    // the spanning tree, i.e., the state cover
+    private final int[] parents;
+    private final int[] symbols;
+
+    // the transitions, if this is a transition cover
+    private final int @Nullable [] transitionSources;
+    private final int @Nullable [] transitionSymbols;
+
+    private final int size;
+
+    private CompactCover(List<? extends I> inputs,
+                         int[] parents,
+                         int[] symbols,
+                         int @Nullable [] transitionSources,
+                         int @Nullable [] transitionSymbols,
+                         int size) {
+        this.inputs = inputs;
+        this.parents = parents;
+        this.symbols = symbols;
+        this.transitionSources = transitionSources;
+        this.transitionSymbols = transitionSymbols;
+        this.size = size;
+    }
+
+    static <S, I> CompactCover<I> compute(DeterministicAutomaton<S, I, ?> automaton,
+                                          Collection<? extends I> inputs,
+                                          boolean transitionCover) {
+        final List<? extends I> inputList = CollectionUtil.randomAccessList(inputs);
+        final int numInputs = inputList.size();
+        final S init = automaton.getInitialState();
+
+        if (init == null) {
+            final int[] empty = new int[0];
+            final int[] transitions = transitionCover ? empty : null;
+            return new CompactCover<>(inputList, empty, empty, transitions, transitions, 0);
+        }
+
+        final MutableMapping<S, @Nullable Integer> reach = automaton.createStaticStateMapping();
+        final List<S> states = new ArrayList<>();
+
+        int[] parents = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+        int[] symbols = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+        int[] transSources = new int[transitionCover ? ArrayStorage.DEFAULT_INITIAL_CAPACITY : 0];
+        int[] transSymbols = new int[transitionCover ? ArrayStorage.DEFAULT_INITIAL_CAPACITY : 0];
+        int numTransitions = 0;
+
+        reach.put(init, 0);
+        states.add(init);
+        parents[0] = -1;
+        symbols[0] = -1;
+
+        // the list of discovered states doubles as the BFS queue
+        for (int curr = 0; curr < states.size(); curr++) {
+            final S state = states.get(curr);
+
+            for (int i = 0; i < numInputs; i++) {
+                final S succ = automaton.getSuccessor(state, inputList.get(i));
+                if (succ == null) {
+                    continue;
+                }
+
+                if (reach.get(succ) == null) {
+                    final int id = states.size();
+                    if (id == parents.length) {
+                        parents = Arrays.copyOf(parents, 2 * id);
+                        symbols = Arrays.copyOf(symbols, 2 * id);
+                    }
+
+                    reach.put(succ, id);
+                    states.add(succ);
+                    parents[id] = curr;
+                    symbols[id] = i;
+                }
+
+                if (transitionCover) {
+                    if (numTransitions == transSources.length) {
+                        transSources = Arrays.copyOf(transSources, 2 * numTransitions);
+                        transSymbols = Arrays.copyOf(transSymbols, 2 * numTransitions);
+                    }
+
+                    transSources[numTransitions] = curr;
+                    transSymbols[numTransitions] = i;
+                    numTransitions++;
+                }
+            }
+        }
+
+        final int numStates = states.size();
+
+        if (transitionCover) {
+            return new CompactCover<>(inputList,
+                                      Arrays.copyOf(parents, numStates),
+                                      Arrays.copyOf(symbols, numStates),
+                                      Arrays.copyOf(transSources, numTransitions),
+                                      Arrays.copyOf(transSymbols, numTransitions),
+                                      numTransitions);
+        }
+
+        return new CompactCover<>(inputList,
+                                  Arrays.copyOf(parents, numStates),
+                                  Arrays.copyOf(symbols, numStates),
+                                  null,
+                                  null,
+                                  numStates);
+    }
+
+    /**
+     * Returns the number of sequences of this cover.
+     *
+     * @return the number of sequences
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the length of the sequence with the given index.
+     *
+     * @param index
+     *         the index of the sequence
+     *
+     * @return the length of the sequence
+     */
+    public int getLength(int index) {
+        if (transitionSources == null) {
+            return depth(checkIndex(index));
+        }
+        return depth(transitionSources[checkIndex(index)]) + 1;
+    }
+
+    /**
+     * Reconstructs the sequence with the given index.
+     *
+     * @param index
+     *         the index of the sequence
+     *
+     * @return the sequence
+     */
+    public Word<I> getWord(int index) {
+        checkIndex(index);
+
+        if (transitionSources == null) {
+            return reconstruct(index, -1);
+        }
+
+        assert transitionSymbols != null;
+        return reconstruct(transitionSources[index], transitionSymbols[index]);
+    }
+
+    /**
+     * Returns a {@link List} view of this cover whose elements are reconstructed on each access.
+     *
+     * @return a list view of this cover
+     */
+    public List<Word<I>> asList() {
+        return new AbstractList<Word<I>>() {
+
+            @Override
+            public Word<I> get(int index) {
+                return getWord(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Word<I>> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @Override
+    public Spliterator<Word<I>> spliterator() {
+        return new CoverSpliterator(0, size);
+    }
+
+    /**
+     * Returns a (sequential) {@link Stream} of the sequences of this cover.
+     *
+     * @return a stream of the sequences of this cover
+     */
+    public Stream<Word<I>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return index;
+    }
+
+    private int depth(int node) {
+        int depth = 0;
+        for (int n = node; parents[n] >= 0; n = parents[n]) {
+            depth++;
+        }
+        return depth;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Word<I> reconstruct(int node, int lastSymbol) {
+        final int depth = depth(node);
+        final int length = lastSymbol < 0 ? depth : depth + 1;
+        final Object[] result = new Object[length];
+
+        if (lastSymbol >= 0) {
+            result[depth] = inputs.get(lastSymbol);
+        }
+
+        int pos = depth;
+        for (int n = node; parents[n] >= 0; n = parents[n]) {
+            result[--pos] = inputs.get(symbols[n]);
+        }
+
+        return Word.fromArray((I[]) result, 0, length);
+    }
+
+    private final class CoverSpliterator implements Spliterator<Word<I>> {
+
+        private int lower;
+        private final int upper;
+
+        CoverSpliterator(int lower, int upper) {
+            this.lower = lower;
+            this.upper = upper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Word<I>> action) {
+            if (lower < upper) {
+                action.accept(getWord(lower++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public @Nullable Spliterator<Word<I>> trySplit() {
+            final int mid = (lower + upper) >>> 1;
+            if (mid <= lower) {
+                return null;
+            }
+            final Spliterator<Word<I>> prefix = new CoverSpliterator(lower, mid);
+            lower = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return upper - lower;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+}
@@ -77,6 +77,26 @@ public final class Covers {
         return new IncrementalStateCoverIterator<>(automaton, inputs, Collections.emptyList());
     }
 
+    /**
+     * Computes a state cover for a given automaton in the form of a {@link CompactCover}, which only reconstructs the
+     * sequences of the cover on demand.
+     *
+     * @param automaton
+     *         the automaton for which the cover should be computed
+     * @param inputs
+     *         the set of input symbols allowed in the cover sequences
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the compact state cover
+     *
+     * @see #stateCover(DeterministicAutomaton, Collection, Collection)
+     */
+    public static <I> CompactCover<I> compactStateCover(DeterministicAutomaton<?, I, ?> automaton,
+                                                        Collection<? extends I> inputs) {
+        return CompactCover.compute(automaton, inputs, false);
+    }
+
     /**
      * Computes a transition cover for a given automaton.
      * <p>
@@ -122,6 +142,26 @@ public final class Covers {
         return new IncrementalTransitionCoverIterator<>(automaton, inputs, Collections.emptyList());
     }
 
+    /**
+     * Computes a transition cover for a given automaton in the form of a {@link CompactCover}, which only reconstructs
+     * the sequences of the cover on demand.
+     *
+     * @param automaton
+     *         the automaton for which the cover should be computed
+     * @param inputs
+     *         the set of input symbols allowed in the cover sequences
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the compact transition cover
+     *
+     * @see #transitionCover(DeterministicAutomaton, Collection, Collection)
+     */
+    public static <I> CompactCover<I> compactTransitionCover(DeterministicAutomaton<?, I, ?> automaton,
+                                                             Collection<? extends I> inputs) {
+        return CompactCover.compute(automaton, inputs, true);
+    }
+
     /**
      * Computes a structural cover for a given automaton.
      * <p>
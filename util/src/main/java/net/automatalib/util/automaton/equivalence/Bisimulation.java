@@ -17,104 +17,144 @@ package net.automatalib.util.automaton.equivalence;
 
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import net.automatalib.automaton.Automaton;
 import net.automatalib.automaton.concept.StateIDs;
 import net.automatalib.common.util.Pair;
-import net.automatalib.common.util.collection.CollectionUtil;
 import net.automatalib.util.partitionrefinement.Valmari;
-import net.automatalib.util.partitionrefinement.Valmari.RefinablePartition;
+import net.automatalib.util.partitionrefinement.ValmariInitializers;
 
+/**
+ * Utility methods for computing the (structural) bisimulation between the states of automata. The computation is based
+ * on {@link Valmari}'s algorithm and ignores state and transition properties.
+ */
 public final class Bisimulation {
 
     private Bisimulation() {
         // prevent instantiation
     }
 
+    /**
+     * Computes the bisimulation equivalence relation between the states of two automata. For large automata, consider
+     * using {@link #bisimulationBlocks(Automaton, Automaton, Collection)} whose result is linear in the number of
+     * states.
+     *
+     * @param a
+     *         the first automaton
+     * @param b
+     *         the second automaton
+     * @param inputs
+     *         the input symbols to consider
+     * @param <AS>
+     *         state type of the first automaton
+     * @param <BS>
+     *         state type of the second automaton
+     * @param <I>
+     *         input symbol type
+     * @param <AT>
+     *         transition type of the first automaton
+     * @param <BT>
+     *         transition type of the second automaton
+     *
+     * @return the set of all pairs of bisimilar states
+     */
     public static <AS, BS, I, AT, BT> Set<Pair<AS, BS>> bisimulationEquivalenceRelation(Automaton<AS, I, AT> a,
                                                                                         Automaton<BS, I, BT> b,
                                                                                         Collection<? extends I> inputs) {
 
-        final List<? extends I> alphabet = CollectionUtil.randomAccessList(inputs);
         final StateIDs<AS> aIDs = a.stateIDs();
         final StateIDs<BS> bIDs = b.stateIDs();
-
-        // set up valmari data
         final int n1 = a.size();
         final int n2 = b.size();
-        final int k = alphabet.size();
-        int m = 0;
 
-        for (I i : alphabet) {
-            for (AS as : a) {
-                m += a.getTransitions(as, i).size();
-            }
-            for (BS bs : b) {
-                m += b.getTransitions(bs, i).size();
-            }
+        final int[] blocks = computeBlocks(ValmariInitializers.initializeBisimulation(a, b, inputs));
+
+        // group the states of b by their blocks (counting sort)
+        int numBlocks = 0;
+        for (int block : blocks) {
+            numBlocks = Math.max(numBlocks, block + 1);
         }
 
-        final int[] tail = new int[m];
-        final int[] label = new int[m];
-        final int[] head = new int[m];
-
-        int cnt = 0;
-        for (int i = 0; i < k; i++) {
-            final I sym = alphabet.get(i);
-            for (int j = 0; j < n1; j++) {
-                final AS as = aIDs.getState(j);
-                for (AT t : a.getTransitions(as, sym)) {
-                    tail[cnt] = j;
-                    label[cnt] = i;
-                    head[cnt] = aIDs.getStateId(a.getSuccessor(t));
-                    cnt++;
-                }
-            }
-            for (int j = 0; j < n2; j++) {
-                final BS bs = bIDs.getState(j);
-                for (BT t : b.getTransitions(bs, sym)) {
-                    tail[cnt] = j + n1;
-                    label[cnt] = i;
-                    head[cnt] = bIDs.getStateId(b.getSuccessor(t)) + n1;
-                    cnt++;
-                }
-            }
+        final int[] offsets = new int[numBlocks + 1];
+        for (int j = 0; j < n2; j++) {
+            offsets[blocks[n1 + j] + 1]++;
+        }
+        for (int i = 1; i <= numBlocks; i++) {
+            offsets[i] += offsets[i - 1];
         }
 
-        // compute bisimulation relation
-        final Valmari valmari = new Valmari(new int[n1 + n2], tail, label, head);
-        valmari.computeCoarsestStablePartition();
-        final RefinablePartition blocks = valmari.blocks;
+        final int[] bStates = new int[n2];
+        final int[] pos = offsets.clone();
+        for (int j = 0; j < n2; j++) {
+            bStates[pos[blocks[n1 + j]]++] = j;
+        }
 
         // extract result
         final Set<Pair<AS, BS>> result = new HashSet<>();
 
-        for (int block = 0; block <= blocks.sets; block++) {
-            final int size = blocks.end[block] - blocks.first[block];
-            final int[] elems = new int[size];
-            int low = 0;
-            int mid = 0;
-            int high = size;
-            for (int i = blocks.first[block]; i < blocks.end[block]; i++) {
-                final int e = blocks.elems[i];
-                if (e < n1) { // a states to the left
-                    elems[low++] = e;
-                    mid++;
-                } else { // b states to the right
-                    elems[--high] = e;
-                }
-            }
-
-            // cartesian product on mid
-            for (int i = 0; i < mid; i++) {
-                for (int j = size - 1; j >= mid; j--) {
-                    result.add(Pair.of(aIDs.getState(elems[i]), bIDs.getState(elems[j] - n1)));
-                }
+        for (int i = 0; i < n1; i++) {
+            final int block = blocks[i];
+            final AS as = aIDs.getState(i);
+            for (int j = offsets[block]; j < offsets[block + 1]; j++) {
+                result.add(Pair.of(as, bIDs.getState(bStates[j])));
             }
         }
 
         return result;
     }
+
+    /**
+     * Computes the bisimulation between the states of two automata and returns it in form of a block assignment. The
+     * returned array has a length of {@code a.size() + b.size()}. For each state of {@code a} with (state) id {@code i},
+     * its block is stored at index {@code i}. For each state of {@code b} with (state) id {@code j}, its block is stored
+     * at index {@code a.size() + j}. Two states are bisimilar iff they are assigned the same block.
+     * <p>
+     * If an automaton is backed by an {@link net.automatalib.automaton.base.AbstractCompactSimpleNondet}, its
+     * transitions are directly read from the underlying successor storage.
+     *
+     * @param a
+     *         the first automaton
+     * @param b
+     *         the second automaton
+     * @param inputs
+     *         the input symbols to consider
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the block assignment of the states of both automata
+     *
+     * @see StateIDs
+     */
+    public static <I> int[] bisimulationBlocks(Automaton<?, I, ?> a,
+                                               Automaton<?, I, ?> b,
+                                               Collection<? extends I> inputs) {
+        return computeBlocks(ValmariInitializers.initializeBisimulation(a, b, inputs)).clone();
+    }
+
+    /**
+     * Computes the bisimulation between the states of a single automaton and returns it in form of a block assignment.
+     * The returned array has a length of {@code automaton.size()} and stores for each state id the block of the
+     * respective state. Two states are bisimilar iff they are assigned the same block.
+     *
+     * @param automaton
+     *         the automaton
+     * @param inputs
+     *         the input symbols to consider
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the block assignment of the states of the automaton
+     *
+     * @see #bisimulationBlocks(Automaton, Automaton, Collection)
+     */
+    public static <I> int[] bisimulationBlocks(Automaton<?, I, ?> automaton, Collection<? extends I> inputs) {
+        return computeBlocks(ValmariInitializers.initializeBisimulation(automaton, inputs)).clone();
+    }
+
+    // returns the internal block assignment of the data structure, which must not be exposed to callers
+    private static int[] computeBlocks(Valmari valmari) {
+        valmari.computeCoarsestStablePartition();
+        return valmari.blocks.sidx;
+    }
 }
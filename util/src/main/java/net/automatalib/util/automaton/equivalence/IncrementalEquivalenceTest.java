@@ -0,0 +1,671 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.equivalence;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.common.util.array.ArrayStorage;
+import net.automatalib.common.util.collection.CollectionUtil;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An incremental variant of the {@link NearLinearEquivalenceTest} for repeatedly checking (evolving) hypotheses against
+ * a fixed reference automaton, as is common in active automata learning.
+ * <p>
+ * The reference automaton is translated into an int-indexed representation once upon construction. For each checked
+ * hypothesis, this class stores an int-indexed snapshot as well as the explored pairs of (reference, hypothesis) states
+ * that constitute the equivalence certificate of Hopcroft and Karp's algorithm (i.e., a bisimulation up to
+ * equivalence) together with its union-find structure. On subsequent checks, the (state, input) slots of the hypothesis
+ * whose successor or transition property changed since the previous snapshot are determined and
+ * <ul>
+ *     <li>the pairs that have been discovered via a changed slot (and the pairs discovered from them) are removed from
+ *     the certificate, so that the access sequences of all remaining pairs stay valid,</li>
+ *     <li>only the union-find classes that contained a removed pair are rebuilt (from the remaining pairs), and</li>
+ *     <li>only the pairs whose hypothesis state has changed or that have a successor in a rebuilt class are checked
+ *     again.</li>
+ * </ul>
+ * Pairs that have not been fully checked (e.g., because a previous check returned a counterexample) are kept and
+ * checked first. As a result, only the changed region of the hypothesis is re-explored. Apart from the re-exploration,
+ * removing pairs requires a pass over the certificate and the union-find structure, which is linear in the number of
+ * states but does not depend on the size of the input alphabet.
+ * <p>
+ * Changes are detected by comparing the hypothesis against the stored snapshot. By default, every state of the
+ * hypothesis is compared. If the caller knows which states have changed (as is usually the case for learning
+ * algorithms), {@link #findSeparatingWord(UniversalDeterministicAutomaton, Collection)} restricts the comparison to
+ * these states (and the newly added ones). Hypothesis states are identified by their {@link StateIDs state ids}, which
+ * should therefore remain stable between refinements (as is, e.g., the case for the compact automaton
+ * implementations). If the hypothesis shrinks or its initial state changes, the certificate is discarded.
+ * <p>
+ * Instances of this class are not thread-safe.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+@SuppressWarnings("PMD.TestClassWithoutTestCases") // not a traditional test class
+public final class IncrementalEquivalenceTest<I> {
+
+    private static final int UNDEFINED = -1;
+
+    private final List<? extends I> inputs;
+    private final int numInputs;
+    private final boolean ignoreUndefinedTransitions;
+
+    // reference
+    private final int refSize;
+    private final int refInit;
+    private final int[] refSuccessors;
+    private final @Nullable Object[] refStateProperties;
+    private final @Nullable Object[] refTransitionProperties;
+    // the predecessors of reference state r are stored at the indices refPredOffsets[r] to refPredOffsets[r + 1]
+    private final int[] refPredOffsets;
+    private final int[] refPredecessors;
+
+    // hypothesis snapshot
+    private int hypSize;
+    private int hypInit;
+    private int[] hypSuccessors;
+    private @Nullable Object[] hypStateProperties;
+    private @Nullable Object[] hypTransitionProperties;
+
+    // certificate (explored pairs, each pair is stored after its predecessor pair)
+    private int numPairs;
+    private int[] pairRef;
+    private int[] pairHyp;
+    private int[] pairPred;
+    private int[] pairSym;
+
+    // intrusive lists of the pairs per reference/hypothesis state
+    private final int[] firstByRef;
+    private int[] firstByHyp;
+    private int[] nextByRef;
+    private int[] nextByHyp;
+
+    // pairs that still need to be checked (ring buffer)
+    private BitSet pending;
+    private int[] queue;
+    private int queueHead;
+    private int queueSize;
+
+    // union-find over reference states [0, refSize) and hypothesis states [refSize, refSize + hypSize)
+    private int[] parent;
+
+    /**
+     * Constructor. Undefined transitions are considered to distinguish states.
+     *
+     * @param reference
+     *         the reference automaton
+     * @param inputs
+     *         the input symbols to consider
+     * @param <S>
+     *         state type
+     * @param <T>
+     *         transition type
+     */
+    public <S, T> IncrementalEquivalenceTest(UniversalDeterministicAutomaton<S, I, T, ?, ?> reference,
+                                             Collection<? extends I> inputs) {
+        this(reference, inputs, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param reference
+     *         the reference automaton
+     * @param inputs
+     *         the input symbols to consider
+     * @param ignoreUndefinedTransitions
+     *         if {@code true}, undefined transitions are not considered to distinguish two states, if {@code false} an
+     *         undefined and defined transition are considered to distinguish two states
+     * @param <S>
+     *         state type
+     * @param <T>
+     *         transition type
+     */
+    public <S, T> IncrementalEquivalenceTest(UniversalDeterministicAutomaton<S, I, T, ?, ?> reference,
+                                             Collection<? extends I> inputs,
+                                             boolean ignoreUndefinedTransitions) {
+        this.inputs = CollectionUtil.randomAccessList(inputs);
+        this.numInputs = this.inputs.size();
+        this.ignoreUndefinedTransitions = ignoreUndefinedTransitions;
+
+        this.refSize = reference.size();
+        this.refSuccessors = new int[refSize * numInputs];
+        this.refStateProperties = new Object[refSize];
+        this.refTransitionProperties = new Object[refSize * numInputs];
+
+        final StateIDs<S> ids = reference.stateIDs();
+        final S init = reference.getInitialState();
+        this.refInit = init == null ? UNDEFINED : ids.getStateId(init);
+
+        this.refPredOffsets = new int[refSize + 1];
+
+        for (int r = 0; r < refSize; r++) {
+            final S s = ids.getState(r);
+            refStateProperties[r] = reference.getStateProperty(s);
+
+            for (int i = 0; i < numInputs; i++) {
+                final int idx = r * numInputs + i;
+                final T t = reference.getTransition(s, this.inputs.get(i));
+
+                if (t == null) {
+                    refSuccessors[idx] = UNDEFINED;
+                } else {
+                    final int succ = ids.getStateId(reference.getSuccessor(t));
+                    refSuccessors[idx] = succ;
+                    refTransitionProperties[idx] = reference.getTransitionProperty(t);
+                    refPredOffsets[succ + 1]++;
+                }
+            }
+        }
+
+        for (int r = 0; r < refSize; r++) {
+            refPredOffsets[r + 1] += refPredOffsets[r];
+        }
+
+        this.refPredecessors = new int[refPredOffsets[refSize]];
+        final int[] pos = Arrays.copyOf(refPredOffsets, refSize);
+
+        for (int idx = 0; idx < refSuccessors.length; idx++) {
+            final int succ = refSuccessors[idx];
+            if (succ != UNDEFINED) {
+                refPredecessors[pos[succ]++] = idx / numInputs;
+            }
+        }
+
+        this.hypInit = UNDEFINED;
+        this.hypSuccessors = new int[0];
+        this.hypStateProperties = new Object[0];
+        this.hypTransitionProperties = new Object[0];
+
+        this.pairRef = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+        this.pairHyp = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+        this.pairPred = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+        this.pairSym = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+        this.nextByRef = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+        this.nextByHyp = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+        this.queue = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+        this.pending = new BitSet();
+
+        this.firstByRef = new int[refSize];
+        this.firstByHyp = new int[0];
+        Arrays.fill(firstByRef, UNDEFINED);
+
+        this.parent = new int[refSize];
+        resetUnionFind();
+    }
+
+    /**
+     * Searches for a word that separates the reference automaton from the given hypothesis, re-using the results of
+     * previous invocations where possible. All states of the hypothesis are compared against the stored snapshot in
+     * order to detect changes.
+     *
+     * @param hypothesis
+     *         the hypothesis to check
+     * @param <S>
+     *         state type
+     * @param <T>
+     *         transition type
+     *
+     * @return a word separating the reference automaton and the hypothesis, or {@code null} if they are equivalent
+     */
+    public <S, T> @Nullable Word<I> findSeparatingWord(UniversalDeterministicAutomaton<S, I, T, ?, ?> hypothesis) {
+        return findSeparatingWordInternal(hypothesis, null);
+    }
+
+    /**
+     * Searches for a word that separates the reference automaton from the given hypothesis, re-using the results of
+     * previous invocations where possible. Only the given states and the states that have been added since the
+     * previous invocation are compared against the stored snapshot in order to detect changes.
+     *
+     * @param hypothesis
+     *         the hypothesis to check
+     * @param changedStates
+     *         the states of the hypothesis whose state property or outgoing transitions (successors or transition
+     *         properties) may have changed since the previous invocation. Changes to any other (previously existing)
+     *         state are not detected
+     * @param <S>
+     *         state type
+     * @param <T>
+     *         transition type
+     *
+     * @return a word separating the reference automaton and the hypothesis, or {@code null} if they are equivalent
+     */
+    public <S, T> @Nullable Word<I> findSeparatingWord(UniversalDeterministicAutomaton<S, I, T, ?, ?> hypothesis,
+                                                       Collection<? extends S> changedStates) {
+        return findSeparatingWordInternal(hypothesis, changedStates);
+    }
+
+    private <S, T> @Nullable Word<I> findSeparatingWordInternal(UniversalDeterministicAutomaton<S, I, T, ?, ?> hypothesis,
+                                                                @Nullable Collection<? extends S> changedStates) {
+
+        final int oldSize = hypSize;
+        final int oldInit = hypInit;
+        final BitSet changedStateIds = new BitSet();
+        final BitSet changedSlots = new BitSet();
+
+        updateSnapshot(hypothesis, changedStates, changedStateIds, changedSlots);
+        growUnionFind();
+
+        if (refInit == UNDEFINED || hypInit == UNDEFINED) {
+            clearCertificate();
+            if (refInit == UNDEFINED && hypInit == UNDEFINED) {
+                return null;
+            }
+            return ignoreUndefinedTransitions ? null : Word.epsilon();
+        }
+
+        if (numPairs == 0 || hypSize < oldSize || hypInit != oldInit) {
+            clearCertificate();
+            union(refInit, hypInit + refSize);
+            enqueue(addPair(refInit, hypInit, UNDEFINED, UNDEFINED));
+        } else {
+            update(changedStateIds, changedSlots);
+        }
+
+        return explore();
+    }
+
+    private @Nullable Word<I> explore() {
+        while (queueSize > 0) {
+            final int p = queue[queueHead];
+            final int r = pairRef[p];
+            final int h = pairHyp[p];
+
+            // the pair remains in the queue until it has been checked completely
+            if (!Objects.equals(refStateProperties[r], hypStateProperties[h])) {
+                return separatingWord(p, UNDEFINED);
+            }
+
+            for (int i = 0; i < numInputs; i++) {
+                final int refIdx = r * numInputs + i;
+                final int hypIdx = h * numInputs + i;
+                final int refSucc = refSuccessors[refIdx];
+                final int hypSucc = hypSuccessors[hypIdx];
+
+                if (refSucc == UNDEFINED || hypSucc == UNDEFINED) {
+                    if (ignoreUndefinedTransitions || refSucc == hypSucc) {
+                        continue;
+                    }
+                    return separatingWord(p, i);
+                }
+
+                if (!Objects.equals(refTransitionProperties[refIdx], hypTransitionProperties[hypIdx])) {
+                    return separatingWord(p, i);
+                }
+
+                if (union(refSucc, hypSucc + refSize)) {
+                    enqueue(addPair(refSucc, hypSucc, p, i));
+                }
+            }
+
+            queueHead = (queueHead + 1) % queue.length;
+            queueSize--;
+            pending.clear(p);
+        }
+
+        return null;
+    }
+
+    /**
+     * Updates the stored snapshot of the hypothesis and collects the (ids of the) hypothesis states whose state
+     * property, transitions or transition properties have changed since the last snapshot as well as the changed
+     * (state, input) slots. If {@code changedStates} is {@code null}, all states are compared.
+     */
+    private <S, T> void updateSnapshot(UniversalDeterministicAutomaton<S, I, T, ?, ?> hypothesis,
+                                       @Nullable Collection<? extends S> changedStates,
+                                       BitSet changedStateIds,
+                                       BitSet changedSlots) {
+        final int oldSize = hypSize;
+        final int newSize = hypothesis.size();
+        final StateIDs<S> ids = hypothesis.stateIDs();
+
+        if (newSize > hypStateProperties.length) {
+            final int newCapacity = Math.max(newSize, hypStateProperties.length * 2);
+            hypStateProperties = Arrays.copyOf(hypStateProperties, newCapacity);
+            hypSuccessors = Arrays.copyOf(hypSuccessors, newCapacity * numInputs);
+            hypTransitionProperties = Arrays.copyOf(hypTransitionProperties, newCapacity * numInputs);
+
+            final int oldCapacity = firstByHyp.length;
+            firstByHyp = Arrays.copyOf(firstByHyp, newCapacity);
+            Arrays.fill(firstByHyp, oldCapacity, newCapacity, UNDEFINED);
+        }
+
+        if (changedStates == null || newSize < oldSize) {
+            for (int h = 0; h < newSize; h++) {
+                updateRow(hypothesis, ids.getState(h), h, changedStateIds, changedSlots);
+            }
+        } else {
+            for (S s : changedStates) {
+                final int h = ids.getStateId(s);
+                if (h < oldSize) {
+                    updateRow(hypothesis, s, h, changedStateIds, changedSlots);
+                }
+            }
+            for (int h = oldSize; h < newSize; h++) {
+                updateRow(hypothesis, ids.getState(h), h, changedStateIds, changedSlots);
+            }
+        }
+
+        hypSize = newSize;
+
+        final S init = hypothesis.getInitialState();
+        hypInit = init == null ? UNDEFINED : ids.getStateId(init);
+    }
+
+    private <S, T> void updateRow(UniversalDeterministicAutomaton<S, I, T, ?, ?> hypothesis,
+                                  S s,
+                                  int h,
+                                  BitSet changedStateIds,
+                                  BitSet changedSlots) {
+        final StateIDs<S> ids = hypothesis.stateIDs();
+        final Object sp = hypothesis.getStateProperty(s);
+
+        if (!Objects.equals(sp, hypStateProperties[h])) {
+            hypStateProperties[h] = sp;
+            changedStateIds.set(h);
+        }
+
+        for (int i = 0; i < numInputs; i++) {
+            final int idx = h * numInputs + i;
+            final T t = hypothesis.getTransition(s, inputs.get(i));
+            final int succ;
+            final Object tp;
+
+            if (t == null) {
+                succ = UNDEFINED;
+                tp = null;
+            } else {
+                succ = ids.getStateId(hypothesis.getSuccessor(t));
+                tp = hypothesis.getTransitionProperty(t);
+            }
+
+            if (succ != hypSuccessors[idx] || !Objects.equals(tp, hypTransitionProperties[idx])) {
+                hypSuccessors[idx] = succ;
+                hypTransitionProperties[idx] = tp;
+                changedStateIds.set(h);
+                changedSlots.set(idx);
+            }
+        }
+    }
+
+    /**
+     * Adapts the certificate to the given changes of the hypothesis, see the class documentation.
+     */
+    private void update(BitSet changedStateIds, BitSet changedSlots) {
+
+        boolean explored = false;
+        for (int h = changedStateIds.nextSetBit(0); h >= 0; h = changedStateIds.nextSetBit(h + 1)) {
+            if (firstByHyp[h] != UNDEFINED) {
+                explored = true;
+                break;
+            }
+        }
+
+        // all changes happened in the unexplored region of the hypothesis
+        if (!explored) {
+            return;
+        }
+
+        if (!changedSlots.isEmpty()) {
+            removeStalePairs(changedSlots);
+        }
+
+        for (int h = changedStateIds.nextSetBit(0); h >= 0; h = changedStateIds.nextSetBit(h + 1)) {
+            for (int p = firstByHyp[h]; p != UNDEFINED; p = nextByHyp[p]) {
+                enqueue(p);
+            }
+        }
+    }
+
+    /**
+     * Removes all pairs that have been discovered via a changed slot or whose predecessor pair has been removed,
+     * rebuilds the affected classes of the union-find structure, and schedules all pairs for re-checking whose checks
+     * may have depended on the removed pairs.
+     */
+    private void removeStalePairs(BitSet changedSlots) {
+        final int[] remap = new int[numPairs];
+        int kept = 0;
+
+        for (int p = 0; p < numPairs; p++) {
+            final int pred = pairPred[p];
+
+            if (pred != UNDEFINED &&
+                (remap[pred] == UNDEFINED || changedSlots.get(pairHyp[pred] * numInputs + pairSym[p]))) {
+                remap[p] = UNDEFINED;
+            } else {
+                remap[p] = kept++;
+            }
+        }
+
+        if (kept == numPairs) {
+            return;
+        }
+
+        // determine the classes that contained a removed pair (before modifying the union-find structure)
+        final BitSet brokenRoots = new BitSet();
+        for (int p = 0; p < numPairs; p++) {
+            if (remap[p] == UNDEFINED) {
+                brokenRoots.set(find(pairRef[p]));
+            }
+        }
+
+        final int numElements = refSize + hypSize;
+        final BitSet brokenElements = new BitSet(numElements);
+        for (int x = 0; x < numElements; x++) {
+            if (brokenRoots.get(find(x))) {
+                brokenElements.set(x);
+            }
+        }
+
+        // the broken classes are closed under the parent relation, so they can be reset independently
+        for (int x = brokenElements.nextSetBit(0); x >= 0; x = brokenElements.nextSetBit(x + 1)) {
+            parent[x] = x;
+        }
+
+        // compact the certificate
+        final BitSet newPending = new BitSet(kept);
+        Arrays.fill(firstByRef, UNDEFINED);
+        Arrays.fill(firstByHyp, 0, hypSize, UNDEFINED);
+
+        for (int p = 0; p < numPairs; p++) {
+            final int q = remap[p];
+            if (q == UNDEFINED) {
+                continue;
+            }
+
+            final int pred = pairPred[p];
+            pairRef[q] = pairRef[p];
+            pairHyp[q] = pairHyp[p];
+            pairPred[q] = pred == UNDEFINED ? UNDEFINED : remap[pred];
+            pairSym[q] = pairSym[p];
+            link(q);
+
+            if (pending.get(p)) {
+                newPending.set(q);
+            }
+
+            if (brokenElements.get(pairRef[q])) {
+                union(pairRef[q], pairHyp[q] + refSize);
+            }
+        }
+
+        numPairs = kept;
+        pending = new BitSet(kept);
+        queueHead = 0;
+        queueSize = 0;
+
+        for (int p = newPending.nextSetBit(0); p >= 0; p = newPending.nextSetBit(p + 1)) {
+            enqueue(p);
+        }
+
+        // re-check the pairs whose successors may have only been related via a removed pair
+        for (int r = brokenElements.nextSetBit(0); r >= 0 && r < refSize; r = brokenElements.nextSetBit(r + 1)) {
+            for (int k = refPredOffsets[r]; k < refPredOffsets[r + 1]; k++) {
+                for (int p = firstByRef[refPredecessors[k]]; p != UNDEFINED; p = nextByRef[p]) {
+                    enqueue(p);
+                }
+            }
+        }
+    }
+
+    private void clearCertificate() {
+        numPairs = 0;
+        pending.clear();
+        queueHead = 0;
+        queueSize = 0;
+        Arrays.fill(firstByRef, UNDEFINED);
+        Arrays.fill(firstByHyp, UNDEFINED);
+        resetUnionFind();
+    }
+
+    private int addPair(int ref, int hyp, int pred, int sym) {
+        if (numPairs == pairRef.length) {
+            final int newCapacity = pairRef.length * 2;
+            pairRef = Arrays.copyOf(pairRef, newCapacity);
+            pairHyp = Arrays.copyOf(pairHyp, newCapacity);
+            pairPred = Arrays.copyOf(pairPred, newCapacity);
+            pairSym = Arrays.copyOf(pairSym, newCapacity);
+            nextByRef = Arrays.copyOf(nextByRef, newCapacity);
+            nextByHyp = Arrays.copyOf(nextByHyp, newCapacity);
+        }
+
+        final int p = numPairs++;
+        pairRef[p] = ref;
+        pairHyp[p] = hyp;
+        pairPred[p] = pred;
+        pairSym[p] = sym;
+        link(p);
+
+        return p;
+    }
+
+    private void link(int p) {
+        nextByRef[p] = firstByRef[pairRef[p]];
+        firstByRef[pairRef[p]] = p;
+        nextByHyp[p] = firstByHyp[pairHyp[p]];
+        firstByHyp[pairHyp[p]] = p;
+    }
+
+    private void enqueue(int p) {
+        if (pending.get(p)) {
+            return;
+        }
+        pending.set(p);
+
+        if (queueSize == queue.length) {
+            final int[] newQueue = new int[queue.length * 2];
+            final int tail = queue.length - queueHead;
+            System.arraycopy(queue, queueHead, newQueue, 0, tail);
+            System.arraycopy(queue, 0, newQueue, tail, queueHead);
+            queue = newQueue;
+            queueHead = 0;
+        }
+
+        queue[(queueHead + queueSize) % queue.length] = p;
+        queueSize++;
+    }
+
+    private Word<I> separatingWord(int pair, int lastSym) {
+        int length = lastSym == UNDEFINED ? 0 : 1;
+        for (int p = pair; pairPred[p] != UNDEFINED; p = pairPred[p]) {
+            length++;
+        }
+
+        @SuppressWarnings("nullness") // we make sure to set each index to a value of type I
+        final WordBuilder<I> wb = new WordBuilder<>(null, length);
+
+        int position = length;
+        if (lastSym != UNDEFINED) {
+            wb.setSymbol(--position, inputs.get(lastSym));
+        }
+
+        for (int p = pair; pairPred[p] != UNDEFINED; p = pairPred[p]) {
+            wb.setSymbol(--position, inputs.get(pairSym[p]));
+        }
+
+        return wb.toWord();
+    }
+
+    private void growUnionFind() {
+        final int oldSize = parent.length;
+        final int newSize = refSize + hypSize;
+
+        if (newSize > oldSize) {
+            parent = Arrays.copyOf(parent, Math.max(newSize, oldSize * 2));
+            for (int i = oldSize; i < parent.length; i++) {
+                parent[i] = i;
+            }
+        }
+    }
+
+    private void resetUnionFind() {
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+    }
+
+    private int find(int x) {
+        final int[] p = parent;
+        int r = x;
+        while (p[r] != r) {
+            r = p[r];
+        }
+        return r;
+    }
+
+    /**
+     * Unites the sets of the two given elements using Rem's algorithm with splicing.
+     *
+     * @return {@code true} if the two elements were in different sets, {@code false} otherwise
+     *
+     * @see net.automatalib.common.util.UnionFindRemSP#union(int, int)
+     */
+    private boolean union(int x, int y) {
+        final int[] p = parent;
+        int rx = x;
+        int ry = y;
+        int px = p[rx];
+        int py = p[ry];
+        while (px != py) {
+            if (px < py) {
+                if (rx == px) {
+                    p[rx] = py;
+                    return true;
+                }
+                p[rx] = py;
+                rx = px;
+                px = p[rx];
+            } else {
+                if (ry == py) {
+                    p[ry] = px;
+                    return true;
+                }
+                p[ry] = px;
+                ry = py;
+                py = p[ry];
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,400 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.fsa;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.automaton.fsa.NFA;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Antichain-based language inclusion and universality checks for {@link NFA}s, as presented in <a
+ * href="https://doi.org/10.1007/11817963_5">Antichains: A New Algorithm for Checking Universality of Finite
+ * Automata</a> by De Wulf, Doyen, Henzinger, and Raskin. Optionally, the exploration can be pruned by a forward
+ * simulation relation as presented in <a href="https://doi.org/10.1007/978-3-642-12002-2_14">When Simulation Meets
+ * Antichains</a> by Abdulla, Chen, Holík, Mayr, and Vojnar.
+ * <p>
+ * Both automata are translated into a single int-indexed representation where the states of the first automaton occupy
+ * the indices {@code [0, offset)} and the states of the second automaton occupy the indices {@code [offset, size)}.
+ * Macrostates of the second automaton are represented by {@link BitSet}s over these indices.
+ */
+final class AntichainInclusion {
+
+    private AntichainInclusion() {
+        // prevent instantiation
+    }
+
+    static <I> @Nullable Word<I> findInclusionCounterexample(NFA<?, I> nfa1,
+                                                             NFA<?, I> nfa2,
+                                                             List<? extends I> inputs,
+                                                             boolean useSimulation) {
+        final int n1 = nfa1.size();
+        final int n2 = nfa2.size();
+        final int k = inputs.size();
+
+        final IntNFA union = new IntNFA(n1 + n2, k);
+        union.copyFrom(nfa1, inputs, 0);
+        union.copyFrom(nfa2, inputs, n1);
+
+        return explore(union, n1, inputs, useSimulation);
+    }
+
+    static <I> @Nullable Word<I> findUniversalityCounterexample(NFA<?, I> nfa,
+                                                                List<? extends I> inputs,
+                                                                boolean useSimulation) {
+        final int k = inputs.size();
+
+        // a single accepting state with self-loops that accepts the universal language
+        final IntNFA union = new IntNFA(nfa.size() + 1, k);
+        final BitSet loop = new BitSet();
+        loop.set(0);
+        union.initial.set(0);
+        union.accepting.set(0);
+        for (int i = 0; i < k; i++) {
+            union.successors[i] = loop;
+        }
+        union.copyFrom(nfa, inputs, 1);
+
+        return explore(union, 1, inputs, useSimulation);
+    }
+
+    private static <I> @Nullable Word<I> explore(IntNFA nfa,
+                                                 int offset,
+                                                 List<? extends I> inputs,
+                                                 boolean useSimulation) {
+
+        final int k = inputs.size();
+        final BitSet @Nullable [] simulation = useSimulation ? computeSimulation(nfa) : null;
+
+        final Antichain antichain = new Antichain(offset, simulation);
+        final Deque<Node> queue = new ArrayDeque<>();
+
+        final BitSet init2 = (BitSet) nfa.initial.clone();
+        init2.clear(0, offset);
+
+        for (int p = nfa.initial.nextSetBit(0); p >= 0 && p < offset; p = nfa.initial.nextSetBit(p + 1)) {
+            final Node node = new Node(p, minimize(init2, simulation), null, -1);
+
+            if (isCounterexample(nfa, node)) {
+                return toWord(node, inputs);
+            }
+
+            if (!isPruned(node, simulation) && antichain.add(node)) {
+                queue.add(node);
+            }
+        }
+
+        Node curr;
+        while ((curr = queue.poll()) != null) {
+            if (curr.dead) {
+                continue;
+            }
+
+            for (int i = 0; i < k; i++) {
+                final BitSet succs1 = nfa.successors[curr.state * k + i];
+
+                if (succs1 == null) {
+                    continue;
+                }
+
+                final BitSet post = minimize(nfa.post(curr.macroState, i), simulation);
+
+                for (int p = succs1.nextSetBit(0); p >= 0; p = succs1.nextSetBit(p + 1)) {
+                    final Node succ = new Node(p, post, curr, i);
+
+                    if (isCounterexample(nfa, succ)) {
+                        return toWord(succ, inputs);
+                    }
+
+                    if (!isPruned(succ, simulation) && antichain.add(succ)) {
+                        queue.add(succ);
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isCounterexample(IntNFA nfa, Node node) {
+        return nfa.accepting.get(node.state) && !node.macroState.intersects(nfa.accepting);
+    }
+
+    private static boolean isPruned(Node node, BitSet @Nullable [] simulation) {
+        // if the macrostate contains a state that simulates the current state, its language is already covered
+        return simulation != null && node.macroState.intersects(simulation[node.state]);
+    }
+
+    /**
+     * Removes states from the given macrostate that are simulated by other states of the macrostate. For mutually
+     * simulating states only the one with the smallest index is kept.
+     */
+    private static BitSet minimize(BitSet macroState, BitSet @Nullable [] simulation) {
+        if (simulation == null) {
+            return macroState;
+        }
+
+        final BitSet result = (BitSet) macroState.clone();
+
+        for (int q = macroState.nextSetBit(0); q >= 0; q = macroState.nextSetBit(q + 1)) {
+            final BitSet simulators = simulation[q];
+            for (int r = result.nextSetBit(0); r >= 0; r = result.nextSetBit(r + 1)) {
+                if (r != q && simulators.get(r) && (!simulation[r].get(q) || r < q)) {
+                    result.clear(q);
+                    break;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the maximal forward simulation relation of the given NFA. The returned array contains for each state
+     * {@code p} the set of states {@code q} that simulate {@code p}, i.e., for which {@code L(p) ⊆ L(q)} holds.
+     */
+    static BitSet[] computeSimulation(IntNFA nfa) {
+        final int n = nfa.size;
+        final int k = nfa.numInputs;
+        final BitSet[] simulation = new BitSet[n];
+
+        for (int p = 0; p < n; p++) {
+            final BitSet sim;
+            if (nfa.accepting.get(p)) {
+                sim = (BitSet) nfa.accepting.clone();
+            } else {
+                sim = new BitSet(n);
+                sim.set(0, n);
+            }
+            simulation[p] = sim;
+        }
+
+        boolean changed = true;
+
+        while (changed) {
+            changed = false;
+            for (int p = 0; p < n; p++) {
+                final BitSet sim = simulation[p];
+                for (int q = sim.nextSetBit(0); q >= 0; q = sim.nextSetBit(q + 1)) {
+                    if (p != q && !isSimulatedBy(nfa, simulation, p, q, k)) {
+                        sim.clear(q);
+                        changed = true;
+                    }
+                }
+            }
+        }
+
+        return simulation;
+    }
+
+    private static boolean isSimulatedBy(IntNFA nfa, BitSet[] simulation, int p, int q, int k) {
+        for (int i = 0; i < k; i++) {
+            final BitSet pSuccs = nfa.successors[p * k + i];
+
+            if (pSuccs == null) {
+                continue;
+            }
+
+            final BitSet qSuccs = nfa.successors[q * k + i];
+
+            if (qSuccs == null) {
+                return false;
+            }
+
+            for (int ps = pSuccs.nextSetBit(0); ps >= 0; ps = pSuccs.nextSetBit(ps + 1)) {
+                if (!simulation[ps].intersects(qSuccs)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static <I> Word<I> toWord(Node node, List<? extends I> inputs) {
+        final WordBuilder<I> wb = new WordBuilder<>();
+
+        Node iter = node;
+        while (iter.parent != null) {
+            wb.append(inputs.get(iter.input));
+            iter = iter.parent;
+        }
+
+        return wb.reverse().toWord();
+    }
+
+    /**
+     * An int-indexed representation of (the union of) NFAs.
+     */
+    static final class IntNFA {
+
+        final int size;
+        final int numInputs;
+        final BitSet initial;
+        final BitSet accepting;
+        final @Nullable BitSet[] successors;
+
+        IntNFA(int size, int numInputs) {
+            this.size = size;
+            this.numInputs = numInputs;
+            this.initial = new BitSet(size);
+            this.accepting = new BitSet(size);
+            this.successors = new BitSet[size * numInputs];
+        }
+
+        <S, I> void copyFrom(NFA<S, I> nfa, List<? extends I> inputs, int offset) {
+            final StateIDs<S> ids = nfa.stateIDs();
+
+            for (S s : nfa.getInitialStates()) {
+                initial.set(ids.getStateId(s) + offset);
+            }
+
+            for (S s : nfa) {
+                final int id = ids.getStateId(s) + offset;
+
+                if (nfa.isAccepting(s)) {
+                    accepting.set(id);
+                }
+
+                for (int i = 0; i < numInputs; i++) {
+                    final Iterator<S> iter = nfa.getSuccessors(s, inputs.get(i)).iterator();
+
+                    if (iter.hasNext()) {
+                        final BitSet succs = new BitSet();
+                        do {
+                            succs.set(ids.getStateId(iter.next()) + offset);
+                        } while (iter.hasNext());
+                        successors[id * numInputs + i] = succs;
+                    }
+                }
+            }
+        }
+
+        BitSet post(BitSet macroState, int input) {
+            final BitSet result = new BitSet(size);
+
+            for (int q = macroState.nextSetBit(0); q >= 0; q = macroState.nextSetBit(q + 1)) {
+                final BitSet succs = successors[q * numInputs + input];
+                if (succs != null) {
+                    result.or(succs);
+                }
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * The antichain of (minimal) explored pairs, bucketed by the state of the first automaton.
+     */
+    private static final class Antichain {
+
+        private final List<List<Node>> buckets;
+        private final BitSet @Nullable [] simulation;
+
+        Antichain(int offset, BitSet @Nullable [] simulation) {
+            this.buckets = new ArrayList<>(offset);
+            this.simulation = simulation;
+
+            for (int i = 0; i < offset; i++) {
+                this.buckets.add(new ArrayList<>());
+            }
+        }
+
+        /**
+         * Adds the given node to the antichain unless it is subsumed by an existing element. Existing elements that are
+         * subsumed by the new node are removed and marked as dead.
+         *
+         * @return {@code true} if the node has been added, {@code false} otherwise
+         */
+        boolean add(Node node) {
+            final int p = node.state;
+
+            if (simulation == null) {
+                if (isSubsumed(node, buckets.get(p))) {
+                    return false;
+                }
+            } else {
+                final BitSet simulators = simulation[p];
+                for (int q = simulators.nextSetBit(0); q >= 0 && q < buckets.size(); q = simulators.nextSetBit(q + 1)) {
+                    if (isSubsumed(node, buckets.get(q))) {
+                        return false;
+                    }
+                }
+            }
+
+            final List<Node> bucket = buckets.get(p);
+            final Iterator<Node> iter = bucket.iterator();
+
+            while (iter.hasNext()) {
+                final Node existing = iter.next();
+                if (isCovered(node.macroState, existing.macroState)) {
+                    existing.dead = true;
+                    iter.remove();
+                }
+            }
+
+            bucket.add(node);
+            return true;
+        }
+
+        private boolean isSubsumed(Node node, List<Node> bucket) {
+            for (Node existing : bucket) {
+                if (isCovered(existing.macroState, node.macroState)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Checks whether the language of the macrostate {@code small} is covered by the language of the macrostate
+         * {@code large}, i.e., whether every state of {@code small} is simulated by some state of {@code large}.
+         */
+        private boolean isCovered(BitSet small, BitSet large) {
+            for (int q = small.nextSetBit(0); q >= 0; q = small.nextSetBit(q + 1)) {
+                if (simulation == null ? !large.get(q) : !large.intersects(simulation[q])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Node {
+
+        final int state;
+        final BitSet macroState;
+        final @Nullable Node parent;
+        final int input;
+        boolean dead;
+
+        Node(int state, BitSet macroState, @Nullable Node parent, int input) {
+            this.state = state;
+            this.macroState = macroState;
+            this.parent = parent;
+            this.input = input;
+        }
+    }
+}
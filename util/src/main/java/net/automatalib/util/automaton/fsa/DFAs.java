@@ -16,8 +16,6 @@
 package net.automatalib.util.automaton.fsa;
 
 import java.util.Collection;
-import java.util.Objects;
-import java.util.Set;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.concept.InputAlphabetHolder;
@@ -25,7 +23,6 @@ import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.automaton.fsa.MutableDFA;
 import net.automatalib.automaton.fsa.NFA;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
-import net.automatalib.common.util.mapping.MutableMapping;
 import net.automatalib.ts.acceptor.DeterministicAcceptorTS;
 import net.automatalib.util.automaton.copy.AutomatonCopyMethod;
 import net.automatalib.util.automaton.copy.AutomatonLowLevelCopy;
@@ -357,7 +354,7 @@ public final class DFAs {
      * @see NFAs#coaccessibleStates(NFA, Collection)
      */
     public static <I> CompactDFA<I> trim(DFA<?, I> dfa, Alphabet<I> inputAlphabet) {
-        return trim(dfa, inputAlphabet, new CompactDFA<>(inputAlphabet));
+        return StateReachability.of(dfa, inputAlphabet).toTrimmedDFA(inputAlphabet);
     }
 
     /**
@@ -387,28 +384,7 @@ public final class DFAs {
     public static <SI, I, SO, A extends MutableDFA<SO, I>> A trim(DFA<SI, I> dfa,
                                                                   Collection<? extends I> inputs,
                                                                   A out) {
-        final MutableMapping<SI, SO> mapping = dfa.createStaticStateMapping();
-        final SI init = dfa.getInitialState();
-
-        final Set<SI> states = NFAs.accessibleStates(dfa, inputs);
-        states.retainAll(NFAs.coaccessibleStates(dfa, inputs));
-
-        for (SI s : states) {
-            final SO so = out.addState(dfa.isAccepting(s));
-            out.setInitial(so, Objects.equals(init, s));
-            mapping.put(s, so);
-        }
-
-        for (SI s : states) {
-            for (I i : inputs) {
-                final SI t = dfa.getSuccessor(s, i);
-                if (states.contains(t)) {
-                    out.addTransition(mapping.get(s), i, mapping.get(t));
-                }
-            }
-        }
-
-        return out;
+        return StateReachability.of(dfa, inputs).copyTrimmed(out);
     }
 
     /**
@@ -0,0 +1,270 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.fsa;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.fsa.NFA;
+import net.automatalib.common.util.HashUtil;
+import net.automatalib.util.automaton.fsa.AntichainInclusion.IntNFA;
+
+/**
+ * A lazily determinized view on an {@link NFA} for (repeated) membership queries. Instead of simulating the subset
+ * construction anew for each query, determinized states are materialized on demand into an int-indexed transition
+ * table whose entries are keyed by the respective subsets of NFA states. Queries that only visit materialized states
+ * and transitions thus perform a single table lookup per symbol.
+ * <p>
+ * To prevent an exponential blow-up, the number of materialized states is bounded by a configurable budget. Once the
+ * budget is exhausted, the view either {@link Eviction#FLUSH flushes} all materialized states and continues to
+ * materialize states from the current subset onwards (as done by, e.g., RE2), or {@link Eviction#FREEZE freezes} the
+ * table and evaluates un-materialized subsets by plain subset simulation.
+ * <p>
+ * The view captures the transitions of the NFA at construction time, i.e., subsequent changes to the NFA are not
+ * reflected. Views are not thread-safe.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public final class LazyDeterminizedDFA<I> {
+
+    /**
+     * The default maximum number of materialized states.
+     */
+    public static final int DEFAULT_MAX_STATES = 1 << 12;
+
+    private static final int UNKNOWN = -1;
+
+    private final Alphabet<I> alphabet;
+    private final IntNFA nfa;
+    private final int numInputs;
+    private final int maxStates;
+    private final Eviction eviction;
+
+    private final Map<BitSet, Integer> stateIds;
+    private final List<BitSet> subsets;
+    private final BitSet accepting;
+    private int[] transitions;
+    private int initial;
+
+    private long numFlushes;
+
+    /**
+     * Constructor. Uses a budget of {@link #DEFAULT_MAX_STATES} states and the {@link Eviction#FLUSH} policy.
+     *
+     * @param nfa
+     *         the NFA to determinize
+     * @param alphabet
+     *         the input symbols to consider
+     * @param <S>
+     *         state type
+     */
+    public <S> LazyDeterminizedDFA(NFA<S, I> nfa, Alphabet<I> alphabet) {
+        this(nfa, alphabet, DEFAULT_MAX_STATES, Eviction.FLUSH);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nfa
+     *         the NFA to determinize
+     * @param alphabet
+     *         the input symbols to consider
+     * @param maxStates
+     *         the maximum number of materialized states
+     * @param eviction
+     *         the policy for when the budget of materialized states is exhausted
+     * @param <S>
+     *         state type
+     */
+    public <S> LazyDeterminizedDFA(NFA<S, I> nfa, Alphabet<I> alphabet, int maxStates, Eviction eviction) {
+        if (maxStates < 1) {
+            throw new IllegalArgumentException("At least one state needs to be materializable");
+        }
+
+        this.alphabet = alphabet;
+        this.numInputs = alphabet.size();
+        this.nfa = new IntNFA(nfa.size(), numInputs);
+        this.nfa.copyFrom(nfa, new ArrayList<>(alphabet), 0);
+        this.maxStates = maxStates;
+        this.eviction = eviction;
+
+        final int initialCapacity = Math.min(maxStates, 16);
+        this.stateIds = new HashMap<>(HashUtil.capacity(initialCapacity));
+        this.subsets = new ArrayList<>(initialCapacity);
+        this.accepting = new BitSet(initialCapacity);
+        this.transitions = new int[initialCapacity * numInputs];
+
+        this.initial = materialize(this.nfa.initial);
+    }
+
+    /**
+     * Determines whether the given word is accepted by the NFA.
+     *
+     * @param input
+     *         the input word
+     *
+     * @return {@code true} if the word is accepted, {@code false} otherwise
+     */
+    public boolean accepts(Iterable<? extends I> input) {
+        if (initial == UNKNOWN) {
+            // the initial state has been flushed
+            initial = materialize(nfa.initial);
+        }
+
+        int state = initial;
+        BitSet subset = state == UNKNOWN ? nfa.initial : null;
+
+        for (I sym : input) {
+            final int idx = alphabet.getSymbolIndex(sym);
+
+            if (state != UNKNOWN) {
+                final int succ = transitions[state * numInputs + idx];
+                if (succ != UNKNOWN) {
+                    state = succ;
+                    continue;
+                }
+
+                final BitSet next = nfa.post(subsets.get(state), idx);
+                final long flushes = numFlushes;
+                final int newState = materialize(next);
+
+                // after a flush, the id of the source state may have been re-assigned
+                if (newState != UNKNOWN && flushes == numFlushes) {
+                    transitions[state * numInputs + idx] = newState;
+                }
+
+                state = newState;
+                subset = next;
+            } else {
+                assert subset != null;
+                subset = nfa.post(subset, idx);
+                state = lookup(subset);
+            }
+        }
+
+        if (state != UNKNOWN) {
+            return accepting.get(state);
+        }
+
+        assert subset != null;
+        return subset.intersects(nfa.accepting);
+    }
+
+    /**
+     * Determines for each of the given words whether it is accepted by the NFA.
+     *
+     * @param inputs
+     *         the input words
+     *
+     * @return a {@link BitSet} whose {@code i}-th bit is set iff the {@code i}-th word (w.r.t. the iteration order of
+     * the given collection) is accepted
+     */
+    public BitSet acceptsAll(Collection<? extends Iterable<? extends I>> inputs) {
+        final BitSet result = new BitSet(inputs.size());
+        int idx = 0;
+
+        for (Iterable<? extends I> input : inputs) {
+            if (accepts(input)) {
+                result.set(idx);
+            }
+            idx++;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the number of currently materialized states.
+     *
+     * @return the number of currently materialized states
+     */
+    public int getNumMaterializedStates() {
+        return subsets.size();
+    }
+
+    /**
+     * Returns the number of times the materialized states have been flushed due to an exhausted budget.
+     *
+     * @return the number of flushes
+     */
+    public long getNumFlushes() {
+        return numFlushes;
+    }
+
+    private int lookup(BitSet subset) {
+        final Integer id = stateIds.get(subset);
+        return id == null ? UNKNOWN : id;
+    }
+
+    private int materialize(BitSet subset) {
+        final int existing = lookup(subset);
+        if (existing != UNKNOWN) {
+            return existing;
+        }
+
+        if (subsets.size() >= maxStates) {
+            if (eviction == Eviction.FREEZE) {
+                return UNKNOWN;
+            }
+            flush();
+        }
+
+        final int id = subsets.size();
+        final int offset = id * numInputs;
+
+        if (offset + numInputs > transitions.length) {
+            final int newCapacity = Math.min(Math.max(2 * subsets.size(), id + 1), maxStates);
+            transitions = Arrays.copyOf(transitions, newCapacity * numInputs);
+        }
+
+        Arrays.fill(transitions, offset, offset + numInputs, UNKNOWN);
+        accepting.set(id, subset.intersects(nfa.accepting));
+        subsets.add(subset);
+        stateIds.put(subset, id);
+
+        return id;
+    }
+
+    private void flush() {
+        stateIds.clear();
+        subsets.clear();
+        accepting.clear();
+        initial = UNKNOWN;
+        numFlushes++;
+    }
+
+    /**
+     * The policies for when the budget of materialized states is exhausted.
+     */
+    public enum Eviction {
+        /**
+         * Discard all materialized states and continue materializing states.
+         */
+        FLUSH,
+        /**
+         * Keep all materialized states but do not materialize any further states. Un-materialized subsets are
+         * evaluated by subset simulation.
+         */
+        FREEZE
+    }
+}
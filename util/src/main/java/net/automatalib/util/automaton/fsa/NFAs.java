@@ -19,29 +19,32 @@ import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
 import net.automatalib.alphabet.Alphabet;
-import net.automatalib.alphabet.impl.MapAlphabet;
 import net.automatalib.automaton.concept.InputAlphabetHolder;
 import net.automatalib.automaton.fsa.MutableDFA;
 import net.automatalib.automaton.fsa.MutableNFA;
 import net.automatalib.automaton.fsa.NFA;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.fsa.impl.CompactNFA;
-import net.automatalib.common.util.HashUtil;
+import net.automatalib.common.util.collection.CollectionUtil;
 import net.automatalib.common.util.mapping.Mapping;
 import net.automatalib.common.util.mapping.MutableMapping;
 import net.automatalib.ts.AcceptorPowersetViewTS;
 import net.automatalib.ts.acceptor.AcceptorTS;
 import net.automatalib.util.automaton.minimizer.HopcroftMinimizer;
+import net.automatalib.util.partitionrefinement.Valmari;
+import net.automatalib.util.partitionrefinement.ValmariExtractors;
+import net.automatalib.util.partitionrefinement.ValmariInitializers;
 import net.automatalib.util.ts.acceptor.AcceptanceCombiner;
 import net.automatalib.util.ts.acceptor.Acceptors;
 import net.automatalib.util.ts.copy.TSCopy;
 import net.automatalib.util.ts.traversal.TSTraversal;
 import net.automatalib.util.ts.traversal.TSTraversalMethod;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Operations on {@link NFA}s.
@@ -236,7 +239,7 @@ public final class NFAs {
      * @see #coaccessibleStates(NFA, Collection)
      */
     public static <I> CompactNFA<I> trim(NFA<?, I> nfa, Alphabet<I> inputAlphabet) {
-        return trim(nfa, inputAlphabet, new CompactNFA<>(inputAlphabet));
+        return StateReachability.of(nfa, inputAlphabet).toTrimmedNFA(inputAlphabet);
     }
 
     /**
@@ -266,29 +269,7 @@ public final class NFAs {
     public static <SI, I, SO, A extends MutableNFA<SO, I>> A trim(NFA<SI, I> nfa,
                                                                   Collection<? extends I> inputs,
                                                                   A out) {
-        final MutableMapping<SI, SO> mapping = nfa.createStaticStateMapping();
-        final Set<SI> inits = nfa.getInitialStates();
-
-        final Set<SI> states = accessibleStates(nfa, inputs);
-        states.retainAll(coaccessibleStates(nfa, inputs));
-
-        for (SI s : states) {
-            final SO so = out.addState(nfa.isAccepting(s));
-            out.setInitial(so, inits.contains(s));
-            mapping.put(s, so);
-        }
-
-        for (SI s : states) {
-            for (I i : inputs) {
-                for (SI t : nfa.getTransitions(s, i)) {
-                    if (states.contains(t)) {
-                        out.addTransition(mapping.get(s), i, mapping.get(t));
-                    }
-                }
-            }
-        }
-
-        return out;
+        return StateReachability.of(nfa, inputs).copyTrimmed(out);
     }
 
     /**
@@ -307,23 +288,7 @@ public final class NFAs {
      * @return the set of accessible states
      */
     public static <S, I> Set<S> accessibleStates(NFA<S, I> nfa, Collection<? extends I> inputs) {
-
-        final Set<S> inits = nfa.getInitialStates();
-        final Deque<S> deque = new ArrayDeque<>(inits);
-        final Set<S> found = new HashSet<>(inits);
-
-        while (!deque.isEmpty()) {
-            final S curr = deque.pop();
-            for (I sym : inputs) {
-                for (S succ : nfa.getSuccessors(curr, sym)) {
-                    if (found.add(succ)) {
-                        deque.push(succ);
-                    }
-                }
-            }
-        }
-
-        return found;
+        return StateReachability.toStates(nfa.stateIDs(), StateReachability.of(nfa, inputs).accessible());
     }
 
     /**
@@ -342,18 +307,7 @@ public final class NFAs {
      * @return the set of co-accessible states
      */
     public static <S, I> Set<S> coaccessibleStates(NFA<S, I> nfa, Collection<? extends I> inputs) {
-
-        final CompactNFA<I> out = new CompactNFA<>(new MapAlphabet<>(inputs), nfa.size());
-        final Mapping<Integer, S> mapping = reverse(nfa, inputs, out);
-        final Set<Integer> states = accessibleStates(out, inputs);
-
-        final Set<S> result = new HashSet<>(HashUtil.capacity(states.size()));
-
-        for (Integer s : states) {
-            result.add(mapping.get(s));
-        }
-
-        return result;
+        return StateReachability.toStates(nfa.stateIDs(), StateReachability.of(nfa, inputs).coaccessible());
     }
 
     /**
@@ -478,6 +432,195 @@ public final class NFAs {
         determinize(nfa, inputs, out, false, true);
     }
 
+    /**
+     * Reduces the given NFA by merging bisimilar states and returns the result as a new NFA. Two states are bisimilar
+     * if they agree on acceptance and their successors (for each input symbol) are pairwise bisimilar. The result
+     * accepts the same language as the input NFA and does not contain states that are unreachable from the initial
+     * states.
+     *
+     * @param nfa
+     *         the input NFA
+     * @param <I>
+     *         input symbol type
+     * @param <A>
+     *         automaton type
+     *
+     * @return the reduced NFA
+     *
+     * @see #reduceByBisimulation(NFA, Alphabet)
+     */
+    public static <I, A extends NFA<?, I> & InputAlphabetHolder<I>> CompactNFA<I> reduceByBisimulation(A nfa) {
+        return reduceByBisimulation(nfa, nfa.getInputAlphabet());
+    }
+
+    /**
+     * Reduces the given NFA by merging bisimilar states and returns the result as a new NFA. Two states are bisimilar
+     * if they agree on acceptance and their successors (for each input symbol) are pairwise bisimilar. The result
+     * accepts the same language as the input NFA and does not contain states that are unreachable from the initial
+     * states.
+     * <p>
+     * This is a convenience method for the combination of {@link ValmariInitializers#initializeNFA(NFA, Alphabet)},
+     * {@link Valmari#computeCoarsestStablePartition()}, and {@link ValmariExtractors#toNFA(Valmari, NFA, Alphabet)}
+     * and does not provide any functionality beyond this pipeline.
+     *
+     * @param nfa
+     *         the input NFA
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the reduced NFA
+     */
+    public static <I> CompactNFA<I> reduceByBisimulation(NFA<?, I> nfa, Alphabet<I> inputAlphabet) {
+        final Valmari valmari = ValmariInitializers.initializeNFA(nfa, inputAlphabet);
+        valmari.computeCoarsestStablePartition();
+        return ValmariExtractors.toNFA(valmari, nfa, inputAlphabet);
+    }
+
+    /**
+     * Checks whether the language of the first NFA is included in the language of the second NFA, i.e., whether
+     * {@code L(nfa1) ⊆ L(nfa2)} holds. This method uses an antichain-based exploration and does not determinize either
+     * of the NFAs.
+     *
+     * @param nfa1
+     *         the first NFA
+     * @param nfa2
+     *         the second NFA
+     * @param inputs
+     *         the input symbols to consider
+     * @param <I>
+     *         input symbol type
+     *
+     * @return {@code true} if the language of {@code nfa1} is included in the language of {@code nfa2}, {@code false}
+     * otherwise
+     *
+     * @see #findInclusionCounterexample(NFA, NFA, Collection, boolean)
+     */
+    public static <I> boolean testInclusion(NFA<?, I> nfa1, NFA<?, I> nfa2, Collection<? extends I> inputs) {
+        return findInclusionCounterexample(nfa1, nfa2, inputs) == null;
+    }
+
+    /**
+     * Searches for a word that is accepted by the first NFA but rejected by the second NFA, i.e., a witness for
+     * {@code L(nfa1) ⊈ L(nfa2)}. This method uses an antichain-based exploration without simulation-based pruning.
+     *
+     * @param nfa1
+     *         the first NFA
+     * @param nfa2
+     *         the second NFA
+     * @param inputs
+     *         the input symbols to consider
+     * @param <I>
+     *         input symbol type
+     *
+     * @return a word accepted by {@code nfa1} and rejected by {@code nfa2}, or {@code null} if no such word exists
+     *
+     * @see #findInclusionCounterexample(NFA, NFA, Collection, boolean)
+     */
+    public static <I> @Nullable Word<I> findInclusionCounterexample(NFA<?, I> nfa1,
+                                                                    NFA<?, I> nfa2,
+                                                                    Collection<? extends I> inputs) {
+        return findInclusionCounterexample(nfa1, nfa2, inputs, false);
+    }
+
+    /**
+     * Searches for a word that is accepted by the first NFA but rejected by the second NFA, i.e., a witness for
+     * {@code L(nfa1) ⊈ L(nfa2)}. This method explores pairs of states of {@code nfa1} and macrostates (sets of states)
+     * of {@code nfa2} and only keeps the minimal pairs (an antichain) during exploration. This typically explores only
+     * a fraction of the subset construction of {@code nfa2}.
+     * <p>
+     * If {@code useSimulation} is set, the maximal forward simulation relation of both NFAs is computed beforehand and
+     * used to shrink macrostates and to prune pairs whose language is already covered. This incurs a quadratic
+     * (in the number of states) pre-computation but may reduce the explored state space significantly.
+     *
+     * @param nfa1
+     *         the first NFA
+     * @param nfa2
+     *         the second NFA
+     * @param inputs
+     *         the input symbols to consider
+     * @param useSimulation
+     *         whether to prune the exploration by means of a forward simulation relation
+     * @param <I>
+     *         input symbol type
+     *
+     * @return a word accepted by {@code nfa1} and rejected by {@code nfa2}, or {@code null} if no such word exists
+     */
+    public static <I> @Nullable Word<I> findInclusionCounterexample(NFA<?, I> nfa1,
+                                                                    NFA<?, I> nfa2,
+                                                                    Collection<? extends I> inputs,
+                                                                    boolean useSimulation) {
+        return AntichainInclusion.findInclusionCounterexample(nfa1,
+                                                              nfa2,
+                                                              CollectionUtil.randomAccessList(inputs),
+                                                              useSimulation);
+    }
+
+    /**
+     * Checks whether the given NFA accepts every word over the given input symbols. This method uses an
+     * antichain-based exploration and does not determinize the NFA.
+     *
+     * @param nfa
+     *         the NFA
+     * @param inputs
+     *         the input symbols to consider
+     * @param <I>
+     *         input symbol type
+     *
+     * @return {@code true} if the NFA accepts the universal language, {@code false} otherwise
+     *
+     * @see #findUniversalityCounterexample(NFA, Collection, boolean)
+     */
+    public static <I> boolean testUniversality(NFA<?, I> nfa, Collection<? extends I> inputs) {
+        return findUniversalityCounterexample(nfa, inputs) == null;
+    }
+
+    /**
+     * Searches for a word that is rejected by the given NFA. This method uses an antichain-based exploration without
+     * simulation-based pruning.
+     *
+     * @param nfa
+     *         the NFA
+     * @param inputs
+     *         the input symbols to consider
+     * @param <I>
+     *         input symbol type
+     *
+     * @return a word rejected by {@code nfa}, or {@code null} if the NFA accepts the universal language
+     *
+     * @see #findUniversalityCounterexample(NFA, Collection, boolean)
+     */
+    public static <I> @Nullable Word<I> findUniversalityCounterexample(NFA<?, I> nfa,
+                                                                       Collection<? extends I> inputs) {
+        return findUniversalityCounterexample(nfa, inputs, false);
+    }
+
+    /**
+     * Searches for a word that is rejected by the given NFA. This method only keeps the minimal macrostates (an
+     * antichain) of the subset construction during exploration.
+     *
+     * @param nfa
+     *         the NFA
+     * @param inputs
+     *         the input symbols to consider
+     * @param useSimulation
+     *         whether to prune the exploration by means of a forward simulation relation
+     * @param <I>
+     *         input symbol type
+     *
+     * @return a word rejected by {@code nfa}, or {@code null} if the NFA accepts the universal language
+     *
+     * @see #findInclusionCounterexample(NFA, NFA, Collection, boolean)
+     */
+    public static <I> @Nullable Word<I> findUniversalityCounterexample(NFA<?, I> nfa,
+                                                                       Collection<? extends I> inputs,
+                                                                       boolean useSimulation) {
+        return AntichainInclusion.findUniversalityCounterexample(nfa,
+                                                                 CollectionUtil.randomAccessList(inputs),
+                                                                 useSimulation);
+    }
+
     private static <I, SI, SO> void doDeterminize(AcceptorPowersetViewTS<SI, I, ?> powerset,
                                                   Collection<? extends I> inputs,
                                                   MutableDFA<SO, I> out,
@@ -0,0 +1,428 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.fsa;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.base.AbstractCompactSimpleDeterministic;
+import net.automatalib.automaton.base.AbstractCompactSimpleNondet;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.automaton.fsa.MutableFSA;
+import net.automatalib.automaton.fsa.NFA;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.CompactNFA;
+import net.automatalib.common.util.HashUtil;
+import net.automatalib.common.util.collection.CollectionUtil;
+import net.automatalib.common.util.concurrent.AtomicBitSet;
+
+/**
+ * An int-indexed snapshot of the transition structure of a finite state acceptor for computing its accessible and
+ * co-accessible states. The transitions are extracted once into a compressed sparse row (CSR) index over the
+ * {@link StateIDs state ids} of the automaton, from which the reverse index of the backward analysis is derived by a
+ * counting sort. Reachability is tracked in {@link BitSet}s and, for large automata, the index is built and traversed
+ * (level-synchronously) in parallel via parallel streams, i.e., in the {@link java.util.concurrent.ForkJoinPool} of
+ * the calling thread or the common pool.
+ * <p>
+ * If the automaton is backed by an {@link AbstractCompactSimpleNondet} or an
+ * {@link AbstractCompactSimpleDeterministic}, its successor information is read directly from the underlying storage.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+final class StateReachability<I> {
+
+    // automata and BFS levels smaller than this threshold are processed sequentially
+    private static final int PARALLEL_THRESHOLD = 1024;
+
+    private final List<? extends I> inputs;
+    private final int numStates;
+    private final BitSet initial;
+    private final BitSet accepting;
+
+    // the outgoing transitions of state s are stored at the indices offsets[s] (incl.) to offsets[s + 1] (excl.)
+    private final int[] offsets;
+    private final int[] labels;
+    private final int[] targets;
+
+    private StateReachability(List<? extends I> inputs,
+                              BitSet initial,
+                              BitSet accepting,
+                              int[] offsets,
+                              int[] labels,
+                              int[] targets) {
+        this.inputs = inputs;
+        this.numStates = offsets.length - 1;
+        this.initial = initial;
+        this.accepting = accepting;
+        this.offsets = offsets;
+        this.labels = labels;
+        this.targets = targets;
+    }
+
+    static <S, I> StateReachability<I> of(NFA<S, I> nfa, Collection<? extends I> inputs) {
+        final List<? extends I> list = CollectionUtil.randomAccessList(inputs);
+        final StateIDs<S> stateIDs = nfa.stateIDs();
+        final int n = nfa.size();
+
+        final BitSet initial = new BitSet(n);
+        final BitSet accepting = new BitSet(n);
+
+        for (S s : nfa.getInitialStates()) {
+            initial.set(stateIDs.getStateId(s));
+        }
+
+        for (int i = 0; i < n; i++) {
+            if (nfa.isAccepting(stateIDs.getState(i))) {
+                accepting.set(i);
+            }
+        }
+
+        if (nfa instanceof AbstractCompactSimpleNondet) {
+            @SuppressWarnings("unchecked")
+            final AbstractCompactSimpleNondet<I, ?> compact = (AbstractCompactSimpleNondet<I, ?>) nfa;
+            final int[] indices = toCompactIndices(compact.getInputAlphabet(), list);
+            return ofCompact(list, initial, accepting, n, s -> {
+                int cnt = 0;
+                for (int idx : indices) {
+                    if (idx >= 0) {
+                        cnt += compact.getSuccessorCount(s, idx);
+                    }
+                }
+                return cnt;
+            }, (s, lbls, tgts, pos) -> {
+                int p = pos;
+                for (int i = 0; i < indices.length; i++) {
+                    final int idx = indices[i];
+                    if (idx >= 0) {
+                        for (int t = compact.nextSuccessor(s, idx, 0); t >= 0;
+                             t = compact.nextSuccessor(s, idx, t + 1)) {
+                            lbls[p] = i;
+                            tgts[p++] = t;
+                        }
+                    }
+                }
+            });
+        } else if (nfa instanceof AbstractCompactSimpleDeterministic) {
+            @SuppressWarnings("unchecked")
+            final AbstractCompactSimpleDeterministic<I, ?> compact = (AbstractCompactSimpleDeterministic<I, ?>) nfa;
+            final int[] indices = toCompactIndices(compact.getInputAlphabet(), list);
+            return ofCompact(list, initial, accepting, n, s -> {
+                int cnt = 0;
+                for (int idx : indices) {
+                    if (idx >= 0 && compact.getSuccessor(s, idx) >= 0) {
+                        cnt++;
+                    }
+                }
+                return cnt;
+            }, (s, lbls, tgts, pos) -> {
+                int p = pos;
+                for (int i = 0; i < indices.length; i++) {
+                    final int idx = indices[i];
+                    if (idx >= 0) {
+                        final int t = compact.getSuccessor(s, idx);
+                        if (t >= 0) {
+                            lbls[p] = i;
+                            tgts[p++] = t;
+                        }
+                    }
+                }
+            });
+        }
+
+        final int[] offsets = new int[n + 1];
+        int[] labels = new int[Math.max(n, 1)];
+        int[] targets = new int[labels.length];
+        int m = 0;
+
+        for (int s = 0; s < n; s++) {
+            final S state = stateIDs.getState(s);
+            for (int i = 0; i < list.size(); i++) {
+                for (S succ : nfa.getSuccessors(state, list.get(i))) {
+                    if (m == labels.length) {
+                        labels = Arrays.copyOf(labels, m * 2);
+                        targets = Arrays.copyOf(targets, m * 2);
+                    }
+                    labels[m] = i;
+                    targets[m++] = stateIDs.getStateId(succ);
+                }
+            }
+            offsets[s + 1] = m;
+        }
+
+        return new StateReachability<>(list,
+                                       initial,
+                                       accepting,
+                                       offsets,
+                                       Arrays.copyOf(labels, m),
+                                       Arrays.copyOf(targets, m));
+    }
+
+    private static <I> int[] toCompactIndices(Alphabet<I> alphabet, List<? extends I> inputs) {
+        final int[] indices = new int[inputs.size()];
+
+        for (int i = 0; i < indices.length; i++) {
+            final I sym = inputs.get(i);
+            indices[i] = alphabet.containsSymbol(sym) ? alphabet.getSymbolIndex(sym) : -1;
+        }
+
+        return indices;
+    }
+
+    private static <I> StateReachability<I> ofCompact(List<? extends I> inputs,
+                                                      BitSet initial,
+                                                      BitSet accepting,
+                                                      int n,
+                                                      IntUnaryOperator counter,
+                                                      TransitionWriter writer) {
+        final boolean parallel = n >= PARALLEL_THRESHOLD;
+        final int[] offsets = new int[n + 1];
+
+        // each state writes to its own (disjoint) slots, so both passes can be executed concurrently
+        states(n, parallel).forEach(s -> offsets[s + 1] = counter.applyAsInt(s));
+
+        if (parallel) {
+            Arrays.parallelPrefix(offsets, Integer::sum);
+        } else {
+            for (int s = 0; s < n; s++) {
+                offsets[s + 1] += offsets[s];
+            }
+        }
+
+        final int[] labels = new int[offsets[n]];
+        final int[] targets = new int[offsets[n]];
+
+        states(n, parallel).forEach(s -> writer.write(s, labels, targets, offsets[s]));
+
+        return new StateReachability<>(inputs, initial, accepting, offsets, labels, targets);
+    }
+
+    private static IntStream states(int n, boolean parallel) {
+        final IntStream stream = IntStream.range(0, n);
+        return parallel ? stream.parallel() : stream;
+    }
+
+    /**
+     * Returns the ids of all states that are reachable from an initial state.
+     *
+     * @return the ids of the accessible states
+     */
+    BitSet accessible() {
+        return reach(initial, offsets, targets);
+    }
+
+    /**
+     * Returns the ids of all states from which an accepting state is reachable.
+     *
+     * @return the ids of the co-accessible states
+     */
+    BitSet coaccessible() {
+        final int[] revOffsets = new int[numStates + 1];
+        final int[] sources = new int[targets.length];
+
+        for (int t : targets) {
+            revOffsets[t + 1]++;
+        }
+
+        for (int s = 0; s < numStates; s++) {
+            revOffsets[s + 1] += revOffsets[s];
+        }
+
+        final int[] pos = Arrays.copyOf(revOffsets, numStates);
+
+        for (int s = 0; s < numStates; s++) {
+            for (int k = offsets[s]; k < offsets[s + 1]; k++) {
+                sources[pos[targets[k]]++] = s;
+            }
+        }
+
+        return reach(accepting, revOffsets, sources);
+    }
+
+    /**
+     * Returns the ids of all states that are both accessible and co-accessible.
+     *
+     * @return the ids of the states of the trim automaton
+     */
+    BitSet trimmed() {
+        final BitSet result = accessible();
+        result.and(coaccessible());
+        return result;
+    }
+
+    private BitSet reach(BitSet start, int[] offsets, int[] targets) {
+        if (numStates < PARALLEL_THRESHOLD) {
+            final BitSet visited = (BitSet) start.clone();
+            final int[] queue = new int[numStates];
+            int head = 0;
+            int tail = 0;
+
+            for (int s = start.nextSetBit(0); s >= 0; s = start.nextSetBit(s + 1)) {
+                queue[tail++] = s;
+            }
+
+            while (head < tail) {
+                final int s = queue[head++];
+                for (int k = offsets[s]; k < offsets[s + 1]; k++) {
+                    final int t = targets[k];
+                    if (!visited.get(t)) {
+                        visited.set(t);
+                        queue[tail++] = t;
+                    }
+                }
+            }
+
+            return visited;
+        }
+
+        final AtomicBitSet visited = new AtomicBitSet(numStates);
+        int[] frontier = start.stream().toArray();
+
+        for (int s : frontier) {
+            visited.set(s);
+        }
+
+        while (frontier.length > 0) {
+            final IntStream level = Arrays.stream(frontier);
+            frontier = (frontier.length < PARALLEL_THRESHOLD ? level : level.parallel())
+                    .flatMap(s -> IntStream.range(offsets[s], offsets[s + 1]).map(k -> targets[k]).filter(visited::set))
+                    .toArray();
+        }
+
+        return visited.toBitSet();
+    }
+
+    /**
+     * Maps the given state ids back to the states of the given automaton.
+     */
+    static <S> Set<S> toStates(StateIDs<S> stateIDs, BitSet ids) {
+        final Set<S> result = new HashSet<>(HashUtil.capacity(ids.cardinality()));
+
+        for (int i = ids.nextSetBit(0); i >= 0; i = ids.nextSetBit(i + 1)) {
+            result.add(stateIDs.getState(i));
+        }
+
+        return result;
+    }
+
+    /**
+     * Writes the trim sub-automaton to the given (empty) output automaton. States are added in the order of their
+     * original ids.
+     */
+    <SO, A extends MutableFSA<SO, I>> A copyTrimmed(A out) {
+        final BitSet states = trimmed();
+        final int[] remap = new int[numStates];
+        final List<SO> outStates = new ArrayList<>(states.cardinality());
+
+        for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)) {
+            final SO so = out.addState(accepting.get(s));
+            out.setInitial(so, initial.get(s));
+            remap[s] = outStates.size();
+            outStates.add(so);
+        }
+
+        for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)) {
+            final SO src = outStates.get(remap[s]);
+            for (int k = offsets[s]; k < offsets[s + 1]; k++) {
+                final int t = targets[k];
+                if (states.get(t)) {
+                    out.addTransition(src, inputs.get(labels[k]), outStates.get(remap[t]));
+                }
+            }
+        }
+
+        return out;
+    }
+
+    /**
+     * Compacts the trim sub-automaton into a new {@link CompactDFA}. The snapshot must have been created for a
+     * deterministic automaton and the given alphabet (in its order) as inputs.
+     */
+    CompactDFA<I> toTrimmedDFA(Alphabet<I> alphabet) {
+        final BitSet states = trimmed();
+        final int[] remap = remap(states);
+        final CompactDFA<I> out = new CompactDFA<>(alphabet, states.cardinality());
+
+        for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)) {
+            out.addIntState(accepting.get(s));
+            if (initial.get(s)) {
+                out.setInitialState(remap[s]);
+            }
+        }
+
+        for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)) {
+            for (int k = offsets[s]; k < offsets[s + 1]; k++) {
+                final int t = targets[k];
+                if (states.get(t)) {
+                    out.setTransition(remap[s], labels[k], remap[t]);
+                }
+            }
+        }
+
+        return out;
+    }
+
+    /**
+     * Compacts the trim sub-automaton into a new {@link CompactNFA}. The snapshot must have been created for the given
+     * alphabet (in its order) as inputs.
+     */
+    CompactNFA<I> toTrimmedNFA(Alphabet<I> alphabet) {
+        final BitSet states = trimmed();
+        final int[] remap = remap(states);
+        final CompactNFA<I> out = new CompactNFA<>(alphabet, states.cardinality());
+
+        for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)) {
+            out.addIntState(accepting.get(s));
+            out.setInitial(remap[s], initial.get(s));
+        }
+
+        for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)) {
+            for (int k = offsets[s]; k < offsets[s + 1]; k++) {
+                final int t = targets[k];
+                if (states.get(t)) {
+                    out.addTransition(remap[s], labels[k], remap[t]);
+                }
+            }
+        }
+
+        return out;
+    }
+
+    private int[] remap(BitSet states) {
+        final int[] remap = new int[numStates];
+        int cnt = 0;
+
+        for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)) {
+            remap[s] = cnt++;
+        }
+
+        return remap;
+    }
+
+    @FunctionalInterface
+    private interface TransitionWriter {
+
+        void write(int state, int[] labels, int[] targets, int pos);
+    }
+}
@@ -0,0 +1,173 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.procedural;
+
+import java.util.Arrays;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.ProceduralInputAlphabet;
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.concept.InputAlphabetHolder;
+import net.automatalib.automaton.simple.SimpleDeterministicAutomaton.FullIntAbstraction;
+import net.automatalib.automaton.simple.SimpleDeterministicAutomaton.IntAbstraction;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Base class for the array-based runners of procedural systems. Input symbols are identified by their index in the
+ * {@link ProceduralInputAlphabet} and the call stack of a run is stored in two (re-used) primitive arrays, so that runs
+ * do not allocate any objects once the stack has grown to the maximum nesting depth of the processed words.
+ * <p>
+ * Runners are stateful and therefore not thread-safe. Concurrent evaluations require separate runners.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+abstract class AbstractProceduralRunner<I> {
+
+    static final int INTERNAL = 0;
+    static final int CALL = 1;
+    static final int RETURN = 2;
+
+    private static final int DEFAULT_STACK_SIZE = 16;
+
+    final ProceduralInputAlphabet<I> alphabet;
+    final int numInputs;
+    final int[] symbolTypes;
+    /**
+     * For each input, the index of the procedure (i.e., the call index) if the input is a call symbol, {@code -1}
+     * otherwise.
+     */
+    final int[] callIndices;
+    /**
+     * The index of the initial call symbol, {@code -1} if undefined.
+     */
+    final int initialCall;
+
+    private int[] procedureStack;
+    private int[] stateStack;
+    /**
+     * The index of the top-most stack element. {@code -1} denotes the (empty) stack of the initial state.
+     */
+    int depth;
+
+    AbstractProceduralRunner(ProceduralInputAlphabet<I> alphabet, @Nullable I initialCall) {
+        this.alphabet = alphabet;
+        this.numInputs = alphabet.size();
+        this.symbolTypes = new int[numInputs];
+        this.callIndices = new int[numInputs];
+
+        for (int i = 0; i < numInputs; i++) {
+            final I sym = alphabet.getSymbol(i);
+            if (alphabet.isCallSymbol(sym)) {
+                symbolTypes[i] = CALL;
+                callIndices[i] = alphabet.getCallSymbolIndex(sym);
+            } else {
+                symbolTypes[i] = alphabet.isReturnSymbol(sym) ? RETURN : INTERNAL;
+                callIndices[i] = -1;
+            }
+        }
+
+        this.initialCall = initialCall != null && alphabet.isCallSymbol(initialCall) ?
+                alphabet.getSymbolIndex(initialCall) :
+                -1;
+        this.procedureStack = new int[DEFAULT_STACK_SIZE];
+        this.stateStack = new int[DEFAULT_STACK_SIZE];
+    }
+
+    /**
+     * Tabulates the successors of the given procedure as a row-major {@code size * numInputs} array. Successors of
+     * inputs that the procedure does not define (either because they are not contained in its input alphabet or because
+     * they are excluded via {@code includeReturns}) are {@link IntAbstraction#INVALID_STATE invalid}.
+     */
+    int[] tabulate(Object procedure, FullIntAbstraction abstraction, boolean includeReturns) {
+        final int size = abstraction.size();
+        final int[] result = new int[size * numInputs];
+        final boolean[] defined = getDefinedInputs(procedure, includeReturns);
+
+        for (int s = 0; s < size; s++) {
+            final int offset = s * numInputs;
+            for (int i = 0; i < numInputs; i++) {
+                result[offset + i] = defined[i] ? abstraction.getSuccessor(s, i) : IntAbstraction.INVALID_STATE;
+            }
+        }
+
+        return result;
+    }
+
+    static boolean[] tabulateAcceptance(UniversalDeterministicAutomaton.FullIntAbstraction<?, Boolean, ?> abstraction) {
+        final int size = abstraction.size();
+        final boolean[] result = new boolean[size];
+
+        for (int s = 0; s < size; s++) {
+            result[s] = abstraction.getStateProperty(s);
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    boolean[] getDefinedInputs(Object procedure, boolean includeReturns) {
+        final @Nullable Alphabet<I> procedureAlphabet =
+                procedure instanceof InputAlphabetHolder ? ((InputAlphabetHolder<I>) procedure).getInputAlphabet() : null;
+        final boolean[] result = new boolean[numInputs];
+
+        for (int i = 0; i < numInputs; i++) {
+            result[i] = (includeReturns || symbolTypes[i] != RETURN) &&
+                        (procedureAlphabet == null || procedureAlphabet.containsSymbol(alphabet.getSymbol(i)));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the index of the given symbol in the procedural alphabet, or {@code -1} if the symbol is not contained.
+     */
+    int getSymbolIndex(I symbol) {
+        return alphabet.containsSymbol(symbol) ? alphabet.getSymbolIndex(symbol) : -1;
+    }
+
+    void resetStack() {
+        depth = -1;
+    }
+
+    void push(int procedure, int state) {
+        final int newDepth = depth + 1;
+        if (newDepth == procedureStack.length) {
+            final int newLength = procedureStack.length * 2;
+            procedureStack = Arrays.copyOf(procedureStack, newLength);
+            stateStack = Arrays.copyOf(stateStack, newLength);
+        }
+        procedureStack[newDepth] = procedure;
+        stateStack[newDepth] = state;
+        depth = newDepth;
+    }
+
+    void pop() {
+        depth--;
+    }
+
+    int getProcedure() {
+        return procedureStack[depth];
+    }
+
+    int getState() {
+        return stateStack[depth];
+    }
+
+    void setState(int state) {
+        stateStack[depth] = state;
+    }
+}
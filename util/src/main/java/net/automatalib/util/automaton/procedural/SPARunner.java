@@ -0,0 +1,171 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.procedural;
+
+import java.util.Arrays;
+import java.util.Map.Entry;
+
+import net.automatalib.automaton.UniversalDeterministicAutomaton.FullIntAbstraction;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.automaton.procedural.SPA;
+import net.automatalib.common.smartcollection.IntSeq;
+
+/**
+ * An array-based runner for evaluating the language of an {@link SPA}. Upon construction, the procedures of the SPA are
+ * tabulated (via their {@link FullIntAbstraction}s) into primitive transition tables. Runs then only operate on integer
+ * state and symbol indices and use a re-usable, array-based call stack instead of the immutable stack states of, e.g.,
+ * {@link net.automatalib.automaton.procedural.impl.StackSPA}. This makes runners suitable for the bulk evaluation of
+ * (long and deeply nested) words.
+ * <p>
+ * The runner captures the procedures at construction time, i.e., subsequent changes to the procedures are not
+ * reflected. Runners are not thread-safe.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public final class SPARunner<I> extends AbstractProceduralRunner<I> {
+
+    private final int[] initialStates;
+    private final int[][] successors;
+    private final boolean[][] accepting;
+
+    /**
+     * Constructor.
+     *
+     * @param spa
+     *         the SPA whose language should be evaluated
+     */
+    public SPARunner(SPA<?, I> spa) {
+        super(spa.getInputAlphabet(), spa.getInitialProcedure());
+
+        final int numCalls = alphabet.getNumCalls();
+        this.initialStates = new int[numCalls];
+        this.successors = new int[numCalls][];
+        this.accepting = new boolean[numCalls][];
+
+        Arrays.fill(initialStates, -1);
+
+        for (Entry<I, DFA<?, I>> e : spa.getProcedures().entrySet()) {
+            if (alphabet.isCallSymbol(e.getKey())) {
+                final int idx = alphabet.getCallSymbolIndex(e.getKey());
+                final DFA<?, I> procedure = e.getValue();
+                final FullIntAbstraction<?, Boolean, ?> abs = procedure.fullIntAbstraction(alphabet);
+
+                initialStates[idx] = abs.getIntInitialState();
+                successors[idx] = tabulate(procedure, abs, false);
+                accepting[idx] = tabulateAcceptance(abs);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the given word is accepted by the SPA.
+     *
+     * @param input
+     *         the word, given as a sequence of symbol indices w.r.t. the {@link SPA#getInputAlphabet() alphabet} of the
+     *         SPA
+     *
+     * @return {@code true} if the word is accepted, {@code false} otherwise
+     */
+    public boolean accepts(IntSeq input) {
+        resetStack();
+        boolean term = false;
+
+        for (int i = 0; i < input.size(); i++) {
+            if (term || !step(input.get(i))) {
+                return false;
+            }
+            term = depth < 0;
+        }
+
+        return term;
+    }
+
+    /**
+     * Checks whether the given word is accepted by the SPA.
+     *
+     * @param input
+     *         the word
+     *
+     * @return {@code true} if the word is accepted, {@code false} otherwise
+     */
+    public boolean accepts(Iterable<? extends I> input) {
+        resetStack();
+        boolean term = false;
+
+        for (I sym : input) {
+            if (term || !step(getSymbolIndex(sym))) {
+                return false;
+            }
+            term = depth < 0;
+        }
+
+        return term;
+    }
+
+    private boolean step(int sym) {
+        if (sym < 0 || sym >= numInputs) {
+            return false;
+        }
+
+        final int type = symbolTypes[sym];
+
+        if (type == INTERNAL) {
+            if (depth < 0) {
+                return false;
+            }
+
+            final int next = successors[getProcedure()][getState() * numInputs + sym];
+            if (next < 0) {
+                return false;
+            }
+
+            setState(next);
+            return true;
+        } else if (type == CALL) {
+            final int callee = callIndices[sym];
+            final int init = initialStates[callee];
+
+            if (init < 0) {
+                return false;
+            }
+
+            if (depth < 0) {
+                if (sym != initialCall) {
+                    return false;
+                }
+            } else {
+                final int succ = successors[getProcedure()][getState() * numInputs + sym];
+                if (succ < 0) {
+                    return false;
+                }
+                setState(succ);
+            }
+
+            push(callee, init);
+            return true;
+        } else {
+            assert type == RETURN;
+
+            if (depth < 0 || !accepting[getProcedure()][getState()]) {
+                return false;
+            }
+
+            pop();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.procedural;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map.Entry;
+
+import net.automatalib.automaton.UniversalDeterministicAutomaton.FullIntAbstraction;
+import net.automatalib.automaton.procedural.SPMM;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An array-based runner for evaluating the transductions of an {@link SPMM}. Upon construction, the procedures of the
+ * SPMM are tabulated (via their {@link FullIntAbstraction}s) into primitive transition tables. Runs then only operate on
+ * integer state and symbol indices and use a re-usable, array-based call stack instead of the immutable stack states
+ * of, e.g., {@link net.automatalib.automaton.procedural.impl.StackSPMM}. This makes runners suitable for the bulk
+ * evaluation of (long and deeply nested) words.
+ * <p>
+ * The runner captures the procedures at construction time, i.e., subsequent changes to the procedures are not
+ * reflected. Runners are not thread-safe.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public final class SPMMRunner<I, O> extends AbstractProceduralRunner<I> {
+
+    private final O errorOutput;
+    private final O initialOutput;
+    private final int[] initialStates;
+    private final int[][] successors;
+    private final @Nullable Object[][] outputs;
+
+    private O currentOutput;
+
+    /**
+     * Constructor.
+     *
+     * @param spmm
+     *         the SPMM whose transductions should be evaluated
+     */
+    public SPMMRunner(SPMM<?, I, ?, O> spmm) {
+        super(spmm.getInputAlphabet(), spmm.getInitialProcedure());
+
+        final int numCalls = alphabet.getNumCalls();
+        this.errorOutput = spmm.getErrorOutput();
+        this.initialOutput = computeInitialOutput(spmm);
+        this.initialStates = new int[numCalls];
+        this.successors = new int[numCalls][];
+        this.outputs = new Object[numCalls][];
+        this.currentOutput = errorOutput;
+
+        Arrays.fill(initialStates, -1);
+
+        for (Entry<I, MealyMachine<?, I, ?, O>> e : spmm.getProcedures().entrySet()) {
+            if (alphabet.isCallSymbol(e.getKey())) {
+                tabulate(alphabet.getCallSymbolIndex(e.getKey()), e.getValue(), spmm);
+            }
+        }
+    }
+
+    private <S, T> O computeInitialOutput(SPMM<S, I, T, O> spmm) {
+        final I initialProcedure = spmm.getInitialProcedure();
+
+        if (initialProcedure == null) {
+            return errorOutput;
+        }
+
+        final T t = spmm.getTransition(spmm.getInitialState(), initialProcedure);
+        return t == null ? errorOutput : spmm.getTransitionOutput(t);
+    }
+
+    private <T> void tabulate(int idx, MealyMachine<?, I, T, O> procedure, SPMM<?, I, ?, O> spmm) {
+        final FullIntAbstraction<T, ?, O> abs = procedure.fullIntAbstraction(alphabet);
+        final boolean[] defined = getDefinedInputs(procedure, true);
+        final int size = abs.size();
+        final int[] succs = new int[size * numInputs];
+        final Object[] outs = new Object[size * numInputs];
+
+        Arrays.fill(succs, -1);
+
+        for (int s = 0; s < size; s++) {
+            final int offset = s * numInputs;
+            for (int i = 0; i < numInputs; i++) {
+                if (defined[i]) {
+                    final T t = abs.getTransition(s, i);
+                    if (t != null) {
+                        final O output = abs.getTransitionProperty(t);
+                        // transitions with error outputs behave like undefined transitions
+                        if (!spmm.isErrorOutput(output)) {
+                            succs[offset + i] = abs.getIntSuccessor(t);
+                            outs[offset + i] = output;
+                        }
+                    }
+                }
+            }
+        }
+
+        initialStates[idx] = abs.getIntInitialState();
+        successors[idx] = succs;
+        outputs[idx] = outs;
+    }
+
+    /**
+     * Computes the output of the SPMM for the given word.
+     *
+     * @param input
+     *         the word, given as a sequence of symbol indices w.r.t. the {@link SPMM#getInputAlphabet() alphabet} of the
+     *         SPMM
+     * @param output
+     *         the list to which the output symbols should be appended
+     */
+    public void computeOutput(IntSeq input, List<? super O> output) {
+        resetStack();
+        boolean active = true;
+
+        for (int i = 0; i < input.size(); i++) {
+            active = process(input.get(i), active, output);
+        }
+    }
+
+    /**
+     * Computes the output of the SPMM for the given word.
+     *
+     * @param input
+     *         the word
+     *
+     * @return the output word
+     */
+    public Word<O> computeOutput(Iterable<? extends I> input) {
+        final WordBuilder<O> result = new WordBuilder<>();
+        resetStack();
+        boolean active = true;
+
+        for (I sym : input) {
+            active = process(getSymbolIndex(sym), active, result);
+        }
+
+        return result.toWord();
+    }
+
+    private boolean process(int sym, boolean active, List<? super O> output) {
+        if (active && step(sym)) {
+            output.add(currentOutput);
+            // returning from the initial procedure terminates the run
+            return depth >= 0;
+        }
+
+        output.add(errorOutput);
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean step(int sym) {
+        if (sym < 0 || sym >= numInputs) {
+            return false;
+        }
+
+        final int type = symbolTypes[sym];
+
+        if (type == INTERNAL) {
+            if (depth < 0) {
+                return false;
+            }
+
+            final int procedure = getProcedure();
+            final int trans = getState() * numInputs + sym;
+            final int next = successors[procedure][trans];
+            if (next < 0) {
+                return false;
+            }
+
+            currentOutput = (O) outputs[procedure][trans];
+            setState(next);
+            return true;
+        } else if (type == CALL) {
+            final int callee = callIndices[sym];
+            final int init = initialStates[callee];
+
+            if (init < 0) {
+                return false;
+            }
+
+            if (depth < 0) {
+                if (sym != initialCall) {
+                    return false;
+                }
+                currentOutput = initialOutput;
+            } else {
+                final int procedure = getProcedure();
+                final int trans = getState() * numInputs + sym;
+                final int succ = successors[procedure][trans];
+                if (succ < 0) {
+                    return false;
+                }
+                currentOutput = (O) outputs[procedure][trans];
+                setState(succ);
+            }
+
+            push(callee, init);
+            return true;
+        } else {
+            assert type == RETURN;
+
+            if (depth < 0) {
+                return false;
+            }
+
+            final int procedure = getProcedure();
+            final int trans = getState() * numInputs + sym;
+            if (successors[procedure][trans] < 0) {
+                return false;
+            }
+
+            currentOutput = (O) outputs[procedure][trans];
+            pop();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.random;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Utility methods for generating (large) random automata in parallel. The states of the automaton are split into
+ * chunks of fixed size and each chunk is filled by its own {@link SplittableRandom}. Since the chunk-specific random
+ * generators are derived from a single seed in a fixed order, the generated automata only depend on the given seed and
+ * not on the degree of parallelism. Transitions are written directly into the (disjoint) regions of the compact
+ * transition arrays of {@link CompactDFA}s and {@link CompactMealy}s.
+ * <p>
+ * If requested, the automata are generated <i>initially connected</i>, i.e., all states are reachable from the initial
+ * state. For this, a random spanning tree is computed (sequentially) first, in which each new state is attached to a
+ * uniformly chosen, yet undefined transition of the previously added states. The remaining transitions are then
+ * generated in parallel. Note that the generated automata are <b>not</b> minimized.
+ */
+public final class ParallelRandomAutomata {
+
+    /**
+     * The number of states that are generated by the same random generator (and thread).
+     */
+    public static final int CHUNK_SIZE = 1 << 12;
+
+    private ParallelRandomAutomata() {
+        // prevent instantiation
+    }
+
+    /**
+     * Generates a random, complete DFA. Each state is accepting with a probability of 0.5.
+     *
+     * @param seed
+     *         the seed of the randomness source
+     * @param numStates
+     *         the number of states of the generated automaton
+     * @param alphabet
+     *         the input alphabet
+     * @param initiallyConnected
+     *         whether all states of the generated automaton should be reachable from its initial state
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the generated automaton
+     */
+    public static <I> CompactDFA<I> randomDFA(long seed,
+                                              @NonNegative int numStates,
+                                              Alphabet<I> alphabet,
+                                              boolean initiallyConnected) {
+        final CompactDFA<I> result = new CompactDFA<>(alphabet, numStates);
+
+        if (numStates == 0) {
+            return result;
+        }
+
+        final SplittableRandom random = new SplittableRandom(seed);
+        final int numInputs = alphabet.size();
+        final int @Nullable [] tree = initiallyConnected ? spanningTree(random, numStates, numInputs) : null;
+        final int initial = initiallyConnected ? 0 : random.nextInt(numStates);
+        final SplittableRandom[] randoms = split(random, numStates);
+        final boolean[] accepting = new boolean[numStates];
+
+        for (int i = 0; i < numStates; i++) {
+            result.addIntState(false);
+        }
+
+        IntStream.range(0, randoms.length).parallel().forEach(c -> {
+            final SplittableRandom r = randoms[c];
+            final int upper = Math.min(numStates, (c + 1) * CHUNK_SIZE);
+
+            for (int s = c * CHUNK_SIZE; s < upper; s++) {
+                accepting[s] = r.nextBoolean();
+                for (int i = 0; i < numInputs; i++) {
+                    result.setTransition(s, i, successor(r, tree, s * numInputs + i, numStates));
+                }
+            }
+        });
+
+        for (int i = 0; i < numStates; i++) {
+            if (accepting[i]) {
+                result.setAccepting(i, true);
+            }
+        }
+
+        result.setInitialState(initial);
+
+        return result;
+    }
+
+    /**
+     * Generates a random, complete Mealy machine. The output of each transition is chosen uniformly from the given
+     * outputs.
+     *
+     * @param seed
+     *         the seed of the randomness source
+     * @param numStates
+     *         the number of states of the generated automaton
+     * @param alphabet
+     *         the input alphabet
+     * @param outputs
+     *         the output symbols
+     * @param initiallyConnected
+     *         whether all states of the generated automaton should be reachable from its initial state
+     * @param <I>
+     *         input symbol type
+     * @param <O>
+     *         output symbol type
+     *
+     * @return the generated automaton
+     */
+    public static <I, O> CompactMealy<I, O> randomMealy(long seed,
+                                                        @NonNegative int numStates,
+                                                        Alphabet<I> alphabet,
+                                                        List<? extends O> outputs,
+                                                        boolean initiallyConnected) {
+        final CompactMealy<I, O> result = new CompactMealy<>(alphabet, numStates);
+
+        if (numStates == 0) {
+            return result;
+        }
+
+        final SplittableRandom random = new SplittableRandom(seed);
+        final int numInputs = alphabet.size();
+        final int numOutputs = outputs.size();
+        final int @Nullable [] tree = initiallyConnected ? spanningTree(random, numStates, numInputs) : null;
+        final int initial = initiallyConnected ? 0 : random.nextInt(numStates);
+        final SplittableRandom[] randoms = split(random, numStates);
+
+        for (int i = 0; i < numStates; i++) {
+            result.addIntState(null);
+        }
+
+        IntStream.range(0, randoms.length).parallel().forEach(c -> {
+            final SplittableRandom r = randoms[c];
+            final int upper = Math.min(numStates, (c + 1) * CHUNK_SIZE);
+
+            for (int s = c * CHUNK_SIZE; s < upper; s++) {
+                for (int i = 0; i < numInputs; i++) {
+                    final int succ = successor(r, tree, s * numInputs + i, numStates);
+                    result.setTransition(s, i, succ, outputs.get(r.nextInt(numOutputs)));
+                }
+            }
+        });
+
+        result.setInitialState(initial);
+
+        return result;
+    }
+
+    /**
+     * Computes a random spanning tree, rooted in state {@code 0}. Each state {@code i > 0} is the successor of a
+     * uniformly chosen, free (memory-indexed) transition of the states {@code 0, ..., i - 1}.
+     *
+     * @return the successors of the tree transitions (indexed by {@code state * numInputs + input}), {@code -1} for
+     * all other transitions
+     */
+    private static int[] spanningTree(SplittableRandom random, int numStates, int numInputs) {
+        if (numStates > 1 && numInputs == 0) {
+            throw new IllegalArgumentException("Cannot connect multiple states without inputs");
+        }
+
+        final int size = numStates * numInputs;
+        final int[] tree = new int[size];
+        final int[] free = new int[size];
+        int numFree = 0;
+
+        for (int s = 0; s < numStates; s++) {
+            if (s > 0) {
+                final int pos = random.nextInt(numFree);
+                tree[free[pos]] = s;
+                free[pos] = free[--numFree];
+            }
+
+            final int offset = s * numInputs;
+            for (int i = 0; i < numInputs; i++) {
+                tree[offset + i] = -1;
+                free[numFree++] = offset + i;
+            }
+        }
+
+        return tree;
+    }
+
+    private static SplittableRandom[] split(SplittableRandom random, int numStates) {
+        final SplittableRandom[] result = new SplittableRandom[(numStates + CHUNK_SIZE - 1) / CHUNK_SIZE];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = random.split();
+        }
+
+        return result;
+    }
+
+    private static int successor(SplittableRandom random, int @Nullable [] tree, int memoryIdx, int numStates) {
+        if (tree != null && tree[memoryIdx] >= 0) {
+            return tree[memoryIdx];
+        }
+        return random.nextInt(numStates);
+    }
+}
@@ -16,27 +16,43 @@
 package net.automatalib.util.automaton.transducer;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.IntConsumer;
 
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.automaton.impl.CompactTransition;
+import net.automatalib.automaton.impl.UniversalCompactDet;
 import net.automatalib.automaton.transducer.MutableSubsequentialTransducer;
 import net.automatalib.automaton.transducer.SubsequentialTransducer;
+import net.automatalib.automaton.transducer.impl.CompactSST;
 import net.automatalib.common.util.Pair;
+import net.automatalib.common.util.fixpoint.IntWorksetAlgorithm;
+import net.automatalib.common.util.fixpoint.Worksets;
 import net.automatalib.common.util.mapping.Mapping;
 import net.automatalib.common.util.mapping.MutableMapping;
 import net.automatalib.util.automaton.copy.AutomatonCopyMethod;
 import net.automatalib.util.automaton.copy.AutomatonLowLevelCopy;
 import net.automatalib.util.automaton.minimizer.HopcroftMinimizer;
 import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
 
 /**
  * Utility methods of {@link SubsequentialTransducer}s.
  */
 public final class SubsequentialTransducers {
 
+    private static final int UNKNOWN_LENGTH = -1;
+
     private SubsequentialTransducers() {
         // prevent initialization
     }
@@ -206,6 +222,264 @@ public final class SubsequentialTransducers {
         return true;
     }
 
+    /**
+     * Constructs a new minimal <i>onward</i> subsequential transducer for a given {@link SubsequentialTransducer SST}.
+     * The result is equivalent to {@link #toOnwardSST(SubsequentialTransducer, Collection, MutableSubsequentialTransducer)
+     * toOnwardSST(sst, alphabet, new CompactSST&lt;&gt;(alphabet))} but is computed on integer representations of the
+     * outputs: The longest common prefixes are determined as prefix lengths of the (symbol-indexed) state outputs and
+     * all normalized outputs are interned into a shared trie so that the subsequent minimization only compares integer
+     * ids. {@link Word}s are only constructed for the outputs of the final, minimal SST.
+     *
+     * @param sst
+     *         the original SST
+     * @param alphabet
+     *         the alphabet symbols to consider for this transformation
+     * @param <I>
+     *         input symbol type
+     * @param <O>
+     *         output symbol type
+     *
+     * @return the minimal onward SST
+     */
+    public static <I, O> CompactSST<I, O> toMinimalOnwardSST(SubsequentialTransducer<?, I, ?, O> sst,
+                                                             Alphabet<I> alphabet) {
+        return toMinimalOnwardSST(sst, alphabet, new CompactSST<>(alphabet));
+    }
+
+    /**
+     * Constructs a new minimal <i>onward</i> subsequential transducer for a given {@link SubsequentialTransducer SST}
+     * and writes it to the given (empty) automaton. See {@link #toMinimalOnwardSST(SubsequentialTransducer, Alphabet)}
+     * for details.
+     *
+     * @param sst
+     *         the original SST
+     * @param alphabet
+     *         the alphabet symbols to consider for this transformation
+     * @param out
+     *         the target automaton to write the minimal onward form to
+     * @param <S>
+     *         state type (of the output SST)
+     * @param <I>
+     *         input symbol type
+     * @param <T>
+     *         transition type (of the output SST)
+     * @param <O>
+     *         output symbol type
+     * @param <A>
+     *         automaton type
+     *
+     * @return {@code out}, for convenience
+     */
+    public static <S, I, T, O, A extends MutableSubsequentialTransducer<S, I, T, O>> A toMinimalOnwardSST(
+            SubsequentialTransducer<?, I, ?, O> sst,
+            Alphabet<I> alphabet,
+            A out) {
+
+        assert out.size() == 0;
+
+        final OutputTrie<O> trie = new OutputTrie<>();
+        final UniversalCompactDet<I, Integer, Integer> onward = toOnwardTrieSST(sst, alphabet, trie);
+
+        if (onward.getInitialState() == null) {
+            return out;
+        }
+
+        final UniversalCompactDet<I, Integer, Integer> minimal =
+                HopcroftMinimizer.minimizePartialUniversal(onward, alphabet);
+        final int numInputs = alphabet.size();
+        final List<S> states = new ArrayList<>(minimal.size());
+
+        for (int s = 0; s < minimal.size(); s++) {
+            states.add(out.addState(trie.getWord(minimal.getStateProperty(s))));
+        }
+
+        final Integer init = minimal.getInitialState();
+        assert init != null;
+        out.setInitial(states.get(init), true);
+
+        for (int s = 0; s < minimal.size(); s++) {
+            final S src = states.get(s);
+            for (int i = 0; i < numInputs; i++) {
+                final CompactTransition<Integer> t = minimal.getTransition(s, i);
+                if (t != null) {
+                    out.addTransition(src,
+                                      alphabet.getSymbol(i),
+                                      states.get(t.getSuccId()),
+                                      trie.getWord(t.getProperty()));
+                }
+            }
+        }
+
+        return out;
+    }
+
+    /**
+     * Computes the onward form of the given SST whose state and transition properties are the ids of the (normalized)
+     * outputs in the given trie.
+     * <p>
+     * For each state {@code q} the (greatest) fixpoint of {@code d(q) = lcp(out(q), out(q,a) . d(succ(q,a)), ...)} is
+     * computed. Since {@code d(q)} is always a prefix of the state output of {@code q}, it is stored as a prefix length
+     * only. The onward form then has the state outputs {@code d(q)^-1 out(q)} and the transition outputs {@code
+     * d(q)^-1 out(q,a) d(succ(q,a))}. The initial state does not push back its prefix (i.e., it has an offset of 0) and
+     * is duplicated if it has incoming transitions.
+     */
+    private static <S, I, T, O> UniversalCompactDet<I, Integer, Integer> toOnwardTrieSST(SubsequentialTransducer<S, I, T, O> sst,
+                                                                                       Alphabet<I> alphabet,
+                                                                                       OutputTrie<O> trie) {
+
+        final int numInputs = alphabet.size();
+        final UniversalCompactDet<I, Integer, Integer> result = new UniversalCompactDet<>(alphabet);
+
+        final S initialState = sst.getInitialState();
+        if (initialState == null) {
+            return result;
+        }
+
+        final int numStates = sst.size();
+        final StateIDs<S> ids = sst.stateIDs();
+
+        final int[][] stateOutputs = new int[numStates][];
+        final int[][] transitionOutputs = new int[numStates * numInputs][];
+        final int[] successors = new int[numStates * numInputs];
+        final int[] predOffsets = new int[numStates + 1];
+
+        for (S s : sst) {
+            final int id = ids.getStateId(s);
+            stateOutputs[id] = trie.toSymbols(sst.getStateProperty(s));
+
+            for (int i = 0; i < numInputs; i++) {
+                final int idx = id * numInputs + i;
+                final T t = sst.getTransition(s, alphabet.getSymbol(i));
+                if (t == null) {
+                    successors[idx] = -1;
+                } else {
+                    final int succ = ids.getStateId(sst.getSuccessor(t));
+                    successors[idx] = succ;
+                    transitionOutputs[idx] = trie.toSymbols(sst.getTransitionProperty(t));
+                    predOffsets[succ + 1]++;
+                }
+            }
+        }
+
+        // CSR index of the predecessors of each state
+        for (int q = 0; q < numStates; q++) {
+            predOffsets[q + 1] += predOffsets[q];
+        }
+        final int[] predecessors = new int[predOffsets[numStates]];
+        final int[] fill = Arrays.copyOf(predOffsets, numStates);
+        for (int idx = 0; idx < successors.length; idx++) {
+            final int succ = successors[idx];
+            if (succ >= 0) {
+                predecessors[fill[succ]++] = idx / numInputs;
+            }
+        }
+
+        final int[] lcps = Worksets.process(new IntWorksetAlgorithm<int[]>() {
+
+            private final int[] lengths = new int[numStates];
+
+            @Override
+            public int expectedElementCount() {
+                return numStates;
+            }
+
+            @Override
+            public void initialize(IntConsumer discovered) {
+                Arrays.fill(lengths, UNKNOWN_LENGTH);
+                for (int q = 0; q < numStates; q++) {
+                    discovered.accept(q);
+                }
+            }
+
+            @Override
+            public void update(int current, IntConsumer discovered) {
+                final int[] stateOutput = stateOutputs[current];
+                final int oldLength = lengths[current];
+
+                int length = oldLength == UNKNOWN_LENGTH ? stateOutput.length : oldLength;
+                for (int i = 0; i < numInputs && length > 0; i++) {
+                    final int idx = current * numInputs + i;
+                    final int succ = successors[idx];
+                    if (succ >= 0) {
+                        length = lcpLength(stateOutput,
+                                           length,
+                                           transitionOutputs[idx],
+                                           stateOutputs[succ],
+                                           lengths[succ]);
+                    }
+                }
+
+                if (length != oldLength) {
+                    lengths[current] = length;
+                    for (int p = predOffsets[current]; p < predOffsets[current + 1]; p++) {
+                        discovered.accept(predecessors[p]);
+                    }
+                }
+            }
+
+            @Override
+            public int[] result() {
+                return lengths;
+            }
+        });
+
+        // copy the initial state to prevent push-back of prefixes for the initial state
+        final int init = ids.getStateId(initialState);
+        final boolean copyInit = predOffsets[init + 1] > predOffsets[init];
+        final int initRole = copyInit ? numStates : init;
+        final int numRoles = copyInit ? numStates + 1 : numStates;
+        final int[] empty = new int[0];
+
+        for (int r = 0; r < numRoles; r++) {
+            final int q = r == numStates ? init : r;
+            result.addIntState(trie.intern(stateOutputs[q], r == initRole ? 0 : lcps[q], empty, 0));
+        }
+
+        for (int r = 0; r < numRoles; r++) {
+            final int q = r == numStates ? init : r;
+            final int offset = r == initRole ? 0 : lcps[q];
+            for (int i = 0; i < numInputs; i++) {
+                final int idx = q * numInputs + i;
+                final int succ = successors[idx];
+                if (succ >= 0) {
+                    final int output = trie.intern(transitionOutputs[idx], offset, stateOutputs[succ], lcps[succ]);
+                    result.setTransition(r, i, succ, output);
+                }
+            }
+        }
+
+        result.setInitial(initRole, true);
+
+        return result;
+    }
+
+    /**
+     * Computes the length of the longest common prefix of {@code prefix[0..prefixLength)} and {@code head .
+     * tail[0..tailLength)}. A {@code tailLength} of {@link #UNKNOWN_LENGTH} denotes a not-yet-computed tail which is
+     * compatible with every continuation.
+     */
+    private static int lcpLength(int[] prefix, int prefixLength, int[] head, int[] tail, int tailLength) {
+        final int headLimit = Math.min(prefixLength, head.length);
+
+        int k = 0;
+        while (k < headLimit && prefix[k] == head[k]) {
+            k++;
+        }
+
+        if (k < head.length || k == prefixLength) {
+            return k;
+        } else if (tailLength == UNKNOWN_LENGTH) {
+            return prefixLength;
+        }
+
+        final int tailLimit = Math.min(prefixLength, head.length + tailLength);
+        while (k < tailLimit && prefix[k] == tail[k - head.length]) {
+            k++;
+        }
+
+        return k;
+    }
+
     private static <S, I, T> Mapping<S, Set<Pair<S, I>>> getIncomingTransitions(SubsequentialTransducer<S, I, T, ?> sst,
                                                                                 Collection<? extends I> inputs) {
 
@@ -245,4 +519,140 @@ public final class SubsequentialTransducers {
         return lcp;
     }
 
+    /**
+     * A trie of output words. Output symbols are interned to (dense) integer ids and each node of the trie represents
+     * the word spelled by the path from the root (the empty word, id {@code 0}) to the node. Hence, equal words have
+     * equal node ids.
+     */
+    private static final class OutputTrie<O> {
+
+        private static final long EMPTY = -1L;
+
+        private final Map<O, Integer> symbolIds;
+        private final List<O> symbols;
+        private final Map<Integer, Word<O>> words;
+
+        private int[] parents;
+        private int[] labels;
+        private int numNodes;
+
+        // open-addressing hash table from packed (parent, label) pairs to child nodes
+        private long[] keys;
+        private int[] values;
+
+        OutputTrie() {
+            this.symbolIds = new HashMap<>();
+            this.symbols = new ArrayList<>();
+            this.words = new HashMap<>();
+            this.parents = new int[16];
+            this.labels = new int[16];
+            this.numNodes = 1;
+            this.keys = new long[32];
+            this.values = new int[32];
+
+            Arrays.fill(this.keys, EMPTY);
+            this.parents[0] = -1;
+            this.labels[0] = -1;
+        }
+
+        int[] toSymbols(Word<O> word) {
+            final int[] result = new int[word.length()];
+            int idx = 0;
+            for (O sym : word) {
+                Integer id = symbolIds.get(sym);
+                if (id == null) {
+                    id = symbols.size();
+                    symbolIds.put(sym, id);
+                    symbols.add(sym);
+                }
+                result[idx++] = id;
+            }
+            return result;
+        }
+
+        /**
+         * Returns the node id of the word {@code (head . tail[0..tailLength))[offset..]}.
+         */
+        int intern(int[] head, int offset, int[] tail, int tailLength) {
+            int node = 0;
+            for (int k = offset; k < head.length; k++) {
+                node = getOrAddChild(node, head[k]);
+            }
+            for (int k = Math.max(offset - head.length, 0); k < tailLength; k++) {
+                node = getOrAddChild(node, tail[k]);
+            }
+            return node;
+        }
+
+        Word<O> getWord(int node) {
+            return words.computeIfAbsent(node, this::computeWord);
+        }
+
+        private Word<O> computeWord(int node) {
+            final WordBuilder<O> wb = new WordBuilder<>();
+            for (int n = node; n > 0; n = parents[n]) {
+                wb.append(symbols.get(labels[n]));
+            }
+            return wb.reverse().toWord();
+        }
+
+        private int getOrAddChild(int parent, int label) {
+            final long key = ((long) parent << Integer.SIZE) | (label & 0xFFFFFFFFL);
+
+            final int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            final int node = numNodes++;
+            keys[slot] = key;
+            values[slot] = node;
+
+            if (node == parents.length) {
+                parents = Arrays.copyOf(parents, node * 2);
+                labels = Arrays.copyOf(labels, node * 2);
+            }
+            parents[node] = parent;
+            labels[node] = label;
+
+            // keep the load factor of the hash table at most 0.5
+            if (numNodes * 2 > keys.length) {
+                rehash();
+            }
+
+            return node;
+        }
+
+        private void rehash() {
+            final int newCapacity = keys.length * 2;
+            final int mask = newCapacity - 1;
+            final long[] newKeys = new long[newCapacity];
+            final int[] newValues = new int[newCapacity];
+            Arrays.fill(newKeys, EMPTY);
+
+            for (int i = 0; i < keys.length; i++) {
+                final long key = keys[i];
+                if (key != EMPTY) {
+                    int slot = hash(key) & mask;
+                    while (newKeys[slot] != EMPTY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    newKeys[slot] = key;
+                    newValues[slot] = values[i];
+                }
+            }
+
+            this.keys = newKeys;
+            this.values = newValues;
+        }
+
+        private static int hash(long key) {
+            final long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
 }
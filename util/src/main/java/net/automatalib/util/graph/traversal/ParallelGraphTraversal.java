@@ -0,0 +1,196 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.graph.traversal;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import net.automatalib.common.util.Holder;
+import net.automatalib.common.util.concurrent.AtomicBitSet;
+import net.automatalib.graph.Graph;
+import net.automatalib.graph.concept.NodeIDs;
+
+/**
+ * Level-synchronous, parallel breadth-first traversals of (finite) graphs. All nodes of a BFS level are explored
+ * concurrently (via parallel streams, i.e., in the {@link java.util.concurrent.ForkJoinPool} of the calling thread or
+ * the common pool) and each worker collects the discovered nodes in its own frontier, which are merged to form the
+ * next level. Nodes are identified by their {@link NodeIDs} and the discovered nodes are tracked in an
+ * {@link AtomicBitSet}.
+ */
+public final class ParallelGraphTraversal {
+
+    // frontiers smaller than this threshold are processed sequentially
+    private static final int PARALLEL_THRESHOLD = 1024;
+
+    private ParallelGraphTraversal() {
+        // prevent instantiation
+    }
+
+    /**
+     * Traverses the given graph in a level-synchronous, parallel breadth-first fashion. The traversal is steered by the
+     * specified visitor. In contrast to {@link GraphTraversal#breadthFirst(net.automatalib.graph.IndefiniteGraph,
+     * Collection, GraphTraversalVisitor)}:
+     * <ul>
+     *     <li>the callbacks of the visitor may be invoked concurrently by multiple threads (for different nodes of the
+     *     same level) and therefore need to be thread-safe,</li>
+     *     <li>each node is explored at most once, i.e., {@link GraphTraversalAction#EXPLORE exploring} an already
+     *     discovered node has the same effect as {@link GraphTraversalAction#IGNORE ignoring} it, and a newly
+     *     discovered node is associated with the data of the (arbitrary) edge that discovered it first,</li>
+     *     <li>the order in which the nodes of a level are explored is unspecified, and</li>
+     *     <li>{@link GraphTraversalAction#ABORT_TRAVERSAL aborting} the traversal stops the exploration of nodes that
+     *     have not yet been started, but nodes that are concurrently explored may still invoke callbacks.</li>
+     * </ul>
+     *
+     * @param graph
+     *         the graph
+     * @param initialNodes
+     *         the nodes from which the traversal should start
+     * @param visitor
+     *         the (thread-safe) visitor
+     * @param <N>
+     *         node type
+     * @param <E>
+     *         edge type
+     * @param <D>
+     *         (user) data type
+     */
+    public static <N, E, D> void breadthFirst(Graph<N, E> graph,
+                                              Collection<? extends N> initialNodes,
+                                              GraphTraversalVisitor<N, E, D> visitor) {
+        traverse(graph, initialNodes, visitor);
+    }
+
+    /**
+     * Computes the nodes that are reachable from the given nodes in a level-synchronous, parallel breadth-first
+     * fashion.
+     *
+     * @param graph
+     *         the graph
+     * @param initialNodes
+     *         the nodes from which the traversal should start
+     * @param <N>
+     *         node type
+     * @param <E>
+     *         edge type
+     *
+     * @return a {@link BitSet} containing the {@link NodeIDs ids} of the reachable nodes
+     */
+    public static <N, E> BitSet reachableNodes(Graph<N, E> graph, Collection<? extends N> initialNodes) {
+        // the default visitor explores every edge, so that all reachable nodes are discovered
+        return traverse(graph, initialNodes, new GraphTraversalVisitor<N, E, Void>() {}).toBitSet();
+    }
+
+    // returns the discovered nodes
+    private static <N, E, D> AtomicBitSet traverse(Graph<N, E> graph,
+                                                   Collection<? extends N> initialNodes,
+                                                   GraphTraversalVisitor<N, E, D> visitor) {
+
+        final NodeIDs<N> nodeIds = graph.nodeIDs();
+        final AtomicBitSet discovered = new AtomicBitSet(graph.size());
+        final AtomicBoolean aborted = new AtomicBoolean();
+
+        List<BFRecord<N, D>> frontier = new ArrayList<>();
+        final Holder<D> dataHolder = new Holder<>();
+
+        for (N init : initialNodes) {
+            dataHolder.value = null;
+            final GraphTraversalAction act = visitor.processInitial(init, dataHolder);
+
+            switch (act) {
+                case IGNORE:
+                case ABORT_NODE:
+                    continue;
+                case ABORT_TRAVERSAL:
+                    return discovered;
+                case EXPLORE:
+                    if (discovered.set(nodeIds.getNodeId(init))) {
+                        frontier.add(new BFRecord<>(init, dataHolder.value));
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown action " + act);
+            }
+        }
+
+        while (!frontier.isEmpty() && !aborted.get()) {
+            final Stream<BFRecord<N, D>> stream =
+                    frontier.size() < PARALLEL_THRESHOLD ? frontier.stream() : frontier.parallelStream();
+
+            frontier = stream.collect(ArrayList::new,
+                                      (next, record) -> explore(graph,
+                                                                visitor,
+                                                                nodeIds,
+                                                                discovered,
+                                                                aborted,
+                                                                record,
+                                                                next),
+                                      ArrayList::addAll);
+        }
+
+        return discovered;
+    }
+
+    private static <N, E, D> void explore(Graph<N, E> graph,
+                                          GraphTraversalVisitor<N, E, D> visitor,
+                                          NodeIDs<N> nodeIds,
+                                          AtomicBitSet discovered,
+                                          AtomicBoolean aborted,
+                                          BFRecord<N, D> current,
+                                          List<BFRecord<N, D>> next) {
+
+        final N currNode = current.node;
+        final D currData = current.data;
+
+        if (aborted.get() || !visitor.startExploration(currNode, currData)) {
+            return;
+        }
+
+        final Holder<D> dataHolder = new Holder<>();
+        final Iterator<E> edges = graph.getOutgoingEdgesIterator(currNode);
+
+        while (edges.hasNext()) {
+            final E edge = edges.next();
+            final N tgtNode = graph.getTarget(edge);
+
+            dataHolder.value = null;
+            final GraphTraversalAction act = visitor.processEdge(currNode, currData, edge, tgtNode, dataHolder);
+
+            switch (act) {
+                case IGNORE:
+                    continue;
+                case ABORT_NODE:
+                    return;
+                case ABORT_TRAVERSAL:
+                    aborted.set(true);
+                    return;
+                case EXPLORE:
+                    if (discovered.set(nodeIds.getNodeId(tgtNode))) {
+                        next.add(new BFRecord<>(tgtNode, dataHolder.value));
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown action " + act);
+            }
+        }
+
+        visitor.finishExploration(currNode, currData);
+    }
+}
@@ -0,0 +1,151 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.minimizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.automatalib.common.util.array.ArrayStorage;
+import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.graph.UniversalGraph;
+import net.automatalib.util.graph.traversal.GraphTraversal;
+import net.automatalib.util.partitionrefinement.Valmari;
+import net.automatalib.util.partitionrefinement.ValmariInitializers;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Graph minimizer based on the int-array {@link Valmari partition refinement} engine. Like the {@link Minimizer}, this
+ * class minimizes (partially defined) automata that are accessed via the {@link UniversalGraph} interface and returns
+ * the result as a {@link MinimizationResult}. However, the graph is only traversed once in order to translate it into
+ * a primitive, int-indexed representation, so that the refinement itself does not create any per-state or per-edge
+ * objects.
+ * <p>
+ * Nodes are initially partitioned by their node properties and edges are distinguished by their edge properties. For
+ * graphs in which each node has at most one outgoing edge per edge property, the result coincides with the one of the
+ * {@link Minimizer}. Otherwise, the computed partition is the coarsest (strong) bisimulation of the graph.
+ */
+public final class ValmariMinimizer {
+
+    private ValmariMinimizer() {
+        // prevent instantiation
+    }
+
+    /**
+     * Minimizes the sub-graph reachable from all nodes of the given graph, i.e., the complete graph.
+     *
+     * @param graph
+     *         the graph
+     * @param <S>
+     *         node type
+     * @param <L>
+     *         edge property type
+     *
+     * @return the result structure
+     *
+     * @see Minimizer#minimize(UniversalGraph)
+     */
+    public static <S, L> MinimizationResult<S, L> minimize(UniversalGraph<S, ?, ?, L> graph) {
+        return minimize(graph, graph.getNodes());
+    }
+
+    /**
+     * Minimizes the sub-graph reachable from the given nodes.
+     *
+     * @param graph
+     *         the graph
+     * @param start
+     *         the nodes from which reachable nodes should be determined
+     * @param <S>
+     *         node type
+     * @param <L>
+     *         edge property type
+     *
+     * @return the result structure
+     *
+     * @see Minimizer#minimize(UniversalGraph, Collection)
+     */
+    public static <S, L> MinimizationResult<S, L> minimize(UniversalGraph<S, ?, ?, L> graph,
+                                                           Collection<? extends S> start) {
+        return minimizeInternal(graph, start);
+    }
+
+    private static <S, E, L> MinimizationResult<S, L> minimizeInternal(UniversalGraph<S, E, ?, L> graph,
+                                                                      Collection<? extends S> start) {
+        final MutableMapping<S, State<S, L>> mapping = graph.createStaticNodeMapping();
+
+        if (start.isEmpty()) {
+            return new MinimizationResult<>(mapping, Collections.emptyList());
+        }
+
+        final List<State<S, L>> states = new ArrayList<>();
+
+        for (S node : GraphTraversal.depthFirstOrder(graph, start)) {
+            final State<S, L> state = new State<>(states.size(), node);
+            mapping.put(node, state);
+            states.add(state);
+        }
+
+        final int n = states.size();
+        final int[] blocks = new int[n];
+        final Map<@Nullable Object, Integer> classes = new HashMap<>();
+        final Map<@Nullable L, Integer> labels = new HashMap<>();
+
+        int[] tail = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+        int[] label = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+        int[] head = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+        int m = 0;
+
+        for (int i = 0; i < n; i++) {
+            final S node = states.get(i).getOriginalState();
+            blocks[i] = classes.computeIfAbsent(graph.getNodeProperty(node), k -> classes.size());
+
+            for (E edge : graph.getOutgoingEdges(node)) {
+                if (m == tail.length) {
+                    final int newCapacity = 2 * m;
+                    tail = Arrays.copyOf(tail, newCapacity);
+                    label = Arrays.copyOf(label, newCapacity);
+                    head = Arrays.copyOf(head, newCapacity);
+                }
+
+                tail[m] = i;
+                label[m] = labels.computeIfAbsent(graph.getEdgeProperty(edge), k -> labels.size());
+                head[m] = mapping.get(graph.getTarget(edge)).getId();
+                m++;
+            }
+        }
+
+        final Valmari valmari = ValmariInitializers.initializeUnsorted(blocks, tail, label, head, m, labels.size());
+        valmari.computeCoarsestStablePartition();
+
+        final int numBlocks = valmari.blocks.sets + 1;
+        final List<Block<S, L>> partition = new ArrayList<>(numBlocks);
+
+        for (int i = 0; i < numBlocks; i++) {
+            partition.add(new Block<>(i));
+        }
+
+        for (int i = 0; i < n; i++) {
+            partition.get(valmari.blocks.sidx[i]).addState(states.get(i));
+        }
+
+        return new MinimizationResult<>(mapping, partition);
+    }
+}
@@ -15,15 +15,23 @@
  */
 package net.automatalib.util.partitionrefinement;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 
 import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.Automaton;
 import net.automatalib.automaton.UniversalAutomaton;
+import net.automatalib.automaton.base.AbstractCompactSimpleNondet;
 import net.automatalib.automaton.concept.InputAlphabetHolder;
 import net.automatalib.automaton.concept.StateIDs;
 import net.automatalib.automaton.fsa.NFA;
+import net.automatalib.common.util.array.ArrayStorage;
+import net.automatalib.common.util.collection.CollectionUtil;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -96,13 +104,11 @@ public final class ValmariInitializers {
                                                         Alphabet<I> alphabet,
                                                         Function<? super S, ?> initialClassifier) {
         final int n = automaton.size();
-        final int k = alphabet.size();
 
         final int[] blocks = new int[n];
         final StateIDs<S> stateIDs = automaton.stateIDs();
         final Map<@Nullable Object, Integer> signatures = new HashMap<>();
 
-        int m = 0;
         int cnt = 0;
 
         for (int i = 0; i < n; i++) {
@@ -114,34 +120,223 @@ public final class ValmariInitializers {
                 signatures.put(sig, cnt++);
             }
             blocks[i] = id;
+        }
 
-            for (int j = 0; j < k; j++) {
-                m += automaton.getTransitions(s, alphabet.getSymbol(j)).size();
-            }
+        final TransitionCollector collector = new TransitionCollector(alphabet.size());
+        collector.collect(automaton, alphabet::getSymbol, 0);
+
+        return collector.toValmari(blocks);
+    }
+
+    /**
+     * Initializes the partition refinement data structure for computing the (structural) bisimulation between the
+     * states of a single automaton. The initial partition consists of a single block, i.e., state properties are not
+     * considered. In the resulting data structure, the states of the automaton are identified by their
+     * {@link StateIDs state ids}.
+     *
+     * @param automaton
+     *         the automaton
+     * @param inputs
+     *         the input symbols to consider
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the initialized partition refinement data structure
+     */
+    public static <I> Valmari initializeBisimulation(Automaton<?, I, ?> automaton, Collection<? extends I> inputs) {
+        final List<? extends I> alphabet = CollectionUtil.randomAccessList(inputs);
+
+        final TransitionCollector collector = new TransitionCollector(alphabet.size());
+        collector.collect(automaton, alphabet::get, 0);
+
+        return collector.toValmari(new int[automaton.size()]);
+    }
+
+    /**
+     * Initializes the partition refinement data structure for computing the (structural) bisimulation between the
+     * states of two automata. The initial partition consists of a single block, i.e., state properties are not
+     * considered. In the resulting data structure, the states of {@code a} are identified by their
+     * {@link StateIDs state ids} and the states of {@code b} are identified by their state ids shifted by
+     * {@code a.size()}.
+     *
+     * @param a
+     *         the first automaton
+     * @param b
+     *         the second automaton
+     * @param inputs
+     *         the input symbols to consider
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the initialized partition refinement data structure
+     */
+    public static <I> Valmari initializeBisimulation(Automaton<?, I, ?> a,
+                                                     Automaton<?, I, ?> b,
+                                                     Collection<? extends I> inputs) {
+        final List<? extends I> alphabet = CollectionUtil.randomAccessList(inputs);
+        final int n1 = a.size();
+
+        final TransitionCollector collector = new TransitionCollector(alphabet.size());
+        collector.collect(a, alphabet::get, 0);
+        collector.collect(b, alphabet::get, n1);
+
+        return collector.toValmari(new int[n1 + b.size()]);
+    }
+
+    /**
+     * Initializes the partition refinement data structure from transitions that are ordered by their source states (in
+     * ascending order) but not by their labels. Since the transitions are ordered by source state, a stable counting
+     * sort by label yields the order required by {@link Valmari}. The given transition arrays are not modified.
+     *
+     * @param blocks
+     *         the initial classification of states (see {@link Valmari#Valmari(int[], int[], int[], int[])})
+     * @param tail
+     *         the source states of the transitions
+     * @param label
+     *         the labels of the transitions
+     * @param head
+     *         the target states of the transitions
+     * @param numTransitions
+     *         the number of (valid) entries in the transition arrays
+     * @param numLabels
+     *         the number of labels, i.e., all labels need to be smaller than this value
+     *
+     * @return the initialized partition refinement data structure
+     */
+    public static Valmari initializeUnsorted(int[] blocks,
+                                             int[] tail,
+                                             int[] label,
+                                             int[] head,
+                                             int numTransitions,
+                                             int numLabels) {
+        final int[] offsets = new int[numLabels + 1];
+
+        for (int t = 0; t < numTransitions; t++) {
+            offsets[label[t] + 1]++;
+        }
+
+        for (int i = 1; i <= numLabels; i++) {
+            offsets[i] += offsets[i - 1];
         }
 
-        final int[] tail = new int[m];
-        final int[] label = new int[m];
-        final int[] head = new int[m];
+        final int[] sortedTail = new int[numTransitions];
+        final int[] sortedLabel = new int[numTransitions];
+        final int[] sortedHead = new int[numTransitions];
+
+        for (int t = 0; t < numTransitions; t++) {
+            final int pos = offsets[label[t]]++;
+            sortedTail[pos] = tail[t];
+            sortedLabel[pos] = label[t];
+            sortedHead[pos] = head[t];
+        }
 
-        cnt = 0;
+        return new Valmari(blocks, sortedTail, sortedLabel, sortedHead);
+    }
+
+    /**
+     * A utility class for collecting the transitions of (multiple) automata in a single pass and bringing them into the
+     * order required by {@link Valmari}. If an automaton is backed by an {@link AbstractCompactSimpleNondet}, its
+     * successor information is read directly from the underlying storage which avoids the per-transition lookup of
+     * state ids.
+     */
+    private static final class TransitionCollector {
+
+        private final int numLabels;
+        private int[] tail;
+        private int[] label;
+        private int[] head;
+        private int size;
+
+        TransitionCollector(int numLabels) {
+            this.numLabels = numLabels;
+            this.tail = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+            this.label = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+            this.head = new int[ArrayStorage.DEFAULT_INITIAL_CAPACITY];
+        }
+
+        <S, I, T> void collect(Automaton<S, I, T> automaton, IntFunction<? extends I> alphabet, int offset) {
+            if (automaton instanceof AbstractCompactSimpleNondet) {
+                @SuppressWarnings("unchecked")
+                final AbstractCompactSimpleNondet<I, ?> compact = (AbstractCompactSimpleNondet<I, ?>) automaton;
+                collectCompact(compact, alphabet, offset);
+                return;
+            }
+
+            final StateIDs<S> stateIDs = automaton.stateIDs();
+            final int n = automaton.size();
 
-        for (int i = 0; i < k; i++) {
-            final I symbol = alphabet.getSymbol(i);
             for (int j = 0; j < n; j++) {
                 final S state = stateIDs.getState(j);
-                for (T t : automaton.getTransitions(state, symbol)) {
-                    final S succ = automaton.getSuccessor(t);
-                    final int succId = stateIDs.getStateId(succ);
-
-                    tail[cnt] = j;
-                    label[cnt] = i;
-                    head[cnt] = succId;
-                    cnt++;
+                for (int i = 0; i < numLabels; i++) {
+                    for (T t : automaton.getTransitions(state, alphabet.apply(i))) {
+                        final S succ = automaton.getSuccessor(t);
+                        add(j + offset, i, stateIDs.getStateId(succ) + offset);
+                    }
+                }
+            }
+        }
+
+        private <I> void collectCompact(AbstractCompactSimpleNondet<I, ?> automaton,
+                                        IntFunction<? extends I> alphabet,
+                                        int offset) {
+            final Alphabet<I> compactAlphabet = automaton.getInputAlphabet();
+            final int n = automaton.size();
+            final int[] indices = new int[numLabels];
+
+            for (int i = 0; i < numLabels; i++) {
+                final I sym = alphabet.apply(i);
+                indices[i] = compactAlphabet.containsSymbol(sym) ? compactAlphabet.getSymbolIndex(sym) : -1;
+            }
+
+            int m = 0;
+            for (int j = 0; j < n; j++) {
+                for (int i = 0; i < numLabels; i++) {
+                    if (indices[i] >= 0) {
+                        m += automaton.getSuccessorCount(j, indices[i]);
+                    }
                 }
             }
+
+            ensureCapacity(size + m);
+
+            for (int j = 0; j < n; j++) {
+                for (int i = 0; i < numLabels; i++) {
+                    final int idx = indices[i];
+                    if (idx >= 0) {
+                        for (int t = automaton.nextSuccessor(j, idx, 0); t >= 0;
+                             t = automaton.nextSuccessor(j, idx, t + 1)) {
+                            tail[size] = j + offset;
+                            label[size] = i;
+                            head[size] = t + offset;
+                            size++;
+                        }
+                    }
+                }
+            }
+        }
+
+        private void add(int src, int lbl, int tgt) {
+            ensureCapacity(size + 1);
+            tail[size] = src;
+            label[size] = lbl;
+            head[size] = tgt;
+            size++;
         }
 
-        return new Valmari(blocks, tail, label, head);
+        private void ensureCapacity(int capacity) {
+            if (capacity > tail.length) {
+                final int newCapacity = Math.max(capacity, tail.length * 2);
+                tail = Arrays.copyOf(tail, newCapacity);
+                label = Arrays.copyOf(label, newCapacity);
+                head = Arrays.copyOf(head, newCapacity);
+            }
+        }
+
+        /**
+         * Creates a {@link Valmari} instance for the collected transitions.
+         */
+        Valmari toValmari(int[] blocks) {
+            return initializeUnsorted(blocks, tail, label, head, size, numLabels);
+        }
     }
 }
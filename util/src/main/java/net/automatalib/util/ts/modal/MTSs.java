@@ -16,9 +16,7 @@
 package net.automatalib.util.ts.modal;
 
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 import net.automatalib.automaton.AutomatonCreator;
 import net.automatalib.common.util.Pair;
@@ -55,6 +53,30 @@ public final class MTSs {
         return Worksets.map(new ModalConjunction<>(mts0, mts1, creator));
     }
 
+    /**
+     * Returns a lazy view on the conjunction of the given modal transition systems. See {@link ModalProductView} for
+     * details.
+     *
+     * @param mts0
+     *         the first system
+     * @param mts1
+     *         the second system
+     * @param <S0>
+     *         state type of the first system
+     * @param <S1>
+     *         state type of the second system
+     * @param <I>
+     *         input symbol type
+     *
+     * @return a lazy view on the conjunction
+     *
+     * @see #conjunction(ModalTransitionSystem, ModalTransitionSystem)
+     */
+    public static <S0, S1, I> ModalProductView<S0, S1, I> conjunctionView(ModalTransitionSystem<S0, I, ?, ?> mts0,
+                                                                          ModalTransitionSystem<S1, I, ?, ?> mts1) {
+        return new ModalConjunctionView<>(mts0, mts1);
+    }
+
     public static <S0, S1, I> CompactMTS<I> compose(ModalTransitionSystem<S0, I, ?, ?> mts0,
                                                     ModalTransitionSystem<S1, I, ?, ?> mts1) {
         return compose(mts0, mts1, CompactMTS::new);
@@ -73,21 +95,35 @@ public final class MTSs {
         return Worksets.map(new ModalParallelComposition<>(mts0, mts1, creator));
     }
 
+    /**
+     * Returns a lazy view on the parallel composition of the given modal transition systems. See
+     * {@link ModalProductView} for details.
+     *
+     * @param mts0
+     *         the first system
+     * @param mts1
+     *         the second system
+     * @param <S0>
+     *         state type of the first system
+     * @param <S1>
+     *         state type of the second system
+     * @param <I>
+     *         input symbol type
+     *
+     * @return a lazy view on the parallel composition
+     *
+     * @see #compose(ModalTransitionSystem, ModalTransitionSystem)
+     */
+    public static <S0, S1, I> ModalProductView<S0, S1, I> composeView(ModalTransitionSystem<S0, I, ?, ?> mts0,
+                                                                      ModalTransitionSystem<S1, I, ?, ?> mts1) {
+        return new ModalParallelCompositionView<>(mts0, mts1);
+    }
+
     public static <AS, BS, I> boolean isRefinementOf(ModalTransitionSystem<AS, I, ?, ?> a,
                                                      ModalTransitionSystem<BS, I, ?, ?> b,
                                                      Collection<I> input) {
 
-        final Set<Pair<AS, BS>> refinement = ModalRefinement.refinementRelation(a, b, input);
-
-        final Set<AS> statesA = new HashSet<>(a.getInitialStates());
-        final Set<BS> statesB = new HashSet<>(b.getInitialStates());
-
-        for (Pair<AS, BS> p : refinement) {
-            statesA.remove(p.getFirst());
-            statesB.remove(p.getSecond());
-        }
-
-        return statesA.isEmpty() && statesB.isEmpty();
+        return ModalRefinement.nonRefinementWitness(a, b, input) == null;
     }
 
 }
@@ -165,8 +165,8 @@ final class ModalConjunction<A extends MutableModalTransitionSystem<S, I, T, ?>,
         return result;
     }
 
-    private static <S, I, T, TP extends ModalEdgeProperty> String traceError(ModalTransitionSystem<S, I, T, TP> mts,
-                                                                             T transition) {
+    static <S, I, T, TP extends ModalEdgeProperty> String traceError(ModalTransitionSystem<S, I, T, TP> mts,
+                                                                     T transition) {
         EdgeTracer<S, I, T> finder = new EdgeTracer<>(transition);
         TSTraversal.depthFirst(mts, mts.getInputAlphabet(), finder);
 
@@ -210,7 +210,7 @@ final class ModalConjunction<A extends MutableModalTransitionSystem<S, I, T, ?>,
 
             final boolean modified = stateStack.add(tgtState);
 
-            if (transition == targetTransition) {
+            if (Objects.equals(transition, targetTransition)) {
                 return TSTraversalAction.ABORT_TRAVERSAL;
             } else if (!modified) {
                 return TSTraversalAction.IGNORE;
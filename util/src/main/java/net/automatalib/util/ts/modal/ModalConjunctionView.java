@@ -0,0 +1,113 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.ts.modal;
+
+import java.util.Collection;
+import java.util.List;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.ts.modal.ModalTransitionSystem;
+import net.automatalib.ts.modal.transition.ModalEdgeProperty;
+import net.automatalib.ts.modal.transition.ModalEdgeProperty.ModalType;
+
+/**
+ * A lazy {@link ModalProductView view} on the conjunction of two {@link ModalTransitionSystem}s. Semantically
+ * equivalent to {@link ModalConjunction}, but an {@link IllegalConjunctionException} is only thrown once the transitions
+ * of the respective state are queried.
+ *
+ * @param <S0>
+ *         state type of the first component
+ * @param <S1>
+ *         state type of the second component
+ * @param <I>
+ *         input symbol type
+ * @param <T0>
+ *         transition type of the first component
+ * @param <T1>
+ *         transition type of the second component
+ * @param <TP0>
+ *         transition property type of the first component
+ * @param <TP1>
+ *         transition property type of the second component
+ */
+final class ModalConjunctionView<S0, S1, I, T0, T1, TP0 extends ModalEdgeProperty, TP1 extends ModalEdgeProperty>
+        extends ModalProductView<S0, S1, I> {
+
+    private final ModalTransitionSystem<S0, I, T0, TP0> first;
+    private final ModalTransitionSystem<S1, I, T1, TP1> second;
+
+    ModalConjunctionView(ModalTransitionSystem<S0, I, T0, TP0> mts0, ModalTransitionSystem<S1, I, T1, TP1> mts1) {
+        super(mts0, mts1, checkAlphabets(mts0, mts1));
+        this.first = mts0;
+        this.second = mts1;
+    }
+
+    private static <I> Alphabet<I> checkAlphabets(ModalTransitionSystem<?, I, ?, ?> mts0,
+                                                    ModalTransitionSystem<?, I, ?, ?> mts1) {
+        if (!mts0.getInputAlphabet().equals(mts1.getInputAlphabet())) {
+            throw new IllegalArgumentException("Conjunction MTSs must have the same input alphabet");
+        }
+        return mts0.getInputAlphabet();
+    }
+
+    @Override
+    protected void computeTransitions(int state, S0 s0, S1 s1, I input, List<Edge> edges) {
+        final Collection<T0> transitions0 = first.getTransitions(s0, input);
+        final Collection<T1> transitions1 = second.getTransitions(s1, input);
+
+        for (T0 t0 : transitions0) {
+            final boolean must0 = first.getTransitionProperty(t0).isMust();
+            if (must0 && transitions1.isEmpty()) {
+                throw error(s0, s1, input, transitions0, transitions1, t0, "t0", first);
+            }
+
+            for (T1 t1 : transitions1) {
+                final boolean must = must0 || second.getTransitionProperty(t1).isMust();
+                final int target = getOrAddState(first.getSuccessor(t0), second.getSuccessor(t1));
+                edges.add(new Edge(state, input, target, must ? ModalType.MUST : ModalType.MAY));
+            }
+        }
+
+        if (transitions0.isEmpty()) {
+            for (T1 t1 : transitions1) {
+                if (second.getTransitionProperty(t1).isMust()) {
+                    throw error(s0, s1, input, transitions0, transitions1, t1, "t1", second);
+                }
+            }
+        }
+    }
+
+    private static <S, I, T, TP extends ModalEdgeProperty> IllegalConjunctionException error(Object s0,
+                                                                                             Object s1,
+                                                                                             I input,
+                                                                                             Collection<?> transitions0,
+                                                                                             Collection<?> transitions1,
+                                                                                             T transition,
+                                                                                             String name,
+                                                                                             ModalTransitionSystem<S, I, T, TP> mts) {
+        return new IllegalConjunctionException(String.format(
+                "Error in conjunction: States <%s,%s> for label=%s with outgoing transitions t0=%s, t1=%s. " +
+                "Error for transition %s (%s), leading trace: %s",
+                s0,
+                s1,
+                input,
+                transitions0,
+                transitions1,
+                transition,
+                name,
+                ModalConjunction.traceError(mts, transition)));
+    }
+}
@@ -0,0 +1,100 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.ts.modal;
+
+import java.util.List;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.GrowingAlphabet;
+import net.automatalib.alphabet.impl.GrowingMapAlphabet;
+import net.automatalib.ts.modal.ModalTransitionSystem;
+import net.automatalib.ts.modal.transition.ModalEdgeProperty;
+import net.automatalib.ts.modal.transition.ModalEdgeProperty.ModalType;
+
+/**
+ * A lazy {@link ModalProductView view} on the parallel composition of two {@link ModalTransitionSystem}s. Semantically
+ * equivalent to {@link ModalParallelComposition}: both components synchronize on their shared input symbols and
+ * interleave on all other input symbols.
+ *
+ * @param <S0>
+ *         state type of the first component
+ * @param <S1>
+ *         state type of the second component
+ * @param <I>
+ *         input symbol type
+ * @param <T0>
+ *         transition type of the first component
+ * @param <T1>
+ *         transition type of the second component
+ * @param <TP0>
+ *         transition property type of the first component
+ * @param <TP1>
+ *         transition property type of the second component
+ */
+final class ModalParallelCompositionView<S0, S1, I, T0, T1, TP0 extends ModalEdgeProperty, TP1 extends ModalEdgeProperty>
+        extends ModalProductView<S0, S1, I> {
+
+    private final ModalTransitionSystem<S0, I, T0, TP0> first;
+    private final ModalTransitionSystem<S1, I, T1, TP1> second;
+    private final Alphabet<I> alphabet0;
+    private final Alphabet<I> alphabet1;
+
+    ModalParallelCompositionView(ModalTransitionSystem<S0, I, T0, TP0> mts0,
+                                 ModalTransitionSystem<S1, I, T1, TP1> mts1) {
+        super(mts0, mts1, mergeAlphabets(mts0.getInputAlphabet(), mts1.getInputAlphabet()));
+        this.first = mts0;
+        this.second = mts1;
+        this.alphabet0 = mts0.getInputAlphabet();
+        this.alphabet1 = mts1.getInputAlphabet();
+    }
+
+    private static <I> Alphabet<I> mergeAlphabets(Alphabet<I> alphabet0, Alphabet<I> alphabet1) {
+        if (alphabet0.equals(alphabet1)) {
+            return alphabet0;
+        }
+
+        final GrowingAlphabet<I> growingAlphabet = new GrowingMapAlphabet<>(alphabet0);
+        growingAlphabet.addAll(alphabet1);
+        return growingAlphabet;
+    }
+
+    @Override
+    protected void computeTransitions(int state, S0 s0, S1 s1, I input, List<Edge> edges) {
+        final boolean in0 = alphabet0.containsSymbol(input);
+        final boolean in1 = alphabet1.containsSymbol(input);
+
+        if (in0 && in1) {
+            for (T0 t0 : first.getTransitions(s0, input)) {
+                final boolean must0 = first.getTransitionProperty(t0).isMust();
+                for (T1 t1 : second.getTransitions(s1, input)) {
+                    final boolean must = must0 && second.getTransitionProperty(t1).isMust();
+                    final int target = getOrAddState(first.getSuccessor(t0), second.getSuccessor(t1));
+                    edges.add(new Edge(state, input, target, must ? ModalType.MUST : ModalType.MAY));
+                }
+            }
+        } else if (in0) {
+            for (T0 t0 : first.getTransitions(s0, input)) {
+                final int target = getOrAddState(first.getSuccessor(t0), s1);
+                edges.add(new Edge(state, input, target, first.getTransitionProperty(t0).getModalType()));
+            }
+        } else if (in1) {
+            for (T1 t1 : second.getTransitions(s1, input)) {
+                final int target = getOrAddState(s0, second.getSuccessor(t1));
+                edges.add(new Edge(state, input, target, second.getTransitionProperty(t1).getModalType()));
+            }
+        }
+    }
+}
@@ -0,0 +1,359 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.ts.modal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.common.util.collection.CollectionUtil;
+import net.automatalib.common.util.collection.PositiveIntSet;
+import net.automatalib.ts.modal.ModalTransitionSystem;
+import net.automatalib.ts.modal.transition.ModalEdgeProperty;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A lazy view on the product of two {@link ModalTransitionSystem}s (e.g., their conjunction or parallel composition).
+ * In contrast to {@link MTSs#conjunction(ModalTransitionSystem, ModalTransitionSystem)} or
+ * {@link MTSs#compose(ModalTransitionSystem, ModalTransitionSystem)}, the product is not materialized. Transitions are
+ * computed from the transitions of the two components whenever they are queried.
+ * <p>
+ * States of the product are represented by integers which are assigned in the order in which the respective pairs of
+ * component states are discovered (the initial pairs being assigned the ids {@code 0, ..., n-1}). Pairs of component
+ * states are indexed by a hash table over packed {@code long} keys consisting of the ids of the component states, so
+ * that no intermediate {@link net.automatalib.common.util.Pair} objects are needed. Querying the
+ * {@link #getStates() states} or the {@link #size() size} of the product explores all reachable pairs of states (but
+ * still does not store any transitions).
+ * <p>
+ * Since the component views may themselves be product views, this class allows one to, e.g., check refinement against
+ * a composition of several components without constructing the (intermediate) products first. Views are not
+ * thread-safe and reflect the state of the components at the time the respective transitions are queried.
+ *
+ * @param <S0>
+ *         state type of the first component
+ * @param <S1>
+ *         state type of the second component
+ * @param <I>
+ *         input symbol type
+ */
+public abstract class ModalProductView<S0, S1, I>
+        implements ModalTransitionSystem<Integer, I, ModalProductView.Edge, ModalEdgeProperty>, StateIDs<Integer> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final long EMPTY = -1L;
+
+    private final Alphabet<I> alphabet;
+    private final StateIDs<S0> ids0;
+    private final StateIDs<S1> ids1;
+    private final int numInitial;
+
+    // component states of the product states
+    private int[] firsts;
+    private int[] seconds;
+    private int numStates;
+
+    // open-addressing hash table from packed pairs to product states
+    private long[] keys;
+    private int[] values;
+
+    private int numExplored;
+
+    protected ModalProductView(ModalTransitionSystem<S0, I, ?, ?> mts0,
+                               ModalTransitionSystem<S1, I, ?, ?> mts1,
+                               Alphabet<I> alphabet) {
+        this.alphabet = alphabet;
+        this.ids0 = mts0.stateIDs();
+        this.ids1 = mts1.stateIDs();
+
+        this.firsts = new int[DEFAULT_CAPACITY];
+        this.seconds = new int[DEFAULT_CAPACITY];
+        this.keys = new long[DEFAULT_CAPACITY * 2];
+        this.values = new int[DEFAULT_CAPACITY * 2];
+        Arrays.fill(this.keys, EMPTY);
+
+        for (S0 s0 : mts0.getInitialStates()) {
+            for (S1 s1 : mts1.getInitialStates()) {
+                getOrAddState(s0, s1);
+            }
+        }
+
+        this.numInitial = numStates;
+    }
+
+    /**
+     * Computes the outgoing transitions of the given pair of component states for the given input symbol.
+     *
+     * @param state
+     *         the (product) state of the given pair
+     * @param s0
+     *         the state of the first component
+     * @param s1
+     *         the state of the second component
+     * @param input
+     *         the input symbol
+     * @param edges
+     *         the list to which the computed transitions should be added
+     */
+    protected abstract void computeTransitions(int state, S0 s0, S1 s1, I input, List<Edge> edges);
+
+    /**
+     * Returns the (product) state of the given pair of component states, adding a new state if the pair has not been
+     * discovered yet.
+     *
+     * @param s0
+     *         the state of the first component
+     * @param s1
+     *         the state of the second component
+     *
+     * @return the (product) state of the given pair
+     */
+    protected final int getOrAddState(S0 s0, S1 s1) {
+        final int id0 = ids0.getStateId(s0);
+        final int id1 = ids1.getStateId(s1);
+        final long key = ((long) id0 << Integer.SIZE) | (id1 & 0xFFFFFFFFL);
+
+        final int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        final int state = numStates++;
+        keys[slot] = key;
+        values[slot] = state;
+
+        if (state == firsts.length) {
+            firsts = Arrays.copyOf(firsts, state * 2);
+            seconds = Arrays.copyOf(seconds, state * 2);
+        }
+        firsts[state] = id0;
+        seconds[state] = id1;
+
+        // keep the load factor of the hash table at most 0.5
+        if (numStates * 2 > keys.length) {
+            rehash();
+        }
+
+        return state;
+    }
+
+    /**
+     * Returns the state of the first component of the given (product) state.
+     *
+     * @param state
+     *         the (product) state
+     *
+     * @return the state of the first component
+     */
+    public S0 getFirstState(int state) {
+        return ids0.getState(firsts[state]);
+    }
+
+    /**
+     * Returns the state of the second component of the given (product) state.
+     *
+     * @param state
+     *         the (product) state
+     *
+     * @return the state of the second component
+     */
+    public S1 getSecondState(int state) {
+        return ids1.getState(seconds[state]);
+    }
+
+    /**
+     * Returns the number of states that have been discovered so far (without triggering an exploration).
+     *
+     * @return the number of discovered states
+     */
+    public int getNumDiscoveredStates() {
+        return numStates;
+    }
+
+    @Override
+    public Alphabet<I> getInputAlphabet() {
+        return alphabet;
+    }
+
+    @Override
+    public Collection<Integer> getStates() {
+        explore();
+        return CollectionUtil.intRange(0, numStates);
+    }
+
+    @Override
+    public int size() {
+        explore();
+        return numStates;
+    }
+
+    @Override
+    public Set<Integer> getInitialStates() {
+        final BitSet initial = new BitSet(numInitial);
+        initial.set(0, numInitial);
+        return new PositiveIntSet(initial);
+    }
+
+    @Override
+    public Collection<Edge> getTransitions(Integer state, I input) {
+        final List<Edge> result = new ArrayList<>();
+        computeTransitions(state, getFirstState(state), getSecondState(state), input, result);
+        return result;
+    }
+
+    @Override
+    public Integer getSuccessor(Edge transition) {
+        return transition.target;
+    }
+
+    @Override
+    public Void getStateProperty(Integer state) {
+        return null;
+    }
+
+    @Override
+    public ModalEdgeProperty getTransitionProperty(Edge transition) {
+        return transition;
+    }
+
+    @Override
+    public StateIDs<Integer> stateIDs() {
+        return this;
+    }
+
+    @Override
+    public int getStateId(Integer state) {
+        return state;
+    }
+
+    @Override
+    public Integer getState(int id) {
+        return id;
+    }
+
+    private void explore() {
+        final List<Edge> buffer = new ArrayList<>();
+        while (numExplored < numStates) {
+            final S0 s0 = getFirstState(numExplored);
+            final S1 s1 = getSecondState(numExplored);
+            for (I sym : alphabet) {
+                computeTransitions(numExplored, s0, s1, sym, buffer);
+                buffer.clear();
+            }
+            numExplored++;
+        }
+    }
+
+    private void rehash() {
+        final int newCapacity = keys.length * 2;
+        final int mask = newCapacity - 1;
+        final long[] newKeys = new long[newCapacity];
+        final int[] newValues = new int[newCapacity];
+        Arrays.fill(newKeys, EMPTY);
+
+        for (int i = 0; i < keys.length; i++) {
+            final long key = keys[i];
+            if (key != EMPTY) {
+                int slot = hash(key) & mask;
+                while (newKeys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                newKeys[slot] = key;
+                newValues[slot] = values[i];
+            }
+        }
+
+        this.keys = newKeys;
+        this.values = newValues;
+    }
+
+    private static int hash(long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * A transition of a {@link ModalProductView}. Transitions are immutable and serve as their own
+     * {@link ModalEdgeProperty}. Since transitions are re-computed whenever they are queried, two transitions are equal
+     * if they share the same source state, input symbol, target state, and modal type.
+     */
+    public static final class Edge implements ModalEdgeProperty {
+
+        private final int source;
+        private final Object input;
+        private final int target;
+        private final ModalType type;
+
+        Edge(int source, Object input, int target, ModalType type) {
+            this.source = source;
+            this.input = input;
+            this.target = target;
+            this.type = type;
+        }
+
+        /**
+         * Returns the target (product) state of this transition.
+         *
+         * @return the target state
+         */
+        public int getTarget() {
+            return target;
+        }
+
+        @Override
+        public ModalType getModalType() {
+            return type;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Edge)) {
+                return false;
+            }
+
+            final Edge that = (Edge) o;
+            return source == that.source && target == that.target && type == that.type &&
+                   Objects.equals(input, that.input);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = 1;
+            result = 31 * result + source;
+            result = 31 * result + Objects.hashCode(input);
+            result = 31 * result + target;
+            result = 31 * result + type.hashCode();
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return source + " -" + input + "-> " + target + " (" + type + ')';
+        }
+    }
+}
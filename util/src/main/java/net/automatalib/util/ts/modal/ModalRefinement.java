@@ -15,121 +15,416 @@
  */
 package net.automatalib.util.ts.modal;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
-import java.util.function.BiPredicate;
 
-import net.automatalib.common.util.HashUtil;
+import net.automatalib.automaton.concept.StateIDs;
 import net.automatalib.common.util.Pair;
 import net.automatalib.ts.modal.ModalTransitionSystem;
 import net.automatalib.ts.modal.transition.ModalEdgeProperty;
 import net.automatalib.ts.modal.transition.ModalEdgeProperty.ModalType;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+/**
+ * Computes the (greatest) modal refinement relation between two {@link ModalTransitionSystem}s.
+ * <p>
+ * A pair of states {@code (p, q)} is contained in the relation iff every may-transition of {@code p} is matched by a
+ * may-transition of {@code q} (with the same label) whose successors are again related, and every must-transition of
+ * {@code q} is matched by a must-transition of {@code p} whose successors are again related.
+ * <p>
+ * The relation is computed by a counter-based refinement algorithm: state pairs are identified by packed integer ids
+ * ({@code p * specification.size() + q}), the relation is stored in a single {@link BitSet}, and for each pair of a
+ * transition target and a state of the other system, a counter tracks the number of remaining matching partner
+ * transitions. Whenever a pair is removed from the relation, only the counters of its predecessors are updated and
+ * pairs whose counters drop to zero are removed via a worklist. This requires time linear in the number of (state
+ * pair, transition) combinations instead of repeatedly re-checking all pairs.
+ */
 public final class ModalRefinement {
 
     private ModalRefinement() {
         // do not instantiate
     }
 
-    private static <BS, I, BT, BTP extends ModalEdgeProperty> Set<BT> partnerTransitions(ModalTransitionSystem<BS, I, BT, BTP> b,
-                                                                                         BS source,
-                                                                                         I input,
-                                                                                         Set<ModalType> acceptableValues) {
+    /**
+     * Computes the refinement relation between the given implementation and specification.
+     *
+     * @param implementation
+     *         the implementation (refining) system
+     * @param specification
+     *         the specification (refined) system
+     * @param inputs
+     *         the input symbols to consider
+     * @param <AS>
+     *         implementation state type
+     * @param <BS>
+     *         specification state type
+     * @param <I>
+     *         input symbol type
+     *
+     * @return an unmodifiable view of the refinement relation
+     */
+    public static <AS, BS, I> Set<Pair<AS, BS>> refinementRelation(ModalTransitionSystem<AS, I, ?, ?> implementation,
+                                                                   ModalTransitionSystem<BS, I, ?, ?> specification,
+                                                                   Collection<I> inputs) {
+        final StateIDs<AS> idsA = implementation.stateIDs();
+        final StateIDs<BS> idsB = specification.stateIDs();
+        final BitSet relation = computeRelation(implementation, idsA, specification, idsB, inputs);
+
+        return new RelationView<>(relation, idsA, idsB, implementation.size(), specification.size());
+    }
 
-        Set<BT> coTransitions = new HashSet<>(HashUtil.capacity(b.getInputAlphabet().size()));
+    /**
+     * Checks whether the given implementation refines the given specification in the sense of
+     * {@link MTSs#isRefinementOf(ModalTransitionSystem, ModalTransitionSystem, Collection)} and returns a witness of
+     * non-refinement otherwise.
+     *
+     * @param implementation
+     *         the implementation (refining) system
+     * @param specification
+     *         the specification (refined) system
+     * @param inputs
+     *         the input symbols to consider
+     * @param <AS>
+     *         implementation state type
+     * @param <BS>
+     *         specification state type
+     * @param <I>
+     *         input symbol type
+     *
+     * @return {@code null} if the implementation refines the specification, otherwise a pair in which exactly one
+     * component is set: either an initial state of the implementation (first component) or an initial state of the
+     * specification (second component) that is not related to any state of the other system
+     */
+    public static <AS, BS, I> @Nullable Pair<@Nullable AS, @Nullable BS> nonRefinementWitness(ModalTransitionSystem<AS, I, ?, ?> implementation,
+                                                                                              ModalTransitionSystem<BS, I, ?, ?> specification,
+                                                                                              Collection<I> inputs) {
+        final StateIDs<AS> idsA = implementation.stateIDs();
+        final StateIDs<BS> idsB = specification.stateIDs();
+        final BitSet relation = computeRelation(implementation, idsA, specification, idsB, inputs);
+        final int nA = implementation.size();
+        final int nB = specification.size();
 
-        for (BT candidateTransition : b.getTransitions(source, input)) {
-            BTP property = b.getTransitionProperty(candidateTransition);
+        for (AS p : implementation.getInitialStates()) {
+            final int offset = idsA.getStateId(p) * nB;
+            final int next = relation.nextSetBit(offset);
+            if (next < 0 || next >= offset + nB) {
+                return Pair.of(p, null);
+            }
+        }
 
-            if (property != null && acceptableValues.contains(property.getModalType())) {
-                coTransitions.add(candidateTransition);
+        outer:
+        for (BS q : specification.getInitialStates()) {
+            final int id = idsB.getStateId(q);
+            for (int p = 0; p < nA; p++) {
+                if (relation.get(p * nB + id)) {
+                    continue outer;
+                }
             }
+            return Pair.of(null, q);
         }
 
-        return coTransitions;
+        return null;
     }
 
-    private static <AS, I, AT, BS, BT> boolean eligiblePartner(ModalTransitionSystem<AS, I, AT, ?> a,
-                                                               ModalTransitionSystem<BS, I, BT, ?> b,
-                                                               Collection<I> inputs,
-                                                               BiPredicate<AS, BS> inRefinementRelation,
-                                                               AS source,
-                                                               BS coSource,
-                                                               Set<ModalType> acceptableValues) {
-
-        for (I label : inputs) {
-            for (AT transition : a.getTransitions(source, label)) {
-                if (!acceptableValues.contains(a.getTransitionProperty(transition).getModalType())) {
+    private static <AS, BS, I> BitSet computeRelation(ModalTransitionSystem<AS, I, ?, ?> a,
+                                                      StateIDs<AS> idsA,
+                                                      ModalTransitionSystem<BS, I, ?, ?> b,
+                                                      StateIDs<BS> idsB,
+                                                      Collection<I> inputs) {
+
+        final List<I> labels = new ArrayList<>(inputs);
+        final int k = labels.size();
+        final int nA = a.size();
+        final int nB = b.size();
+
+        if ((long) nA * nB > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The number of state pairs exceeds the maximum relation size");
+        }
+
+        final Edges mayA = new Edges();
+        final Edges mustA = new Edges();
+        final Edges mayB = new Edges();
+        final Edges mustB = new Edges();
+
+        collectEdges(a, idsA, labels, mayA, mustA);
+        collectEdges(b, idsB, labels, mayB, mustB);
+
+        // out-degrees, indexed by (state * k + label)
+        final int[] mayOutB = mayB.outDegrees(nB, k);
+        final int[] mustOutA = mustA.outDegrees(nA, k);
+
+        // predecessors, indexed by (label * n + target)
+        final int[] revMayAOffsets = mayA.reverseOffsets(nA, k);
+        final int[] revMayA = mayA.reverseSources(nA, revMayAOffsets);
+        final int[] revMustAOffsets = mustA.reverseOffsets(nA, k);
+        final int[] revMustA = mustA.reverseSources(nA, revMustAOffsets);
+        final int[] revMayBOffsets = mayB.reverseOffsets(nB, k);
+        final int[] revMayB = mayB.reverseSources(nB, revMayBOffsets);
+        final int[] revMustBOffsets = mustB.reverseOffsets(nB, k);
+        final int[] revMustB = mustB.reverseSources(nB, revMustBOffsets);
+
+        // counters only exist for (label, target) combinations that actually occur
+        final int[] keysA = new int[k * nA];
+        final int numKeysA = assignKeys(keysA, revMayAOffsets);
+        final int[] keysB = new int[k * nB];
+        final int numKeysB = assignKeys(keysB, revMustBOffsets);
+
+        // cntA[keyA(l, p') * nB + q] = #may-transitions q -l-> q' such that (p', q') is related
+        final int[] cntA = new int[Math.multiplyExact(numKeysA, nB)];
+        // cntB[keyB(l, q') * nA + p] = #must-transitions p -l-> p' such that (p', q') is related
+        final int[] cntB = new int[Math.multiplyExact(numKeysB, nA)];
+
+        final BitSet relation = new BitSet(nA * nB);
+        relation.set(0, nA * nB);
+        final Worklist worklist = new Worklist();
+
+        for (int l = 0; l < k; l++) {
+            for (int pp = 0; pp < nA; pp++) {
+                final int slot = l * nA + pp;
+                final int key = keysA[slot];
+                if (key < 0) {
                     continue;
                 }
+                for (int q = 0; q < nB; q++) {
+                    final int cnt = mayOutB[q * k + l];
+                    cntA[key * nB + q] = cnt;
+                    if (cnt == 0) {
+                        for (int i = revMayAOffsets[slot]; i < revMayAOffsets[slot + 1]; i++) {
+                            remove(relation, worklist, revMayA[i] * nB + q);
+                        }
+                    }
+                }
+            }
+            for (int qq = 0; qq < nB; qq++) {
+                final int slot = l * nB + qq;
+                final int key = keysB[slot];
+                if (key < 0) {
+                    continue;
+                }
+                for (int p = 0; p < nA; p++) {
+                    final int cnt = mustOutA[p * k + l];
+                    cntB[key * nA + p] = cnt;
+                    if (cnt == 0) {
+                        for (int i = revMustBOffsets[slot]; i < revMustBOffsets[slot + 1]; i++) {
+                            remove(relation, worklist, p * nB + revMustB[i]);
+                        }
+                    }
+                }
+            }
+        }
 
-                Set<BT> partnerTransitions = partnerTransitions(b, coSource, label, acceptableValues);
+        while (!worklist.isEmpty()) {
+            final int pair = worklist.pop();
+            final int pp = pair / nB;
+            final int qq = pair % nB;
 
-                AS target = a.getSuccessor(transition);
-                final boolean eligiblePartner = partnerTransitions.stream()
-                                                                  .map(b::getSuccessor)
-                                                                  .anyMatch(s -> inRefinementRelation.test(target, s));
+            for (int l = 0; l < k; l++) {
+                final int slotA = l * nA + pp;
+                final int slotB = l * nB + qq;
 
-                if (!eligiblePartner) {
-                    return false;
+                final int keyA = keysA[slotA];
+                if (keyA >= 0) {
+                    for (int i = revMayBOffsets[slotB]; i < revMayBOffsets[slotB + 1]; i++) {
+                        final int q = revMayB[i];
+                        if (--cntA[keyA * nB + q] == 0) {
+                            for (int j = revMayAOffsets[slotA]; j < revMayAOffsets[slotA + 1]; j++) {
+                                remove(relation, worklist, revMayA[j] * nB + q);
+                            }
+                        }
+                    }
+                }
+
+                final int keyB = keysB[slotB];
+                if (keyB >= 0) {
+                    for (int i = revMustAOffsets[slotA]; i < revMustAOffsets[slotA + 1]; i++) {
+                        final int p = revMustA[i];
+                        if (--cntB[keyB * nA + p] == 0) {
+                            for (int j = revMustBOffsets[slotB]; j < revMustBOffsets[slotB + 1]; j++) {
+                                remove(relation, worklist, p * nB + revMustB[j]);
+                            }
+                        }
+                    }
                 }
             }
         }
 
-        return true;
+        return relation;
     }
 
-    public static <AS, BS, I> Set<Pair<AS, BS>> refinementRelation(ModalTransitionSystem<AS, I, ?, ?> implementation,
-                                                                   ModalTransitionSystem<BS, I, ?, ?> specification,
-                                                                   Collection<I> inputs) {
+    private static <S, I, T, TP extends ModalEdgeProperty> void collectEdges(ModalTransitionSystem<S, I, T, TP> mts,
+                                                                             StateIDs<S> ids,
+                                                                             List<I> labels,
+                                                                             Edges may,
+                                                                             Edges must) {
+        for (S s : mts.getStates()) {
+            final int src = ids.getStateId(s);
+            for (int l = 0; l < labels.size(); l++) {
+                for (T t : mts.getTransitions(s, labels.get(l))) {
+                    final TP property = mts.getTransitionProperty(t);
+                    if (property == null) {
+                        continue;
+                    }
+
+                    final int tgt = ids.getStateId(mts.getSuccessor(t));
+                    may.add(src, l, tgt);
+                    if (property.getModalType() == ModalType.MUST) {
+                        must.add(src, l, tgt);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int assignKeys(int[] keys, int[] offsets) {
+        int numKeys = 0;
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = offsets[i] < offsets[i + 1] ? numKeys++ : -1;
+        }
+        return numKeys;
+    }
 
-        Set<Pair<AS, BS>> refinement = new HashSet<>(HashUtil.capacity(implementation.size() * specification.size()));
+    private static void remove(BitSet relation, Worklist worklist, int pair) {
+        if (relation.get(pair)) {
+            relation.clear(pair);
+            worklist.push(pair);
+        }
+    }
+
+    private static final class Edges {
 
-        // lower approximation only correct if automaton is finite (image-finite)
-        for (AS p : implementation.getStates()) {
-            for (BS q : specification.getStates()) {
-                refinement.add(Pair.of(p, q));
+        private int[] sources = new int[16];
+        private int[] labels = new int[16];
+        private int[] targets = new int[16];
+        private int size;
+
+        void add(int source, int label, int target) {
+            if (size == sources.length) {
+                final int newCapacity = size << 1;
+                sources = Arrays.copyOf(sources, newCapacity);
+                labels = Arrays.copyOf(labels, newCapacity);
+                targets = Arrays.copyOf(targets, newCapacity);
             }
+            sources[size] = source;
+            labels[size] = label;
+            targets[size] = target;
+            size++;
         }
 
-        Set<ModalType> may = EnumSet.of(ModalType.MAY, ModalType.MUST);
-        Set<ModalType> must = Collections.singleton(ModalType.MUST);
-
-        boolean update = true;
-        while (update) {
-            update = false;
-
-            Iterator<Pair<AS, BS>> iterator = refinement.iterator();
-            while (iterator.hasNext()) {
-                Pair<AS, BS> pair = iterator.next();
-
-                boolean eligiblePartner = eligiblePartner(implementation,
-                                                          specification,
-                                                          inputs,
-                                                          (s, t) -> refinement.contains(Pair.of(s, t)),
-                                                          pair.getFirst(),
-                                                          pair.getSecond(),
-                                                          may);
-
-                eligiblePartner &= eligiblePartner(specification,
-                                                   implementation,
-                                                   inputs,
-                                                   (s, t) -> refinement.contains(Pair.of(t, s)),
-                                                   pair.getSecond(),
-                                                   pair.getFirst(),
-                                                   must);
-
-                if (!eligiblePartner) {
-                    update = true;
-                    iterator.remove();
-                }
+        int[] outDegrees(int numStates, int numLabels) {
+            final int[] result = new int[numStates * numLabels];
+            for (int i = 0; i < size; i++) {
+                result[sources[i] * numLabels + labels[i]]++;
+            }
+            return result;
+        }
+
+        int[] reverseOffsets(int numStates, int numLabels) {
+            final int[] offsets = new int[numStates * numLabels + 1];
+            for (int i = 0; i < size; i++) {
+                offsets[labels[i] * numStates + targets[i] + 1]++;
+            }
+            for (int i = 1; i < offsets.length; i++) {
+                offsets[i] += offsets[i - 1];
+            }
+            return offsets;
+        }
+
+        int[] reverseSources(int numStates, int[] offsets) {
+            final int[] result = new int[size];
+            final int[] pos = Arrays.copyOf(offsets, offsets.length - 1);
+            for (int i = 0; i < size; i++) {
+                result[pos[labels[i] * numStates + targets[i]]++] = sources[i];
+            }
+            return result;
+        }
+    }
+
+    private static final class Worklist {
+
+        private int[] data = new int[16];
+        private int size;
+
+        void push(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size << 1);
+            }
+            data[size++] = value;
+        }
+
+        int pop() {
+            return data[--size];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
+    private static final class RelationView<AS, BS> extends AbstractSet<Pair<AS, BS>> {
+
+        private final BitSet relation;
+        private final StateIDs<AS> idsA;
+        private final StateIDs<BS> idsB;
+        private final int nA;
+        private final int nB;
+        private final int size;
+
+        RelationView(BitSet relation, StateIDs<AS> idsA, StateIDs<BS> idsB, int nA, int nB) {
+            this.relation = relation;
+            this.idsA = idsA;
+            this.idsB = idsB;
+            this.nA = nA;
+            this.nB = nB;
+            this.size = relation.cardinality();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean contains(@Nullable Object o) {
+            if (!(o instanceof Pair)) {
+                return false;
             }
+
+            final Pair<?, ?> pair = (Pair<?, ?>) o;
+            final int p = idsA.getStateId((AS) pair.getFirst());
+            final int q = idsB.getStateId((BS) pair.getSecond());
+
+            return p >= 0 && p < nA && q >= 0 && q < nB && relation.get(p * nB + q);
+        }
+
+        @Override
+        public Iterator<Pair<AS, BS>> iterator() {
+            return new Iterator<Pair<AS, BS>>() {
+
+                private int next = relation.nextSetBit(0);
+
+                @Override
+                public boolean hasNext() {
+                    return next >= 0;
+                }
+
+                @Override
+                public Pair<AS, BS> next() {
+                    if (next < 0) {
+                        throw new NoSuchElementException();
+                    }
+                    final int current = next;
+                    next = relation.nextSetBit(current + 1);
+                    return Pair.of(idsA.getState(current / nB), idsB.getState(current % nB));
+                }
+            };
         }
 
-        return refinement;
+        @Override
+        public int size() {
+            return size;
+        }
     }
 }
@@ -0,0 +1,204 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.ts.traversal;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import net.automatalib.automaton.Automaton;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.common.util.Holder;
+import net.automatalib.common.util.concurrent.AtomicBitSet;
+
+/**
+ * Level-synchronous, parallel breadth-first traversals of (finite) automata. All states of a BFS level are explored
+ * concurrently (via parallel streams, i.e., in the {@link java.util.concurrent.ForkJoinPool} of the calling thread or
+ * the common pool) and each worker collects the discovered states in its own frontier, which are merged to form the
+ * next level. States are identified by their {@link StateIDs} and the discovered states are tracked in an
+ * {@link AtomicBitSet}.
+ */
+public final class ParallelTSTraversal {
+
+    // frontiers smaller than this threshold are processed sequentially
+    private static final int PARALLEL_THRESHOLD = 1024;
+
+    private ParallelTSTraversal() {
+        // prevent instantiation
+    }
+
+    /**
+     * Traverses the given automaton in a level-synchronous, parallel breadth-first fashion. The traversal is steered by
+     * the specified visitor. In contrast to {@link TSTraversal#breadthFirst(net.automatalib.ts.TransitionSystem,
+     * Collection, TSTraversalVisitor)}:
+     * <ul>
+     *     <li>the callbacks of the visitor may be invoked concurrently by multiple threads (for different states of
+     *     the same level) and therefore need to be thread-safe,</li>
+     *     <li>each state is explored at most once, i.e., {@link TSTraversalAction#EXPLORE exploring} an already
+     *     discovered state has the same effect as {@link TSTraversalAction#IGNORE ignoring} it, and a newly discovered
+     *     state is associated with the data of the (arbitrary) transition that discovered it first,</li>
+     *     <li>the order in which the states of a level are explored is unspecified, and</li>
+     *     <li>{@link TSTraversalAction#ABORT_TRAVERSAL aborting} the traversal stops the exploration of states that
+     *     have not yet been started, but states that are concurrently explored may still invoke callbacks.</li>
+     * </ul>
+     *
+     * @param automaton
+     *         the automaton
+     * @param inputs
+     *         the input alphabet
+     * @param visitor
+     *         the (thread-safe) visitor
+     * @param <S>
+     *         state type
+     * @param <I>
+     *         input symbol type
+     * @param <T>
+     *         transition type
+     * @param <D>
+     *         (user) data type
+     */
+    public static <S, I, T, D> void breadthFirst(Automaton<S, ? super I, T> automaton,
+                                                 Collection<? extends I> inputs,
+                                                 TSTraversalVisitor<S, I, T, D> visitor) {
+        traverse(automaton, inputs, visitor);
+    }
+
+    // returns the discovered states
+    private static <S, I, T, D> AtomicBitSet traverse(Automaton<S, ? super I, T> automaton,
+                                                      Collection<? extends I> inputs,
+                                                      TSTraversalVisitor<S, I, T, D> visitor) {
+
+        final StateIDs<S> stateIds = automaton.stateIDs();
+        final AtomicBitSet discovered = new AtomicBitSet(automaton.size());
+        final AtomicBoolean aborted = new AtomicBoolean();
+
+        List<BFSRecord<S, D>> frontier = new ArrayList<>();
+        final Holder<D> dataHolder = new Holder<>();
+
+        for (S initS : automaton.getInitialStates()) {
+            dataHolder.value = null;
+            final TSTraversalAction act = visitor.processInitial(initS, dataHolder);
+            switch (act) {
+                case ABORT_INPUT:
+                case ABORT_STATE:
+                case IGNORE:
+                    continue;
+                case ABORT_TRAVERSAL:
+                    return discovered;
+                case EXPLORE:
+                    if (discovered.set(stateIds.getStateId(initS))) {
+                        frontier.add(new BFSRecord<>(initS, dataHolder.value));
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown action " + act);
+            }
+        }
+
+        while (!frontier.isEmpty() && !aborted.get()) {
+            final Stream<BFSRecord<S, D>> stream =
+                    frontier.size() < PARALLEL_THRESHOLD ? frontier.stream() : frontier.parallelStream();
+
+            frontier = stream.collect(ArrayList::new,
+                                      (next, record) -> explore(automaton,
+                                                                inputs,
+                                                                visitor,
+                                                                stateIds,
+                                                                discovered,
+                                                                aborted,
+                                                                record,
+                                                                next),
+                                      ArrayList::addAll);
+        }
+
+        return discovered;
+    }
+
+    /**
+     * Computes the states that are reachable from the initial states of the given automaton in a level-synchronous,
+     * parallel breadth-first fashion.
+     *
+     * @param automaton
+     *         the automaton
+     * @param inputs
+     *         the input alphabet
+     * @param <S>
+     *         state type
+     * @param <I>
+     *         input symbol type
+     * @param <T>
+     *         transition type
+     *
+     * @return a {@link BitSet} containing the {@link StateIDs ids} of the reachable states
+     */
+    public static <S, I, T> BitSet reachableStates(Automaton<S, I, T> automaton, Collection<? extends I> inputs) {
+        // the default visitor explores every transition, so that all reachable states are discovered
+        return traverse(automaton, inputs, new TSTraversalVisitor<S, I, T, Void>() {}).toBitSet();
+    }
+
+    private static <S, I, T, D> void explore(Automaton<S, ? super I, T> automaton,
+                                             Collection<? extends I> inputs,
+                                             TSTraversalVisitor<S, I, T, D> visitor,
+                                             StateIDs<S> stateIds,
+                                             AtomicBitSet discovered,
+                                             AtomicBoolean aborted,
+                                             BFSRecord<S, D> current,
+                                             List<BFSRecord<S, D>> next) {
+
+        final S state = current.state;
+        final D data = current.data;
+
+        if (aborted.get() || !visitor.startExploration(state, data)) {
+            return;
+        }
+
+        final Holder<D> dataHolder = new Holder<>();
+
+        inputs_loop:
+        for (I input : inputs) {
+            for (T trans : automaton.getTransitions(state, input)) {
+                final S succ = automaton.getSuccessor(trans);
+
+                dataHolder.value = null;
+                final TSTraversalAction act = visitor.processTransition(state, data, input, trans, succ, dataHolder);
+
+                switch (act) {
+                    case IGNORE:
+                        continue;
+                    case ABORT_INPUT:
+                        continue inputs_loop;
+                    case ABORT_STATE:
+                        break inputs_loop;
+                    case ABORT_TRAVERSAL:
+                        aborted.set(true);
+                        return;
+                    case EXPLORE:
+                        if (discovered.set(stateIds.getStateId(succ))) {
+                            next.add(new BFSRecord<>(succ, dataHolder.value));
+                        }
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown action " + act);
+                }
+            }
+        }
+
+        visitor.finishExploration(state, data);
+    }
+}
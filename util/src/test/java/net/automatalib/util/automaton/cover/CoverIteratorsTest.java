@@ -22,10 +22,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
 import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.common.util.collection.IteratorUtil;
 import net.automatalib.util.automaton.Automata;
 import net.automatalib.util.automaton.random.RandomAutomata;
@@ -45,6 +48,19 @@ public class CoverIteratorsTest {
         compareCovers(Automata::transitionCover, Covers::transitionCoverIterator);
     }
 
+    @Test
+    public void testCompactStateCover() {
+        compareCovers(Automata::stateCover, (dfa, inputs) -> Covers.compactStateCover(dfa, inputs).iterator());
+        checkCompactCover(Automata::stateCover, Covers::compactStateCover);
+    }
+
+    @Test
+    public void testCompactTransitionCover() {
+        compareCovers(Automata::transitionCover,
+                      (dfa, inputs) -> Covers.compactTransitionCover(dfa, inputs).iterator());
+        checkCompactCover(Automata::transitionCover, Covers::compactTransitionCover);
+    }
+
     @Test
     public void testIncrementalStateCoverIterator() {
         compareIncrementalCovers(Covers::incrementalStateCover, Covers::incrementalStateCoverIterator);
@@ -68,6 +84,35 @@ public class CoverIteratorsTest {
         Assert.assertEquals(iteratorCover, cover);
     }
 
+    public static void checkCompactCover(BiFunction<DFA<?, Integer>, Collection<Integer>, Collection<Word<Integer>>> coverGenerator,
+                                         BiFunction<DFA<?, Integer>, Collection<Integer>, CompactCover<Integer>> compactGenerator) {
+
+        final Random random = new Random(42);
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 5);
+        final CompactDFA<Integer> dfa = RandomAutomata.randomDFA(random, 200, alphabet);
+
+        // make the automaton partial
+        for (int s = 0; s < dfa.size(); s++) {
+            dfa.removeAllTransitions(s, alphabet.getSymbol(random.nextInt(alphabet.size())));
+        }
+
+        final List<Word<Integer>> cover = new ArrayList<>(coverGenerator.apply(dfa, alphabet));
+        final CompactCover<Integer> compactCover = compactGenerator.apply(dfa, alphabet);
+
+        Assert.assertEquals(compactCover.size(), cover.size());
+        Assert.assertEquals(compactCover.asList(), cover);
+        Assert.assertEquals(compactCover.stream().collect(Collectors.toList()), cover);
+        Assert.assertEquals(StreamSupport.stream(compactCover.spliterator(), true).collect(Collectors.toList()), cover);
+
+        for (int i = 0; i < cover.size(); i++) {
+            Assert.assertEquals(compactCover.getLength(i), cover.get(i).length());
+        }
+
+        final CompactCover<Integer> emptyCover = compactGenerator.apply(new CompactDFA<>(alphabet), alphabet);
+        Assert.assertEquals(emptyCover.size(), 0);
+        Assert.assertFalse(emptyCover.iterator().hasNext());
+    }
+
     public static void compareIncrementalCovers(QuadConsumer<DFA<?, Integer>, Collection<Integer>, Collection<Word<Integer>>, Collection<Word<Integer>>> incrementalCoverGenerator,
                                                 TriFunction<DFA<?, Integer>, Collection<Integer>, Collection<Word<Integer>>, Iterator<Word<Integer>>> incrementalIteratorGenerator) {
         final Random random = new Random(42);
@@ -24,8 +24,13 @@ import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.Automaton;
 import net.automatalib.automaton.fsa.impl.CompactNFA;
+import net.automatalib.automaton.fsa.impl.FastNFA;
+import net.automatalib.automaton.fsa.impl.FastNFAState;
 import net.automatalib.common.util.Pair;
+import net.automatalib.common.util.mapping.Mapping;
 import net.automatalib.ts.modal.impl.CompactMTS;
+import net.automatalib.util.automaton.copy.AutomatonCopyMethod;
+import net.automatalib.util.automaton.copy.AutomatonLowLevelCopy;
 import net.automatalib.util.automaton.random.TabakovVardiRandomAutomata;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -48,6 +53,42 @@ public class BisimulationTest {
         }
     }
 
+    @Test
+    public void testBlocks() {
+
+        final Alphabet<String> alphabet = Alphabets.closedCharStringRange('a', 'd');
+        final Random random = new Random(42);
+        final CompactNFA<String> a = TabakovVardiRandomAutomata.generateNFA(random, 50, 100, 10, alphabet);
+        final CompactNFA<String> b = TabakovVardiRandomAutomata.generateNFA(random, 50, 100, 10, alphabet);
+
+        final FastNFA<String> fastB = new FastNFA<>(alphabet);
+        final Mapping<Integer, FastNFAState> mapping =
+                AutomatonLowLevelCopy.copy(AutomatonCopyMethod.STATE_BY_STATE, b, alphabet, fastB);
+
+        final int[] blocks = Bisimulation.bisimulationBlocks(a, b, alphabet);
+        final int[] fastBlocks = Bisimulation.bisimulationBlocks(a, fastB, alphabet);
+        final Set<Pair<Integer, Integer>> pairs = Bisimulation.bisimulationEquivalenceRelation(a, b, alphabet);
+
+        Assert.assertEquals(blocks.length, a.size() + b.size());
+
+        for (int i = 0; i < a.size(); i++) {
+            for (int j = 0; j < b.size(); j++) {
+                final boolean bisimilar = blocks[i] == blocks[a.size() + j];
+                final int fastJ = fastB.getStateId(mapping.get(j));
+
+                Assert.assertEquals(pairs.contains(Pair.of(i, j)), bisimilar);
+                Assert.assertEquals(fastBlocks[i] == fastBlocks[a.size() + fastJ], bisimilar);
+            }
+        }
+
+        final int[] aBlocks = Bisimulation.bisimulationBlocks(a, alphabet);
+        for (int i = 0; i < a.size(); i++) {
+            for (int j = 0; j < a.size(); j++) {
+                Assert.assertEquals(aBlocks[i] == aBlocks[j], blocks[i] == blocks[j]);
+            }
+        }
+    }
+
     @Test
     public void bisimTestDiff() {
 
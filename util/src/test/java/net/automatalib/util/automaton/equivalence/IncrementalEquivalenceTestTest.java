@@ -0,0 +1,240 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.equivalence;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class IncrementalEquivalenceTestTest {
+
+    private static final Alphabet<Integer> ALPHABET = Alphabets.integers(0, 3);
+    private static final int AUTOMATON_SIZE = 50;
+
+    @Test
+    public void testRefinementSequence() {
+        final Random r = new Random(42);
+        final CompactDFA<Integer> reference = RandomAutomata.randomDFA(r, AUTOMATON_SIZE, ALPHABET);
+        final IncrementalEquivalenceTest<Integer> test = new IncrementalEquivalenceTest<>(reference, ALPHABET);
+
+        // start with a hypothesis that differs in many transitions and "repair" it step by step
+        final CompactDFA<Integer> hypothesis = new CompactDFA<>(reference);
+        final int size = hypothesis.size();
+        for (int i = 0; i < 20; i++) {
+            hypothesis.setTransition(r.nextInt(size), r.nextInt(ALPHABET.size()), r.nextInt(size));
+        }
+
+        for (int s = 0; s < size; s++) {
+            for (int i = 0; i < ALPHABET.size(); i++) {
+                checkAgainstReference(test, reference, hypothesis);
+                hypothesis.setTransition(s, i, reference.getSuccessor(s, i));
+            }
+            checkAgainstReference(test, reference, hypothesis);
+        }
+
+        Assert.assertNull(test.findSeparatingWord(hypothesis));
+
+        // flip some acceptance values
+        for (int i = 0; i < 10; i++) {
+            final int s = r.nextInt(size);
+            hypothesis.setAccepting(s, !hypothesis.isAccepting(s));
+            checkAgainstReference(test, reference, hypothesis);
+        }
+    }
+
+    @Test
+    public void testGrowingHypothesis() {
+        final Random r = new Random(1337);
+        final CompactDFA<Integer> reference = RandomAutomata.randomDFA(r, AUTOMATON_SIZE, ALPHABET);
+        final int size = reference.size();
+        final IncrementalEquivalenceTest<Integer> test = new IncrementalEquivalenceTest<>(reference, ALPHABET);
+
+        // iteratively add states of the reference (starting with its initial state) and redirect missing successors
+        // to the initial state
+        final int[] order = new int[size];
+        final int[] position = new int[size];
+        final int init = reference.getIntInitialState();
+
+        order[0] = init;
+        for (int q = 0, idx = 1; q < size; q++) {
+            if (q != init) {
+                order[idx++] = q;
+            }
+        }
+        for (int idx = 0; idx < size; idx++) {
+            position[order[idx]] = idx;
+        }
+
+        final CompactDFA<Integer> hypothesis = new CompactDFA<>(ALPHABET);
+
+        for (int s = 0; s < size; s++) {
+            if (s == 0) {
+                hypothesis.addIntInitialState(reference.isAccepting(order[s]));
+            } else {
+                hypothesis.addIntState(reference.isAccepting(order[s]));
+            }
+
+            for (int q = 0; q <= s; q++) {
+                for (int i = 0; i < ALPHABET.size(); i++) {
+                    final int succ = position[reference.getSuccessor(order[q], i)];
+                    hypothesis.setTransition(q, i, succ <= s ? succ : 0);
+                }
+            }
+
+            checkAgainstReference(test, reference, hypothesis);
+        }
+
+        Assert.assertNull(test.findSeparatingWord(hypothesis));
+        Assert.assertNull(test.findSeparatingWord(new CompactDFA<>(reference)));
+    }
+
+    @Test
+    public void testRandomModifications() {
+        final Random r = new Random(7);
+        final CompactDFA<Integer> reference = RandomAutomata.randomDFA(r, AUTOMATON_SIZE, ALPHABET);
+        final CompactDFA<Integer> hypothesis = new CompactDFA<>(reference);
+        final IncrementalEquivalenceTest<Integer> full = new IncrementalEquivalenceTest<>(reference, ALPHABET);
+        final IncrementalEquivalenceTest<Integer> hinted = new IncrementalEquivalenceTest<>(reference, ALPHABET);
+
+        Assert.assertNull(full.findSeparatingWord(hypothesis));
+        Assert.assertNull(hinted.findSeparatingWord(hypothesis, Collections.emptySet()));
+
+        for (int round = 0; round < 500; round++) {
+            final Set<Integer> changed = new HashSet<>();
+
+            for (int i = 0; i < 1 + r.nextInt(3); i++) {
+                final int s = r.nextInt(hypothesis.size());
+                changed.add(s);
+
+                switch (r.nextInt(4)) {
+                    case 0:
+                        hypothesis.setAccepting(s, !hypothesis.isAccepting(s));
+                        break;
+                    case 1:
+                        final int copy = hypothesis.addIntState(hypothesis.isAccepting(s));
+                        for (int a = 0; a < ALPHABET.size(); a++) {
+                            hypothesis.setTransition(copy, a, hypothesis.getSuccessor(s, a));
+                        }
+                        final int src = r.nextInt(hypothesis.size());
+                        hypothesis.setTransition(src, r.nextInt(ALPHABET.size()), copy);
+                        changed.add(src);
+                        break;
+                    default:
+                        // mostly repair transitions, so that the hypothesis is regularly equivalent again
+                        final int a = r.nextInt(ALPHABET.size());
+                        final int succ = s < reference.size() && r.nextBoolean() ?
+                                reference.getSuccessor(s, a) :
+                                r.nextInt(hypothesis.size());
+                        hypothesis.setTransition(s, a, succ);
+                        break;
+                }
+            }
+
+            final Word<Integer> expected =
+                    NearLinearEquivalenceTest.findSeparatingWord(reference, hypothesis, ALPHABET);
+
+            for (Word<Integer> actual : Arrays.asList(full.findSeparatingWord(hypothesis),
+                                                      hinted.findSeparatingWord(hypothesis, changed))) {
+                if (expected == null) {
+                    Assert.assertNull(actual);
+                } else {
+                    Assert.assertNotNull(actual);
+                    Assert.assertNotEquals(reference.accepts(actual), hypothesis.accepts(actual));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testUnchangedHypothesis() {
+        final Random r = new Random(0);
+        final CompactDFA<Integer> reference = RandomAutomata.randomDFA(r, AUTOMATON_SIZE, ALPHABET);
+        final CompactDFA<Integer> hypothesis = RandomAutomata.randomDFA(r, AUTOMATON_SIZE, ALPHABET);
+        final IncrementalEquivalenceTest<Integer> test = new IncrementalEquivalenceTest<>(reference, ALPHABET);
+
+        final Word<Integer> sepWord1 = test.findSeparatingWord(hypothesis);
+        final Word<Integer> sepWord2 = test.findSeparatingWord(hypothesis);
+
+        Assert.assertNotNull(sepWord1);
+        Assert.assertEquals(sepWord2, sepWord1);
+        Assert.assertNotEquals(reference.accepts(sepWord1), hypothesis.accepts(sepWord1));
+    }
+
+    @Test
+    public void testPartialMealy() {
+        final Random r = new Random(0);
+        final CompactMealy<Integer, Character> reference =
+                RandomAutomata.randomMealy(r, AUTOMATON_SIZE, ALPHABET, Alphabets.characters('a', 'c'));
+        final CompactMealy<Integer, Character> hypothesis = new CompactMealy<>(reference);
+        hypothesis.removeAllTransitions(AUTOMATON_SIZE / 2);
+
+        final IncrementalEquivalenceTest<Integer> strict = new IncrementalEquivalenceTest<>(reference, ALPHABET);
+        final IncrementalEquivalenceTest<Integer> lenient =
+                new IncrementalEquivalenceTest<>(reference, ALPHABET, true);
+
+        Assert.assertNull(lenient.findSeparatingWord(hypothesis));
+        Assert.assertEquals(strict.findSeparatingWord(hypothesis) == null,
+                            NearLinearEquivalenceTest.findSeparatingWord(reference, hypothesis, ALPHABET) == null);
+
+        hypothesis.setTransition(0, (Integer) 0, hypothesis.getSuccessor(0, 1), (Character) 'z');
+
+        final Word<Integer> sepWord = lenient.findSeparatingWord(hypothesis);
+        Assert.assertNotNull(sepWord);
+        Assert.assertNotEquals(hypothesis.computeOutput(sepWord), reference.computeOutput(sepWord));
+    }
+
+    @Test
+    public void testEmpty() {
+        final CompactDFA<Integer> uninit = new CompactDFA<>(ALPHABET, 0);
+        final CompactDFA<Integer> empty = new CompactDFA<>(ALPHABET, 1);
+
+        final IncrementalEquivalenceTest<Integer> test = new IncrementalEquivalenceTest<>(uninit, ALPHABET);
+
+        Assert.assertNull(test.findSeparatingWord(empty));
+
+        empty.addInitialState(false);
+        Assert.assertEquals(test.findSeparatingWord(empty), Word.epsilon());
+
+        final IncrementalEquivalenceTest<Integer> test2 = new IncrementalEquivalenceTest<>(empty, ALPHABET);
+        Assert.assertNull(test2.findSeparatingWord(empty));
+        Assert.assertEquals(test2.findSeparatingWord(uninit), Word.epsilon());
+    }
+
+    private static void checkAgainstReference(IncrementalEquivalenceTest<Integer> test,
+                                              CompactDFA<Integer> reference,
+                                              CompactDFA<Integer> hypothesis) {
+        final Word<Integer> expected = NearLinearEquivalenceTest.findSeparatingWord(reference, hypothesis, ALPHABET);
+        final Word<Integer> actual = test.findSeparatingWord(hypothesis);
+
+        if (expected == null) {
+            Assert.assertNull(actual);
+        } else {
+            Assert.assertNotNull(actual);
+            Assert.assertNotEquals(reference.accepts(actual), hypothesis.accepts(actual));
+        }
+    }
+}
@@ -15,11 +15,19 @@
  */
 package net.automatalib.util.automaton.fsa;
 
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.FastDFA;
 import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.copy.AutomatonCopyMethod;
+import net.automatalib.util.automaton.copy.AutomatonLowLevelCopy;
+import net.automatalib.util.automaton.random.RandomAutomata;
 import net.automatalib.util.ts.acceptor.AcceptanceCombiner;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -140,6 +148,36 @@ public class DFAsTest {
         Assert.assertEquals(DFAs.trim(dfa, alphabet).size(), 2);
     }
 
+    @Test
+    public void testTrimLarge() throws InterruptedException, ExecutionException {
+        final Random r = new Random(42);
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 2);
+        final CompactDFA<Integer> dfa = RandomAutomata.randomDFA(r, 5000, alphabet, false);
+
+        // keep only few accepting states so that trimming actually removes states
+        for (int s = 0; s < dfa.size(); s++) {
+            dfa.setAccepting(s, r.nextInt(100) == 0);
+        }
+
+        final FastDFA<Integer> fast = new FastDFA<>(alphabet);
+        AutomatonLowLevelCopy.copy(AutomatonCopyMethod.STATE_BY_STATE, dfa, alphabet, fast);
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final CompactDFA<Integer> compactTrim = pool.submit(() -> DFAs.trim(dfa, alphabet)).get();
+            final FastDFA<Integer> fastTrim =
+                    pool.submit(() -> DFAs.trim(fast, alphabet, new FastDFA<>(alphabet))).get();
+
+            Assert.assertTrue(compactTrim.size() < dfa.size());
+            Assert.assertEquals(fastTrim.size(), compactTrim.size());
+            Assert.assertEquals(DFAs.trim(compactTrim, alphabet).size(), compactTrim.size());
+            Assert.assertTrue(Automata.testEquivalence(dfa, compactTrim, alphabet));
+            Assert.assertTrue(Automata.testEquivalence(dfa, fastTrim, alphabet));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @Test
     public void testComplement() {
         DFA<?, Integer> expected = forVector(VECTOR_1_NEG);
@@ -0,0 +1,102 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.fsa;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactNFA;
+import net.automatalib.util.automaton.fsa.LazyDeterminizedDFA.Eviction;
+import net.automatalib.util.automaton.random.TabakovVardiRandomAutomata;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class LazyDeterminizedDFATest {
+
+    private final Alphabet<Integer> alphabet;
+    private final CompactNFA<Integer> nfa;
+    private final List<Word<Integer>> words;
+
+    public LazyDeterminizedDFATest() {
+        final Random r = new Random(42);
+
+        this.alphabet = Alphabets.integers(0, 2);
+        this.nfa = TabakovVardiRandomAutomata.generateNFA(r, 30, 60, 10, alphabet);
+        this.words = new ArrayList<>(1000);
+
+        for (int i = 0; i < 1000; i++) {
+            final int length = r.nextInt(20);
+            final WordBuilder<Integer> wb = new WordBuilder<>(length);
+            for (int j = 0; j < length; j++) {
+                wb.append(alphabet.getSymbol(r.nextInt(alphabet.size())));
+            }
+            words.add(wb.toWord());
+        }
+    }
+
+    @DataProvider
+    public static Object[][] configurations() {
+        return new Object[][] {{1, Eviction.FLUSH},
+                               {1, Eviction.FREEZE},
+                               {8, Eviction.FLUSH},
+                               {8, Eviction.FREEZE},
+                               {LazyDeterminizedDFA.DEFAULT_MAX_STATES, Eviction.FLUSH}};
+    }
+
+    @Test(dataProvider = "configurations")
+    public void testAcceptance(int maxStates, Eviction eviction) {
+        final LazyDeterminizedDFA<Integer> dfa = new LazyDeterminizedDFA<>(nfa, alphabet, maxStates, eviction);
+
+        // evaluate twice to check the (partially) materialized table
+        for (int round = 0; round < 2; round++) {
+            boolean accepted = false, rejected = false;
+
+            for (Word<Integer> w : words) {
+                final boolean expected = nfa.accepts(w);
+                Assert.assertEquals(dfa.accepts(w), expected, w.toString());
+                accepted |= expected;
+                rejected |= !expected;
+            }
+
+            Assert.assertTrue(accepted);
+            Assert.assertTrue(rejected);
+            Assert.assertTrue(dfa.getNumMaterializedStates() <= maxStates);
+        }
+
+        if (eviction == Eviction.FREEZE || maxStates == LazyDeterminizedDFA.DEFAULT_MAX_STATES) {
+            Assert.assertEquals(dfa.getNumFlushes(), 0);
+        } else {
+            Assert.assertTrue(dfa.getNumFlushes() > 0);
+        }
+    }
+
+    @Test
+    public void testAcceptsAll() {
+        final LazyDeterminizedDFA<Integer> dfa = new LazyDeterminizedDFA<>(nfa, alphabet);
+        final BitSet result = dfa.acceptsAll(words);
+
+        for (int i = 0; i < words.size(); i++) {
+            Assert.assertEquals(result.get(i), nfa.accepts(words.get(i)));
+        }
+    }
+}
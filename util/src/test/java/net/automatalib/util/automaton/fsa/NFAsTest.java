@@ -15,8 +15,11 @@
  */
 package net.automatalib.util.automaton.fsa;
 
+import java.util.HashSet;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
@@ -138,6 +141,68 @@ public class NFAsTest {
         Assert.assertEquals(NFAs.trim(nfa, alphabet).size(), 2);
     }
 
+    @Test
+    public void testTrimLarge() throws InterruptedException, ExecutionException {
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 1);
+        final CompactNFA<Integer> nfa =
+                TabakovVardiRandomAutomata.generateNFA(new Random(42), 5000, 6000, 50, alphabet);
+        final FastNFA<Integer> fast = TabakovVardiRandomAutomata.generateNFA(new Random(42),
+                                                                              5000,
+                                                                              6000,
+                                                                              50,
+                                                                              alphabet,
+                                                                              new FastNFA<>(alphabet));
+
+        final Set<Integer> accessible = new HashSet<>();
+        final Set<Integer> coaccessible = new HashSet<>();
+
+        // naive fixed-point computations of the (co-)accessible states
+        nfa.getInitialStates().forEach(accessible::add);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Integer s : nfa) {
+                for (Integer i : alphabet) {
+                    for (Integer t : nfa.getSuccessors(s, i)) {
+                        changed |= accessible.contains(s) && accessible.add(t);
+                        changed |= (nfa.isAccepting(t) || coaccessible.contains(t)) && coaccessible.add(s);
+                    }
+                }
+                changed |= nfa.isAccepting(s) && coaccessible.add(s);
+            }
+        }
+
+        final Set<Integer> trimmed = new HashSet<>(accessible);
+        trimmed.retainAll(coaccessible);
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Assert.assertEquals(pool.submit(() -> NFAs.accessibleStates(nfa, alphabet)).get(), accessible);
+            Assert.assertEquals(pool.submit(() -> NFAs.coaccessibleStates(nfa, alphabet)).get(), coaccessible);
+
+            final Set<Integer> fastAccessible = new HashSet<>();
+            final Set<Integer> fastCoaccessible = new HashSet<>();
+            pool.submit(() -> NFAs.accessibleStates(fast, alphabet)).get().forEach(s -> fastAccessible.add(s.getId()));
+            pool.submit(() -> NFAs.coaccessibleStates(fast, alphabet))
+                .get()
+                .forEach(s -> fastCoaccessible.add(s.getId()));
+            Assert.assertEquals(fastAccessible, accessible);
+            Assert.assertEquals(fastCoaccessible, coaccessible);
+
+            final CompactNFA<Integer> compactTrim = pool.submit(() -> NFAs.trim(nfa, alphabet)).get();
+            final FastNFA<Integer> fastTrim =
+                    pool.submit(() -> NFAs.trim(fast, alphabet, new FastNFA<>(alphabet))).get();
+
+            Assert.assertEquals(compactTrim.size(), trimmed.size());
+            Assert.assertEquals(fastTrim.size(), trimmed.size());
+            Assert.assertEquals(NFAs.accessibleStates(compactTrim, alphabet).size(), trimmed.size());
+            Assert.assertEquals(NFAs.coaccessibleStates(compactTrim, alphabet).size(), trimmed.size());
+            Assert.assertEquals(countTransitions(compactTrim, alphabet), countTransitions(fastTrim, alphabet));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @Test
     public void testDeterminizeDFA() {
         determinizeDFA(new CompactDFA.Creator<>());
@@ -150,9 +215,114 @@ public class NFAsTest {
         determinizeNFA(FastNFA::new);
     }
 
+    @Test
+    public void testReduceByBisimulation() {
+        final CompactNFA<Integer> or = NFAs.or(testNfa1, testNfa1, testAlphabet);
+        final CompactNFA<Integer> reduced = NFAs.reduceByBisimulation(or);
+
+        Assert.assertEquals(or.size(), 2 * testNfa1.size());
+        Assert.assertTrue(reduced.size() <= testNfa1.size());
+        assertEquivalence(or, reduced, testAlphabet);
+
+        final FastNFA<Integer> fast = new FastNFA<>(testAlphabet);
+        NFAs.or(testNfa2, testNfa2, testAlphabet, fast);
+        final CompactNFA<Integer> fastReduced = NFAs.reduceByBisimulation(fast);
+
+        Assert.assertEquals(fastReduced.size(), NFAs.reduceByBisimulation(testNfa2, testAlphabet).size());
+        assertEquivalence(fast, fastReduced, testAlphabet);
+    }
+
+    @Test
+    public void testInclusion() {
+        final CompactNFA<Integer> and = NFAs.and(testNfa1, testNfa2, testAlphabet);
+        final CompactNFA<Integer> or = NFAs.or(testNfa1, testNfa2, testAlphabet);
+
+        for (boolean useSimulation : new boolean[] {false, true}) {
+            Assert.assertNull(NFAs.findInclusionCounterexample(and, testNfa1, testAlphabet, useSimulation));
+            Assert.assertNull(NFAs.findInclusionCounterexample(testNfa2, or, testAlphabet, useSimulation));
+            Assert.assertNull(NFAs.findInclusionCounterexample(testNfa1, testNfa1, testAlphabet, useSimulation));
+        }
+
+        Assert.assertTrue(NFAs.testInclusion(and, or, testAlphabet));
+    }
+
+    @Test
+    public void testRandomInclusion() {
+        final Random r = new Random(1337);
+
+        for (int i = 0; i < 50; i++) {
+            final CompactNFA<Integer> nfa1 = TabakovVardiRandomAutomata.generateNFA(r, 15, 20, 8, testAlphabet);
+            final CompactNFA<Integer> nfa2 = TabakovVardiRandomAutomata.generateNFA(r, 15, 20, 8, testAlphabet);
+            final boolean expected = isIncluded(nfa1, nfa2, testAlphabet);
+
+            for (boolean useSimulation : new boolean[] {false, true}) {
+                final Word<Integer> cex = NFAs.findInclusionCounterexample(nfa1, nfa2, testAlphabet, useSimulation);
+
+                if (expected) {
+                    Assert.assertNull(cex);
+                } else {
+                    Assert.assertNotNull(cex);
+                    Assert.assertTrue(nfa1.accepts(cex));
+                    Assert.assertFalse(nfa2.accepts(cex));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testUniversality() {
+        final CompactDFA<Integer> complement = DFAs.complement(NFAs.determinize(testNfa1, testAlphabet), testAlphabet);
+        final CompactNFA<Integer> universal = NFAs.or(testNfa1, complement, testAlphabet);
+        final CompactNFA<Integer> rejecting = new CompactNFA<>(testAlphabet);
+        rejecting.addInitialState(false);
+
+        for (boolean useSimulation : new boolean[] {false, true}) {
+            Assert.assertNull(NFAs.findUniversalityCounterexample(universal, testAlphabet, useSimulation));
+
+            Assert.assertEquals(NFAs.findUniversalityCounterexample(rejecting, testAlphabet, useSimulation),
+                                Word.epsilon());
+        }
+
+        final Random r = new Random(1337);
+        final CompactDFA<Integer> sigmaStar = new CompactDFA<>(testAlphabet);
+        final Integer init = sigmaStar.addInitialState(true);
+        for (Integer i : testAlphabet) {
+            sigmaStar.setTransition(init, i, init);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            final CompactNFA<Integer> nfa = TabakovVardiRandomAutomata.generateNFA(r, 15, 30, 10, testAlphabet);
+            final boolean expected = isIncluded(sigmaStar, nfa, testAlphabet);
+
+            for (boolean useSimulation : new boolean[] {false, true}) {
+                final Word<Integer> cex = NFAs.findUniversalityCounterexample(nfa, testAlphabet, useSimulation);
+
+                if (expected) {
+                    Assert.assertNull(cex);
+                } else {
+                    Assert.assertNotNull(cex);
+                    Assert.assertFalse(nfa.accepts(cex));
+                }
+            }
+        }
+
+        Assert.assertTrue(NFAs.testUniversality(universal, testAlphabet));
+        Assert.assertFalse(NFAs.testUniversality(new CompactNFA<>(testAlphabet), testAlphabet));
+    }
+
     /*
      * Check that determinization is idempotent.
      */
+    private static <S> int countTransitions(NFA<S, Integer> nfa, Alphabet<Integer> alphabet) {
+        int result = 0;
+        for (S s : nfa) {
+            for (Integer i : alphabet) {
+                result += nfa.getSuccessors(s, i).size();
+            }
+        }
+        return result;
+    }
+
     private <S, A extends MutableDFA<S, Integer> & InputAlphabetHolder<Integer>> void determinizeDFA(AutomatonCreator<A, Integer> creator) {
         Alphabet<Integer> alphabet = Alphabets.integers(0, 1);
 
@@ -193,6 +363,12 @@ public class NFAsTest {
         Assert.assertFalse(dfa.accepts(Word.fromSymbols(0, 1, 0, 1, 0)));
     }
 
+    private <I> boolean isIncluded(NFA<?, I> nfa1, NFA<?, I> nfa2, Alphabet<I> inputs) {
+        final CompactDFA<I> dfa1 = NFAs.determinize(nfa1, inputs);
+        final CompactDFA<I> dfa2 = NFAs.determinize(nfa2, inputs);
+        return DFAs.acceptsEmptyLanguage(DFAs.and(dfa1, DFAs.complement(dfa2, inputs), inputs));
+    }
+
     private <I> DFA<?, I> dfaCombine(NFA<?, I> nfa1, NFA<?, I> nfa2, Alphabet<I> inputs, AcceptanceCombiner acc) {
         return DFAs.combine(NFAs.determinize(nfa1, inputs), NFAs.determinize(nfa2, inputs), inputs, acc);
     }
@@ -0,0 +1,118 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.minimizer;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.graph.UniversalGraph;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.util.minimizer.Block;
+import net.automatalib.util.minimizer.MinimizationResult;
+import net.automatalib.util.minimizer.Minimizer;
+import net.automatalib.util.minimizer.ValmariMinimizer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ValmariMinimizerTest {
+
+    private static final int SIZE = 200;
+
+    private final Alphabet<Character> alphabet = Alphabets.characters('a', 'c');
+
+    @Test
+    public void testDFA() {
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 10; i++) {
+            final CompactDFA<Character> dfa = RandomAutomata.randomDFA(random, SIZE, alphabet, false);
+            checkPartition(dfa.transitionGraphView(), dfa.getStates());
+            checkPartition(dfa.transitionGraphView(), dfa.getInitialStates());
+        }
+    }
+
+    @Test
+    public void testPartialDFA() {
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 10; i++) {
+            final CompactDFA<Character> dfa = RandomAutomata.randomDFA(random, SIZE, alphabet, false);
+
+            for (int s = 0; s < dfa.size(); s++) {
+                if (random.nextInt(4) == 0) {
+                    dfa.removeAllTransitions(s, alphabet.getSymbol(random.nextInt(alphabet.size())));
+                }
+            }
+
+            checkPartition(dfa.transitionGraphView(), dfa.getStates());
+            checkPartition(dfa.transitionGraphView(), dfa.getInitialStates());
+        }
+    }
+
+    @Test
+    public void testMealy() {
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 10; i++) {
+            final CompactMealy<Character, Integer> mealy =
+                    RandomAutomata.randomMealy(random, SIZE, alphabet, Arrays.asList(0, 1), false);
+            checkPartition(mealy.transitionGraphView(), mealy.getStates());
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        final CompactDFA<Character> dfa = new CompactDFA<>(alphabet);
+        final MinimizationResult<Integer, ?> result = ValmariMinimizer.minimize(dfa.transitionGraphView());
+        Assert.assertEquals(result.getNumBlocks(), 0);
+    }
+
+    /**
+     * Checks that the {@link ValmariMinimizer} and the {@link Minimizer} compute the same partition.
+     */
+    private static <S, L> void checkPartition(UniversalGraph<S, ?, ?, L> graph, Collection<? extends S> start) {
+        final MinimizationResult<S, L> expected = Minimizer.minimize(graph, start);
+        final MinimizationResult<S, L> actual = ValmariMinimizer.minimize(graph, start);
+
+        Assert.assertEquals(actual.getNumBlocks(), expected.getNumBlocks());
+
+        final Map<Block<S, L>, Block<S, L>> expectedToActual = new HashMap<>();
+        final Map<Block<S, L>, Block<S, L>> actualToExpected = new HashMap<>();
+        final boolean[] ids = new boolean[actual.getNumBlocks()];
+
+        for (Block<S, L> block : actual.getBlocks()) {
+            // block ids need to be contiguous
+            Assert.assertFalse(ids[block.getId()]);
+            ids[block.getId()] = true;
+
+            for (S s : MinimizationResult.getStatesInBlock(block)) {
+                final Block<S, L> e = expected.getBlockForState(s);
+                final Block<S, L> a = actual.getBlockForState(s);
+
+                Assert.assertSame(a, block);
+                Assert.assertSame(expectedToActual.computeIfAbsent(e, k -> a), a);
+                Assert.assertSame(actualToExpected.computeIfAbsent(a, k -> e), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.procedural;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import net.automatalib.alphabet.ProceduralInputAlphabet;
+import net.automatalib.alphabet.ProceduralOutputAlphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.alphabet.impl.DefaultProceduralInputAlphabet;
+import net.automatalib.alphabet.impl.DefaultProceduralOutputAlphabet;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.procedural.SBA;
+import net.automatalib.automaton.procedural.SPA;
+import net.automatalib.automaton.procedural.SPMM;
+import net.automatalib.automaton.procedural.impl.StackSBA;
+import net.automatalib.automaton.procedural.impl.StackSPA;
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.common.util.collection.IteratorUtil;
+import net.automatalib.util.automaton.conformance.SBAWMethodTestsIterator;
+import net.automatalib.util.automaton.conformance.SPATestsIterator;
+import net.automatalib.util.automaton.conformance.SPMMWMethodTestsIterator;
+import net.automatalib.util.automaton.conformance.WMethodTestsIterator;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ProceduralRunnerTest {
+
+    private static final int SEED = 42;
+    private static final int DEPTH = 100_000;
+
+    private final ProceduralInputAlphabet<Character> alphabet =
+            new DefaultProceduralInputAlphabet<>(Alphabets.characters('a', 'c'), Alphabets.characters('S', 'U'), 'R');
+    private final ProceduralOutputAlphabet<Character> outputAlphabet =
+            new DefaultProceduralOutputAlphabet<>(Alphabets.characters('x', 'z'), '-');
+
+    @Test
+    public void testSPARunner() {
+        final Random random = new Random(SEED);
+
+        for (int i = 0; i < 10; i++) {
+            final SPA<?, Character> spa = RandomAutomata.randomSPA(random, alphabet, 5);
+            final SPARunner<Character> runner = new SPARunner<>(spa);
+            final List<Word<Character>> tests =
+                    IteratorUtil.list(new SPATestsIterator<>(spa, WMethodTestsIterator::new));
+
+            int accepted = 0;
+            for (Word<Character> w : withMutations(random, tests)) {
+                final boolean expected = spa.accepts(w);
+                Assert.assertEquals(runner.accepts(w), expected, w.toString());
+                Assert.assertEquals(runner.accepts(toIntSeq(w)), expected, w.toString());
+                if (expected) {
+                    accepted++;
+                }
+            }
+            Assert.assertTrue(accepted > 0);
+        }
+    }
+
+    @Test
+    public void testSBARunner() {
+        final Random random = new Random(SEED);
+
+        for (int i = 0; i < 10; i++) {
+            final SBA<?, Character> sba = RandomAutomata.randomSBA(random, alphabet, 10);
+            Assert.assertTrue(SBAs.isValid(sba));
+
+            final SBARunner<Character> runner = new SBARunner<>(sba);
+            final List<Word<Character>> tests = IteratorUtil.list(new SBAWMethodTestsIterator<>(sba));
+
+            int accepted = 0;
+            for (Word<Character> w : withMutations(random, tests)) {
+                final boolean expected = sba.accepts(w);
+                Assert.assertEquals(runner.accepts(w), expected, w.toString());
+                Assert.assertEquals(runner.accepts(toIntSeq(w)), expected, w.toString());
+                if (expected) {
+                    accepted++;
+                }
+            }
+            Assert.assertTrue(accepted > 0);
+        }
+    }
+
+    @Test
+    public void testSPMMRunner() {
+        final Random random = new Random(SEED);
+
+        for (int i = 0; i < 10; i++) {
+            final SPMM<?, Character, ?, Character> spmm =
+                    RandomAutomata.randomSPMM(random, alphabet, outputAlphabet, 5);
+            final SPMMRunner<Character, Character> runner = new SPMMRunner<>(spmm);
+            final List<Word<Character>> tests = IteratorUtil.list(new SPMMWMethodTestsIterator<>(spmm));
+
+            for (Word<Character> w : withMutations(random, tests)) {
+                final Word<Character> expected = spmm.computeOutput(w);
+                Assert.assertEquals(runner.computeOutput(w), expected, w.toString());
+
+                final List<Character> output = new ArrayList<>(w.length());
+                runner.computeOutput(toIntSeq(w), output);
+                Assert.assertEquals(output, expected.asList(), w.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testDeepNesting() {
+        // S -> a | S a
+        final CompactDFA<Character> s = new CompactDFA<>(alphabet.getProceduralAlphabet());
+        final int s0 = s.addInitialState(false);
+        final int s1 = s.addState(true);
+        final int s2 = s.addState(false);
+        s.addTransition(s0, 'a', s1);
+        s.addTransition(s0, 'S', s2);
+        s.addTransition(s2, 'a', s1);
+
+        final SPA<?, Character> spa = new StackSPA<>(alphabet, 'S', Collections.singletonMap('S', s));
+        final SPARunner<Character> spaRunner = new SPARunner<>(spa);
+
+        Assert.assertTrue(spaRunner.accepts(nested(DEPTH, 'a')));
+        Assert.assertFalse(spaRunner.accepts(nested(DEPTH, 'b')));
+        final Word<Character> word = nested(DEPTH, 'a');
+        Assert.assertFalse(spaRunner.accepts(word.prefix(word.length() - 1)));
+
+        // prefix-closed variant of S for SBAs
+        final CompactDFA<Character> b = new CompactDFA<>(alphabet);
+        final int b0 = b.addInitialState(true);
+        final int b1 = b.addState(true);
+        final int b2 = b.addState(true);
+        final int b3 = b.addState(true);
+        b.addTransition(b0, 'a', b1);
+        b.addTransition(b0, 'S', b2);
+        b.addTransition(b2, 'a', b1);
+        b.addTransition(b1, 'R', b3);
+
+        final SBA<?, Character> sba = new StackSBA<>(alphabet, 'S', Collections.singletonMap('S', b));
+        final SBARunner<Character> sbaRunner = new SBARunner<>(sba);
+
+        Assert.assertTrue(sbaRunner.accepts(nested(DEPTH, 'a')));
+        Assert.assertTrue(sbaRunner.accepts(nested(DEPTH, 'a').prefix(DEPTH)));
+        Assert.assertFalse(sbaRunner.accepts(nested(DEPTH, 'b')));
+    }
+
+    private static Word<Character> nested(int depth, char inner) {
+        final WordBuilder<Character> wb = new WordBuilder<>(2 * depth + 1);
+        wb.repeatAppend(depth, 'S');
+        wb.append(inner).append('R');
+        for (int i = 1; i < depth; i++) {
+            wb.append('a').append('R');
+        }
+        return wb.toWord();
+    }
+
+    private List<Word<Character>> withMutations(Random random, List<Word<Character>> tests) {
+        final List<Word<Character>> result = new ArrayList<>(2 * tests.size());
+        result.addAll(tests);
+
+        for (Word<Character> w : tests) {
+            final WordBuilder<Character> wb = new WordBuilder<>(w.length() + 1, w);
+            if (w.isEmpty() || random.nextBoolean()) {
+                wb.append(alphabet.getSymbol(random.nextInt(alphabet.size())));
+            } else {
+                wb.setSymbol(random.nextInt(w.length()), alphabet.getSymbol(random.nextInt(alphabet.size())));
+            }
+            result.add(wb.toWord());
+        }
+
+        return result;
+    }
+
+    private IntSeq toIntSeq(Word<Character> word) {
+        final int[] result = new int[word.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = alphabet.getSymbolIndex(word.getSymbol(i));
+        }
+        return IntSeq.of(result);
+    }
+}
@@ -0,0 +1,130 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.random;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.Automata;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ParallelRandomAutomataTest {
+
+    private static final long SEED = 42;
+    private static final int SIZE = 3 * ParallelRandomAutomata.CHUNK_SIZE + 17;
+
+    private final Alphabet<Character> alphabet = Alphabets.characters('a', 'c');
+    private final List<Integer> outputs = Arrays.asList(0, 1, 2);
+
+    @Test
+    public void testDFA() throws InterruptedException, ExecutionException {
+        final CompactDFA<Character> sequential =
+                run(1, () -> ParallelRandomAutomata.randomDFA(SEED, SIZE, alphabet, false));
+        final CompactDFA<Character> parallel =
+                run(4, () -> ParallelRandomAutomata.randomDFA(SEED, SIZE, alphabet, false));
+
+        Assert.assertEquals(sequential.size(), SIZE);
+        checkComplete(sequential);
+        assertIdentical(sequential, parallel);
+
+        int accepting = 0;
+        for (int s = 0; s < SIZE; s++) {
+            if (sequential.isAccepting(s)) {
+                accepting++;
+            }
+        }
+        Assert.assertTrue(accepting > 0 && accepting < SIZE);
+
+        final CompactDFA<Character> other = ParallelRandomAutomata.randomDFA(SEED + 1, SIZE, alphabet, false);
+        Assert.assertFalse(Automata.testEquivalence(sequential, other, alphabet));
+    }
+
+    @Test
+    public void testICDFA() throws InterruptedException, ExecutionException {
+        final CompactDFA<Character> sequential =
+                run(1, () -> ParallelRandomAutomata.randomDFA(SEED, SIZE, alphabet, true));
+        final CompactDFA<Character> parallel =
+                run(4, () -> ParallelRandomAutomata.randomDFA(SEED, SIZE, alphabet, true));
+
+        checkComplete(sequential);
+        assertIdentical(sequential, parallel);
+        Assert.assertEquals(Automata.stateCover(sequential, alphabet).size(), SIZE);
+    }
+
+    @Test
+    public void testICMealy() throws InterruptedException, ExecutionException {
+        final CompactMealy<Character, Integer> sequential =
+                run(1, () -> ParallelRandomAutomata.randomMealy(SEED, SIZE, alphabet, outputs, true));
+        final CompactMealy<Character, Integer> parallel =
+                run(4, () -> ParallelRandomAutomata.randomMealy(SEED, SIZE, alphabet, outputs, true));
+
+        Assert.assertEquals(sequential.size(), SIZE);
+        Assert.assertEquals(Automata.stateCover(sequential, alphabet).size(), SIZE);
+
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < alphabet.size(); i++) {
+                Assert.assertEquals(parallel.getSuccessor(s, i), sequential.getSuccessor(s, i));
+                Assert.assertTrue(outputs.contains(sequential.getOutput(s, alphabet.getSymbol(i))));
+                Assert.assertEquals(parallel.getOutput(s, alphabet.getSymbol(i)),
+                                    sequential.getOutput(s, alphabet.getSymbol(i)));
+            }
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        Assert.assertEquals(ParallelRandomAutomata.randomDFA(SEED, 0, alphabet, true).size(), 0);
+        Assert.assertEquals(ParallelRandomAutomata.randomMealy(SEED, 0, alphabet, outputs, false).size(), 0);
+    }
+
+    private static <T> T run(int parallelism, Callable<T> task)
+            throws InterruptedException, ExecutionException {
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(task).get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void checkComplete(CompactDFA<Character> dfa) {
+        for (int s = 0; s < dfa.size(); s++) {
+            for (int i = 0; i < alphabet.size(); i++) {
+                Assert.assertTrue(dfa.getSuccessor(s, i) >= 0);
+            }
+        }
+    }
+
+    private void assertIdentical(CompactDFA<Character> expected, CompactDFA<Character> actual) {
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertEquals(actual.getIntInitialState(), expected.getIntInitialState());
+
+        for (int s = 0; s < expected.size(); s++) {
+            Assert.assertEquals(actual.isAccepting(s), expected.isAccepting(s));
+            for (int i = 0; i < alphabet.size(); i++) {
+                Assert.assertEquals(actual.getSuccessor(s, i), expected.getSuccessor(s, i));
+            }
+        }
+    }
+}
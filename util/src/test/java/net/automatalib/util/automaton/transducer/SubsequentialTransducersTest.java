@@ -15,11 +15,16 @@
  */
 package net.automatalib.util.automaton.transducer;
 
+import java.util.Random;
+
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.impl.UniversalCompactDet;
 import net.automatalib.automaton.transducer.impl.CompactSST;
 import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.minimizer.HopcroftMinimizer;
 import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -53,6 +58,7 @@ public class SubsequentialTransducersTest {
 
         Assert.assertTrue(SubsequentialTransducers.isOnwardSST(osst, INPUTS));
         Assert.assertTrue(Automata.testEquivalence(sst, osst, INPUTS));
+        checkMinimalOnward(sst);
     }
 
     @Test
@@ -92,6 +98,7 @@ public class SubsequentialTransducersTest {
         expected.setTransition(e2, (Character) 'c', e3, Word.fromString("zx"));
 
         Assert.assertTrue(Automata.testEquivalence(expected, osst, INPUTS));
+        checkMinimalOnward(sst);
     }
 
     @Test
@@ -139,6 +146,7 @@ public class SubsequentialTransducersTest {
         expected.setTransition(e3, (Character) 'c', e3, Word.fromString("zx"));
 
         Assert.assertTrue(Automata.testEquivalence(expected, osst, INPUTS));
+        checkMinimalOnward(sst);
     }
 
     @Test
@@ -191,5 +199,73 @@ public class SubsequentialTransducersTest {
         expected.setTransition(e4, (Character) 'c', e2, Word.epsilon());
 
         Assert.assertTrue(Automata.testEquivalence(expected, osst, INPUTS));
+        checkMinimalOnward(sst);
+    }
+
+    @Test
+    public void testRandomMinimalOnward() {
+        final Random random = new Random(42);
+        final Alphabet<Character> outputs = Alphabets.characters('x', 'y');
+
+        for (int n = 0; n < 50; n++) {
+            final CompactSST<Character, Character> sst = new CompactSST<>(INPUTS);
+            final int size = 1 + random.nextInt(20);
+            // use a common prefix for all outputs of a state to provoke push-backs
+            final Word<Character> prefix = randomWord(random, outputs, 3);
+
+            for (int i = 0; i < size; i++) {
+                sst.addState(prefix.concat(randomWord(random, outputs, 2)));
+            }
+            sst.setInitial(random.nextInt(size), true);
+
+            for (int i = 0; i < size; i++) {
+                for (Character c : INPUTS) {
+                    if (random.nextInt(10) > 0) {
+                        sst.setTransition(i,
+                                          c,
+                                          random.nextInt(size),
+                                          prefix.concat(randomWord(random, outputs, 2)));
+                    }
+                }
+            }
+
+            checkMinimalOnward(sst);
+
+            final CompactSST<Character, Character> minimal = SubsequentialTransducers.toMinimalOnwardSST(sst, INPUTS);
+            for (int i = 0; i < 20; i++) {
+                final Word<Character> input = randomWord(random, INPUTS, 6);
+                // outputs are only comparable for defined transductions
+                if (sst.getState(input) != null) {
+                    Assert.assertEquals(minimal.computeOutput(input), sst.computeOutput(input));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEmptyMinimalOnward() {
+        final CompactSST<Character, Character> sst = new CompactSST<>(INPUTS);
+        Assert.assertEquals(SubsequentialTransducers.toMinimalOnwardSST(sst, INPUTS).size(), 0);
+    }
+
+    private static void checkMinimalOnward(CompactSST<Character, Character> sst) {
+        final CompactSST<Character, Character> onward =
+                SubsequentialTransducers.toOnwardSST(sst, INPUTS, new CompactSST<>(INPUTS), false);
+        final UniversalCompactDet<Character, Word<Character>, Word<Character>> expected =
+                HopcroftMinimizer.minimizePartialUniversal(onward, INPUTS);
+        final CompactSST<Character, Character> actual = SubsequentialTransducers.toMinimalOnwardSST(sst, INPUTS);
+
+        Assert.assertTrue(SubsequentialTransducers.isOnwardSST(actual, INPUTS));
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertTrue(Automata.testEquivalence(expected, actual, INPUTS));
+    }
+
+    private static Word<Character> randomWord(Random random, Alphabet<Character> alphabet, int maxLength) {
+        final WordBuilder<Character> wb = new WordBuilder<>();
+        final int length = random.nextInt(maxLength + 1);
+        for (int i = 0; i < length; i++) {
+            wb.append(alphabet.getSymbol(random.nextInt(alphabet.size())));
+        }
+        return wb.toWord();
     }
 }
@@ -0,0 +1,64 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.graph.traversal;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.graph.TransitionEdge;
+import net.automatalib.graph.Graph;
+import net.automatalib.graph.concept.NodeIDs;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ParallelGraphTraversalTest {
+
+    private static final int SIZE = 20_000;
+
+    @Test
+    public void testReachableNodes() throws InterruptedException, ExecutionException {
+        final Alphabet<Character> alphabet = Alphabets.characters('a', 'b');
+        final CompactDFA<Character> dfa = RandomAutomata.randomDFA(new Random(42), SIZE, alphabet);
+        final Graph<Integer, TransitionEdge<Character, Integer>> graph = dfa.transitionGraphView(alphabet);
+        final NodeIDs<Integer> nodeIds = graph.nodeIDs();
+
+        for (int start : new int[] {0, graph.size() / 2, graph.size() - 1}) {
+            final Collection<Integer> initialNodes = Collections.singleton(start);
+
+            final BitSet expected = new BitSet();
+            for (Integer n : GraphTraversal.breadthFirstOrder(graph, initialNodes)) {
+                expected.set(nodeIds.getNodeId(n));
+            }
+
+            final ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                final BitSet actual =
+                        pool.submit(() -> ParallelGraphTraversal.reachableNodes(graph, initialNodes)).get();
+                Assert.assertEquals(actual, expected);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
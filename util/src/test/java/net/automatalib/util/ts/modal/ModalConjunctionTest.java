@@ -268,6 +268,63 @@ public class ModalConjunctionTest {
 
     }
 
+    @Test
+    void view() {
+        final ModalProductView<Integer, Integer, Character> view = MTSs.conjunctionView(block0, block1);
+
+        // transitions are only computed on demand
+        Assert.assertEquals(view.getNumDiscoveredStates(), 1);
+        Assert.assertEquals(view.getInitialStates(), Collections.singleton(0));
+
+        final Integer s0 = 0;
+        final ModalProductView.Edge t1 = getSingleTransition(view, s0, 'a', 1);
+        Assert.assertNotNull(t1);
+        Assert.assertTrue(t1.isMust());
+        Assert.assertEquals(view.getFirstState(1), b0s1);
+        Assert.assertEquals(view.getSecondState(1), b1s1);
+        Assert.assertEquals(view.getNumDiscoveredStates(), 2);
+
+        final CompactMTS<Character> mts = MTSs.conjunction(block0, block1);
+        Assert.assertEquals(view.size(), mts.size());
+        Assert.assertTrue(MTSs.isRefinementOf(view, mts, mts.getInputAlphabet()));
+        Assert.assertTrue(MTSs.isRefinementOf(mts, view, mts.getInputAlphabet()));
+    }
+
+    @Test
+    void errorView() {
+        final MTSTransition<MutableModalEdgeProperty> t = getSingleTransition(block1, b1s0, 'c', b1s0);
+        Assert.assertNotNull(t);
+        block1.getTransitionProperty(t).setMust();
+
+        final ModalProductView<Integer, Integer, Character> view = MTSs.conjunctionView(block0, block1);
+        Assert.assertThrows(IllegalConjunctionException.class, view::size);
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> MTSs.conjunctionView(block0, new CompactMTS<>(Alphabets.characters('a', 'c'))));
+    }
+
+    @Test
+    void errorNestedView() {
+        final ModalProductView<Integer, Integer, Character> inner = MTSs.conjunctionView(block0, block1);
+        final CompactMTS<Character> block2 = new CompactMTS<>(Alphabets.characters('a', 'd'));
+        block2.addInitialState();
+
+        final ModalProductView<Integer, Integer, Character> outer = MTSs.conjunctionView(inner, block2);
+        final IllegalConjunctionException ex = Assert.expectThrows(IllegalConjunctionException.class, outer::size);
+
+        // the (re-computed) must transition of the inner view needs to be found again when tracing the error
+        Assert.assertTrue(ex.getMessage().endsWith("leading trace: 0, 1"), ex.getMessage());
+    }
+
+    @Test(dataProvider = "randomSource")
+    void randomView(CompactMTS<Character> a, CompactMTS<Character> b, int k) {
+        final CompactMTS<Character> mts = MTSs.conjunction(a, b);
+        final ModalProductView<Integer, Integer, Character> view = MTSs.conjunctionView(a, b);
+
+        Assert.assertEquals(view.size(), mts.size());
+        Assert.assertTrue(MTSs.isRefinementOf(view, mts, mts.getInputAlphabet()));
+        Assert.assertTrue(MTSs.isRefinementOf(mts, view, mts.getInputAlphabet()));
+    }
+
     @DataProvider(name = "randomSource")
     private static Object[][] randomSource() {
         Alphabet<Character> alph = Alphabets.characters('a', 'k');
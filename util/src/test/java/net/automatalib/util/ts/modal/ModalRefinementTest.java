@@ -15,13 +15,18 @@
  */
 package net.automatalib.util.ts.modal;
 
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Random;
 import java.util.Set;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.common.util.Pair;
 import net.automatalib.ts.modal.impl.CompactMTS;
+import net.automatalib.ts.modal.impl.MTSTransition;
 import net.automatalib.ts.modal.transition.ModalEdgeProperty.ModalType;
+import net.automatalib.ts.modal.transition.MutableModalEdgeProperty;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -269,4 +274,129 @@ public class ModalRefinementTest {
         Assert.assertTrue(MTSs.isRefinementOf(s, t, alphabet));
     }
 
+    @Test
+    public void testWitness() {
+        final Alphabet<String> alphabet = Alphabets.closedCharStringRange('a', 'b');
+        final CompactMTS<String> a = new CompactMTS<>(alphabet);
+        final CompactMTS<String> b = new CompactMTS<>(alphabet);
+
+        final Integer as0 = a.addInitialState();
+        final Integer as1 = a.addState();
+        final Integer bs0 = b.addInitialState();
+
+        a.addModalTransition(as0, "a", as1, ModalType.MAY);
+        a.addModalTransition(as1, "b", as1, ModalType.MAY);
+        b.addModalTransition(bs0, "a", bs0, ModalType.MUST);
+
+        Assert.assertNull(ModalRefinement.nonRefinementWitness(a, a, alphabet));
+        Assert.assertEquals(ModalRefinement.nonRefinementWitness(a, b, alphabet), Pair.of(as0, null));
+        Assert.assertEquals(ModalRefinement.nonRefinementWitness(b, a, alphabet), Pair.of(bs0, null));
+
+        final CompactMTS<String> c = new CompactMTS<>(alphabet);
+        final Integer cs0 = c.addInitialState();
+        c.addModalTransition(cs0, "a", cs0, ModalType.MAY);
+        c.addModalTransition(cs0, "b", cs0, ModalType.MAY);
+
+        // every state of b refines c, but c's initial state cannot refine (and thus be related by) anything of b
+        Assert.assertNull(ModalRefinement.nonRefinementWitness(b, c, alphabet));
+        Assert.assertNull(ModalRefinement.nonRefinementWitness(a, c, alphabet));
+        Assert.assertEquals(ModalRefinement.nonRefinementWitness(c, b, alphabet), Pair.of(cs0, null));
+    }
+
+    @Test
+    public void testRandomAgainstNaiveFixpoint() {
+        final Alphabet<String> alphabet = Alphabets.closedCharStringRange('a', 'c');
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 20; i++) {
+            final CompactMTS<String> a = randomMTS(alphabet, random, 6);
+            final CompactMTS<String> b = randomMTS(alphabet, random, 4);
+
+            Assert.assertEquals(ModalRefinement.refinementRelation(a, b, alphabet), naiveRelation(a, b, alphabet));
+            Assert.assertEquals(ModalRefinement.refinementRelation(b, a, alphabet), naiveRelation(b, a, alphabet));
+        }
+    }
+
+    private static CompactMTS<String> randomMTS(Alphabet<String> alphabet, Random random, int size) {
+        final CompactMTS<String> mts = new CompactMTS<>(alphabet);
+        mts.addInitialState();
+        for (int i = 1; i < size; i++) {
+            mts.addState();
+        }
+
+        for (int s = 0; s < size; s++) {
+            for (String sym : alphabet) {
+                final int numSuccs = random.nextInt(3);
+                for (int j = 0; j < numSuccs; j++) {
+                    mts.addModalTransition(s,
+                                           sym,
+                                           random.nextInt(size),
+                                           random.nextBoolean() ? ModalType.MAY : ModalType.MUST);
+                }
+            }
+        }
+
+        return mts;
+    }
+
+    // straight-forward fixpoint iteration over explicit pairs of states
+    private static Set<Pair<Integer, Integer>> naiveRelation(CompactMTS<String> a,
+                                                             CompactMTS<String> b,
+                                                             Alphabet<String> alphabet) {
+        final Set<Pair<Integer, Integer>> relation = new HashSet<>();
+        for (Integer p : a.getStates()) {
+            for (Integer q : b.getStates()) {
+                relation.add(Pair.of(p, q));
+            }
+        }
+
+        boolean update = true;
+        while (update) {
+            update = false;
+            final Iterator<Pair<Integer, Integer>> iter = relation.iterator();
+            while (iter.hasNext()) {
+                final Pair<Integer, Integer> pair = iter.next();
+                if (!matches(a, b, alphabet, pair.getFirst(), pair.getSecond(), false, relation) ||
+                    !matches(b, a, alphabet, pair.getSecond(), pair.getFirst(), true, relation)) {
+                    iter.remove();
+                    update = true;
+                }
+            }
+        }
+
+        return relation;
+    }
+
+    private static boolean matches(CompactMTS<String> x,
+                                   CompactMTS<String> y,
+                                   Alphabet<String> alphabet,
+                                   Integer s,
+                                   Integer t,
+                                   boolean mustOnly,
+                                   Set<Pair<Integer, Integer>> relation) {
+        for (String sym : alphabet) {
+            for (MTSTransition<MutableModalEdgeProperty> trans : x.getTransitions(s, sym)) {
+                if (mustOnly && !trans.getProperty().isMust()) {
+                    continue;
+                }
+                boolean found = false;
+                for (MTSTransition<MutableModalEdgeProperty> coTrans : y.getTransitions(t, sym)) {
+                    if (mustOnly && !coTrans.getProperty().isMust()) {
+                        continue;
+                    }
+                    final Pair<Integer, Integer> succs = mustOnly ?
+                            Pair.of(coTrans.getTarget(), trans.getTarget()) :
+                            Pair.of(trans.getTarget(), coTrans.getTarget());
+                    if (relation.contains(succs)) {
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
 }
@@ -20,6 +20,7 @@ import java.io.IOException;
 import net.automatalib.exception.FormatException;
 import net.automatalib.ts.modal.impl.CompactMTS;
 import net.automatalib.util.ts.modal.MTSs;
+import net.automatalib.util.ts.modal.ModalProductView;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -48,4 +49,18 @@ public class RegressionTests {
         Assert.assertTrue(MTSs.isRefinementOf(instance.merge, currentMerge, currentMerge.getInputAlphabet()));
     }
 
+    @Test(dataProvider = "Comp")
+    public void testMergeView(CompositionTest testCase) throws IOException, FormatException {
+        final CompositionInstance instance = new CompositionInstance(testCase);
+
+        final ModalProductView<Integer, Integer, String> view = MTSs.composeView(instance.input0, instance.input1);
+        final CompactMTS<String> currentMerge = MTSs.compose(instance.input0, instance.input1);
+
+        Assert.assertEquals(view.size(), currentMerge.size());
+        Assert.assertTrue(view.getInputAlphabet().containsAll(instance.merge.getInputAlphabet()));
+        Assert.assertTrue(instance.merge.getInputAlphabet().containsAll(view.getInputAlphabet()));
+        Assert.assertTrue(MTSs.isRefinementOf(view, instance.merge, view.getInputAlphabet()));
+        Assert.assertTrue(MTSs.isRefinementOf(instance.merge, view, view.getInputAlphabet()));
+    }
+
 }
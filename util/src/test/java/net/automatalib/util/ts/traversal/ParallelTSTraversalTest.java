@@ -0,0 +1,184 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.ts.traversal;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactNFA;
+import net.automatalib.common.util.Holder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ParallelTSTraversalTest {
+
+    private static final int SIZE = 20_000;
+
+    private final Alphabet<Character> alphabet = Alphabets.characters('a', 'b');
+    private final CompactNFA<Character> nfa = randomNFA(new Random(42));
+
+    @Test
+    public void testReachableStates() throws InterruptedException, ExecutionException {
+        final BitSet expected = new BitSet();
+        for (Integer s : TSTraversal.breadthFirstOrder(nfa, alphabet)) {
+            expected.set(s);
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final BitSet actual = pool.submit(() -> ParallelTSTraversal.reachableStates(nfa, alphabet)).get();
+            Assert.assertEquals(actual, expected);
+            Assert.assertTrue(actual.cardinality() > 1000 && actual.cardinality() < SIZE);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testDepths() throws InterruptedException, ExecutionException {
+        final int[] expected = new int[SIZE];
+        TSTraversal.breadthFirst(nfa, alphabet, new DepthVisitor(expected));
+
+        final AtomicIntegerArray actual = new AtomicIntegerArray(SIZE);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            pool.submit(() -> ParallelTSTraversal.breadthFirst(nfa, alphabet, new ParallelDepthVisitor(actual))).get();
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int s = 0; s < SIZE; s++) {
+            Assert.assertEquals(actual.get(s), expected[s]);
+        }
+    }
+
+    @Test
+    public void testAbort() {
+        final AtomicInteger explored = new AtomicInteger();
+
+        ParallelTSTraversal.breadthFirst(nfa, alphabet, new TSTraversalVisitor<Integer, Character, Integer, Void>() {
+
+            @Override
+            public boolean startExploration(Integer state, Void data) {
+                explored.incrementAndGet();
+                return true;
+            }
+
+            @Override
+            public TSTraversalAction processTransition(Integer srcState,
+                                                       Void srcData,
+                                                       Character input,
+                                                       Integer transition,
+                                                       Integer tgtState,
+                                                       Holder<Void> tgtHolder) {
+                return TSTraversalAction.ABORT_TRAVERSAL;
+            }
+        });
+
+        Assert.assertEquals(explored.get(), 1);
+    }
+
+    private CompactNFA<Character> randomNFA(Random random) {
+        final CompactNFA<Character> result = new CompactNFA<>(alphabet, SIZE);
+
+        for (int i = 0; i < SIZE; i++) {
+            result.addState(random.nextBoolean());
+        }
+        result.setInitial(0, true);
+
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < alphabet.size(); i++) {
+                final int numSuccs = random.nextInt(3);
+                for (int j = 0; j < numSuccs; j++) {
+                    result.addTransition(s, i, random.nextInt(SIZE));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    // stores depth + 1 for each discovered state
+    private static final class DepthVisitor implements TSTraversalVisitor<Integer, Character, Integer, Integer> {
+
+        private final int[] depths;
+
+        DepthVisitor(int[] depths) {
+            this.depths = depths;
+        }
+
+        @Override
+        public TSTraversalAction processInitial(Integer initialState, Holder<Integer> holder) {
+            depths[initialState] = 1;
+            holder.value = 1;
+            return TSTraversalAction.EXPLORE;
+        }
+
+        @Override
+        public TSTraversalAction processTransition(Integer srcState,
+                                                   Integer srcData,
+                                                   Character input,
+                                                   Integer transition,
+                                                   Integer tgtState,
+                                                   Holder<Integer> tgtHolder) {
+            if (depths[tgtState] > 0) {
+                return TSTraversalAction.IGNORE;
+            }
+            depths[tgtState] = srcData + 1;
+            tgtHolder.value = srcData + 1;
+            return TSTraversalAction.EXPLORE;
+        }
+    }
+
+    private static final class ParallelDepthVisitor
+            implements TSTraversalVisitor<Integer, Character, Integer, Integer> {
+
+        private final AtomicIntegerArray depths;
+
+        ParallelDepthVisitor(AtomicIntegerArray depths) {
+            this.depths = depths;
+        }
+
+        @Override
+        public TSTraversalAction processInitial(Integer initialState, Holder<Integer> holder) {
+            holder.value = 1;
+            return TSTraversalAction.EXPLORE;
+        }
+
+        @Override
+        public boolean startExploration(Integer state, Integer data) {
+            Assert.assertTrue(depths.compareAndSet(state, 0, data));
+            return true;
+        }
+
+        @Override
+        public TSTraversalAction processTransition(Integer srcState,
+                                                   Integer srcData,
+                                                   Character input,
+                                                   Integer transition,
+                                                   Integer tgtState,
+                                                   Holder<Integer> tgtHolder) {
+            tgtHolder.value = srcData + 1;
+            return TSTraversalAction.EXPLORE;
+        }
+    }
+}